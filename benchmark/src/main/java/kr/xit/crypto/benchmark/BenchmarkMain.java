@@ -0,0 +1,43 @@
+package kr.xit.crypto.benchmark;
+
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * <pre>
+ * JMH 실행 main - 처리량(Throughput), 평균 시간(AverageTime)과 함께 allocation rate(GCProfiler) 출력
+ * - JMH 명령행 옵션을 그대로 사용
+ *   java -jar target/benchmarks.jar CipherModeBenchmark -p algorithm=LEA -p mode=GCM
+ *
+ * description :
+ * packageName : kr.xit.crypto.benchmark
+ * fileName    : BenchmarkMain
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()
+            || commandLine.shouldListResultFormats() || commandLine.shouldListWithParams()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLine);
+        boolean gcProfiler = commandLine.getProfilers().stream()
+            .anyMatch(p -> "gc".equals(p.getKlass()) || GCProfiler.class.getName().equals(p.getKlass()));
+        if (!gcProfiler) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,98 @@
+package kr.xit.crypto.service;
+
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Scope;
+import org.springframework.context.annotation.*;
+import org.springframework.core.env.*;
+
+/**
+ * <pre>
+ * CryptoCipherService.encryptBase64 / decryptBase64 end-to-end benchmark
+ * - 문자열 -> byte[] -> 암호화 -> Base64 encoding (복호화는 역순) 전체 비용 측정
+ * - CryptoCipherService 만 등록한 최소 Spring context 로 생성 - 지정하지 않은 properties 는 @Value 기본값
+ *   (envelope 등 운영 기본 설정과 같은 경로 측정)
+ *
+ * description :
+ * packageName : kr.xit.crypto.service
+ * fileName    : CryptoCipherServiceBenchmark
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 17   limju       알고리즘, 운용 모드 parameter 추가
+ * 2026 10월 17   limju       reflection 설정 대신 최소 Spring context 로 생성
+ *
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CryptoCipherServiceBenchmark {
+    private static final String KEY = "4dVAF8dClfelcZjfFU7gg9kgEI7CTjOMQGDyHna236Y=";
+    private static final String IV = "NZc5qzWFi/p5wb8HKYzGKA==";
+
+    @Param({"ARIA", "LEA"})
+    private String alg;
+
+    @Param({"GCM", "CTR"})
+    private String mode;
+
+    @Param({"16", "1024", "65536", "1048576", "16777216"})
+    private int size;
+
+    private AnnotationConfigApplicationContext context;
+    private CryptoCipherService service;
+    private String plainText;
+    private String base64Text;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("app.crypto.alg", alg);
+        properties.put("app.crypto.mode", mode);
+        properties.put("app.crypto.key", KEY);
+        properties.put("app.crypto.iv", IV);
+        properties.put("app.crypto.key-id", "benchmark");
+        properties.put("app.crypto.nonce.enabled", "true");
+        properties.put("app.crypto.nonce.node-id", "1");
+        properties.put("app.crypto.nonce.file", Files.createTempDirectory("nonce").resolve("benchmark.counter").toString());
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        context.register(CryptoCipherService.class);
+        context.refresh();
+        service = context.getBean(CryptoCipherService.class);
+
+        char[] chars = new char[size];
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++) {
+            chars[i] = (char)('a' + random.nextInt(26));
+        }
+        plainText = new String(chars);
+        base64Text = service.encryptBase64(plainText);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String encryptBase64() {
+        return service.encryptBase64(plainText);
+    }
+
+    @Benchmark
+    public String decryptBase64() {
+        return service.decryptBase64(base64Text);
+    }
+}
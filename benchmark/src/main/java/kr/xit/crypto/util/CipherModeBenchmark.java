@@ -0,0 +1,82 @@
+package kr.xit.crypto.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <pre>
+ * 알고리즘(ARIA, LEA) x 운용 모드 x payload 크기별 암복호화 benchmark
+ * - byte[] API(BlockCipherModes.process) 기준 - 결과 배열 생성 비용 포함
+ * - 1MB 이상은 ParallelCipher 기본 설정(threshold 1MB)에 따라 병렬 처리되는 모드 포함
+ * - GCM은 동일 nonce 재사용시 mode cipher를 재사용하지 않으므로 두 개의 IV를 번갈아 사용
+ * - CTS는 1블록 초과 길이만 지원하므로 16 bytes 는 17 bytes 로 측정
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : CipherModeBenchmark
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CipherModeBenchmark {
+
+    @Param({"ARIA", "LEA"})
+    private CipherAlgorithm algorithm;
+
+    @Param({"ECB", "CBC", "CFB", "OFB", "CTS", "CTR", "CCM", "GCM"})
+    private CipherMode mode;
+
+    @Param({"16", "1024", "65536", "1048576", "16777216", "67108864"})
+    private int size;
+
+    private byte[] key;
+    private byte[][] ivs;
+    private byte[] aad;
+    private byte[] plainText;
+    private byte[][] cipherTexts;
+    private int turn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(size);
+        key = new byte[32];
+        random.nextBytes(key);
+        aad = mode == CipherMode.CCM || mode == CipherMode.GCM ? "aad".getBytes() : null;
+
+        ivs = new byte[2][mode == CipherMode.CCM ? 12 : 16];
+        random.nextBytes(ivs[0]);
+        random.nextBytes(ivs[1]);
+
+        plainText = new byte[mode == CipherMode.CTS && size <= 16 ? 17 : size];
+        random.nextBytes(plainText);
+        cipherTexts = new byte[][]{
+            BlockCipherModes.process(algorithm, mode, true, key, ivs[0], aad, plainText),
+            BlockCipherModes.process(algorithm, mode, true, key, ivs[1], aad, plainText)
+        };
+    }
+
+    @Benchmark
+    public byte[] encrypt() {
+        turn ^= 1;
+        return BlockCipherModes.process(algorithm, mode, true, key, ivs[turn], aad, plainText);
+    }
+
+    @Benchmark
+    public byte[] decrypt() {
+        turn ^= 1;
+        return BlockCipherModes.process(algorithm, mode, false, key, ivs[turn], aad, cipherTexts[turn]);
+    }
+}
@@ -0,0 +1,61 @@
+package kr.xit.crypto.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.bouncycastle.crypto.engines.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <pre>
+ * LEA 엔진(Bouncy Castle LEAEngine, LeaMultiBlockEngine) 처리량 비교
+ * - 엔진 차이만 비교하기 위해 병렬 처리(ParallelCipher)는 사용하지 않음
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : LeaEngineBenchmark
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class LeaEngineBenchmark {
+
+    @Param({"bc", "multi-block"})
+    private String engine;
+
+    @Param({"ECB", "CTR", "GCM"})
+    private CipherMode mode;
+
+    @Param({"64", "1024", "16384", "262144", "4194304"})
+    private int size;
+
+    private final byte[] key = "0123456789abcdef".getBytes();
+    private final byte[][] ivs = {"0123456789012345".getBytes(), "5432109876543210".getBytes()};
+    private byte[] plainText;
+    private int turn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CipherAlgorithm.LEA.setEngineFactory("bc".equals(engine) ? LEAEngine::new : LeaMultiBlockEngine::new);
+        ParallelCipher.configure(false, ForkJoinPool.commonPool(), ParallelCipher.DEFAULT_THRESHOLD, ParallelCipher.DEFAULT_SEGMENT_SIZE);
+        plainText = new byte[size];
+        new Random(size).nextBytes(plainText);
+    }
+
+    @Benchmark
+    public byte[] encrypt() {
+        turn ^= 1;
+        return BlockCipherModes.process(CipherAlgorithm.LEA, mode, true, key, ivs[turn], null, plainText);
+    }
+}
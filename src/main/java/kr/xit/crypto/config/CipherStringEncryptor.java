@@ -0,0 +1,141 @@
+package kr.xit.crypto.config;
+
+import java.nio.charset.*;
+import java.security.*;
+import java.security.spec.*;
+import java.util.*;
+
+import javax.crypto.*;
+import javax.crypto.spec.*;
+
+import org.jasypt.encryption.*;
+import org.jasypt.exceptions.*;
+
+import kr.xit.crypto.util.*;
+
+/**
+ * <pre>
+ * description : ARIA/LEA-GCM properties 암호화(jasypt StringEncryptor)
+ *               - key 는 생성시 PBKDF2(HmacSHA256)로 한번만 유도하여 보관 -> property 마다 key 유도 없음
+ *               - 형식 : {알고리즘}-GCM:Base64(nonce(12) | 암호문 | tag(16)), prefix 는 AAD 로 인증
+ *                 -> 복호화는 prefix 의 알고리즘 사용(app.jasypt.alg 변경 전 값도 복호화)
+ *               - nonce 는 암호화 마다 SecureRandom 생성
+ *               - key schedule 은 KeyMaterialCache(thread 별 엔진), SecureRandom 모두 thread-safe -> 여러 property 동시 복호화 가능
+ *               - prefix 가 없는 값은 legacy(PBE) encryptor 로 복호화 - 기존 ENC(...) 값 호환
+ * packageName : kr.xit.crypto.config
+ * fileName    : CipherStringEncryptor
+ * author      : limju
+ * date        : 2026-10-17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026-10-17    limju       최초 생성
+ *
+ * </pre>
+ */
+public class CipherStringEncryptor implements StringEncryptor {
+    private static final String SUFFIX = "-GCM:";
+    private static final int NONCE_SIZE = 12;
+    private static final int TAG_SIZE = 16;
+    private static final int KEY_BITS = 256;
+
+    private final CipherAlgorithm algorithm;
+    private final byte[] key;
+    private final StringEncryptor legacy;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * <pre>
+     * @param algorithm 암호화 알고리즘(ARIA, LEA)
+     * @param password 비밀번호
+     * @param salt PBKDF2 salt - 모든 node 에서 동일해야 한다
+     * @param iterations PBKDF2 반복 횟수
+     * @param legacy prefix 가 없는 값 복호화 - null 이면 미지원
+     * </pre>
+     */
+    public CipherStringEncryptor(CipherAlgorithm algorithm, String password, String salt, int iterations, StringEncryptor legacy) {
+        this.algorithm = algorithm;
+        this.key = deriveKey(password, salt, iterations);
+        // key schedule 미리 생성
+        KeyMaterialCache.of(key);
+        this.legacy = legacy;
+    }
+
+    private static byte[] deriveKey(String password, String salt, int iterations) {
+        if (password == null || password.isEmpty()) {
+            throw BizRuntimeException.create("app.jasypt.secretKey 는 필수 입니다");
+        }
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt.getBytes(StandardCharsets.UTF_8), iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw BizRuntimeException.create("properties 암호화 key 유도 실패 - " + e.getMessage());
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    @Override
+    public String encrypt(String message) {
+        String prefix = algorithm.name() + SUFFIX;
+        byte[] nonce = new byte[NONCE_SIZE];
+        random.nextBytes(nonce);
+        byte[] plainText = message.getBytes(StandardCharsets.UTF_8);
+        byte[] aad = prefix.getBytes(StandardCharsets.US_ASCII);
+
+        byte[] out = new byte[NONCE_SIZE + plainText.length + TAG_SIZE];
+        System.arraycopy(nonce, 0, out, 0, NONCE_SIZE);
+        if (algorithm == CipherAlgorithm.ARIA) {
+            AriaCryptoCipher.encryptGCM(key, nonce, plainText, 0, plainText.length, out, NONCE_SIZE, aad);
+        } else {
+            LeaCryptoCipher.encryptGCM(key, nonce, plainText, 0, plainText.length, out, NONCE_SIZE, aad);
+        }
+        return prefix + Base64.getEncoder().encodeToString(out);
+    }
+
+    @Override
+    public String decrypt(String encryptedMessage) {
+        int sep = encryptedMessage.indexOf(SUFFIX);
+        CipherAlgorithm messageAlgorithm = sep > 0 ? algorithmOf(encryptedMessage.substring(0, sep)) : null;
+        if (messageAlgorithm == null) {
+            if (legacy == null) {
+                throw new EncryptionOperationNotPossibleException("지원하지 않는 암호문 형식 입니다");
+            }
+            return legacy.decrypt(encryptedMessage);
+        }
+
+        int off = sep + SUFFIX.length();
+        byte[] data;
+        try {
+            data = Base64.getDecoder().decode(encryptedMessage.substring(off));
+        } catch (IllegalArgumentException e) {
+            throw new EncryptionOperationNotPossibleException("암호문은 Base64로 encode된 데이타여야 합니다");
+        }
+        int len = data.length - NONCE_SIZE;
+        if (len < TAG_SIZE) {
+            throw new EncryptionOperationNotPossibleException("암호문 길이가 올바르지 않습니다");
+        }
+        byte[] nonce = Arrays.copyOf(data, NONCE_SIZE);
+        byte[] aad = encryptedMessage.substring(0, off).getBytes(StandardCharsets.US_ASCII);
+        byte[] plainText = new byte[len - TAG_SIZE];
+        try {
+            if (messageAlgorithm == CipherAlgorithm.ARIA) {
+                AriaCryptoCipher.decryptGCM(key, nonce, data, NONCE_SIZE, len, plainText, 0, aad);
+            } else {
+                LeaCryptoCipher.decryptGCM(key, nonce, data, NONCE_SIZE, len, plainText, 0, aad);
+            }
+            return new String(plainText, StandardCharsets.UTF_8);
+        } catch (BizRuntimeException e) {
+            throw new EncryptionOperationNotPossibleException(e.getMessage());
+        }
+    }
+
+    private static CipherAlgorithm algorithmOf(String name) {
+        for (CipherAlgorithm value : CipherAlgorithm.values()) {
+            if (value.name().equals(name)) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+package kr.xit.crypto.config;
+
+import javax.annotation.*;
+import javax.servlet.DispatcherType;
+
+import org.springframework.boot.autoconfigure.condition.*;
+import org.springframework.boot.web.servlet.*;
+import org.springframework.context.annotation.*;
+
+import io.micrometer.core.instrument.*;
+import kr.xit.crypto.metrics.*;
+import kr.xit.crypto.util.*;
+import kr.xit.crypto.web.*;
+import lombok.extern.slf4j.*;
+
+/**
+ * <pre>
+ * description : 요청별 할당량 측정 설정 - app.crypto.allocation.enabled: true 인 경우에만 적용
+ *               - /crypto/* 요청의 할당량(bytes)을 endpoint, 운용 모드별로 기록
+ *                 -> crypto.request.allocation histogram, /actuator/allocation
+ *               - 요청마다 ThreadMXBean 조회, 요청 attribute 할당이 추가되므로 할당 회귀 확인용으로만 사용
+ * packageName : kr.xit.crypto.config
+ * fileName    : CryptoAllocationConfig
+ * author      : limju
+ * date        : 2026-10-17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026-10-17    limju       최초 생성
+ *
+ * </pre>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.crypto.allocation.enabled", havingValue = "true")
+public class CryptoAllocationConfig {
+    private AllocationRecorder recorder;
+
+    @Bean
+    public AllocationRecorder allocationRecorder(MeterRegistry meterRegistry) {
+        if (!AllocationRecorder.enable()) {
+            throw BizRuntimeException.create("thread 할당량 측정을 지원하지 않는 JVM 입니다(app.crypto.allocation.enabled)");
+        }
+        recorder = new AllocationRecorder(meterRegistry);
+        CipherObservers.register(recorder);
+        log.info("crypto request allocation recording enabled");
+        return recorder;
+    }
+
+    @Bean
+    public AllocationEndpoint allocationEndpoint(AllocationRecorder allocationRecorder) {
+        return new AllocationEndpoint(allocationRecorder);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AllocationFilter> allocationFilter(AllocationRecorder allocationRecorder) {
+        FilterRegistrationBean<AllocationFilter> registration = new FilterRegistrationBean<>(new AllocationFilter(allocationRecorder));
+        registration.addUrlPatterns("/crypto/*");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        return registration;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (recorder != null) {
+            CipherObservers.unregister(recorder);
+        }
+    }
+}
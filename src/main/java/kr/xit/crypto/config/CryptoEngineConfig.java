@@ -0,0 +1,61 @@
+package kr.xit.crypto.config;
+
+import javax.annotation.*;
+
+import org.bouncycastle.crypto.engines.*;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.context.annotation.*;
+
+import kr.xit.crypto.util.*;
+import lombok.extern.slf4j.*;
+
+/**
+ * <pre>
+ * description : 블록 암호 엔진 선택 설정
+ *               app.crypto.aria-engine : table(기본, AriaTableEngine) | bc(Bouncy Castle ARIAEngine)
+ *               app.crypto.lea-engine  : multi-block(기본, LeaMultiBlockEngine) | bc(Bouncy Castle LEAEngine)
+ * packageName : kr.xit.crypto.config
+ * fileName    : CryptoEngineConfig
+ * author      : limju
+ * date        : 2026-10-16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026-10-16    limju       최초 생성
+ *
+ * </pre>
+ */
+@Slf4j
+@Configuration
+public class CryptoEngineConfig {
+    @Value("${app.crypto.aria-engine:table}")
+    private String ariaEngine;
+
+    @Value("${app.crypto.lea-engine:multi-block}")
+    private String leaEngine;
+
+    @PostConstruct
+    public void init() {
+        switch (ariaEngine.trim().toLowerCase()) {
+            case "table":
+                CipherAlgorithm.ARIA.setEngineFactory(AriaTableEngine::new);
+                break;
+            case "bc":
+                CipherAlgorithm.ARIA.setEngineFactory(ARIAEngine::new);
+                break;
+            default:
+                throw BizRuntimeException.create(String.format("지원하지 않는 ARIA 엔진[%s] 입니다(table, bc)", ariaEngine));
+        }
+        switch (leaEngine.trim().toLowerCase()) {
+            case "multi-block":
+                CipherAlgorithm.LEA.setEngineFactory(LeaMultiBlockEngine::new);
+                break;
+            case "bc":
+                CipherAlgorithm.LEA.setEngineFactory(LEAEngine::new);
+                break;
+            default:
+                throw BizRuntimeException.create(String.format("지원하지 않는 LEA 엔진[%s] 입니다(multi-block, bc)", leaEngine));
+        }
+        log.info("aria engine: {}, lea engine: {}", ariaEngine, leaEngine);
+    }
+}
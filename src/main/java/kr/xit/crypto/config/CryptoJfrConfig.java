@@ -0,0 +1,51 @@
+package kr.xit.crypto.config;
+
+import javax.annotation.*;
+
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.context.annotation.*;
+
+import kr.xit.crypto.jfr.*;
+import lombok.extern.slf4j.*;
+
+/**
+ * <pre>
+ * description : 암복호화 JFR event 설정
+ *               app.crypto.jfr.enabled : ARIA/LEA 암복호화(kr.xit.crypto.CipherOperation),
+ *                                        CryptoCipherService(kr.xit.crypto.ServiceOperation) event 등록 여부
+ *               기록 여부, threshold 는 recording 설정으로 지정 - classpath:jfr/crypto.jfc
+ *               ex) -XX:StartFlightRecording:settings=crypto.jfc,crypto-threshold=100us,filename=crypto.jfr
+ * packageName : kr.xit.crypto.config
+ * fileName    : CryptoJfrConfig
+ * author      : limju
+ * date        : 2026-10-17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026-10-17    limju       최초 생성
+ *
+ * </pre>
+ */
+@Slf4j
+@Configuration
+public class CryptoJfrConfig {
+    @Value("${app.crypto.jfr.enabled:true}")
+    private boolean enabled;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        if (!CryptoJfr.enable()) {
+            log.warn("JFR 을 지원하지 않는 JVM 입니다 - crypto JFR event 미기록");
+            return;
+        }
+        log.info("crypto JFR events registered");
+    }
+
+    @PreDestroy
+    public void destroy() {
+        CryptoJfr.disable();
+    }
+}
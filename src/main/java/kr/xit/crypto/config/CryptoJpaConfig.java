@@ -0,0 +1,38 @@
+package kr.xit.crypto.config;
+
+import javax.annotation.*;
+
+import org.springframework.context.annotation.*;
+
+import kr.xit.crypto.jpa.*;
+import kr.xit.crypto.service.*;
+
+/**
+ * <pre>
+ * description : JPA 암호화 column(EncryptedString, EncryptedBytes, EncryptedNumber) 처리기 등록
+ *               - CryptoCipherService 의 기본 key(app.crypto.key 또는 keyring 활성 key), 알고리즘, 모드 사용
+ * packageName : kr.xit.crypto.config
+ * fileName    : CryptoJpaConfig
+ * author      : limju
+ * date        : 2026-10-17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026-10-17    limju       최초 생성
+ *
+ * </pre>
+ */
+@Configuration
+public class CryptoJpaConfig {
+    private final CryptoCipherService cryptoCipherService;
+
+    public CryptoJpaConfig(CryptoCipherService cryptoCipherService) {
+        this.cryptoCipherService = cryptoCipherService;
+    }
+
+    @PostConstruct
+    public void init() {
+        EncryptedColumns.use(plainText -> cryptoCipherService.encrypt(null, plainText),
+            cipherText -> cryptoCipherService.decrypt(null, cipherText));
+    }
+}
@@ -0,0 +1,67 @@
+package kr.xit.crypto.config;
+
+import javax.annotation.*;
+
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.context.annotation.*;
+
+import io.micrometer.core.instrument.binder.*;
+import kr.xit.crypto.metrics.*;
+import kr.xit.crypto.service.*;
+import kr.xit.crypto.util.*;
+import lombok.extern.slf4j.*;
+
+/**
+ * <pre>
+ * description : 암복호화 metrics 설정 - actuator(/actuator/metrics, /actuator/prometheus)로 노출
+ *               app.crypto.metrics.enabled : 알고리즘, 모드별 처리 시간, 크기, 실패 건수(crypto.cipher*) 기록 여부
+ *                                            false 이면 처리 경로에서 시간 측정 없음
+ *               pool, cache, 비동기 executor 현황(CryptoPoolMetrics)은 항상 노출
+ * packageName : kr.xit.crypto.config
+ * fileName    : CryptoMetricsConfig
+ * author      : limju
+ * date        : 2026-10-17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026-10-17    limju       최초 생성
+ *
+ * </pre>
+ */
+@Slf4j
+@Configuration
+public class CryptoMetricsConfig {
+    @Value("${app.crypto.metrics.enabled:true}")
+    private boolean enabled;
+
+    private volatile CipherObserver observer;
+
+    /**
+     * <pre>
+     * MeterRegistry 생성시 observer 등록 (registry 에 직접 의존하면 순환 참조)
+     * </pre>
+     */
+    @Bean
+    public MeterBinder cryptoCipherMetrics() {
+        return registry -> {
+            if (!enabled || observer != null) {
+                return;
+            }
+            observer = new MicrometerCipherObserver(registry);
+            CipherObservers.register(observer);
+            log.info("crypto cipher metrics registered - {}", registry.getClass().getSimpleName());
+        };
+    }
+
+    @Bean
+    public CryptoPoolMetrics cryptoPoolMetrics(CryptoAsyncExecutor cryptoAsyncExecutor) {
+        return new CryptoPoolMetrics(cryptoAsyncExecutor);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (observer != null) {
+            CipherObservers.unregister(observer);
+        }
+    }
+}
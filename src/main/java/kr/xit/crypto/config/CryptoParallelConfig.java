@@ -0,0 +1,62 @@
+package kr.xit.crypto.config;
+
+import java.util.concurrent.*;
+
+import javax.annotation.*;
+
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.context.annotation.*;
+
+import kr.xit.crypto.util.*;
+import lombok.extern.slf4j.*;
+
+/**
+ * <pre>
+ * description : 대용량 데이터 병렬 암복호화(ParallelCipher) 설정
+ *               app.crypto.parallel.parallelism 이 0 이면 ForkJoinPool.commonPool 사용
+ * packageName : kr.xit.crypto.config
+ * fileName    : CryptoParallelConfig
+ * author      : limju
+ * date        : 2026-10-16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026-10-16    limju       최초 생성
+ * 2026-10-17    limju       종료시 ParallelCipher 기본 설정 복원 후 pool 종료
+ *
+ * </pre>
+ */
+@Slf4j
+@Configuration
+public class CryptoParallelConfig {
+    @Value("${app.crypto.parallel.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.crypto.parallel.threshold:1048576}")
+    private int threshold;
+
+    @Value("${app.crypto.parallel.segment-size:262144}")
+    private int segmentSize;
+
+    @Value("${app.crypto.parallel.parallelism:0}")
+    private int parallelism;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void init() {
+        pool = parallelism > 0 ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool();
+        ParallelCipher.configure(enabled, pool, threshold, segmentSize);
+        log.info("parallel cipher - enabled: {}, threshold: {}, segment-size: {}, parallelism: {}",
+            enabled, threshold, segmentSize, pool.getParallelism());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        // 종료 이후 요청이 종료된 pool 에 제출되지 않도록 commonPool 로 먼저 전환
+        ParallelCipher.reset();
+        if (pool != ForkJoinPool.commonPool()) {
+            pool.shutdown();
+        }
+    }
+}
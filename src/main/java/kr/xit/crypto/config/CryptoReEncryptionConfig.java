@@ -0,0 +1,196 @@
+package kr.xit.crypto.config;
+
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import javax.sql.*;
+
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.*;
+import org.springframework.boot.autoconfigure.condition.*;
+import org.springframework.context.annotation.*;
+import org.springframework.jdbc.core.*;
+
+import kr.xit.crypto.reencrypt.*;
+import kr.xit.crypto.service.*;
+import kr.xit.crypto.util.*;
+import lombok.extern.slf4j.*;
+
+/**
+ * <pre>
+ * description : key 교체 일괄 재암호화(ReEncryptionJob) 설정 - app.crypto.reencrypt.enabled: true 인 경우 기동 후 실행
+ *               - DataSource bean 필요(DataSourceAutoConfiguration 제외 상태이므로 직접 등록)
+ *               - 이전 key(old-key)는 old-key-id 로 KeyMaterialCache 에 등록하여 복호화,
+ *                 암호화는 현재 설정(app.crypto.key 또는 keyring 활성 key, alg, mode, envelope)
+ *               - envelope 사용시 복호화 key 는 old-key-id 가 아니라 암호문 header 의 key ID 로 결정됨
+ *                 -> 이전 key 는 암호문 header 에 기록된 key ID(= old-key-id)로 등록되어 있어야 함
+ *                    (keyring 사용시 keyring 에 등록, old-key 지정 불가)
+ *               - header 없는 이전 형식은 이전 key(old-key-id), 이전 iv(old-iv, 기본 app.crypto.iv)로 복호화 (ReEncryptionCipher)
+ *               - 중단 후 재실행시 이미 재암호화된 값
+ *                 -> envelope : header 의 key ID 가 현재 key ID 이면 복호화하지 않고 유지
+ *                 -> envelope 미사용 : 구분할 수 없으므로 인증 모드(CCM, GCM, SIV)만 허용 - 이전 key 복호화 실패로 검출
+ *                    (비인증 모드는 잘못된 평문을 현재 key 로 암호화하여 저장하게 되므로 기동 실패)
+ *               - 기동시 검증 : old-key-id 가 현재(활성) key ID 와 다를 것, old-key-id 로 복호화 key 를 찾을 수 있을 것,
+ *                 첫 row 를 이전 key 로 복호화할 수 있을 것(envelope 이면 header 의 key ID 가 old-key-id 또는 현재 key ID)
+ *               app.crypto.reencrypt.table           : table 명
+ *               app.crypto.reencrypt.id-column       : 숫자 key column 명
+ *               app.crypto.reencrypt.columns         : 암호화 column 명(쉼표 구분)
+ *               app.crypto.reencrypt.old-key         : 이전 key(Base64) - envelope 암호문이고 keyring 에 이전 key 가 있으면 생략
+ *               app.crypto.reencrypt.old-key-id      : 이전 key ID
+ *               app.crypto.reencrypt.old-iv          : header 없는 이전 형식의 iv(Base64, 기본 app.crypto.iv)
+ *               app.crypto.reencrypt.page-size       : page 건수
+ *               app.crypto.reencrypt.batch-size      : JDBC batch 크기
+ *               app.crypto.reencrypt.parallelism     : worker 수(0 이면 CPU 수)
+ *               app.crypto.reencrypt.checkpoint-file : checkpoint 파일
+ * packageName : kr.xit.crypto.config
+ * fileName    : CryptoReEncryptionConfig
+ * author      : limju
+ * date        : 2026-10-17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026-10-17    limju       최초 생성
+ * 2026-10-17    limju       이전/현재 key ID 검증, 기동시 암호문 header key ID 확인
+ * 2026-10-17    limju       header 없는 이전 형식은 이전 key, iv 로 복호화, 재실행시 현재 key 값 유지
+ *
+ * </pre>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.crypto.reencrypt.enabled", havingValue = "true")
+public class CryptoReEncryptionConfig {
+    @Value("${app.crypto.reencrypt.table:}")
+    private String table;
+
+    @Value("${app.crypto.reencrypt.id-column:id}")
+    private String idColumn;
+
+    @Value("${app.crypto.reencrypt.columns:}")
+    private String columns;
+
+    @Value("${app.crypto.reencrypt.old-key:}")
+    private String oldKey;
+
+    @Value("${app.crypto.reencrypt.old-key-id:old}")
+    private String oldKeyId;
+
+    @Value("${app.crypto.reencrypt.old-iv:${app.crypto.iv:}}")
+    private String oldIv;
+
+    @Value("${app.crypto.reencrypt.page-size:5000}")
+    private int pageSize;
+
+    @Value("${app.crypto.reencrypt.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.crypto.reencrypt.parallelism:0}")
+    private int parallelism;
+
+    @Value("${app.crypto.reencrypt.checkpoint-file:reencrypt/checkpoint.properties}")
+    private String checkpointFile;
+
+    @Bean(destroyMethod = "close")
+    public ReEncryptionJob reEncryptionJob(DataSource dataSource, CryptoCipherService cryptoCipherService) {
+        String oldId = oldKeyId.trim();
+        validateKeys(cryptoCipherService, oldId);
+        if (!oldKey.trim().isEmpty()) {
+            KeyMaterialCache.register(oldId, Base64.getDecoder().decode(oldKey.trim()));
+        }
+        if (!cryptoCipherService.hasKey(oldId)) {
+            throw BizRuntimeException.create(String.format("이전 key ID[%s] 로 등록된 key 가 없습니다 - "
+                + "app.crypto.reencrypt.old-key 또는 keyring 에 암호문 header 의 key ID 로 등록하여야 합니다", oldId));
+        }
+        List<String> columnNames = Arrays.stream(columns.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .collect(Collectors.toList());
+        ReEncryptionStore store = new JdbcReEncryptionStore(new JdbcTemplate(dataSource), table.trim(), idColumn.trim(),
+            columnNames, batchSize);
+
+        boolean envelope = cryptoCipherService.isEnvelopeEnabled();
+        CipherMode mode = cryptoCipherService.getCipherMode();
+        if (!envelope && !CipherSuites.isAuthenticated(mode)) {
+            throw BizRuntimeException.create(String.format("%s 모드는 app.crypto.envelope.enabled 인 경우에만 재암호화할 수 있습니다 - "
+                + "재실행시 이미 재암호화된 값을 구분할 수 없습니다", mode));
+        }
+        String activeId = cryptoCipherService.activeKeyId();
+        CipherSuite legacy = CipherSuites.resolve(cryptoCipherService.getCipherAlgorithm(), mode,
+            cryptoCipherService.keyMaterial(oldId), oldIv.trim().isEmpty() ? null : Base64.getDecoder().decode(oldIv.trim()));
+        ReEncryptionCipher cipher = new ReEncryptionCipher(
+            envelope ? cipherText -> cryptoCipherService.decrypt(null, cipherText) : null,
+            cryptoCipherService::hasKey, activeId, legacy);
+        checkFirstRow(store, cipher, oldId, activeId);
+
+        return new ReEncryptionJob(store, cipher::decrypt,
+            plainText -> cryptoCipherService.encrypt(null, plainText),
+            cipher::isCurrent, pageSize, parallelism, Paths.get(checkpointFile));
+    }
+
+    /**
+     * <pre>
+     * - 이전 key ID 와 현재 key ID 가 같으면 재암호화 의미가 없고, old-key 등록시 현재 key 를 덮어씀
+     * - keyring 이면 header 의 key ID 는 keyring 에서 조회하므로 old-key(KeyMaterialCache 등록)는 사용되지 않음
+     * </pre>
+     */
+    private void validateKeys(CryptoCipherService cryptoCipherService, String oldId) {
+        if (oldId.isEmpty()) {
+            throw BizRuntimeException.create("app.crypto.reencrypt.old-key-id 가 지정되지 않았습니다");
+        }
+        String activeId = cryptoCipherService.activeKeyId();
+        if (oldId.equals(activeId)) {
+            throw BizRuntimeException.create(String.format("이전 key ID[%s] 가 현재 key ID 와 같습니다", oldId));
+        }
+        if (!oldKey.trim().isEmpty() && cryptoCipherService.isKeyRingEnabled()) {
+            throw BizRuntimeException.create("keyring 사용시 이전 key 는 app.crypto.reencrypt.old-key 가 아니라 keyring 에 등록하여야 합니다");
+        }
+    }
+
+    /**
+     * <pre>
+     * 첫 row 를 이전 key 로 복호화할 수 있는지 확인 - 설정 오류로 전체 row 가 실패(건너뜀)하는 것을 방지
+     * - 이미 현재 key 로 암호화된 값(재실행)은 확인하지 않음
+     * - envelope 복호화는 header 의 key ID 로 key 를 찾으므로 header key ID 가 이전 key ID 인지 확인
+     * </pre>
+     */
+    private static void checkFirstRow(ReEncryptionStore store, ReEncryptionCipher cipher, String oldId, String activeId) {
+        List<ReEncryptionRow> first = store.read(0, 1);
+        if (first.isEmpty()) {
+            return;
+        }
+        String value = Arrays.stream(first.get(0).getValues()).filter(Objects::nonNull).findFirst().orElse(null);
+        if (value == null) {
+            return;
+        }
+        byte[] cipherText = Base64.getDecoder().decode(value);
+        if (cipher.isCurrent(cipherText)) {
+            return;
+        }
+        String headerKeyId = cipher.envelopeKeyId(cipherText);
+        if (headerKeyId != null && !headerKeyId.equals(oldId) && !headerKeyId.equals(activeId)) {
+            throw BizRuntimeException.create(String.format("암호문 header 의 key ID[%s] 가 이전 key ID[%s] 와 다릅니다 - "
+                + "app.crypto.reencrypt.old-key-id 를 header 의 key ID 로 지정하여야 합니다", headerKeyId, oldId));
+        }
+        try {
+            Arrays.fill(cipher.decrypt(cipherText), (byte)0);
+        } catch (RuntimeException e) {
+            throw BizRuntimeException.create(String.format("첫 row(id: %d)를 이전 key 로 복호화할 수 없습니다 - "
+                + "app.crypto.reencrypt.old-key, old-key-id, old-iv 를 확인하십시오 (%s)", first.get(0).getId(), e.getMessage()));
+        }
+    }
+
+    @Bean
+    public ApplicationRunner reEncryptionRunner(ReEncryptionJob reEncryptionJob) {
+        return args -> {
+            Thread thread = new Thread(() -> {
+                try {
+                    reEncryptionJob.run();
+                } catch (Exception e) {
+                    log.error("reencrypt 실패 - {}", e.getMessage(), e);
+                }
+            }, "reencrypt-job");
+            thread.setDaemon(true);
+            thread.start();
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package kr.xit.crypto.config;
+
+import java.io.*;
+
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.autoconfigure.condition.*;
+import org.springframework.context.annotation.*;
+
+import kr.xit.crypto.service.*;
+import kr.xit.crypto.tcp.*;
+
+/**
+ * <pre>
+ * description : TCP 암복호화 서버(CryptoTcpServer) 설정 - app.crypto.tcp.enabled: true 인 경우만 기동
+ *               app.crypto.tcp.bind-address   : listen 주소(기본 127.0.0.1 - 인증 없으므로 외부 노출시에만 변경)
+ *               app.crypto.tcp.port           : listen port
+ *               app.crypto.tcp.io-threads     : I/O thread 수(0 이면 CPU 수)
+ *               app.crypto.tcp.max-frame-size : 최대 요청 frame 크기
+ *               app.crypto.tcp.inline-frame-size : I/O thread 에서 바로 처리하는 최대 frame 크기
+ *                                                  (초과시 CryptoAsyncExecutor 에서 처리)
+ * packageName : kr.xit.crypto.config
+ * fileName    : CryptoTcpConfig
+ * author      : limju
+ * date        : 2026-10-17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026-10-17    limju       최초 생성
+ * 2026-10-17    limju       bind-address 추가
+ * 2026-10-17    limju       inline-frame-size 초과 frame 은 CryptoAsyncExecutor 에서 처리
+ *
+ * </pre>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.crypto.tcp.enabled", havingValue = "true")
+public class CryptoTcpConfig {
+    @Value("${app.crypto.tcp.bind-address:127.0.0.1}")
+    private String bindAddress;
+
+    @Value("${app.crypto.tcp.port:9090}")
+    private int port;
+
+    @Value("${app.crypto.tcp.io-threads:0}")
+    private int ioThreads;
+
+    @Value("${app.crypto.tcp.max-frame-size:16777216}")
+    private int maxFrameSize;
+
+    @Value("${app.crypto.tcp.inline-frame-size:65536}")
+    private int inlineFrameSize;
+
+    @Bean(destroyMethod = "close")
+    public CryptoTcpServer cryptoTcpServer(final CryptoCipherService cryptoCipherService,
+        final CryptoAsyncExecutor cryptoAsyncExecutor) {
+        CryptoTcpServer server = new CryptoTcpServer(bindAddress, port, ioThreads, maxFrameSize, new CryptoTcpHandler() {
+            @Override
+            public byte[] encrypt(String keyId, byte[] plainText) {
+                return cryptoCipherService.encrypt(keyId, plainText);
+            }
+
+            @Override
+            public byte[] decrypt(String keyId, byte[] cipherText) {
+                return cryptoCipherService.decrypt(keyId, cipherText);
+            }
+        }, cryptoAsyncExecutor::submit, inlineFrameSize);
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw BizRuntimeException.create(String.format("crypto tcp server 기동 실패(%s:%d) - %s", bindAddress, port, e.getMessage()));
+        }
+        return server;
+    }
+}
@@ -1,5 +1,7 @@
 package kr.xit.crypto.config;
 
+import java.util.concurrent.*;
+
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +19,13 @@ public class CustomRestExceptionHandler {
         return sendError(e);
     }
 
+    @ExceptionHandler(value = {RejectedExecutionException.class})
+    @ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+    protected ApiResponse<Void> handleRejectedExecutionException(RejectedExecutionException e) {
+        log.error("==== throw RejectedExecutionException ====\n{}", e.getMessage());
+        return ApiResponse.error(HttpStatus.SERVICE_UNAVAILABLE.toString(), e.getMessage());
+    }
+
     @ExceptionHandler(value = {RuntimeException.class})
     @ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
     protected ApiResponse<Void> handleRuntimeException(RuntimeException e) {
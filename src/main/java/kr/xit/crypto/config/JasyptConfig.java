@@ -9,9 +9,14 @@ import org.jasypt.encryption.pbe.config.*;
 import org.springframework.beans.factory.annotation.*;
 import org.springframework.context.annotation.*;
 
+import kr.xit.crypto.util.*;
+
 /**
  * <pre>
  * description : properties 암호화 설정
+ *               app.jasypt.alg : ARIA-GCM | LEA-GCM -> CipherStringEncryptor (key 는 기동시 PBKDF2 로 한번만 유도)
+ *                                                    기존 PBE 값은 app.jasypt.legacy-alg 로 복호화
+ *                                그 외(PBEWithMD5AndDES 등) -> jasypt PBE
  * packageName : kr.xit.crypto.config
  * fileName    : JasyptConfig
  * author      : julim
@@ -20,6 +25,7 @@ import org.springframework.context.annotation.*;
  * 변경일         변경자        변경 내용
  * ----------------------------------------------------------------------
  * 2024-11-06    julim       최초 생성
+ * 2026-10-17    limju       ARIA/LEA-GCM encryptor(CipherStringEncryptor) 추가, PBE pool 크기 CPU 수
  *
  * </pre>
  */
@@ -35,20 +41,38 @@ public class JasyptConfig {
     @Value("${app.jasypt.type:none}")
     private String secretType;
 
+    @Value("${app.jasypt.legacy-alg:PBEWithMD5AndDES}")
+    private String legacyAlg;
+
+    @Value("${app.jasypt.salt:kr.xit.crypto.jasypt}")
+    private String salt;
+
+    @Value("${app.jasypt.iterations:310000}")
+    private int iterations;
+
     @Bean(name = "jasyptStringEncryptor")
     public StringEncryptor jasyptStringEncryptor() {
+        String alg = secretAlg.trim().toUpperCase();
+        if (alg.endsWith("-GCM")) {
+            CipherAlgorithm algorithm = CipherSuites.algorithm(alg.substring(0, alg.length() - "-GCM".length()));
+            return new CipherStringEncryptor(algorithm, secretKey, salt, iterations, pbeEncryptor(legacyAlg));
+        }
+        return pbeEncryptor(secretAlg);
+    }
+
+    private PooledPBEStringEncryptor pbeEncryptor(String algorithm) {
         SimpleStringPBEConfig config = new SimpleStringPBEConfig();
         // 암/복호화 키
         config.setPassword(secretKey);
         // 암/복호화 알고리즘
-        config.setAlgorithm(secretAlg);
+        config.setAlgorithm(algorithm);
         // 반복할 해싱 회수
         config.setKeyObtentionIterations("1000");
         config.setProviderName("SunJCE");
         // salt 생성 클래스
         config.setSaltGeneratorClassName("org.jasypt.salt.RandomSaltGenerator");
-        // 암/복호화 인스턴스 : 0보다 커야
-        config.setPoolSize("1");
+        // 암/복호화 인스턴스 : 0보다 커야 - 여러 property 동시 복호화
+        config.setPoolSize(String.valueOf(Runtime.getRuntime().availableProcessors()));
         config.setStringOutputType(secretType);
 
         PooledPBEStringEncryptor encryptor = new PooledPBEStringEncryptor();
@@ -0,0 +1,78 @@
+package kr.xit.crypto.jfr;
+
+import jdk.jfr.*;
+import kr.xit.crypto.util.*;
+
+/**
+ * <pre>
+ * JFR event - ARIA/LEA 암복호화 1회(BlockCipherModes 처리 단위)
+ * - event 가 비활성(recording 없음, 설정 off)이면 start 에서 null 반환 -> 객체 생성, 시간 측정 없음
+ * - threshold 미만이면 field 설정 없이 버림 (기본 10 ms, crypto.jfc 에서 조정)
+ *
+ * description :
+ * packageName : kr.xit.crypto.jfr
+ * fileName    : CipherOperationEvent
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+@Name(CipherOperationEvent.NAME)
+@Label("Cipher Operation")
+@Description("ARIA/LEA 암복호화 처리")
+@Category({"Crypto"})
+@StackTrace(false)
+@Threshold("10 ms")
+final class CipherOperationEvent extends Event {
+    static final String NAME = "kr.xit.crypto.CipherOperation";
+
+    private static final EventType TYPE = EventType.getEventType(CipherOperationEvent.class);
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Encryption")
+    boolean encryption;
+
+    @Label("Payload Size")
+    @DataAmount
+    long payloadSize;
+
+    @Label("Key ID")
+    String keyId;
+
+    @Label("Success")
+    boolean success;
+
+    static Object start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        CipherOperationEvent event = new CipherOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    static void finish(Object span, CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, String keyId, int length,
+        boolean success) {
+        CipherOperationEvent event = (CipherOperationEvent)span;
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.algorithm = algorithm.name();
+        event.mode = mode.name();
+        event.encryption = forEncryption;
+        event.payloadSize = length;
+        event.keyId = keyId;
+        event.success = success;
+        event.commit();
+    }
+}
@@ -0,0 +1,117 @@
+package kr.xit.crypto.jfr;
+
+import kr.xit.crypto.util.*;
+
+/**
+ * <pre>
+ * 암복호화 JFR event 기록
+ * - CipherOperationEvent : ARIA/LEA 암복호화(CipherObservers tracer 로 등록)
+ * - ServiceOperationEvent : CryptoCipherService 처리 (beginService, endService)
+ * - JFR 이 없는 JVM(8u262 미만)이면 enable 이 false 를 반환하고 기록하지 않음
+ *   -> jdk.jfr class 는 event class 에서만 참조하므로 이 class 는 JFR 없이 적재 가능
+ * - 기록 여부, threshold 는 recording 설정(classpath:jfr/crypto.jfc)으로 지정
+ *   -> recording 이 없거나 event 가 off 이면 처리 경로 비용은 flag, EventType 확인 뿐
+ *
+ * description :
+ * packageName : kr.xit.crypto.jfr
+ * fileName    : CryptoJfr
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public final class CryptoJfr {
+    private static final boolean AVAILABLE = isPresent();
+
+    private static final CipherTracer TRACER = new CipherTracer() {
+        @Override
+        public Object begin() {
+            return CipherOperationEvent.start();
+        }
+
+        @Override
+        public void end(Object span, CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, String keyId, int length,
+            boolean success) {
+            CipherOperationEvent.finish(span, algorithm, mode, forEncryption, keyId, length, success);
+        }
+    };
+
+    private static volatile boolean enabled;
+
+    private CryptoJfr() {
+    }
+
+    private static boolean isPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, CryptoJfr.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * <pre>
+     * event 등록 - 이후 시작된 recording 설정에 따라 기록
+     * @return JFR 미지원 JVM 이면 false
+     * </pre>
+     */
+    public static synchronized boolean enable() {
+        if (!AVAILABLE) {
+            return false;
+        }
+        if (!enabled) {
+            CipherObservers.trace(TRACER);
+            enabled = true;
+        }
+        return true;
+    }
+
+    public static synchronized void disable() {
+        if (enabled) {
+            CipherObservers.trace(null);
+            enabled = false;
+        }
+    }
+
+    /**
+     * <pre>
+     * CryptoCipherService 처리 시작
+     * @return 기록 대상이 아니면 null (endService 호출 불필요)
+     * </pre>
+     */
+    public static Object beginService() {
+        return enabled ? ServiceOperationEvent.start() : null;
+    }
+
+    /**
+     * <pre>
+     * CryptoCipherService 처리 종료
+     * @param span beginService 의 반환값 - null 이면 무시
+     * @param operation encode, decode, encrypt, decrypt, encode-stream, decode-stream
+     * @param algorithm 알고리즘
+     * @param mode 운용 모드
+     * @param keyId key ID
+     * @param length 입력 길이(bytes)
+     * @param success 성공 여부
+     * </pre>
+     */
+    public static void endService(Object span, String operation, CipherAlgorithm algorithm, CipherMode mode, String keyId,
+        long length, boolean success) {
+        if (span != null) {
+            ServiceOperationEvent.finish(span, operation, algorithm, mode, keyId, length, success);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package kr.xit.crypto.jfr;
+
+import jdk.jfr.*;
+import kr.xit.crypto.util.*;
+
+/**
+ * <pre>
+ * JFR event - CryptoCipherService 처리 1회(Base64 변환, envelope, 스트림 포함)
+ * - 내부의 암복호화는 CipherOperationEvent 로 별도 기록
+ * - event 가 비활성이면 start 에서 null 반환, threshold 미만이면 field 설정 없이 버림 (기본 10 ms)
+ *
+ * description :
+ * packageName : kr.xit.crypto.jfr
+ * fileName    : ServiceOperationEvent
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+@Name(ServiceOperationEvent.NAME)
+@Label("Crypto Service Operation")
+@Description("CryptoCipherService 암복호화 처리")
+@Category({"Crypto"})
+@StackTrace(false)
+@Threshold("10 ms")
+final class ServiceOperationEvent extends Event {
+    static final String NAME = "kr.xit.crypto.ServiceOperation";
+
+    private static final EventType TYPE = EventType.getEventType(ServiceOperationEvent.class);
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Payload Size")
+    @DataAmount
+    long payloadSize;
+
+    @Label("Key ID")
+    String keyId;
+
+    @Label("Success")
+    boolean success;
+
+    static Object start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    static void finish(Object span, String operation, CipherAlgorithm algorithm, CipherMode mode, String keyId, long length,
+        boolean success) {
+        ServiceOperationEvent event = (ServiceOperationEvent)span;
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operation;
+        event.algorithm = algorithm.name();
+        event.mode = mode.name();
+        event.payloadSize = length;
+        event.keyId = keyId;
+        event.success = success;
+        event.commit();
+    }
+}
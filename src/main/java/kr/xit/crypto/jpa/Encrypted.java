@@ -0,0 +1,109 @@
+package kr.xit.crypto.jpa;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * JPA 암호화 column 값 - 조회시 복호화하지 않고 get() 최초 호출시 복호화(lazy)
+ * - 대량 조회(page 단위 batch 등)에서 실제 사용하는 column 만 복호화 비용 발생
+ * - 불변(immutable) - 값 변경은 새 인스턴스(of)로 교체
+ *   -> 조회 후 변경하지 않은 값은 저장시 조회한 암호문을 그대로 사용(재암호화 없음)
+ *   -> 생성한 값은 최초 저장시 한번 암호화하여 보관
+ * - 하위 class 는 Hibernate dirty checking 에서 복사(암복호화) 하지 않도록 @Immutable 지정
+ *   (다른 인스턴스 비교시에만 암호문 또는 평문 비교)
+ * - toString 은 평문을 노출하지 않음(log 출력 대비)
+ *
+ * description :
+ * packageName : kr.xit.crypto.jpa
+ * fileName    : Encrypted
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       equals unchecked cast 제거
+ *
+ * </pre>
+ */
+public abstract class Encrypted<T> {
+    private volatile T value;
+    private volatile byte[] cipherText;
+
+    Encrypted(T value, byte[] cipherText) {
+        this.value = value;
+        this.cipherText = cipherText;
+    }
+
+    /**
+     * <pre>
+     * 평문 값 - 최초 호출시 복호화
+     * @return 평문 값
+     * </pre>
+     */
+    public T get() {
+        T v = value;
+        if (v == null) {
+            v = decode(EncryptedColumns.decrypt(cipherText));
+            value = v;
+        }
+        return v;
+    }
+
+    /**
+     * 복호화(또는 평문으로 생성) 여부
+     */
+    public boolean isDecrypted() {
+        return value != null;
+    }
+
+    /**
+     * 암호문 - 평문으로 생성한 경우 최초 호출시 암호화
+     */
+    byte[] cipherText() {
+        byte[] c = cipherText;
+        if (c == null) {
+            c = EncryptedColumns.encrypt(encode(value));
+            cipherText = c;
+        }
+        return c;
+    }
+
+    abstract T decode(byte[] plainText);
+
+    abstract byte[] encode(T value);
+
+    boolean valueEquals(T a, Object b) {
+        return Objects.equals(a, b);
+    }
+
+    int valueHashCode(T v) {
+        return v.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Encrypted<?> other = (Encrypted<?>)o;
+        byte[] c = cipherText;
+        if (c != null && Arrays.equals(c, other.cipherText)) {
+            return true;
+        }
+        return valueEquals(get(), other.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return valueHashCode(get());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(******)";
+    }
+}
@@ -0,0 +1,71 @@
+package kr.xit.crypto.jpa;
+
+import java.util.*;
+
+import org.hibernate.annotations.*;
+
+/**
+ * <pre>
+ * 암호화 byte[] column 값 - EncryptedBytesConverter (암호문 그대로 binary column)
+ * - 불변 유지를 위해 get() 은 복사본 반환
+ *
+ * description :
+ * packageName : kr.xit.crypto.jpa
+ * fileName    : EncryptedBytes
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       valueEquals 비교 대상 Object
+ *
+ * </pre>
+ */
+@Immutable
+public final class EncryptedBytes extends Encrypted<byte[]> {
+
+    private EncryptedBytes(byte[] value, byte[] cipherText) {
+        super(value, cipherText);
+    }
+
+    /**
+     * <pre>
+     * 평문으로 생성 - 저장시 암호화
+     * @param value 평문 - null 이면 null
+     * @return EncryptedBytes
+     * </pre>
+     */
+    public static EncryptedBytes of(byte[] value) {
+        return value == null ? null : new EncryptedBytes(value.clone(), null);
+    }
+
+    static EncryptedBytes ofCipherText(byte[] cipherText) {
+        return new EncryptedBytes(null, cipherText);
+    }
+
+    @Override
+    public byte[] get() {
+        return super.get().clone();
+    }
+
+    @Override
+    byte[] decode(byte[] plainText) {
+        return plainText;
+    }
+
+    @Override
+    byte[] encode(byte[] value) {
+        return value;
+    }
+
+    @Override
+    boolean valueEquals(byte[] a, Object b) {
+        return b instanceof byte[] && Arrays.equals(a, (byte[])b);
+    }
+
+    @Override
+    int valueHashCode(byte[] v) {
+        return Arrays.hashCode(v);
+    }
+}
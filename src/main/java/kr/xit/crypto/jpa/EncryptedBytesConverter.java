@@ -0,0 +1,34 @@
+package kr.xit.crypto.jpa;
+
+import javax.persistence.*;
+
+/**
+ * <pre>
+ * EncryptedBytes <-> binary column(암호문 그대로) 변환 - EncryptedBytes 타입 필드에 자동 적용(autoApply)
+ * - 조회시에는 암호문만 보관(복호화는 EncryptedBytes.get() 호출시)
+ *
+ * description :
+ * packageName : kr.xit.crypto.jpa
+ * fileName    : EncryptedBytesConverter
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+@Converter(autoApply = true)
+public class EncryptedBytesConverter implements AttributeConverter<EncryptedBytes, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(EncryptedBytes attribute) {
+        return attribute == null ? null : attribute.cipherText();
+    }
+
+    @Override
+    public EncryptedBytes convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : EncryptedBytes.ofCipherText(dbData);
+    }
+}
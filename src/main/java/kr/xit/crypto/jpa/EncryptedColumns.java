@@ -0,0 +1,69 @@
+package kr.xit.crypto.jpa;
+
+import java.util.function.*;
+
+import kr.xit.crypto.config.*;
+import kr.xit.crypto.util.*;
+
+/**
+ * <pre>
+ * JPA 암호화 column(Encrypted*) 암복호화 처리기 보관
+ * - AttributeConverter 는 JPA provider 가 생성하므로 기동시 한번 등록한 처리기를 static 으로 참조
+ *   (CryptoJpaConfig 에서 CryptoCipherService 등록 - app.crypto.* 설정의 CipherSuite, keyring 사용)
+ *
+ * description :
+ * packageName : kr.xit.crypto.jpa
+ * fileName    : EncryptedColumns
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public final class EncryptedColumns {
+    private static volatile UnaryOperator<byte[]> encryptor;
+    private static volatile UnaryOperator<byte[]> decryptor;
+
+    private EncryptedColumns() {
+    }
+
+    /**
+     * <pre>
+     * 암복호화 처리기 등록
+     * @param encryptor 평문 -> 암호문
+     * @param decryptor 암호문 -> 평문
+     * </pre>
+     */
+    public static void use(UnaryOperator<byte[]> encryptor, UnaryOperator<byte[]> decryptor) {
+        EncryptedColumns.decryptor = decryptor;
+        EncryptedColumns.encryptor = encryptor;
+    }
+
+    /**
+     * <pre>
+     * CipherSuite 로 암복호화 처리기 등록
+     * @param cipherSuite CipherSuite
+     * </pre>
+     */
+    public static void use(CipherSuite cipherSuite) {
+        use(cipherSuite::encrypt, cipherSuite::decrypt);
+    }
+
+    static byte[] encrypt(byte[] plainText) {
+        return processor(encryptor).apply(plainText);
+    }
+
+    static byte[] decrypt(byte[] cipherText) {
+        return processor(decryptor).apply(cipherText);
+    }
+
+    private static UnaryOperator<byte[]> processor(UnaryOperator<byte[]> processor) {
+        if (processor == null) {
+            throw BizRuntimeException.create("JPA 암호화 column 처리기가 등록되지 않았습니다");
+        }
+        return processor;
+    }
+}
@@ -0,0 +1,70 @@
+package kr.xit.crypto.jpa;
+
+import java.math.*;
+import java.nio.charset.*;
+
+import org.hibernate.annotations.*;
+
+/**
+ * <pre>
+ * 암호화 숫자 column 값 - 숫자를 문자열(BigDecimal.toPlainString)로 암호화 - EncryptedNumberConverter (Base64 문자열 column)
+ * - 금액, 계좌 잔액 등 정수/소수 모두 BigDecimal 로 보관 (scale 유지)
+ *
+ * description :
+ * packageName : kr.xit.crypto.jpa
+ * fileName    : EncryptedNumber
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+@Immutable
+public final class EncryptedNumber extends Encrypted<BigDecimal> {
+
+    private EncryptedNumber(BigDecimal value, byte[] cipherText) {
+        super(value, cipherText);
+    }
+
+    /**
+     * <pre>
+     * 평문으로 생성 - 저장시 암호화
+     * @param value 평문 - null 이면 null
+     * @return EncryptedNumber
+     * </pre>
+     */
+    public static EncryptedNumber of(BigDecimal value) {
+        return value == null ? null : new EncryptedNumber(value, null);
+    }
+
+    public static EncryptedNumber of(long value) {
+        return new EncryptedNumber(BigDecimal.valueOf(value), null);
+    }
+
+    static EncryptedNumber ofCipherText(byte[] cipherText) {
+        return new EncryptedNumber(null, cipherText);
+    }
+
+    /**
+     * <pre>
+     * long 값 - 소수점 이하가 있거나 범위를 벗어나면 ArithmeticException
+     * @return long 값
+     * </pre>
+     */
+    public long longValue() {
+        return get().longValueExact();
+    }
+
+    @Override
+    BigDecimal decode(byte[] plainText) {
+        return new BigDecimal(new String(plainText, StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    byte[] encode(BigDecimal value) {
+        return value.toPlainString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,55 @@
+package kr.xit.crypto.jpa;
+
+import java.nio.charset.*;
+
+import org.hibernate.annotations.*;
+
+/**
+ * <pre>
+ * 암호화 문자열 column 값 - EncryptedStringConverter (Base64 문자열 column)
+ * ex) private EncryptedString email;  ->  entity.getEmail().get()
+ *
+ * description :
+ * packageName : kr.xit.crypto.jpa
+ * fileName    : EncryptedString
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+@Immutable
+public final class EncryptedString extends Encrypted<String> {
+
+    private EncryptedString(String value, byte[] cipherText) {
+        super(value, cipherText);
+    }
+
+    /**
+     * <pre>
+     * 평문으로 생성 - 저장시 암호화
+     * @param value 평문 - null 이면 null
+     * @return EncryptedString
+     * </pre>
+     */
+    public static EncryptedString of(String value) {
+        return value == null ? null : new EncryptedString(value, null);
+    }
+
+    static EncryptedString ofCipherText(byte[] cipherText) {
+        return new EncryptedString(null, cipherText);
+    }
+
+    @Override
+    String decode(byte[] plainText) {
+        return new String(plainText, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
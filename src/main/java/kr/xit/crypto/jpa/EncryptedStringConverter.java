@@ -0,0 +1,36 @@
+package kr.xit.crypto.jpa;
+
+import java.util.*;
+
+import javax.persistence.*;
+
+/**
+ * <pre>
+ * EncryptedString <-> Base64 문자열 column 변환 - EncryptedString 타입 필드에 자동 적용(autoApply)
+ * - 조회시에는 암호문만 보관(복호화는 EncryptedString.get() 호출시)
+ *
+ * description :
+ * packageName : kr.xit.crypto.jpa
+ * fileName    : EncryptedStringConverter
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+@Converter(autoApply = true)
+public class EncryptedStringConverter implements AttributeConverter<EncryptedString, String> {
+
+    @Override
+    public String convertToDatabaseColumn(EncryptedString attribute) {
+        return attribute == null ? null : Base64.getEncoder().encodeToString(attribute.cipherText());
+    }
+
+    @Override
+    public EncryptedString convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : EncryptedString.ofCipherText(Base64.getDecoder().decode(dbData));
+    }
+}
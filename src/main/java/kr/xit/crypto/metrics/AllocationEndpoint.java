@@ -0,0 +1,42 @@
+package kr.xit.crypto.metrics;
+
+import java.util.*;
+
+import org.springframework.boot.actuate.endpoint.annotation.*;
+
+/**
+ * <pre>
+ * 요청별 할당량 actuator endpoint - /actuator/allocation
+ * - GET    : endpoint, mode 별 건수, 합계, 평균, 최대 할당량(bytes)
+ * - DELETE : 통계 초기화 (변경 전후 비교용, histogram 은 유지)
+ *
+ * description :
+ * packageName : kr.xit.crypto.metrics
+ * fileName    : AllocationEndpoint
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+@Endpoint(id = "allocation")
+public class AllocationEndpoint {
+    private final AllocationRecorder recorder;
+
+    public AllocationEndpoint(AllocationRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Map<String, Long>>> allocation() {
+        return recorder.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+    }
+}
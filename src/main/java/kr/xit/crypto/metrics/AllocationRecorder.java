@@ -0,0 +1,215 @@
+package kr.xit.crypto.metrics;
+
+import java.lang.management.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import io.micrometer.core.instrument.*;
+import kr.xit.crypto.util.*;
+
+/**
+ * <pre>
+ * 요청별 할당량(bytes) 기록 - ThreadMXBean thread 할당 counter 사용
+ * - crypto.request.allocation : 요청 1건 할당량 histogram(256B ~ 64MB 고정 bucket) (endpoint, mode)
+ * - endpoint, mode 별 건수, 합계, 평균, 최대는 snapshot (actuator /actuator/allocation)
+ * - 측정 구간
+ *   -> 요청 thread : AllocationFilter (요청, async dispatch - 응답 직렬화 포함)
+ *   -> crypto executor thread : CryptoAsyncExecutor 가 wrap 으로 감싼 처리
+ *   -> 스트림 응답 본문(StreamingResponseBody)은 MVC async executor 에서 실행되므로 제외
+ * - mode 는 CipherObservers 에 등록하여 현재 thread 의 요청에 기록
+ * - 측정 thread 에 요청이 attach 되지 않았으면 wrap, completed 는 아무것도 하지 않음
+ *
+ * description :
+ * packageName : kr.xit.crypto.metrics
+ * fileName    : AllocationRecorder
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public class AllocationRecorder implements CipherObserver {
+    private static final String NO_MODE = "NONE";
+    private static final double[] BUCKETS = {
+        256, 1024, 4096, 16384, 65536, 262144, 1048576, 4194304, 16777216, 67108864};
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+    private static final ThreadLocal<RequestAllocation> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, ConcurrentMap<String, Stats>> stats = new ConcurrentHashMap<>();
+
+    public AllocationRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean)bean;
+        return sunBean.isThreadAllocatedMemorySupported() ? sunBean : null;
+    }
+
+    /**
+     * thread 할당량 측정 지원 여부 (HotSpot 계열)
+     */
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * <pre>
+     * thread 할당량 측정 활성화 - HotSpot 은 기본 활성
+     * @return 미지원 JVM 이면 false
+     * </pre>
+     */
+    public static boolean enable() {
+        if (THREAD_MX_BEAN == null) {
+            return false;
+        }
+        if (!THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled()) {
+            THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+        }
+        return true;
+    }
+
+    /**
+     * 현재 thread 누적 할당량 - 미지원이면 0
+     */
+    public static long threadAllocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+
+    public static void attach(RequestAllocation allocation) {
+        CURRENT.set(allocation);
+    }
+
+    public static void detach() {
+        CURRENT.remove();
+    }
+
+    public static RequestAllocation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * <pre>
+     * 다른 thread 에서 실행할 처리를 감싸서 그 thread 의 할당량을 현재 요청에 합산
+     * - 처리 결과 반환 전에 합산하므로 결과를 받은 쪽(async dispatch)에서 기록하면 누락 없음
+     * @param task 처리
+     * @return 현재 thread 에 요청이 없으면 task 그대로
+     * </pre>
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        RequestAllocation allocation = CURRENT.get();
+        if (allocation == null) {
+            return task;
+        }
+        return () -> {
+            attach(allocation);
+            long start = threadAllocatedBytes();
+            try {
+                return task.get();
+            } finally {
+                allocation.add(threadAllocatedBytes() - start);
+                detach();
+            }
+        };
+    }
+
+    @Override
+    public void completed(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, String keyId, int length, long nanos) {
+        RequestAllocation allocation = CURRENT.get();
+        if (allocation != null) {
+            allocation.setMode(mode);
+        }
+    }
+
+    @Override
+    public void failed(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, String keyId, RuntimeException e) {
+        completed(algorithm, mode, forEncryption, keyId, 0, 0);
+    }
+
+    /**
+     * <pre>
+     * 요청 완료 - histogram, 통계 기록
+     * @param endpoint 요청 mapping pattern (ex: /crypto/encode)
+     * @param allocation 요청 할당량
+     * </pre>
+     */
+    public void record(String endpoint, RequestAllocation allocation) {
+        String mode = allocation.getMode() != null ? allocation.getMode().name() : NO_MODE;
+        stats.computeIfAbsent(endpoint, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(mode, k -> new Stats(registry, endpoint, mode))
+            .record(allocation.getBytes());
+    }
+
+    /**
+     * <pre>
+     * endpoint, mode 별 통계 - 최대값은 reset 이후 최대
+     * @return {endpoint: {mode: {count, total-bytes, mean-bytes, max-bytes}}}
+     * </pre>
+     */
+    public Map<String, Map<String, Map<String, Long>>> snapshot() {
+        Map<String, Map<String, Map<String, Long>>> result = new TreeMap<>();
+        stats.forEach((endpoint, modes) -> {
+            Map<String, Map<String, Long>> byMode = new TreeMap<>();
+            modes.forEach((mode, s) -> byMode.put(mode, s.snapshot()));
+            result.put(endpoint, byMode);
+        });
+        return result;
+    }
+
+    /**
+     * snapshot 통계 초기화 - histogram(crypto.request.allocation)은 유지
+     */
+    public void reset() {
+        stats.values().forEach(modes -> modes.values().forEach(Stats::reset));
+    }
+
+    private static final class Stats {
+        private final DistributionSummary summary;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        Stats(MeterRegistry registry, String endpoint, String mode) {
+            summary = DistributionSummary.builder("crypto.request.allocation")
+                .description("요청 1건 할당량")
+                .baseUnit("bytes")
+                .tags("endpoint", endpoint, "mode", mode)
+                .serviceLevelObjectives(BUCKETS)
+                .register(registry);
+        }
+
+        void record(long bytes) {
+            summary.record(bytes);
+            count.increment();
+            total.add(bytes);
+            max.accumulate(bytes);
+        }
+
+        Map<String, Long> snapshot() {
+            long n = count.sum();
+            long sum = total.sum();
+            Map<String, Long> values = new LinkedHashMap<>();
+            values.put("count", n);
+            values.put("total-bytes", sum);
+            values.put("mean-bytes", n == 0 ? 0 : sum / n);
+            values.put("max-bytes", max.get());
+            return values;
+        }
+
+        void reset() {
+            count.reset();
+            total.reset();
+            max.reset();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package kr.xit.crypto.metrics;
+
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.binder.*;
+import kr.xit.crypto.service.*;
+import kr.xit.crypto.util.*;
+
+/**
+ * <pre>
+ * 재사용 pool, cache, 비동기 executor 현황 metrics
+ * - crypto.pool.hits, crypto.pool.misses : ModeCipherPool mode cipher 재사용/생성 횟수 (mode)
+ * - crypto.key.cache.size               : KeyMaterialCache 등록 key 수
+ * - crypto.async.queue.depth, crypto.async.active, crypto.async.rejected : CryptoAsyncExecutor
+ * - 값은 scrape 시점에 조회 (처리 경로에는 기록 없음)
+ *
+ * description :
+ * packageName : kr.xit.crypto.metrics
+ * fileName    : CryptoPoolMetrics
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public class CryptoPoolMetrics implements MeterBinder {
+    private final CryptoAsyncExecutor asyncExecutor;
+
+    public CryptoPoolMetrics(CryptoAsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CipherMode mode : CipherMode.values()) {
+            FunctionCounter.builder("crypto.pool.hits", mode, ModeCipherPool::hits)
+                .description("mode cipher 재사용 횟수")
+                .tag("mode", mode.name())
+                .register(registry);
+            FunctionCounter.builder("crypto.pool.misses", mode, ModeCipherPool::misses)
+                .description("mode cipher 생성 횟수")
+                .tag("mode", mode.name())
+                .register(registry);
+        }
+        Gauge.builder("crypto.key.cache.size", KeyMaterialCache::size)
+            .description("KeyMaterialCache 등록 key 수")
+            .register(registry);
+
+        Gauge.builder("crypto.async.queue.depth", asyncExecutor, CryptoAsyncExecutor::getQueueDepth)
+            .description("비동기 처리 대기 건수")
+            .register(registry);
+        Gauge.builder("crypto.async.active", asyncExecutor, CryptoAsyncExecutor::getActiveCount)
+            .description("비동기 처리중인 thread 수")
+            .register(registry);
+        FunctionCounter.builder("crypto.async.rejected", asyncExecutor, CryptoAsyncExecutor::getRejectedCount)
+            .description("queue 초과로 거절된 건수")
+            .register(registry);
+    }
+}
@@ -0,0 +1,101 @@
+package kr.xit.crypto.metrics;
+
+import java.time.*;
+import java.util.concurrent.*;
+
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.Timer;
+import kr.xit.crypto.config.*;
+import kr.xit.crypto.util.*;
+
+/**
+ * <pre>
+ * 암복호화 처리 metrics - CipherObservers 에 등록
+ * - crypto.cipher           : 처리 시간 histogram(1us ~ 1s 고정 bucket) (algorithm, mode, direction)
+ * - crypto.cipher.bytes     : 입력 크기 - 건수, 합계(처리량), 최대 (algorithm, mode, direction)
+ * - crypto.cipher.failures  : 실패 건수 (algorithm, mode, direction, reason)
+ *   -> reason: authentication(CCM, GCM, SIV 복호화 인증 실패 - 위변조) | error
+ * - meter 는 생성시 모든 (algorithm, mode, direction) 조합을 등록하여 배열로 보관
+ *   -> 처리시 tag 조회, meter 검색, 할당 없이 배열 index 로 기록
+ *
+ * description :
+ * packageName : kr.xit.crypto.metrics
+ * fileName    : MicrometerCipherObserver
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public class MicrometerCipherObserver implements CipherObserver {
+    private static final String[] DIRECTIONS = {"decrypt", "encrypt"};
+    // histogram bucket - (algorithm, mode, direction) 조합이 많으므로 percentile histogram 대신 고정 bucket
+    private static final Duration[] LATENCY_BUCKETS = {
+        Duration.ofNanos(1000), Duration.ofNanos(5000), Duration.ofNanos(10000), Duration.ofNanos(50000),
+        Duration.ofNanos(100000), Duration.ofNanos(500000), Duration.ofMillis(1), Duration.ofMillis(5),
+        Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(1)};
+
+    private final Timer[][][] timers;
+    private final DistributionSummary[][][] sizes;
+    private final Counter[][][] authenticationFailures;
+    private final Counter[][][] errors;
+
+    public MicrometerCipherObserver(MeterRegistry registry) {
+        int algorithms = CipherAlgorithm.values().length;
+        int modes = CipherMode.values().length;
+        timers = new Timer[algorithms][modes][2];
+        sizes = new DistributionSummary[algorithms][modes][2];
+        authenticationFailures = new Counter[algorithms][modes][2];
+        errors = new Counter[algorithms][modes][2];
+
+        for (CipherAlgorithm algorithm : CipherAlgorithm.values()) {
+            for (CipherMode mode : CipherMode.values()) {
+                for (int d = 0; d < 2; d++) {
+                    Tags tags = Tags.of("algorithm", algorithm.name(), "mode", mode.name(), "direction", DIRECTIONS[d]);
+                    timers[algorithm.ordinal()][mode.ordinal()][d] = Timer.builder("crypto.cipher")
+                        .description("암복호화 처리 시간")
+                        .tags(tags)
+                        .serviceLevelObjectives(LATENCY_BUCKETS)
+                        .register(registry);
+                    sizes[algorithm.ordinal()][mode.ordinal()][d] = DistributionSummary.builder("crypto.cipher.bytes")
+                        .description("암복호화 입력 크기")
+                        .baseUnit("bytes")
+                        .tags(tags)
+                        .register(registry);
+                    authenticationFailures[algorithm.ordinal()][mode.ordinal()][d] = failureCounter(registry, tags, "authentication");
+                    errors[algorithm.ordinal()][mode.ordinal()][d] = failureCounter(registry, tags, "error");
+                }
+            }
+        }
+    }
+
+    @Override
+    public void completed(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, String keyId, int length, long nanos) {
+        int d = forEncryption ? 1 : 0;
+        timers[algorithm.ordinal()][mode.ordinal()][d].record(nanos, TimeUnit.NANOSECONDS);
+        sizes[algorithm.ordinal()][mode.ordinal()][d].record(length);
+    }
+
+    @Override
+    public void failed(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, String keyId, RuntimeException e) {
+        int d = forEncryption ? 1 : 0;
+        Counter[][][] counters = isAuthenticationFailure(mode, forEncryption, e) ? authenticationFailures : errors;
+        counters[algorithm.ordinal()][mode.ordinal()][d].increment();
+    }
+
+    private static boolean isAuthenticationFailure(CipherMode mode, boolean forEncryption, RuntimeException e) {
+        return !forEncryption && e instanceof BizRuntimeException
+            && (mode == CipherMode.CCM || mode == CipherMode.GCM || mode == CipherMode.SIV);
+    }
+
+    private static Counter failureCounter(MeterRegistry registry, Tags tags, String reason) {
+        return Counter.builder("crypto.cipher.failures")
+            .description("암복호화 실패 건수")
+            .tags(tags)
+            .tag("reason", reason)
+            .register(registry);
+    }
+}
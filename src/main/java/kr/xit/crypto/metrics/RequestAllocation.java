@@ -0,0 +1,47 @@
+package kr.xit.crypto.metrics;
+
+import java.util.concurrent.atomic.*;
+
+import kr.xit.crypto.util.*;
+
+/**
+ * <pre>
+ * 요청 1건의 할당량 누적
+ * - 요청 thread(요청, async dispatch), crypto executor thread 의 할당량을 합산
+ *   -> thread 가 바뀌는 구간은 DeferredResult dispatch 로 순서가 보장되지만 합산은 원자적으로 처리
+ * - mode : 요청 처리 중 마지막으로 사용된 운용 모드 (암복호화가 없었으면 null)
+ *
+ * description :
+ * packageName : kr.xit.crypto.metrics
+ * fileName    : RequestAllocation
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public final class RequestAllocation {
+    private final AtomicLong bytes = new AtomicLong();
+    private volatile CipherMode mode;
+
+    public void add(long allocated) {
+        if (allocated > 0) {
+            bytes.addAndGet(allocated);
+        }
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    public CipherMode getMode() {
+        return mode;
+    }
+
+    void setMode(CipherMode mode) {
+        this.mode = mode;
+    }
+}
@@ -0,0 +1,47 @@
+package kr.xit.crypto.model;
+
+import io.swagger.v3.oas.annotations.media.*;
+import lombok.*;
+
+/**
+ * <pre>
+ * description : 일괄 암복호화 건별 결과 - 요청 순서와 동일한 순서로 반환
+ * packageName : kr.xit.crypto.model
+ * fileName    : BatchItemResult
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+@Schema(name = "BatchItemResult", description = "일괄 암복호화 건별 결과")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Data
+public class BatchItemResult {
+    @Schema(description = "요청 목록의 index")
+    private int index;
+    @Schema(description = "성공 여부")
+    private boolean success;
+    @Schema(description = "결과 값(실패시 null)")
+    private String value;
+    @Schema(description = "실패 사유")
+    private String message;
+
+    public static BatchItemResult success(int index, String value) {
+        return new BatchItemResult(index, true, value, null);
+    }
+
+    public static BatchItemResult error(int index, String message) {
+        return new BatchItemResult(index, false, null, message);
+    }
+
+    private BatchItemResult(final int index, final boolean success, final String value, final String message) {
+        this.index = index;
+        this.success = success;
+        this.value = value;
+        this.message = message;
+    }
+}
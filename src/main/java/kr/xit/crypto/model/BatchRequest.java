@@ -0,0 +1,29 @@
+package kr.xit.crypto.model;
+
+import java.util.*;
+
+import io.swagger.v3.oas.annotations.media.*;
+import lombok.*;
+
+/**
+ * <pre>
+ * description : 일괄 암복호화 요청
+ * packageName : kr.xit.crypto.model
+ * fileName    : BatchRequest
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+@Schema(name = "BatchRequest", description = "일괄 암복호화 요청")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class BatchRequest {
+    @Schema(description = "암호화 대상(평문) 또는 복호화 대상(Base64) 목록 - 최대 app.crypto.batch.max-size 건")
+    private List<String> values;
+}
@@ -0,0 +1,163 @@
+package kr.xit.crypto.reencrypt;
+
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.*;
+
+import org.springframework.jdbc.core.*;
+
+import kr.xit.crypto.config.*;
+
+/**
+ * <pre>
+ * JdbcTemplate 재암호화 대상 조회, 저장
+ * - 조회 : where id > ? order by id (keyset paging) - offset 방식과 달리 page 위치와 무관하게 index 범위 조회
+ *   -> setMaxRows 로 건수 제한(DB 별 limit 문법 불필요), fetchSize 로 page 를 한번에 전송
+ * - 저장 : update ... where id = ? and column = 조회 값 을 JDBC batch 로 전송 (compare-and-set)
+ *   -> 조회 후 application 에서 변경한 row 는 갱신 건수 0 -> 덮어쓰지 않고 건수만 반환
+ *   -> null column 은 is null 로 비교하고 갱신하지 않음 - null 위치가 같은 row 끼리 batch 전송
+ * - table, column 명은 설정 값이므로 식별자 형식만 허용
+ *
+ * description :
+ * packageName : kr.xit.crypto.reencrypt
+ * fileName    : JdbcReEncryptionStore
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       저장을 compare-and-set 으로 변경
+ *
+ * </pre>
+ */
+public final class JdbcReEncryptionStore implements ReEncryptionStore {
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String idColumn;
+    private final List<String> columns;
+    private final int columnCount;
+    private final int batchSize;
+    private final String selectSql;
+    private final Map<BitSet, String> updateSqls = new ConcurrentHashMap<>();
+
+    /**
+     * <pre>
+     * @param jdbcTemplate JdbcTemplate
+     * @param table table 명
+     * @param idColumn 숫자 key column 명
+     * @param columns 암호화 column 명 목록
+     * @param batchSize JDBC batch 크기
+     * </pre>
+     */
+    public JdbcReEncryptionStore(JdbcTemplate jdbcTemplate, String table, String idColumn, List<String> columns, int batchSize) {
+        if (columns.isEmpty()) {
+            throw BizRuntimeException.create("재암호화 column 이 지정되지 않았습니다");
+        }
+        identifier(table);
+        identifier(idColumn);
+        columns.forEach(JdbcReEncryptionStore::identifier);
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.idColumn = idColumn;
+        this.columns = new ArrayList<>(columns);
+        this.columnCount = columns.size();
+        this.batchSize = batchSize;
+        this.selectSql = "select " + idColumn + ", " + String.join(", ", columns)
+            + " from " + table + " where " + idColumn + " > ? order by " + idColumn;
+    }
+
+    @Override
+    public List<ReEncryptionRow> read(long afterId, int limit) {
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(selectSql);
+            ps.setMaxRows(limit);
+            ps.setFetchSize(limit);
+            ps.setLong(1, afterId);
+            return ps;
+        }, (rs, rowNum) -> {
+            String[] values = new String[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                values[i] = rs.getString(i + 2);
+            }
+            return new ReEncryptionRow(rs.getLong(1), values);
+        });
+    }
+
+    @Override
+    public int write(List<ReEncryptionRow> rows) {
+        // null 위치(조회 값 기준)가 같은 row 끼리 같은 update 문
+        Map<BitSet, List<ReEncryptionRow>> groups = new LinkedHashMap<>();
+        for (ReEncryptionRow row : rows) {
+            BitSet present = present(row.getOriginals());
+            if (!present.isEmpty()) {
+                groups.computeIfAbsent(present, k -> new ArrayList<>()).add(row);
+            }
+        }
+
+        int conflicts = 0;
+        for (Map.Entry<BitSet, List<ReEncryptionRow>> group : groups.entrySet()) {
+            BitSet present = group.getKey();
+            int[][] counts = jdbcTemplate.batchUpdate(updateSql(present), group.getValue(), batchSize, (ps, row) -> {
+                String[] values = row.getValues();
+                String[] originals = row.getOriginals();
+                int index = 1;
+                for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                    ps.setString(index++, values[i]);
+                }
+                ps.setLong(index++, row.getId());
+                for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                    ps.setString(index++, originals[i]);
+                }
+            });
+            // SUCCESS_NO_INFO(-2) 는 driver 가 건수를 알려주지 않는 경우 - 변경 여부 판단 불가하므로 저장된 것으로 간주
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    if (count == 0) {
+                        conflicts++;
+                    }
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    private BitSet present(String[] originals) {
+        BitSet present = new BitSet(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            if (originals[i] != null) {
+                present.set(i);
+            }
+        }
+        return present;
+    }
+
+    /**
+     * update table set 값이 있는 column = ? where id = ? and 값이 있는 column = ? and null column is null
+     */
+    String updateSql(BitSet present) {
+        return updateSqls.computeIfAbsent(present, k -> {
+            StringJoiner set = new StringJoiner(", ", "update " + table + " set ", "");
+            StringJoiner where = new StringJoiner(" and ", " where " + idColumn + " = ? and ", "");
+            for (int i = 0; i < columnCount; i++) {
+                if (present.get(i)) {
+                    set.add(columns.get(i) + " = ?");
+                    where.add(columns.get(i) + " = ?");
+                } else {
+                    where.add(columns.get(i) + " is null");
+                }
+            }
+            return set + where.toString();
+        });
+    }
+
+    private static void identifier(String name) {
+        if (name == null || !IDENTIFIER.matcher(name).matches()) {
+            throw BizRuntimeException.create(String.format("잘못된 table, column 명[%s] 입니다", name));
+        }
+    }
+}
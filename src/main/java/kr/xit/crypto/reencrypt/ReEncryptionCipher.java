@@ -0,0 +1,85 @@
+package kr.xit.crypto.reencrypt;
+
+import java.util.function.*;
+
+import kr.xit.crypto.config.*;
+import kr.xit.crypto.util.*;
+
+/**
+ * <pre>
+ * 재암호화 대상 복호화 - envelope 형식과 header 없는 이전 형식(이전 key, 고정 iv)이 섞인 column 처리
+ * - header 를 해석할 수 있고 등록된 key ID 이면 envelope 복호화(header 의 key ID 로 key 결정)
+ * - 그 외(header 없음)는 이전 key, 이전 iv 의 고정 iv 처리기(legacy)로 복호화
+ *   -> 인증 모드이면 envelope 복호화 실패시 legacy 로 재시도 (header 로 해석되는 이전 형식 암호문)
+ * - header 의 key ID 가 현재(활성) key ID 이면 이미 재암호화된 값(isCurrent) - 재실행시 다시 복호화하지 않음
+ *
+ * description :
+ * packageName : kr.xit.crypto.reencrypt
+ * fileName    : ReEncryptionCipher
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public final class ReEncryptionCipher {
+    private final UnaryOperator<byte[]> envelopeDecryptor;
+    private final Predicate<String> knownKeyId;
+    private final String activeKeyId;
+    private final CipherSuite legacy;
+
+    /**
+     * <pre>
+     * @param envelopeDecryptor envelope 복호화 - null 이면 envelope 미사용(모든 값이 이전 형식)
+     * @param knownKeyId 복호화 가능한 key ID 여부
+     * @param activeKeyId 현재(활성) key ID
+     * @param legacy header 없는 이전 형식 복호화(이전 key, 이전 iv)
+     * </pre>
+     */
+    public ReEncryptionCipher(UnaryOperator<byte[]> envelopeDecryptor, Predicate<String> knownKeyId, String activeKeyId,
+        CipherSuite legacy) {
+        this.envelopeDecryptor = envelopeDecryptor;
+        this.knownKeyId = knownKeyId;
+        this.activeKeyId = activeKeyId;
+        this.legacy = legacy;
+    }
+
+    public byte[] decrypt(byte[] cipherText) {
+        if (envelopeKeyId(cipherText) != null) {
+            try {
+                return envelopeDecryptor.apply(cipherText);
+            } catch (RuntimeException e) {
+                if (!CipherSuites.isAuthenticated(legacy.getMode())) {
+                    throw e;
+                }
+            }
+        }
+        return legacy.decrypt(cipherText);
+    }
+
+    /**
+     * 현재 key 의 envelope 암호문 여부 - envelope 미사용이면 항상 false
+     */
+    public boolean isCurrent(byte[] cipherText) {
+        return envelopeDecryptor != null && activeKeyId.equals(headerKeyId(cipherText));
+    }
+
+    /**
+     * envelope 으로 복호화할 암호문이면 header 의 key ID - 아니면(header 없음, 미등록 key ID) null
+     */
+    public String envelopeKeyId(byte[] cipherText) {
+        String keyId = envelopeDecryptor != null ? headerKeyId(cipherText) : null;
+        return keyId != null && knownKeyId.test(keyId) ? keyId : null;
+    }
+
+    private static String headerKeyId(byte[] cipherText) {
+        try {
+            return CipherEnvelope.keyIdOf(cipherText);
+        } catch (BizRuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package kr.xit.crypto.reencrypt;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import kr.xit.crypto.config.*;
+import lombok.extern.slf4j.*;
+
+/**
+ * <pre>
+ * key 교체(rotation) 일괄 재암호화 - 이전 key 로 복호화 후 현재 key 로 암호화하여 저장
+ * - keyset paging 으로 page(pageSize 건) 단위 조회 -> worker pool 에서 병렬 재암호화 -> JDBC batch 저장
+ *   -> 현재 page 재암호화 중에 다음 page 를 조회(조회와 암복호화 중첩)
+ *   -> worker thread 는 고정이므로 thread 별 key schedule, mode cipher(KeyMaterial) 재사용
+ * - page 저장 후 checkpoint 파일에 마지막 key, 처리 건수 기록(fsync) -> 재실행시 이어서 처리
+ *   -> 저장 후 checkpoint 기록 전에 중단되면 해당 page 는 다시 처리되므로 이미 현재 key 로 암호화된 값(current)은
+ *      복호화하지 않고 유지 - 구분할 수 없으면(header 없는 형식) 인증 모드만 사용(이전 key 복호화 실패로 검출)
+ * - 복호화 실패 row 는 건너뛰고(변경 없음) 건수와 key 를 log 로 남김
+ * - 조회 후 application 에서 변경된 row 는 저장하지 않음(compare-and-set) - 덮어쓰면 변경 내용이 유실되므로
+ *   건너뛰고 건수(conflicts)만 기록 -> 변경한 쪽은 현재 key 로 암호화하여 저장하였으므로 재처리 불필요
+ * - Base64 문자열 column 대상(CryptoCipherService, EncryptedStringConverter 저장 형식)
+ *
+ * description :
+ * packageName : kr.xit.crypto.reencrypt
+ * fileName    : ReEncryptionJob
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       조회 후 변경된 row 는 저장하지 않음(conflicts)
+ * 2026 10월 17   limju       이미 현재 key 로 암호화된 값은 유지(skipped)
+ *
+ * </pre>
+ */
+@Slf4j
+public class ReEncryptionJob implements Closeable {
+    private static final long LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final ReEncryptionStore store;
+    private final UnaryOperator<byte[]> decryptor;
+    private final UnaryOperator<byte[]> encryptor;
+    private final Predicate<byte[]> current;
+    private final int pageSize;
+    private final int parallelism;
+    private final Path checkpointFile;
+    private final ExecutorService executor;
+
+    private volatile boolean stopped;
+    private volatile long lastId;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    /**
+     * <pre>
+     * @param store 조회, 저장
+     * @param decryptor 이전 key 복호화
+     * @param encryptor 현재 key 암호화
+     * @param pageSize page 건수
+     * @param parallelism worker 수(0 이면 CPU 수)
+     * @param checkpointFile checkpoint 파일
+     * </pre>
+     */
+    public ReEncryptionJob(ReEncryptionStore store, UnaryOperator<byte[]> decryptor, UnaryOperator<byte[]> encryptor,
+        int pageSize, int parallelism, Path checkpointFile) {
+        this(store, decryptor, encryptor, v -> false, pageSize, parallelism, checkpointFile);
+    }
+
+    /**
+     * <pre>
+     * @param store 조회, 저장
+     * @param decryptor 이전 key 복호화
+     * @param encryptor 현재 key 암호화
+     * @param current 이미 현재 key 로 암호화된 값 여부 - true 이면 복호화하지 않고 유지
+     * @param pageSize page 건수
+     * @param parallelism worker 수(0 이면 CPU 수)
+     * @param checkpointFile checkpoint 파일
+     * </pre>
+     */
+    public ReEncryptionJob(ReEncryptionStore store, UnaryOperator<byte[]> decryptor, UnaryOperator<byte[]> encryptor,
+        Predicate<byte[]> current, int pageSize, int parallelism, Path checkpointFile) {
+        if (pageSize <= 0) {
+            throw BizRuntimeException.create("pageSize는 0보다 커야 합니다");
+        }
+        this.store = store;
+        this.decryptor = decryptor;
+        this.encryptor = encryptor;
+        this.current = current;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.checkpointFile = checkpointFile;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.parallelism, r -> {
+            Thread thread = new Thread(r, "reencrypt-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * <pre>
+     * checkpoint 이후 row 부터 끝까지(또는 stop 호출시까지) 재암호화
+     * @return 처리 현황
+     * </pre>
+     */
+    public Map<String, Long> run() throws IOException {
+        readCheckpoint();
+        log.info("reencrypt 시작 - last-id: {}, processed: {}, page-size: {}, parallelism: {}",
+            lastId, processed.get(), pageSize, parallelism);
+
+        long started = System.nanoTime();
+        long logged = started;
+        List<ReEncryptionRow> page = store.read(lastId, pageSize);
+        while (!page.isEmpty() && !stopped) {
+            CompletableFuture<List<ReEncryptionRow>> reEncrypted = reEncrypt(page);
+            long pageLastId = page.get(page.size() - 1).getId();
+            List<ReEncryptionRow> next = page.size() < pageSize ? Collections.emptyList() : store.read(pageLastId, pageSize);
+
+            List<ReEncryptionRow> rows = reEncrypted.join();
+            if (!rows.isEmpty()) {
+                int conflicted = store.write(rows);
+                if (conflicted > 0) {
+                    conflicts.addAndGet(conflicted);
+                    log.warn("reencrypt 조회 후 변경된 row 건너뜀 - {} 건, page last-id: {}", conflicted, pageLastId);
+                }
+            }
+            processed.addAndGet(page.size());
+            lastId = pageLastId;
+            writeCheckpoint();
+
+            long now = System.nanoTime();
+            if (now - logged >= LOG_INTERVAL_NANOS) {
+                logged = now;
+                log.info("reencrypt 진행 - last-id: {}, processed: {}, failed: {}, conflicts: {}", lastId, processed.get(),
+                    failed.get(), conflicts.get());
+            }
+            page = next;
+        }
+        log.info("reencrypt {} - last-id: {}, processed: {}, failed: {}, conflicts: {}, skipped: {}, {} ms",
+            stopped ? "중지" : "완료", lastId, processed.get(), failed.get(), conflicts.get(), skipped.get(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return stats();
+    }
+
+    /**
+     * 처리 중인 page 저장 후 중지
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * <pre>
+     * 처리 현황
+     * - last-id : checkpoint 에 기록된 마지막 key
+     * - processed : 처리(조회) 건수
+     * - failed : 복호화 실패로 건너뛴 건수
+     * - conflicts : 조회 후 변경되어 저장하지 않은 건수
+     * - skipped : 모든 값이 이미 현재 key 로 암호화되어 저장하지 않은 건수
+     * @return 현황
+     * </pre>
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("last-id", lastId);
+        stats.put("processed", processed.get());
+        stats.put("failed", failed.get());
+        stats.put("conflicts", conflicts.get());
+        stats.put("skipped", skipped.get());
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        executor.shutdownNow();
+    }
+
+    /**
+     * page 를 worker 수 만큼 나누어 병렬 재암호화 - 결과는 변경된 row 만 (순서 유지)
+     */
+    private CompletableFuture<List<ReEncryptionRow>> reEncrypt(List<ReEncryptionRow> page) {
+        int chunk = (page.size() + parallelism - 1) / parallelism;
+        List<CompletableFuture<List<ReEncryptionRow>>> futures = new ArrayList<>();
+        for (int from = 0; from < page.size(); from += chunk) {
+            List<ReEncryptionRow> rows = page.subList(from, Math.min(from + chunk, page.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> reEncryptRows(rows), executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            List<ReEncryptionRow> result = new ArrayList<>(page.size());
+            futures.forEach(f -> result.addAll(f.join()));
+            return result;
+        });
+    }
+
+    private List<ReEncryptionRow> reEncryptRows(List<ReEncryptionRow> rows) {
+        Base64.Decoder decoder = Base64.getDecoder();
+        Base64.Encoder encoder = Base64.getEncoder();
+        List<ReEncryptionRow> result = new ArrayList<>(rows.size());
+        for (ReEncryptionRow row : rows) {
+            String[] values = row.getValues();
+            String[] reEncrypted = new String[values.length];
+            boolean changed = false;
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == null) {
+                        continue;
+                    }
+                    byte[] cipherText = decoder.decode(values[i]);
+                    if (current.test(cipherText)) {
+                        reEncrypted[i] = values[i];
+                        continue;
+                    }
+                    byte[] plainText = decryptor.apply(cipherText);
+                    reEncrypted[i] = encoder.encodeToString(encryptor.apply(plainText));
+                    Arrays.fill(plainText, (byte)0);
+                    changed = true;
+                }
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.warn("reencrypt 실패(건너뜀) - id: {}, {}", row.getId(), e.getMessage());
+                continue;
+            }
+            if (!changed) {
+                skipped.incrementAndGet();
+                continue;
+            }
+            result.add(new ReEncryptionRow(row.getId(), reEncrypted, values));
+        }
+        return result;
+    }
+
+    private void readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpointFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        try {
+            lastId = Long.parseLong(properties.getProperty("last-id", "0").trim());
+            processed.set(Long.parseLong(properties.getProperty("processed", "0").trim()));
+            failed.set(Long.parseLong(properties.getProperty("failed", "0").trim()));
+            conflicts.set(Long.parseLong(properties.getProperty("conflicts", "0").trim()));
+            skipped.set(Long.parseLong(properties.getProperty("skipped", "0").trim()));
+        } catch (NumberFormatException e) {
+            throw new IOException("잘못된 checkpoint 파일 내용 - " + checkpointFile, e);
+        }
+    }
+
+    /**
+     * 임시 파일에 기록(fsync) 후 교체 - 기록 도중 중단되어도 이전 checkpoint 가 유지된다
+     */
+    private void writeCheckpoint() throws IOException {
+        String text = "last-id=" + lastId + "\nprocessed=" + processed.get() + "\nfailed=" + failed.get()
+            + "\nconflicts=" + conflicts.get() + "\nskipped=" + skipped.get() + "\n";
+        Path parent = checkpointFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package kr.xit.crypto.reencrypt;
+
+/**
+ * <pre>
+ * 재암호화 대상 row - key 와 암호화 column 값(Base64 암호문, null 가능)
+ * - values 는 재암호화 결과로 교체(같은 순서)
+ * - originals 는 조회한 값 - 저장시 조회 후 변경된 row 인지 비교(compare-and-set)
+ *
+ * description :
+ * packageName : kr.xit.crypto.reencrypt
+ * fileName    : ReEncryptionRow
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       조회 값(originals) 추가
+ *
+ * </pre>
+ */
+public final class ReEncryptionRow {
+    private final long id;
+    private final String[] values;
+    private final String[] originals;
+
+    public ReEncryptionRow(long id, String[] values) {
+        this(id, values, values.clone());
+    }
+
+    public ReEncryptionRow(long id, String[] values, String[] originals) {
+        this.id = id;
+        this.values = values;
+        this.originals = originals;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String[] getValues() {
+        return values;
+    }
+
+    public String[] getOriginals() {
+        return originals;
+    }
+}
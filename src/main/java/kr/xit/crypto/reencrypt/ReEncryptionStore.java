@@ -0,0 +1,42 @@
+package kr.xit.crypto.reencrypt;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * 재암호화 대상 조회, 결과 저장
+ *
+ * description :
+ * packageName : kr.xit.crypto.reencrypt
+ * fileName    : ReEncryptionStore
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       저장은 조회 값이 그대로인 row 만 (compare-and-set)
+ *
+ * </pre>
+ */
+public interface ReEncryptionStore {
+
+    /**
+     * <pre>
+     * afterId 보다 큰 key 의 row 를 key 순서로 최대 limit 건 조회 (keyset paging)
+     * @param afterId 이전 page 의 마지막 key
+     * @param limit 최대 건수
+     * @return row 목록 - 비어 있으면 종료
+     * </pre>
+     */
+    List<ReEncryptionRow> read(long afterId, int limit);
+
+    /**
+     * <pre>
+     * 재암호화 결과 저장 - 조회 후 다른 곳에서 변경된 row(값이 originals 와 다름)는 저장하지 않음
+     * @param rows 재암호화한 row
+     * @return 변경되어 저장하지 않은 row 수
+     * </pre>
+     */
+    int write(List<ReEncryptionRow> rows);
+}
@@ -0,0 +1,183 @@
+package kr.xit.crypto.service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import javax.annotation.*;
+
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.stereotype.*;
+import org.springframework.web.context.request.async.*;
+
+import kr.xit.crypto.metrics.*;
+import lombok.extern.slf4j.*;
+
+/**
+ * <pre>
+ * description : 대용량 암복호화 요청 비동기 처리 - 요청 크기에 따라 처리 thread 선택
+ *               - app.crypto.async.threshold 미만 : 요청 thread 에서 바로 처리(inline) - 결과를 그대로 반환(async dispatch 없음)
+ *               - 이상 : 전용 crypto executor(고정 thread 수, 크기 제한 queue)에서 처리하고 요청 thread는 반환
+ *                 -> 대용량 요청이 Tomcat thread를 점유하여 소량 요청이 대기하는 것을 방지
+ *               - queue가 가득 차면 거절(RejectedExecutionException -> 503)
+ *               - 대기 중 timeout 된 요청은 처리하지 않음
+ * packageName : kr.xit.crypto.service
+ * fileName    : CryptoAsyncExecutor
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       처리중인 thread 수 조회 추가(metrics)
+ * 2026 10월 17   limju       executor 처리 할당량 합산(AllocationRecorder) 추가
+ * 2026 10월 17   limju       inline 처리는 DeferredResult 없이 결과 반환
+ * 2026 10월 17   limju       DeferredResult 없는 executor 처리(submit) 추가(TCP 큰 frame)
+ *
+ * </pre>
+ */
+@Slf4j
+@Component
+public class CryptoAsyncExecutor {
+    @Value("${app.crypto.async.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.crypto.async.threshold:65536}")
+    private long threshold;
+
+    @Value("${app.crypto.async.pool-size:0}")
+    private int poolSize;
+
+    @Value("${app.crypto.async.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${app.crypto.async.timeout:30000}")
+    private long timeout;
+
+    private ThreadPoolExecutor executor;
+    private final LongAdder inline = new LongAdder();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+                Thread thread = new Thread(r, "crypto-async-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        log.info("crypto async - enabled: {}, threshold: {}, pool-size: {}, queue-capacity: {}",
+            enabled, threshold, threads, queueCapacity);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * <pre>
+     * 요청 크기에 따라 inline 또는 crypto executor 에서 처리 - controller handler 는 반환 값을 그대로 반환
+     * - inline : 처리 결과(예외는 그대로 전파) -> DeferredResult 의 async dispatch 비용 없음
+     * - executor : DeferredResult - 처리 결과 또는 예외
+     * @param payloadSize 요청 크기(문자 수)
+     * @param task 처리
+     * @return 처리 결과 또는 DeferredResult
+     * </pre>
+     */
+    public <T> Object execute(long payloadSize, Supplier<T> task) {
+        if (!enabled || payloadSize < threshold) {
+            inline.increment();
+            return task.get();
+        }
+
+        DeferredResult<T> result = new DeferredResult<>(timeout);
+        // 요청별 할당량 측정 중이면 executor thread 할당량도 요청에 합산
+        Supplier<T> tracked = AllocationRecorder.wrap(task);
+        try {
+            executor.execute(() -> {
+                if (result.isSetOrExpired()) {
+                    expired.increment();
+                    return;
+                }
+                complete(result, tracked);
+            });
+            submitted.increment();
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            result.setErrorResult(new RejectedExecutionException("처리 요청이 많아 처리할 수 없습니다. 잠시 후 다시 요청해 주세요"));
+        }
+        return result;
+    }
+
+    /**
+     * <pre>
+     * crypto executor 에서 처리 - DeferredResult 를 사용하지 않는 호출(TCP 서버 등), 결과 전달은 task 에서 처리
+     * - 호출측에서 처리 thread 를 결정한 경우 사용(threshold 미적용)
+     * @param task 처리
+     * @throws RejectedExecutionException queue 초과
+     * </pre>
+     */
+    public void submit(Runnable task) {
+        try {
+            executor.execute(task);
+            submitted.increment();
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * <pre>
+     * 처리 현황
+     * - inline : 요청 thread 처리 건수
+     * - submitted : executor 처리 요청 건수
+     * - rejected : queue 초과로 거절된 건수
+     * - expired : 대기 중 timeout 되어 처리하지 않은 건수
+     * - queue-depth : 현재 대기 건수
+     * - active : 현재 처리중인 thread 수
+     * @return 현황
+     * </pre>
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("inline", inline.sum());
+        stats.put("submitted", submitted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("expired", expired.sum());
+        stats.put("completed", executor.getCompletedTaskCount());
+        stats.put("queue-depth", (long)executor.getQueue().size());
+        stats.put("queue-capacity", (long)queueCapacity);
+        stats.put("active", (long)executor.getActiveCount());
+        stats.put("pool-size", (long)executor.getMaximumPoolSize());
+        return stats;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private static <T> void complete(DeferredResult<T> result, Supplier<T> task) {
+        try {
+            result.setResult(task.get());
+        } catch (RuntimeException e) {
+            result.setErrorResult(e);
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package kr.xit.crypto.service;
 
+import java.io.*;
 import java.nio.charset.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
+
+import javax.annotation.*;
 
 import org.springframework.beans.factory.annotation.*;
 import org.springframework.stereotype.*;
+import org.springframework.util.*;
 
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.Timer;
 import kr.xit.crypto.config.*;
+import kr.xit.crypto.jfr.*;
+import kr.xit.crypto.model.*;
 import kr.xit.crypto.util.*;
 
 /**
@@ -20,11 +30,29 @@ import kr.xit.crypto.util.*;
  * 변경일         변경자        변경 내용
  * ----------------------------------------------------------------------
  * 2024 11월 06   limju       최초 생성
+ * 2026 10월 17   limju       app.crypto.alg, app.crypto.mode 설정 적용(CipherSuite)
+ * 2026 10월 17   limju       counter nonce 적용(app.crypto.nonce)
+ * 2026 10월 17   limju       암호문 envelope 적용(app.crypto.envelope)
+ * 2026 10월 17   limju       keyring 적용(app.crypto.keyring)
+ * 2026 10월 17   limju       key ID 지정 byte[] 암복호화 추가(TCP)
+ * 2026 10월 17   limju       처리 시간 metrics(crypto.service) 추가
+ * 2026 10월 17   limju       JFR event(ServiceOperationEvent) 기록 추가
+ * 2026 10월 17   limju       nonce 기본 off, node-id 필수, 이전 형식(고정 iv) 복호화 호환
+ * 2026 10월 17   limju       envelope 사용시 header 없는 이전 형식 복호화 호환
+ * 2026 10월 17   limju       활성 key ID, key 등록 여부 조회 추가(재암호화 설정 검증)
+ * 2026 10월 17   limju       keyring 파일 미설정(null) 처리
+ * 2026 10월 17   limju       envelope 기본 off
+ * 2026 10월 17   limju       key ID 의 key, 알고리즘, 모드 조회 추가(재암호화 이전 형식 복호화)
+ * 2026 10월 17   limju       key ID 지정 처리기 cache 를 KeyMaterial 별로 보관(keyring 재적재 경합)
+ * 2026 10월 17   limju       keyring 사용시 스트림은 활성 key 로 암호화, key ID header 기록
  *
  * </pre>
  */
 @Service
 public class CryptoCipherService {
+    // 스트림 key ID header 시작 byte - ChunkedAead version(1, 2)과 구분
+    private static final int STREAM_KEY_ID = 'K';
+
     @Value("${app.crypto.alg:ARIA}")
     private String crypto;
 
@@ -37,10 +65,189 @@ public class CryptoCipherService {
     @Value("${app.crypto.iv:}")
     private String iv;
 
+    @Value("${app.crypto.key-id:default}")
+    private String keyId;
+
+    @Value("${app.crypto.batch.max-size:10000}")
+    private int batchMaxSize;
+
+    @Value("${app.crypto.nonce.enabled:false}")
+    private boolean nonceEnabled;
+
+    // 미지정(null)이면 nonce 사용시 기동 실패 - node 마다 명시적으로 지정
+    @Value("${app.crypto.nonce.node-id:#{null}}")
+    private Integer nonceNodeId;
+
+    @Value("${app.crypto.nonce.file:nonce/node.counter}")
+    private String nonceFile;
+
+    @Value("${app.crypto.nonce.reserve-size:1000000}")
+    private long nonceReserveSize;
+
+    // 암호화 결과 형식이 바뀌므로 기본 off - 명시적으로 전환
+    @Value("${app.crypto.envelope.enabled:false}")
+    private boolean envelopeEnabled;
+
+    @Value("${app.crypto.keyring.file:}")
+    private String keyRingFile;
+
+    private byte[] keyBytes;
+    private CipherAlgorithm cipherAlgorithm;
+    private CipherMode cipherMode;
+    private CounterNonceGenerator nonceGenerator;
+    private KeyRing keyRing;
+    // keyring 활성 key 변경시 교체
+    private volatile CipherSuite cipherSuite;
+    // key ID 지정 암호화용 - KeyMaterial 인스턴스 별(key 변경시 새 인스턴스), keyring 재적재시 초기화
+    // -> 재적재와 경합하여 이전 KeyMaterial 의 처리기가 남더라도 새 key 조회에는 사용되지 않음
+    private final Map<KeyMaterial, CipherSuite> keySuites = new ConcurrentHashMap<>();
+
+    // 미등록(Spring 외 사용)이면 globalRegistry - registry 가 없으면 기록하지 않음
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private Timer encodeTimer;
+    private Timer decodeTimer;
+    private Timer encryptTimer;
+    private Timer decryptTimer;
+    private Timer encodeStreamTimer;
+    private Timer decodeStreamTimer;
+
+    /**
+     * <pre>
+     * properties의 key, iv는 기동시 한번만 Base64 decoding 하고,
+     * key는 key ID로 KeyMaterialCache에 등록하여 key schedule을 재사용
+     * app.crypto.alg, app.crypto.mode 에 해당하는 CipherSuite를 기동시 한번 생성
+     * - CTR, CCM, GCM 이고 app.crypto.nonce.enabled 이면 암호화 마다 counter nonce를 발급하여 암호문 앞에 포함
+     *   (node 마다 app.crypto.nonce.node-id 를 다르게 명시적으로 지정 - 미지정시 기동 실패,
+     *    app.crypto.nonce.file 은 재기동 후에도 유지되는 저장소에 두어야 counter 중복이 없음)
+     * - 그 외에는 app.crypto.iv 고정 사용(이전 형식)
+     * - nonce 또는 envelope 형식이고 CCM, GCM 이면 app.crypto.iv 가 설정된 경우 이전 형식(고정 iv) 암호문도 복호화
+     *   -> 현재 형식 복호화(tag 검증) 실패시 고정 iv 로 재시도 - 이전 데이터를 그대로 두고 전환 가능
+     * - app.crypto.envelope.enabled 이면 암호문 앞에 알고리즘, 모드, key ID, nonce header(CipherEnvelope) 포함
+     *   -> 복호화는 설정과 무관하게 header 의 알고리즘, 모드, key ID로 처리
+     * - app.crypto.keyring.file 이 지정되면 keyring(KeyRing)의 활성 key로 암호화하고 header 의 key ID로 복호화
+     *   -> key 파일 변경시 재기동 없이 반영 (envelope 필수)
+     *   -> 스트림은 활성 key 로 암호화하고 스트림 앞에 key ID 기록(encryptStream)
+     *   -> header 없는 이전 형식은 app.crypto.key, app.crypto.iv 로 복호화
+     * </pre>
+     */
+    @PostConstruct
+    public void init() {
+        initTimers(meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
+        keyBytes = Base64.getDecoder().decode(secretKey);
+        CipherAlgorithm algorithm = CipherSuites.algorithm(crypto);
+        CipherMode mode = CipherSuites.mode(cryptoMode);
+        cipherAlgorithm = algorithm;
+        cipherMode = mode;
+        if (nonceEnabled && CipherSuites.isNonceMode(mode)) {
+            if (nonceNodeId == null) {
+                throw BizRuntimeException.create("app.crypto.nonce.enabled 이면 app.crypto.nonce.node-id 를 node 마다 다르게 지정하여야 합니다");
+            }
+            nonceGenerator = new CounterNonceGenerator(nonceNodeId, Paths.get(nonceFile), nonceReserveSize);
+        }
+
+        // Spring 외 생성(benchmark 등)으로 @Value 기본값이 적용되지 않은 경우 null
+        if (keyRingFile == null || keyRingFile.trim().isEmpty()) {
+            KeyMaterial keyMaterial = KeyMaterialCache.register(keyId, keyBytes);
+            cipherSuite = createSuite(algorithm, mode, keyMaterial);
+            return;
+        }
+
+        if (!envelopeEnabled) {
+            throw BizRuntimeException.create("keyring은 app.crypto.envelope.enabled 인 경우에만 사용할 수 있습니다");
+        }
+        if (keyBytes.length > 0) {
+            KeyMaterialCache.register(keyId, keyBytes);
+        }
+        keyRing = new KeyRing(Paths.get(keyRingFile.trim()));
+        cipherSuite = createSuite(algorithm, mode, null);
+        keyRing.addListener(k -> {
+            cipherSuite = createSuite(algorithm, mode, null);
+            keySuites.clear();
+        });
+        try {
+            keyRing.watch();
+        } catch (IOException e) {
+            throw BizRuntimeException.create(String.format("key 파일[%s] 감시 실패 - %s", keyRingFile, e.getMessage()));
+        }
+    }
+
+    /**
+     * <pre>
+     * 서비스 처리 시간 - crypto.service{operation}
+     * - 알고리즘, 모드별 암복호화 시간, 크기는 crypto.cipher (CryptoMetricsConfig)
+     * </pre>
+     */
+    private void initTimers(MeterRegistry registry) {
+        encodeTimer = serviceTimer(registry, "encode");
+        decodeTimer = serviceTimer(registry, "decode");
+        encryptTimer = serviceTimer(registry, "encrypt");
+        decryptTimer = serviceTimer(registry, "decrypt");
+        encodeStreamTimer = serviceTimer(registry, "encode-stream");
+        decodeStreamTimer = serviceTimer(registry, "decode-stream");
+    }
+
+    private static Timer serviceTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("crypto.service")
+            .description("CryptoCipherService 처리 시간")
+            .tag("operation", operation)
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void destroy() throws IOException {
+        if (keyRing != null) {
+            keyRing.close();
+        }
+        if (nonceGenerator != null) {
+            nonceGenerator.close();
+        }
+    }
+
+    /**
+     * <pre>
+     * keyMaterial 이 null 이면 keyring 사용
+     * - nonce, envelope 형식(이전 형식은 header 없는 고정 iv)이고 인증 모드이면 이전 형식 복호화 지원
+     * </pre>
+     */
+    private CipherSuite createSuite(CipherAlgorithm algorithm, CipherMode mode, KeyMaterial keyMaterial) {
+        CipherSuite suite = currentSuite(algorithm, mode, keyMaterial);
+        if ((nonceGenerator == null && !envelopeEnabled) || !CipherSuites.isAuthenticated(mode) || mode == CipherMode.SIV
+            || iv.trim().isEmpty()) {
+            return suite;
+        }
+        // keyring 이면 app.crypto.key (미지정이면 이전 형식 없음)
+        KeyMaterial legacyKey = keyMaterial != null ? keyMaterial : keyBytes.length > 0 ? KeyMaterialCache.get(keyId) : null;
+        if (legacyKey == null) {
+            return suite;
+        }
+        return CipherSuites.withLegacy(suite, CipherSuites.resolve(algorithm, mode, legacyKey, Base64.getDecoder().decode(iv)));
+    }
+
+    private CipherSuite currentSuite(CipherAlgorithm algorithm, CipherMode mode, KeyMaterial keyMaterial) {
+        if (nonceGenerator != null) {
+            if (keyMaterial == null) {
+                return CipherSuites.envelope(algorithm, mode, keyRing, nonceGenerator);
+            }
+            return envelopeEnabled
+                ? CipherSuites.envelope(algorithm, mode, keyMaterial, nonceGenerator)
+                : CipherSuites.resolve(algorithm, mode, keyMaterial, nonceGenerator);
+        }
+
+        byte[] ivBytes = Base64.getDecoder().decode(iv);
+        if (keyMaterial == null) {
+            return CipherSuites.envelope(algorithm, mode, keyRing, ivBytes);
+        }
+        return envelopeEnabled
+            ? CipherSuites.envelope(algorithm, mode, keyMaterial, ivBytes)
+            : CipherSuites.resolve(algorithm, mode, keyMaterial, ivBytes);
+    }
+
     /**
      * <pre>
      * 데이타 유실 방지를 위해 반드시 Base64로 encoding 하여야만 한다
-     * properties에서 정의한 key, iv 값은 Base64로 encoding되어 있어 decoding 하여 사용
+     * properties에서 정의한 key, iv 값은 기동시 decoding 된 값을 사용
      * 
      * @param plainText
      * @return 암호화후 Base64로 encoding
@@ -50,14 +257,24 @@ public class CryptoCipherService {
         if (plainText == null) {
             throw BizRuntimeException.create("암호화할 대상이 null 입니다");
         }
-        byte[] encStr = AriaCryptoCipher.encryptGCM(Base64.getDecoder().decode(secretKey), Base64.getDecoder().decode(iv), plainText.getBytes(), null);
-        return Base64.getEncoder().encodeToString(encStr);
+        long start = System.nanoTime();
+        Object span = CryptoJfr.beginService();
+        byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
+        boolean success = false;
+        try {
+            byte[] encStr = cipherSuite.encrypt(plainBytes);
+            success = true;
+            return Base64.getEncoder().encodeToString(encStr);
+        } finally {
+            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            endSpan(span, "encode", cipherMode, null, plainBytes.length, success);
+        }
     }
 
     /**
      * <pre>
      * Base64로 encoding된 암호화된 값 -> decoding후 처리
-     * properties에서 정의한 key, iv 값은 Base64로 encoding되어 있어 decoding 하여 사용
+     * properties에서 정의한 key, iv 값은 기동시 decoding 된 값을 사용
      * 
      * @param base64Text
      * @return 
@@ -67,10 +284,289 @@ public class CryptoCipherService {
         if (base64Text == null) {
             throw BizRuntimeException.create("복호화할 대상이 null 입니다");
         }
-        
-        byte[] decBytes = validBase64(base64Text);
-        byte[] decStr = AriaCryptoCipher.decryptGCM(Base64.getDecoder().decode(secretKey), Base64.getDecoder().decode(iv), decBytes, null);
-        return new String(decStr, StandardCharsets.UTF_8);
+
+        long start = System.nanoTime();
+        Object span = CryptoJfr.beginService();
+        int length = 0;
+        boolean success = false;
+        try {
+            byte[] decBytes = validBase64(base64Text);
+            length = decBytes.length;
+            byte[] decStr = cipherSuite.decrypt(decBytes);
+            success = true;
+            return new String(decStr, StandardCharsets.UTF_8);
+        } finally {
+            decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            endSpan(span, "decode", cipherMode, null, length, success);
+        }
+    }
+
+    /**
+     * <pre>
+     * byte[] 암호화 - key ID 지정 (TCP 등 Base64 변환이 필요 없는 경우)
+     * @param keyId key ID - null 이거나 비어 있으면 기본 key(app.crypto.key 또는 keyring 활성 key)
+     * @param plainText 평문
+     * @return 암호문
+     * </pre>
+     */
+    public byte[] encrypt(String keyId, byte[] plainText) {
+        if (plainText == null) {
+            throw BizRuntimeException.create("암호화할 대상이 null 입니다");
+        }
+        long start = System.nanoTime();
+        Object span = CryptoJfr.beginService();
+        boolean success = false;
+        try {
+            byte[] encrypted = suiteOf(keyId).encrypt(plainText);
+            success = true;
+            return encrypted;
+        } finally {
+            encryptTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            endSpan(span, "encrypt", cipherMode, keyId, plainText.length, success);
+        }
+    }
+
+    /**
+     * <pre>
+     * byte[] 복호화 - envelope 형식이면 암호문 header 의 key ID 사용(keyId 무시)
+     * @param keyId key ID - null 이거나 비어 있으면 기본 key
+     * @param cipherText 암호문
+     * @return 평문
+     * </pre>
+     */
+    public byte[] decrypt(String keyId, byte[] cipherText) {
+        if (cipherText == null) {
+            throw BizRuntimeException.create("복호화할 대상이 null 입니다");
+        }
+        long start = System.nanoTime();
+        Object span = CryptoJfr.beginService();
+        boolean success = false;
+        try {
+            byte[] decrypted = envelopeEnabled ? cipherSuite.decrypt(cipherText) : suiteOf(keyId).decrypt(cipherText);
+            success = true;
+            return decrypted;
+        } finally {
+            decryptTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            endSpan(span, "decrypt", cipherMode, keyId, cipherText.length, success);
+        }
+    }
+
+    /**
+     * <pre>
+     * JFR event 기록 - key ID 미지정이면 기본 key(keyring 이면 활성 key)
+     * - envelope 복호화는 암호문 header 의 key ID 를 사용하므로 CipherOperationEvent 의 key ID 참조
+     * - 스트림은 chunk 단위 GCM, length 는 평문 길이
+     * </pre>
+     */
+    private void endSpan(Object span, String operation, CipherMode mode, String id, long length, boolean success) {
+        if (span == null) {
+            return;
+        }
+        String spanKeyId = id != null && !id.isEmpty() ? id : keyRing != null ? keyRing.active().getKeyId() : keyId;
+        CryptoJfr.endService(span, operation, cipherAlgorithm, mode, spanKeyId, length, success);
+    }
+
+    /**
+     * <pre>
+     * 암호화에 사용하는 key ID - keyring 이면 활성 key
+     * @return key ID
+     * </pre>
+     */
+    public String activeKeyId() {
+        return keyRing != null ? keyRing.active().getKeyId() : keyId;
+    }
+
+    public boolean isEnvelopeEnabled() {
+        return envelopeEnabled;
+    }
+
+    public boolean isKeyRingEnabled() {
+        return keyRing != null;
+    }
+
+    /**
+     * <pre>
+     * 복호화에 사용할 수 있는 key ID 인지 - keyring 이면 keyring, 아니면 KeyMaterialCache 등록 여부
+     * @param id key ID
+     * @return 사용 가능하면 true
+     * </pre>
+     */
+    public boolean hasKey(String id) {
+        return keyRing != null ? keyRing.keyIds().contains(id) : KeyMaterialCache.contains(id);
+    }
+
+    /**
+     * <pre>
+     * key ID 의 key - keyring 이면 keyring, 아니면 KeyMaterialCache
+     * @param id key ID
+     * @return KeyMaterial
+     * </pre>
+     */
+    public KeyMaterial keyMaterial(String id) {
+        return keyRing != null ? keyRing.get(id) : KeyMaterialCache.get(id);
+    }
+
+    public CipherAlgorithm getCipherAlgorithm() {
+        return cipherAlgorithm;
+    }
+
+    public CipherMode getCipherMode() {
+        return cipherMode;
+    }
+
+    private CipherSuite suiteOf(String id) {
+        if (id == null || id.isEmpty()) {
+            return cipherSuite;
+        }
+        return keySuites.computeIfAbsent(keyMaterial(id), k -> createSuite(cipherAlgorithm, cipherMode, k));
+    }
+
+    /**
+     * <pre>
+     * 일괄 암호화 - 건별로 성공/실패를 반환하며 한 건의 실패가 다른 건에 영향을 주지 않는다
+     * @param plainTexts 암호화 대상 목록(최대 app.crypto.batch.max-size 건)
+     * @return 요청 순서와 동일한 순서의 결과
+     * </pre>
+     */
+    public List<BatchItemResult> encryptBatch(List<String> plainTexts) {
+        validBatch(plainTexts);
+        List<BatchItemResult> results = new ArrayList<>(plainTexts.size());
+        for (int i = 0; i < plainTexts.size(); i++) {
+            try {
+                results.add(BatchItemResult.success(i, encryptBase64(plainTexts.get(i))));
+            } catch (RuntimeException e) {
+                results.add(BatchItemResult.error(i, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * <pre>
+     * 일괄 복호화 - 건별로 성공/실패를 반환하며 한 건의 실패가 다른 건에 영향을 주지 않는다
+     * @param base64Texts Base64로 encoding된 복호화 대상 목록(최대 app.crypto.batch.max-size 건)
+     * @return 요청 순서와 동일한 순서의 결과
+     * </pre>
+     */
+    public List<BatchItemResult> decryptBatch(List<String> base64Texts) {
+        validBatch(base64Texts);
+        List<BatchItemResult> results = new ArrayList<>(base64Texts.size());
+        for (int i = 0; i < base64Texts.size(); i++) {
+            try {
+                results.add(BatchItemResult.success(i, decryptBase64(base64Texts.get(i))));
+            } catch (RuntimeException e) {
+                results.add(BatchItemResult.error(i, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * <pre>
+     * 스트림 암호화 - chunk 단위 GCM(ChunkedAeadOutputStream) 형식
+     * - 요청 크기와 무관하게 chunk 크기(64KB) 만큼의 메모리만 사용
+     * - nonce는 스트림 마다 random 으로 생성되어 결과 header 에 포함
+     * - keyring 이면 활성 key 로 암호화하고 스트림 앞에 key ID header 기록
+     *   -> 'K'(1) | key ID 길이(1) | key ID(UTF-8), ChunkedAead aad 로 인증
+     *   -> keyring 미사용이면 key ID header 없음(app.crypto.key)
+     * @param in 평문 스트림
+     * @param out 암호문을 기록할 스트림 - close 하지 않음
+     * </pre>
+     */
+    public void encryptStream(InputStream in, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        Object span = CryptoJfr.beginService();
+        KeyMaterial streamKey = keyRing != null ? keyRing.active() : null;
+        byte[] keyIdHeader = streamKey != null ? streamKeyIdHeader(streamKey.getKeyId()) : null;
+        int length = 0;
+        boolean success = false;
+        try {
+            if (keyIdHeader != null) {
+                out.write(keyIdHeader);
+            }
+            try (OutputStream cipherOut = new ChunkedAeadOutputStream(cipherSuite.getAlgorithm(),
+                streamKey != null ? streamKey.getKeyParameter().getKey() : keyBytes, StreamUtils.nonClosing(out), keyIdHeader)) {
+                length = StreamUtils.copy(in, cipherOut);
+                success = true;
+            }
+        } finally {
+            encodeStreamTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            endSpan(span, "encode-stream", CipherMode.GCM, streamKey != null ? streamKey.getKeyId() : keyId, length, success);
+        }
+        out.flush();
+    }
+
+    /**
+     * <pre>
+     * 스트림 복호화 - encryptStream 으로 암호화된 스트림
+     * - 인증된 chunk만 기록하며, 위변조 확인시 IOException (이전 chunk는 이미 기록된 상태)
+     * - key ID header 가 있으면 해당 key(keyring 이면 keyring), 없으면 app.crypto.key 로 복호화
+     * @param in 암호문 스트림
+     * @param out 평문을 기록할 스트림 - close 하지 않음
+     * </pre>
+     */
+    public void decryptStream(InputStream in, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        Object span = CryptoJfr.beginService();
+        String streamKeyId = keyId;
+        int length = 0;
+        boolean success = false;
+        try {
+            PushbackInputStream cipherIn = new PushbackInputStream(in, 1);
+            byte[] key = keyBytes;
+            byte[] keyIdHeader = null;
+            int first = cipherIn.read();
+            if (first == STREAM_KEY_ID) {
+                keyIdHeader = readStreamKeyIdHeader(cipherIn);
+                streamKeyId = new String(keyIdHeader, 2, keyIdHeader.length - 2, StandardCharsets.UTF_8);
+                key = keyMaterial(streamKeyId).getKeyParameter().getKey();
+            } else if (first != -1) {
+                cipherIn.unread(first);
+            }
+            InputStream plainIn = new ChunkedAeadInputStream(cipherSuite.getAlgorithm(), key, cipherIn, keyIdHeader);
+            length = StreamUtils.copy(plainIn, out);
+            success = true;
+        } finally {
+            decodeStreamTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            endSpan(span, "decode-stream", CipherMode.GCM, streamKeyId, length, success);
+        }
+        out.flush();
+    }
+
+    private static byte[] streamKeyIdHeader(String id) {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        if (idBytes.length == 0 || idBytes.length > 255) {
+            throw BizRuntimeException.create("key ID 길이는 1 ~ 255 bytes 입니다 - " + id);
+        }
+        byte[] header = new byte[2 + idBytes.length];
+        header[0] = STREAM_KEY_ID;
+        header[1] = (byte)idBytes.length;
+        System.arraycopy(idBytes, 0, header, 2, idBytes.length);
+        return header;
+    }
+
+    /**
+     * 스트림 key ID header - 시작 byte('K')는 읽은 상태
+     */
+    private static byte[] readStreamKeyIdHeader(InputStream in) throws IOException {
+        int idLength = in.read();
+        if (idLength <= 0) {
+            throw new IOException("잘못된 스트림 key ID header 입니다");
+        }
+        byte[] header = new byte[2 + idLength];
+        header[0] = STREAM_KEY_ID;
+        header[1] = (byte)idLength;
+        new DataInputStream(in).readFully(header, 2, idLength);
+        return header;
+    }
+
+    private void validBatch(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            throw BizRuntimeException.create("일괄 처리 대상이 없습니다");
+        }
+        if (values.size() > batchMaxSize) {
+            throw BizRuntimeException.create(String.format("일괄 처리는 최대 %d 건 까지 가능 합니다", batchMaxSize));
+        }
     }
 
     private byte[] validBase64(String value) {
@@ -0,0 +1,42 @@
+package kr.xit.crypto.tcp;
+
+/**
+ * <pre>
+ * TCP 암복호화 frame 규약 (big-endian)
+ *
+ * 요청 : length(4) | request ID(4) | op(1) | key ID 길이(1) | key ID(UTF-8) | payload
+ * 응답 : length(4) | request ID(4) | status(1) | payload(결과 또는 UTF-8 오류 메시지)
+ * - length 는 length 필드 이후의 byte 수
+ * - 한 연결에서 응답을 기다리지 않고 여러 요청 전송 가능(pipelining) - 응답은 요청 순서대로, request ID로 구분
+ *
+ * description :
+ * packageName : kr.xit.crypto.tcp
+ * fileName    : CryptoFrame
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+final class CryptoFrame {
+    static final byte OP_ENCRYPT = 1;
+    static final byte OP_DECRYPT = 2;
+
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_ERROR = 1;
+
+    static final int LENGTH_SIZE = 4;
+    // request ID, op, key ID 길이
+    static final int REQUEST_HEADER_SIZE = 4 + 1 + 1;
+    // request ID, status
+    static final int RESPONSE_HEADER_SIZE = 4 + 1;
+    static final int MAX_KEY_ID_SIZE = 255;
+
+    static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    private CryptoFrame() {
+    }
+}
@@ -0,0 +1,229 @@
+package kr.xit.crypto.tcp;
+
+import java.io.*;
+import java.net.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import kr.xit.crypto.config.*;
+
+/**
+ * <pre>
+ * CryptoTcpServer client - 연결 1개를 여러 thread 에서 공유(thread safe)
+ * - 요청은 응답을 기다리지 않고 바로 전송(pipelining)하고, 응답은 수신 thread 에서 request ID로 찾아 완료
+ * - *Async 는 CompletableFuture 반환, 그 외는 timeout 까지 대기
+ * - 서버 처리 오류는 BizRuntimeException, 연결 오류 및 timeout은 IOException
+ *   -> timeout, 취소된 요청은 응답 대기 목록에서 제거 (늦게 도착한 응답은 버림)
+ *
+ * 사용 예
+ *   try (CryptoTcpClient client = new CryptoTcpClient("localhost", 9090)) {
+ *       byte[] cipherText = client.encrypt(null, plainText);
+ *       byte[] decrypted = client.decrypt(null, cipherText);
+ *   }
+ *
+ * description :
+ * packageName : kr.xit.crypto.tcp
+ * fileName    : CryptoTcpClient
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       timeout 요청 응답 대기 목록에서 제거
+ *
+ * </pre>
+ */
+public final class CryptoTcpClient implements Closeable {
+    private static final long DEFAULT_TIMEOUT_MILLIS = 30000;
+
+    private final SocketChannel channel;
+    private final long timeoutMillis;
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<byte[]>> pending = new ConcurrentHashMap<>();
+    // 전송 header buffer - writeLock 으로 보호하여 재사용
+    private final ByteBuffer header = ByteBuffer.allocate(CryptoFrame.LENGTH_SIZE + CryptoFrame.REQUEST_HEADER_SIZE
+        + CryptoFrame.MAX_KEY_ID_SIZE);
+    private final Object writeLock = new Object();
+    private volatile boolean closed;
+
+    public CryptoTcpClient(String host, int port) throws IOException {
+        this(host, port, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * <pre>
+     * @param host 서버 host
+     * @param port 서버 port
+     * @param timeoutMillis 동기 요청 응답 대기 시간
+     * </pre>
+     */
+    public CryptoTcpClient(String host, int port, long timeoutMillis) throws IOException {
+        this.timeoutMillis = timeoutMillis;
+        this.channel = SocketChannel.open(new InetSocketAddress(host, port));
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+        Thread reader = new Thread(this::readLoop, "crypto-tcp-client-" + host + ":" + port);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * <pre>
+     * 암호화
+     * @param keyId key ID - null 이면 서버 기본 key
+     * @param plainText 평문
+     * @return 암호문
+     * </pre>
+     */
+    public byte[] encrypt(String keyId, byte[] plainText) throws IOException {
+        return await(encryptAsync(keyId, plainText));
+    }
+
+    /**
+     * <pre>
+     * 복호화
+     * @param keyId key ID - null 이면 서버 기본 key (envelope 형식은 암호문의 key ID 사용)
+     * @param cipherText 암호문
+     * @return 평문
+     * </pre>
+     */
+    public byte[] decrypt(String keyId, byte[] cipherText) throws IOException {
+        return await(decryptAsync(keyId, cipherText));
+    }
+
+    public CompletableFuture<byte[]> encryptAsync(String keyId, byte[] plainText) {
+        return send(CryptoFrame.OP_ENCRYPT, keyId, plainText);
+    }
+
+    public CompletableFuture<byte[]> decryptAsync(String keyId, byte[] cipherText) {
+        return send(CryptoFrame.OP_DECRYPT, keyId, cipherText);
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+        failAll(new IOException("연결이 종료되었습니다"));
+    }
+
+    /**
+     * 응답 대기 중인 요청 수
+     */
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private CompletableFuture<byte[]> send(byte op, String keyId, byte[] payload) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        byte[] id = keyId == null ? new byte[0] : keyId.getBytes(StandardCharsets.UTF_8);
+        if (id.length > CryptoFrame.MAX_KEY_ID_SIZE) {
+            future.completeExceptionally(BizRuntimeException.create("key ID 길이가 255 byte를 초과합니다 - " + keyId));
+            return future;
+        }
+        int requestId = sequence.incrementAndGet();
+        pending.put(requestId, future);
+        // timeout(cancel) 등 응답 수신 외의 완료시에도 제거
+        future.whenComplete((r, e) -> pending.remove(requestId, future));
+        // 수신 thread 종료(failAll) 이후 등록된 요청
+        if (closed) {
+            pending.remove(requestId);
+            future.completeExceptionally(new IOException("연결이 종료되었습니다"));
+            return future;
+        }
+        try {
+            synchronized (writeLock) {
+                header.clear();
+                header.putInt(CryptoFrame.REQUEST_HEADER_SIZE + id.length + payload.length)
+                    .putInt(requestId)
+                    .put(op)
+                    .put((byte)id.length)
+                    .put(id);
+                header.flip();
+                ByteBuffer[] buffers = {header, ByteBuffer.wrap(payload)};
+                while (buffers[1].hasRemaining() || header.hasRemaining()) {
+                    channel.write(buffers);
+                }
+            }
+        } catch (IOException e) {
+            pending.remove(requestId);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void readLoop() {
+        ByteBuffer head = ByteBuffer.allocate(CryptoFrame.LENGTH_SIZE + CryptoFrame.RESPONSE_HEADER_SIZE);
+        try {
+            while (!closed) {
+                head.clear();
+                readFully(head);
+                head.flip();
+                int length = head.getInt();
+                int requestId = head.getInt();
+                byte status = head.get();
+                if (length < CryptoFrame.RESPONSE_HEADER_SIZE) {
+                    throw new IOException("응답 frame 길이 오류 - " + length);
+                }
+
+                byte[] payload = new byte[length - CryptoFrame.RESPONSE_HEADER_SIZE];
+                readFully(ByteBuffer.wrap(payload));
+
+                CompletableFuture<byte[]> future = pending.remove(requestId);
+                if (future == null) {
+                    continue;
+                }
+                if (status == CryptoFrame.STATUS_OK) {
+                    future.complete(payload);
+                } else {
+                    future.completeExceptionally(BizRuntimeException.create(new String(payload, StandardCharsets.UTF_8)));
+                }
+            }
+        } catch (IOException e) {
+            closed = true;
+            failAll(e);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("서버가 연결을 종료하였습니다");
+            }
+        }
+    }
+
+    private void failAll(IOException e) {
+        for (Integer requestId : pending.keySet()) {
+            CompletableFuture<byte[]> future = pending.remove(requestId);
+            if (future != null) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private byte[] await(CompletableFuture<byte[]> future) throws IOException {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new IOException("응답 대기 시간을 초과하였습니다", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("응답 대기 중 중단되었습니다");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
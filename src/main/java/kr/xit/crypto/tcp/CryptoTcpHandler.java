@@ -0,0 +1,22 @@
+package kr.xit.crypto.tcp;
+
+/**
+ * <pre>
+ * description : TCP 요청 처리 - 예외 메시지는 오류 응답으로 전달
+ * packageName : kr.xit.crypto.tcp
+ * fileName    : CryptoTcpHandler
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public interface CryptoTcpHandler {
+
+    byte[] encrypt(String keyId, byte[] plainText);
+
+    byte[] decrypt(String keyId, byte[] cipherText);
+}
@@ -0,0 +1,424 @@
+package kr.xit.crypto.tcp;
+
+import java.io.*;
+import java.net.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import kr.xit.crypto.config.*;
+import lombok.extern.slf4j.*;
+
+/**
+ * <pre>
+ * NIO 기반 TCP 암복호화 서버 - CryptoFrame 규약
+ * - accept thread 1개 + I/O thread(ioThreads 개, thread 별 Selector)에 연결을 순서대로 배정
+ * - 암복호화는 I/O thread 에서 바로 처리(thread 전환 없음) - 소량 데이터 저지연 용도
+ *   -> executor 가 지정되면 inlineFrameSize 초과 frame 은 executor 에서 처리하고 완료시 I/O thread 에서 응답 기록
+ *      (큰 frame 이 같은 I/O thread 의 다른 연결을 지연시키지 않음, 응답 순서는 requestId 로 구분)
+ *   -> executor 거절(queue 초과)시 오류 응답
+ * - 연결 별 읽기/쓰기 buffer를 재사용하며, 한번 읽은 데이터의 모든 frame을 순서대로 처리(pipelining)
+ *   -> 큰 frame 처리 후 커진 buffer는 비어 있을 때 초기 크기로 되돌림
+ * - 미전송 응답이 HIGH_WATER_MARK 이상이면 전송될 때까지 읽기 중지(backpressure)
+ * - frame 길이가 maxFrameSize를 초과하는 등 규약 위반시 연결 종료
+ * - 인증 없는 내부 호출용이므로 기본 loopback 에만 bind - 외부 노출시 bindAddress 를 명시적으로 지정
+ *
+ * description :
+ * packageName : kr.xit.crypto.tcp
+ * fileName    : CryptoTcpServer
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       bind 주소 지정(기본 loopback)
+ * 2026 10월 17   limju       inlineFrameSize 초과 frame 은 executor 에서 처리
+ *
+ * </pre>
+ */
+@Slf4j
+public final class CryptoTcpServer implements Closeable {
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int HIGH_WATER_MARK = 4 * 1024 * 1024;
+
+    private final String bindAddress;
+    private final int port;
+    private final int ioThreads;
+    private final int maxFrameSize;
+    private final CryptoTcpHandler handler;
+    private final Executor executor;
+    private final int inlineFrameSize;
+
+    private ServerSocketChannel serverChannel;
+    private IoLoop[] loops;
+    private volatile boolean running;
+
+    /**
+     * <pre>
+     * @param port listen port (0 이면 임의 port)
+     * @param ioThreads I/O thread 수 (0 이면 CPU 수)
+     * @param maxFrameSize 최대 요청 frame 크기
+     * @param handler 요청 처리
+     * </pre>
+     */
+    public CryptoTcpServer(int port, int ioThreads, int maxFrameSize, CryptoTcpHandler handler) {
+        this(null, port, ioThreads, maxFrameSize, handler);
+    }
+
+    /**
+     * <pre>
+     * @param bindAddress listen 주소 - null 이거나 비어 있으면 loopback, 0.0.0.0 이면 모든 interface
+     * @param port listen port (0 이면 임의 port)
+     * @param ioThreads I/O thread 수 (0 이면 CPU 수)
+     * @param maxFrameSize 최대 요청 frame 크기
+     * @param handler 요청 처리
+     * </pre>
+     */
+    public CryptoTcpServer(String bindAddress, int port, int ioThreads, int maxFrameSize, CryptoTcpHandler handler) {
+        this(bindAddress, port, ioThreads, maxFrameSize, handler, null, 0);
+    }
+
+    /**
+     * <pre>
+     * @param bindAddress listen 주소 - null 이거나 비어 있으면 loopback, 0.0.0.0 이면 모든 interface
+     * @param port listen port (0 이면 임의 port)
+     * @param ioThreads I/O thread 수 (0 이면 CPU 수)
+     * @param maxFrameSize 최대 요청 frame 크기
+     * @param handler 요청 처리
+     * @param executor inlineFrameSize 초과 frame 처리 - null 이면 모두 I/O thread 에서 처리
+     * @param inlineFrameSize I/O thread 에서 바로 처리하는 최대 frame 크기
+     * </pre>
+     */
+    public CryptoTcpServer(String bindAddress, int port, int ioThreads, int maxFrameSize, CryptoTcpHandler handler,
+        Executor executor, int inlineFrameSize) {
+        this.bindAddress = bindAddress == null ? "" : bindAddress.trim();
+        this.port = port;
+        this.ioThreads = ioThreads > 0 ? ioThreads : Runtime.getRuntime().availableProcessors();
+        this.maxFrameSize = maxFrameSize > 0 ? maxFrameSize : CryptoFrame.DEFAULT_MAX_FRAME_SIZE;
+        this.handler = handler;
+        this.executor = executor;
+        this.inlineFrameSize = inlineFrameSize;
+    }
+
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(bindAddress.isEmpty()
+            ? new InetSocketAddress(InetAddress.getLoopbackAddress(), port)
+            : new InetSocketAddress(bindAddress, port));
+        running = true;
+
+        loops = new IoLoop[ioThreads];
+        for (int i = 0; i < ioThreads; i++) {
+            loops[i] = new IoLoop();
+            startThread(loops[i], "crypto-tcp-io-" + (i + 1));
+        }
+        startThread(this::acceptLoop, "crypto-tcp-accept");
+        log.info("crypto tcp server - address: {}, io-threads: {}, max-frame-size: {}, inline-frame-size: {}",
+            serverChannel.getLocalAddress(), ioThreads, maxFrameSize, executor != null ? inlineFrameSize : maxFrameSize);
+    }
+
+    /**
+     * 실제 listen port
+     */
+    public int getPort() throws IOException {
+        return getAddress().getPort();
+    }
+
+    /**
+     * 실제 listen 주소
+     */
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress)serverChannel.getLocalAddress();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        serverChannel.close();
+        for (IoLoop loop : loops) {
+            loop.selector.wakeup();
+        }
+    }
+
+    private void acceptLoop() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                loops[next++ % loops.length].register(channel);
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                log.error("crypto tcp accept 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void startThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private final class IoLoop implements Runnable {
+        private final Selector selector;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+        // executor 처리 완료 응답 - I/O thread 에서 기록
+        private final Queue<Runnable> completed = new ConcurrentLinkedQueue<>();
+
+        IoLoop() throws IOException {
+            this.selector = Selector.open();
+        }
+
+        void register(SocketChannel channel) {
+            pending.add(channel);
+            selector.wakeup();
+        }
+
+        void complete(Runnable response) {
+            completed.add(response);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    SocketChannel channel;
+                    while ((channel = pending.poll()) != null) {
+                        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                        key.attach(new Connection(this, channel, key));
+                    }
+                    Runnable response;
+                    while ((response = completed.poll()) != null) {
+                        response.run();
+                    }
+
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        Connection connection = (Connection)key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                connection.read();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.flush();
+                            }
+                        } catch (IOException | CancelledKeyException e) {
+                            connection.close();
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                log.error("crypto tcp I/O 처리 중단: {}", e.getMessage());
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    ((Connection)key.attachment()).close();
+                }
+                try {
+                    selector.close();
+                } catch (IOException ignored) {
+                    // 종료 처리중
+                }
+            }
+        }
+    }
+
+    private final class Connection {
+        private final IoLoop loop;
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        // 읽기 buffer - 쓰기 mode(position = 읽은 데이터 끝)
+        private ByteBuffer in = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        // 응답 buffer - 쓰기 mode(position = 미전송 데이터 끝)
+        private ByteBuffer out = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+        Connection(IoLoop loop, SocketChannel channel, SelectionKey key) {
+            this.loop = loop;
+            this.channel = channel;
+            this.key = key;
+        }
+
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                close();
+                return;
+            }
+
+            in.flip();
+            while (in.remaining() >= CryptoFrame.LENGTH_SIZE) {
+                int length = in.getInt(in.position());
+                if (length < CryptoFrame.REQUEST_HEADER_SIZE || length > maxFrameSize) {
+                    log.warn("crypto tcp frame 길이 오류({}) - 연결 종료 {}", length, channel.getRemoteAddress());
+                    close();
+                    return;
+                }
+                if (in.remaining() < CryptoFrame.LENGTH_SIZE + length) {
+                    break;
+                }
+                if (!process(length)) {
+                    close();
+                    return;
+                }
+            }
+            in.compact();
+
+            // 처리하지 못한 frame이 buffer 보다 크면 확장
+            if (in.position() >= CryptoFrame.LENGTH_SIZE) {
+                int required = CryptoFrame.LENGTH_SIZE + in.getInt(0);
+                if (required > in.capacity()) {
+                    in = grow(in, required);
+                }
+            } else if (in.position() == 0 && in.capacity() > INITIAL_BUFFER_SIZE) {
+                in = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+            }
+            flush();
+        }
+
+        /**
+         * frame 하나 처리 - in.position 은 frame 시작(length 필드)
+         */
+        private boolean process(int length) {
+            int end = in.position() + CryptoFrame.LENGTH_SIZE + length;
+            in.position(in.position() + CryptoFrame.LENGTH_SIZE);
+            int requestId = in.getInt();
+            byte op = in.get();
+            int idLength = in.get() & 0xff;
+            if (idLength > length - CryptoFrame.REQUEST_HEADER_SIZE) {
+                return false;
+            }
+            String keyId = idLength == 0 ? null
+                : new String(in.array(), in.arrayOffset() + in.position(), idLength, StandardCharsets.UTF_8);
+            in.position(in.position() + idLength);
+            byte[] payload = new byte[end - in.position()];
+            in.get(payload);
+
+            if (executor == null || length <= inlineFrameSize) {
+                handle(requestId, op, keyId, payload);
+                return true;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        byte[] result = invoke(op, keyId, payload);
+                        loop.complete(() -> completeResponse(requestId, CryptoFrame.STATUS_OK, result));
+                    } catch (RuntimeException e) {
+                        byte[] message = errorMessage(e);
+                        loop.complete(() -> completeResponse(requestId, CryptoFrame.STATUS_ERROR, message));
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                respond(requestId, CryptoFrame.STATUS_ERROR,
+                    "처리 요청이 많아 처리할 수 없습니다. 잠시 후 다시 요청해 주세요".getBytes(StandardCharsets.UTF_8));
+            }
+            return true;
+        }
+
+        /**
+         * I/O thread 에서 바로 처리
+         */
+        private void handle(int requestId, byte op, String keyId, byte[] payload) {
+            byte status = CryptoFrame.STATUS_OK;
+            byte[] result;
+            try {
+                result = invoke(op, keyId, payload);
+            } catch (RuntimeException e) {
+                status = CryptoFrame.STATUS_ERROR;
+                result = errorMessage(e);
+            }
+            respond(requestId, status, result);
+        }
+
+        /**
+         * executor 처리 결과 기록(I/O thread) - 이미 종료된 연결이면 버림
+         */
+        private void completeResponse(int requestId, byte status, byte[] result) {
+            if (!key.isValid()) {
+                return;
+            }
+            respond(requestId, status, result);
+            try {
+                flush();
+            } catch (IOException | CancelledKeyException e) {
+                close();
+            }
+        }
+
+        private void respond(int requestId, byte status, byte[] result) {
+            int frameSize = CryptoFrame.LENGTH_SIZE + CryptoFrame.RESPONSE_HEADER_SIZE + result.length;
+            if (out.remaining() < frameSize) {
+                out = grow(out, out.position() + frameSize);
+            }
+            out.putInt(CryptoFrame.RESPONSE_HEADER_SIZE + result.length)
+                .putInt(requestId)
+                .put(status)
+                .put(result);
+        }
+
+        private byte[] invoke(byte op, String keyId, byte[] payload) {
+            if (op == CryptoFrame.OP_ENCRYPT) {
+                return handler.encrypt(keyId, payload);
+            }
+            if (op == CryptoFrame.OP_DECRYPT) {
+                return handler.decrypt(keyId, payload);
+            }
+            throw BizRuntimeException.create("지원하지 않는 op 입니다 - " + op);
+        }
+
+        private byte[] errorMessage(RuntimeException e) {
+            return String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8);
+        }
+
+        void flush() throws IOException {
+            if (!key.isValid()) {
+                return;
+            }
+            out.flip();
+            channel.write(out);
+            out.compact();
+
+            if (out.position() == 0 && out.capacity() > INITIAL_BUFFER_SIZE) {
+                out = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+            }
+            int ops = out.position() > 0 ? SelectionKey.OP_WRITE : 0;
+            if (out.position() < HIGH_WATER_MARK) {
+                ops |= SelectionKey.OP_READ;
+            }
+            key.interestOps(ops);
+        }
+
+        void close() {
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 연결 종료 처리중
+            }
+        }
+
+        private ByteBuffer grow(ByteBuffer buffer, int required) {
+            int capacity = buffer.capacity();
+            while (capacity < required) {
+                capacity = capacity > Integer.MAX_VALUE / 2 ? required : capacity * 2;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            buffer.flip();
+            grown.put(buffer);
+            return grown;
+        }
+    }
+}
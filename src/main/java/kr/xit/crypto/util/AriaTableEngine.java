@@ -0,0 +1,329 @@
+package kr.xit.crypto.util;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.params.*;
+import org.bouncycastle.util.*;
+import org.bouncycastle.util.encoders.*;
+
+/**
+ * <pre>
+ * table 기반 ARIA 블록 암호 엔진 (RFC 5794)
+ * - Bouncy Castle ARIAEngine은 byte 단위로 S-box(SL1, SL2)와 확산 계층(A)을 처리
+ * - 이 엔진은 32bit word 4개로 상태를 유지하고, S-box와 확산 계층 일부를 미리 계산한
+ *   256 x 32bit table 4개(S1, S2, X1, X2 - 총 4KB, L1 cache 크기)를 사용
+ *   -> 라운드 당 table 조회 16번 + word 단위 XOR/rotate 연산만 수행
+ * - 홀수/짝수 라운드를 한 쌍으로 풀어서(unroll) 처리
+ * - 결과는 ARIAEngine 과 동일하며 128, 192, 256bit key 지원
+ *
+ * 확산 계층 A는 다음 순서로 분해하여 처리 (NSRI 32bit 최적화 구현과 동일한 분해)
+ *   1. table 조회시 각 byte를 같은 word의 다른 3 byte에 더함(pre-diffusion)
+ *   2. word 간 XOR (diffWord)
+ *   3. word 내부 byte 재배치 (diffByte)
+ *   4. word 간 XOR (diffWord)
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : AriaTableEngine
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+public class AriaTableEngine implements BlockCipher {
+    private static final int BLOCK_SIZE = 16;
+
+    private static final byte[] SB1 = Hex.decodeStrict(
+        "637c777bf26b6fc53001672bfed7ab76ca82c97dfa5947f0add4a2af9ca472c0"
+            + "b7fd9326363ff7cc34a5e5f171d8311504c723c31896059a071280e2eb27b275"
+            + "09832c1a1b6e5aa0523bd6b329e32f8453d100ed20fcb15b6acbbe394a4c58cf"
+            + "d0efaafb434d338545f9027f503c9fa851a3408f929d38f5bcb6da2110fff3d2"
+            + "cd0c13ec5f974417c4a77e3d645d197360814fdc222a908846eeb814de5e0bdb"
+            + "e0323a0a4906245cc2d3ac629195e479e7c8376d8dd54ea96c56f4ea657aae08"
+            + "ba78252e1ca6b4c6e8dd741f4bbd8b8a703eb5664803f60e613557b986c11d9e"
+            + "e1f8981169d98e949b1e87e9ce5528df8ca1890dbfe6426841992d0fb054bb16");
+
+    private static final byte[] SB2 = Hex.decodeStrict(
+        "e24e54fc94c24acc620d6a463c4d8bd15efa64cbb497be2bbc772e03d31959c1"
+            + "1d06416b55f09969ea9c18ae63dfe7bb007366fb964c85e43a0945aa0fee10eb"
+            + "2d7ff429accfad918d78c895f92fcecd087a88385c832a2847dbb8c793a41253"
+            + "ff870e3136215848018e377432cae9b1b7ab0cd7c4564226079860d9b6b91140"
+            + "ec208cbda0c984044923f14f501f13dcd8c09e57e3c37b653b028f3ee82592e5"
+            + "15ddfd17a9bfd49a7ec53967fe769d43a7e1d0f568f21b347005a38ad57986a8"
+            + "30c6514b1ea627f635d26e2416825fdae675a2ef2cb21c9f5d6f800a72449b6c"
+            + "900b5b337d5a52f361a1f7b0d63f7c6ded14e0a53d22b3f889de711aafbab581");
+
+    // SB3, SB4는 SB1, SB2의 역함수
+    private static final byte[] SB3 = new byte[256];
+    private static final byte[] SB4 = new byte[256];
+
+    // S-box + pre-diffusion table : 값 v 를 word의 3 byte에 배치
+    private static final int[] S1 = new int[256];
+    private static final int[] S2 = new int[256];
+    private static final int[] X1 = new int[256];
+    private static final int[] X2 = new int[256];
+
+    // key schedule 상수
+    private static final int[][] CK = {
+        {0x517cc1b7, 0x27220a94, 0xfe13abe8, 0xfa9a6ee0},
+        {0x6db14acc, 0x9e21c820, 0xff28b1d5, 0xef5de2b0},
+        {0xdb92371d, 0x2126e970, 0x03249775, 0x04e8c90e}
+    };
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            SB3[SB1[i] & 0xff] = (byte)i;
+            SB4[SB2[i] & 0xff] = (byte)i;
+        }
+        for (int i = 0; i < 256; i++) {
+            S1[i] = (SB1[i] & 0xff) * 0x00010101;
+            S2[i] = (SB2[i] & 0xff) * 0x01000101;
+            X1[i] = (SB3[i] & 0xff) * 0x01010001;
+            X2[i] = (SB4[i] & 0xff) * 0x01010100;
+        }
+    }
+
+    private int rounds;
+    private int[] roundKeys;
+
+    @Override
+    public void init(boolean forEncryption, CipherParameters params) {
+        if (!(params instanceof KeyParameter)) {
+            throw new IllegalArgumentException("invalid parameter passed to ARIA init - " + (params == null ? "null" : params.getClass().getName()));
+        }
+        byte[] key = ((KeyParameter)params).getKey();
+        if (key.length != 16 && key.length != 24 && key.length != 32) {
+            throw new IllegalArgumentException("Key length not 128/192/256 bits.");
+        }
+        rounds = 12 + (key.length - 16) / 4;
+        roundKeys = keySchedule(key, rounds);
+        if (!forEncryption) {
+            roundKeys = decryptionKeys(roundKeys, rounds);
+        }
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "ARIA";
+    }
+
+    @Override
+    public int getBlockSize() {
+        return BLOCK_SIZE;
+    }
+
+    @Override
+    public int processBlock(byte[] in, int inOff, byte[] out, int outOff) {
+        if (roundKeys == null) {
+            throw new IllegalStateException("ARIA engine not initialised");
+        }
+        if (inOff > in.length - BLOCK_SIZE) {
+            throw new DataLengthException("input buffer too short");
+        }
+        if (outOff > out.length - BLOCK_SIZE) {
+            throw new OutputLengthException("output buffer too short");
+        }
+
+        final int[] rk = roundKeys;
+        int t0 = Pack.bigEndianToInt(in, inOff) ^ rk[0];
+        int t1 = Pack.bigEndianToInt(in, inOff + 4) ^ rk[1];
+        int t2 = Pack.bigEndianToInt(in, inOff + 8) ^ rk[2];
+        int t3 = Pack.bigEndianToInt(in, inOff + 12) ^ rk[3];
+        int k = 4;
+
+        // 1 라운드(홀수)
+        t0 = S1[t0 >>> 24] ^ S2[(t0 >>> 16) & 0xff] ^ X1[(t0 >>> 8) & 0xff] ^ X2[t0 & 0xff];
+        t1 = S1[t1 >>> 24] ^ S2[(t1 >>> 16) & 0xff] ^ X1[(t1 >>> 8) & 0xff] ^ X2[t1 & 0xff];
+        t2 = S1[t2 >>> 24] ^ S2[(t2 >>> 16) & 0xff] ^ X1[(t2 >>> 8) & 0xff] ^ X2[t2 & 0xff];
+        t3 = S1[t3 >>> 24] ^ S2[(t3 >>> 16) & 0xff] ^ X1[(t3 >>> 8) & 0xff] ^ X2[t3 & 0xff];
+        t1 ^= t2; t2 ^= t3; t0 ^= t1; t3 ^= t1; t2 ^= t0; t1 ^= t2;
+        t1 = ((t1 << 8) & 0xff00ff00) ^ ((t1 >>> 8) & 0x00ff00ff);
+        t2 = Integer.rotateRight(t2, 16);
+        t3 = Integer.reverseBytes(t3);
+        t1 ^= t2; t2 ^= t3; t0 ^= t1; t3 ^= t1; t2 ^= t0; t1 ^= t2;
+
+        // 짝수 + 홀수 라운드 쌍
+        for (int r = 2; r < rounds; r += 2) {
+            t0 ^= rk[k];
+            t1 ^= rk[k + 1];
+            t2 ^= rk[k + 2];
+            t3 ^= rk[k + 3];
+            t0 = X1[t0 >>> 24] ^ X2[(t0 >>> 16) & 0xff] ^ S1[(t0 >>> 8) & 0xff] ^ S2[t0 & 0xff];
+            t1 = X1[t1 >>> 24] ^ X2[(t1 >>> 16) & 0xff] ^ S1[(t1 >>> 8) & 0xff] ^ S2[t1 & 0xff];
+            t2 = X1[t2 >>> 24] ^ X2[(t2 >>> 16) & 0xff] ^ S1[(t2 >>> 8) & 0xff] ^ S2[t2 & 0xff];
+            t3 = X1[t3 >>> 24] ^ X2[(t3 >>> 16) & 0xff] ^ S1[(t3 >>> 8) & 0xff] ^ S2[t3 & 0xff];
+            t1 ^= t2; t2 ^= t3; t0 ^= t1; t3 ^= t1; t2 ^= t0; t1 ^= t2;
+            t3 = ((t3 << 8) & 0xff00ff00) ^ ((t3 >>> 8) & 0x00ff00ff);
+            t0 = Integer.rotateRight(t0, 16);
+            t1 = Integer.reverseBytes(t1);
+            t1 ^= t2; t2 ^= t3; t0 ^= t1; t3 ^= t1; t2 ^= t0; t1 ^= t2;
+
+            t0 ^= rk[k + 4];
+            t1 ^= rk[k + 5];
+            t2 ^= rk[k + 6];
+            t3 ^= rk[k + 7];
+            t0 = S1[t0 >>> 24] ^ S2[(t0 >>> 16) & 0xff] ^ X1[(t0 >>> 8) & 0xff] ^ X2[t0 & 0xff];
+            t1 = S1[t1 >>> 24] ^ S2[(t1 >>> 16) & 0xff] ^ X1[(t1 >>> 8) & 0xff] ^ X2[t1 & 0xff];
+            t2 = S1[t2 >>> 24] ^ S2[(t2 >>> 16) & 0xff] ^ X1[(t2 >>> 8) & 0xff] ^ X2[t2 & 0xff];
+            t3 = S1[t3 >>> 24] ^ S2[(t3 >>> 16) & 0xff] ^ X1[(t3 >>> 8) & 0xff] ^ X2[t3 & 0xff];
+            t1 ^= t2; t2 ^= t3; t0 ^= t1; t3 ^= t1; t2 ^= t0; t1 ^= t2;
+            t1 = ((t1 << 8) & 0xff00ff00) ^ ((t1 >>> 8) & 0x00ff00ff);
+            t2 = Integer.rotateRight(t2, 16);
+            t3 = Integer.reverseBytes(t3);
+            t1 ^= t2; t2 ^= t3; t0 ^= t1; t3 ^= t1; t2 ^= t0; t1 ^= t2;
+            k += 8;
+        }
+
+        // 마지막 라운드 : SL2 후 라운드 키 XOR (확산 계층 없음)
+        t0 ^= rk[k];
+        t1 ^= rk[k + 1];
+        t2 ^= rk[k + 2];
+        t3 ^= rk[k + 3];
+        Pack.intToBigEndian(finalRound(t0) ^ rk[k + 4], out, outOff);
+        Pack.intToBigEndian(finalRound(t1) ^ rk[k + 5], out, outOff + 4);
+        Pack.intToBigEndian(finalRound(t2) ^ rk[k + 6], out, outOff + 8);
+        Pack.intToBigEndian(finalRound(t3) ^ rk[k + 7], out, outOff + 12);
+
+        return BLOCK_SIZE;
+    }
+
+    @Override
+    public void reset() {
+        // 상태를 유지하지 않음
+    }
+
+    private static int finalRound(int t) {
+        return (SB3[t >>> 24] & 0xff) << 24
+            | (SB4[(t >>> 16) & 0xff] & 0xff) << 16
+            | (SB1[(t >>> 8) & 0xff] & 0xff) << 8
+            | (SB2[t & 0xff] & 0xff);
+    }
+
+    /**
+     * <pre>
+     * 암호화 라운드 키 생성 - 라운드 수 + 1 개의 128bit 키(word 4개씩)
+     * W0 = KL, W1 = FO(W0, CK1) ^ KR, W2 = FE(W1, CK2) ^ W0, W3 = FO(W2, CK3) ^ W1
+     * </pre>
+     */
+    private static int[] keySchedule(byte[] key, int rounds) {
+        int[] w0 = new int[4];
+        int[] kr = new int[4];
+        for (int i = 0; i < 4; i++) {
+            w0[i] = Pack.bigEndianToInt(key, i * 4);
+        }
+        for (int i = 4; i < key.length / 4; i++) {
+            kr[i - 4] = Pack.bigEndianToInt(key, i * 4);
+        }
+
+        // key 길이에 따라 CK 사용 순서가 다르다 (128: CK1, CK2, CK3 / 192: CK2, CK3, CK1 / 256: CK3, CK1, CK2)
+        int ck = (key.length - 16) / 8;
+        int[] w1 = roundFunction(w0, CK[ck], true, kr);
+        int[] w2 = roundFunction(w1, CK[(ck + 1) % 3], false, w0);
+        int[] w3 = roundFunction(w2, CK[(ck + 2) % 3], true, w1);
+
+        int[][] w = {w0, w1, w2, w3};
+        int[] rotations = {-19, -31, 61, 31, 19};
+        int[] roundKeys = new int[(rounds + 1) * 4];
+        for (int n = 0; n <= rounds; n++) {
+            int[] a = w[n % 4];
+            int[] b = rotate(w[(n + 1) % 4], rotations[n / 4]);
+            for (int i = 0; i < 4; i++) {
+                roundKeys[n * 4 + i] = a[i] ^ b[i];
+            }
+        }
+        return roundKeys;
+    }
+
+    /**
+     * <pre>
+     * 복호화 라운드 키 : dk1 = ek(n+1), dk(i) = A(ek(n+2-i)), dk(n+1) = ek1
+     * </pre>
+     */
+    private static int[] decryptionKeys(int[] ek, int rounds) {
+        int[] dk = new int[ek.length];
+        System.arraycopy(ek, rounds * 4, dk, 0, 4);
+        System.arraycopy(ek, 0, dk, rounds * 4, 4);
+
+        byte[] block = new byte[BLOCK_SIZE];
+        for (int n = 1; n < rounds; n++) {
+            Pack.intToBigEndian(ek, (rounds - n) * 4, 4, block, 0);
+            diffusion(block);
+            Pack.bigEndianToInt(block, 0, dk, n * 4, 4);
+        }
+        return dk;
+    }
+
+    /**
+     * key schedule 용 라운드 함수 (홀수 : FO, 짝수 : FE) - 결과에 x 를 XOR
+     */
+    private static int[] roundFunction(int[] d, int[] rk, boolean odd, int[] x) {
+        int t0 = d[0] ^ rk[0];
+        int t1 = d[1] ^ rk[1];
+        int t2 = d[2] ^ rk[2];
+        int t3 = d[3] ^ rk[3];
+        if (odd) {
+            t0 = S1[t0 >>> 24] ^ S2[(t0 >>> 16) & 0xff] ^ X1[(t0 >>> 8) & 0xff] ^ X2[t0 & 0xff];
+            t1 = S1[t1 >>> 24] ^ S2[(t1 >>> 16) & 0xff] ^ X1[(t1 >>> 8) & 0xff] ^ X2[t1 & 0xff];
+            t2 = S1[t2 >>> 24] ^ S2[(t2 >>> 16) & 0xff] ^ X1[(t2 >>> 8) & 0xff] ^ X2[t2 & 0xff];
+            t3 = S1[t3 >>> 24] ^ S2[(t3 >>> 16) & 0xff] ^ X1[(t3 >>> 8) & 0xff] ^ X2[t3 & 0xff];
+            t1 ^= t2; t2 ^= t3; t0 ^= t1; t3 ^= t1; t2 ^= t0; t1 ^= t2;
+            t1 = ((t1 << 8) & 0xff00ff00) ^ ((t1 >>> 8) & 0x00ff00ff);
+            t2 = Integer.rotateRight(t2, 16);
+            t3 = Integer.reverseBytes(t3);
+        } else {
+            t0 = X1[t0 >>> 24] ^ X2[(t0 >>> 16) & 0xff] ^ S1[(t0 >>> 8) & 0xff] ^ S2[t0 & 0xff];
+            t1 = X1[t1 >>> 24] ^ X2[(t1 >>> 16) & 0xff] ^ S1[(t1 >>> 8) & 0xff] ^ S2[t1 & 0xff];
+            t2 = X1[t2 >>> 24] ^ X2[(t2 >>> 16) & 0xff] ^ S1[(t2 >>> 8) & 0xff] ^ S2[t2 & 0xff];
+            t3 = X1[t3 >>> 24] ^ X2[(t3 >>> 16) & 0xff] ^ S1[(t3 >>> 8) & 0xff] ^ S2[t3 & 0xff];
+            t1 ^= t2; t2 ^= t3; t0 ^= t1; t3 ^= t1; t2 ^= t0; t1 ^= t2;
+            t3 = ((t3 << 8) & 0xff00ff00) ^ ((t3 >>> 8) & 0x00ff00ff);
+            t0 = Integer.rotateRight(t0, 16);
+            t1 = Integer.reverseBytes(t1);
+        }
+        t1 ^= t2; t2 ^= t3; t0 ^= t1; t3 ^= t1; t2 ^= t0; t1 ^= t2;
+        return new int[]{t0 ^ x[0], t1 ^ x[1], t2 ^ x[2], t3 ^ x[3]};
+    }
+
+    /**
+     * 128bit 값 회전 (양수 : 왼쪽, 음수 : 오른쪽)
+     */
+    private static int[] rotate(int[] w, int bits) {
+        int left = ((bits % 128) + 128) % 128;
+        int words = left / 32;
+        int shift = left % 32;
+        int[] r = new int[4];
+        for (int i = 0; i < 4; i++) {
+            int hi = w[(i + words) % 4];
+            int lo = w[(i + words + 1) % 4];
+            r[i] = shift == 0 ? hi : (hi << shift) | (lo >>> (32 - shift));
+        }
+        return r;
+    }
+
+    /**
+     * 확산 계층 A (RFC 5794 2.4.3) - 복호화 라운드 키 생성에만 사용
+     */
+    private static void diffusion(byte[] x) {
+        byte[] y = new byte[BLOCK_SIZE];
+        y[0] = (byte)(x[3] ^ x[4] ^ x[6] ^ x[8] ^ x[9] ^ x[13] ^ x[14]);
+        y[1] = (byte)(x[2] ^ x[5] ^ x[7] ^ x[8] ^ x[9] ^ x[12] ^ x[15]);
+        y[2] = (byte)(x[1] ^ x[4] ^ x[6] ^ x[10] ^ x[11] ^ x[12] ^ x[15]);
+        y[3] = (byte)(x[0] ^ x[5] ^ x[7] ^ x[10] ^ x[11] ^ x[13] ^ x[14]);
+        y[4] = (byte)(x[0] ^ x[2] ^ x[5] ^ x[8] ^ x[11] ^ x[14] ^ x[15]);
+        y[5] = (byte)(x[1] ^ x[3] ^ x[4] ^ x[9] ^ x[10] ^ x[14] ^ x[15]);
+        y[6] = (byte)(x[0] ^ x[2] ^ x[7] ^ x[9] ^ x[10] ^ x[12] ^ x[13]);
+        y[7] = (byte)(x[1] ^ x[3] ^ x[6] ^ x[8] ^ x[11] ^ x[12] ^ x[13]);
+        y[8] = (byte)(x[0] ^ x[1] ^ x[4] ^ x[7] ^ x[10] ^ x[13] ^ x[15]);
+        y[9] = (byte)(x[0] ^ x[1] ^ x[5] ^ x[6] ^ x[11] ^ x[12] ^ x[14]);
+        y[10] = (byte)(x[2] ^ x[3] ^ x[5] ^ x[6] ^ x[8] ^ x[13] ^ x[15]);
+        y[11] = (byte)(x[2] ^ x[3] ^ x[4] ^ x[7] ^ x[9] ^ x[12] ^ x[14]);
+        y[12] = (byte)(x[1] ^ x[2] ^ x[6] ^ x[7] ^ x[9] ^ x[11] ^ x[12]);
+        y[13] = (byte)(x[0] ^ x[3] ^ x[6] ^ x[7] ^ x[8] ^ x[10] ^ x[13]);
+        y[14] = (byte)(x[0] ^ x[3] ^ x[4] ^ x[5] ^ x[9] ^ x[11] ^ x[14]);
+        y[15] = (byte)(x[1] ^ x[2] ^ x[4] ^ x[5] ^ x[8] ^ x[10] ^ x[15]);
+        System.arraycopy(y, 0, x, 0, BLOCK_SIZE);
+    }
+}
@@ -0,0 +1,469 @@
+package kr.xit.crypto.util;
+
+import java.nio.*;
+import java.util.*;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.modes.*;
+import org.bouncycastle.crypto.params.*;
+
+import kr.xit.crypto.config.*;
+
+/**
+ * <pre>
+ * AriaCryptoCipher, LeaCryptoCipher 공통 운용 모드 처리
+ * - 알고리즘(ARIA, LEA)만 다르고 처리 방식은 동일하므로 한 곳에서 구현
+ * - key schedule은 KeyMaterialCache, mode cipher는 ModeCipherPool 에서 재사용
+ * - 각 모드의 특징은 AriaCryptoCipher 참조
+ *
+ * 입출력 방식
+ * - byte[]                     : 결과 배열을 새로 생성하여 반환
+ * - (in, inOff, len, out, outOff) : 호출자가 전달한 out 배열에 직접 기록 -> 중간 복사 없음
+ * - ByteBuffer                 : in.remaining() 만큼 처리하여 out 에 기록하고 position 이동
+ *   -> heap buffer는 backing array에 직접 처리
+ *   -> direct buffer는 Bouncy Castle이 byte[]만 지원하므로 thread 별 고정 크기(CHUNK_SIZE) scratch 배열로 나누어 처리
+ * - ParallelCipher 설정의 threshold 이상이면 segment로 나누어 병렬 처리 - 결과는 순차 처리와 동일
+ *   -> CTR 암복호화 : counter 위치(seekTo)별 segment
+ *   -> ECB 암복호화, CBC/CFB 복호화 : 블록 경계 segment (byte[], heap buffer 만 해당)
+ * - SIV는 SivCipher 에서 처리(내부 CTR은 다시 이 class 사용)
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : BlockCipherModes
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 17   limju       KeyMaterial 지정 처리 추가
+ * 2026 10월 17   limju       SIV 추가
+ * 2026 10월 17   limju       처리 결과 통지(CipherObservers) 추가
+ * 2026 10월 17   limju       구간 추적(CipherTracer) 추가
+ *
+ * </pre>
+ */
+final class BlockCipherModes {
+    static final int BLOCK_SIZE = 16;
+    static final int MAC_SIZE = 128;
+    static final int MAC_BYTES = MAC_SIZE / 8;
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final ThreadLocal<byte[][]> SCRATCH = ThreadLocal.withInitial(
+        () -> new byte[][]{new byte[CHUNK_SIZE], new byte[CHUNK_SIZE + 4 * BLOCK_SIZE]});
+
+    private BlockCipherModes() {
+    }
+
+    /**
+     * <pre>
+     * byte[] 입력 처리 - 결과 배열 생성
+     * @return 결과
+     * </pre>
+     */
+    static byte[] process(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, byte[] key, byte[] iv, byte[] aad, byte[] input) {
+        byte[] outputData = new byte[outputSize(mode, forEncryption, input.length)];
+        int len = process(algorithm, mode, forEncryption, key, iv, aad, input, 0, input.length, outputData, 0);
+        // 패딩이 제거된 복호화 결과만 길이가 달라진다
+        return len == outputData.length ? outputData : Arrays.copyOf(outputData, len);
+    }
+
+    /**
+     * <pre>
+     * offset / length 지정 처리 - out 배열에 직접 기록
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    static int process(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, byte[] key, byte[] iv, byte[] aad,
+        byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return process(algorithm, mode, forEncryption, KeyMaterialCache.of(key), iv, aad, in, inOff, len, out, outOff);
+    }
+
+    /**
+     * <pre>
+     * key schedule이 적용된 KeyMaterial 지정 처리 - 결과 배열 생성
+     * - KeyMaterialCache 조회 없이 처리(CipherSuite 등 기동시 key가 결정된 경우)
+     * @return 결과
+     * </pre>
+     */
+    static byte[] process(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, KeyMaterial keyMaterial, byte[] iv,
+        byte[] aad, byte[] input) {
+        byte[] outputData = new byte[outputSize(mode, forEncryption, input.length)];
+        int len = process(algorithm, mode, forEncryption, keyMaterial, iv, aad, input, 0, input.length, outputData, 0);
+        return len == outputData.length ? outputData : Arrays.copyOf(outputData, len);
+    }
+
+    /**
+     * <pre>
+     * key schedule이 적용된 KeyMaterial 지정 처리 - out 배열에 직접 기록
+     * - CipherObservers 에 등록된 observer 가 있으면 처리 시간, 길이, 실패 통지 (tracer 는 처리 구간 추적)
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    static int process(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, KeyMaterial keyMaterial, byte[] iv,
+        byte[] aad, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        if (!CipherObservers.isEnabled()) {
+            return execute(algorithm, mode, forEncryption, keyMaterial, iv, aad, in, inOff, len, out, outOff);
+        }
+        Object span = CipherObservers.begin();
+        long start = System.nanoTime();
+        try {
+            int written = execute(algorithm, mode, forEncryption, keyMaterial, iv, aad, in, inOff, len, out, outOff);
+            CipherObservers.completed(algorithm, mode, forEncryption, keyMaterial, len, System.nanoTime() - start, span);
+            return written;
+        } catch (RuntimeException e) {
+            CipherObservers.failed(algorithm, mode, forEncryption, keyMaterial, len, e, span);
+            throw e;
+        }
+    }
+
+    /**
+     * <pre>
+     * KeyMaterial 지정 처리 - observer 통지 없음(SIV 내부 CTR 등 다른 처리의 일부)
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    static int execute(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, KeyMaterial keyMaterial, byte[] iv,
+        byte[] aad, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        if (mode == CipherMode.SIV) {
+            return SivCipher.process(algorithm, forEncryption, keyMaterial, aad, in, inOff, len, out, outOff);
+        }
+        if (isParallel(mode, forEncryption, in, inOff, len, out, outOff)) {
+            return processParallel(algorithm, keyMaterial, mode, forEncryption, iv, in, inOff, len, out, outOff);
+        }
+
+        try (ModeCipherPool.Lease<Object> lease = ModeCipherPool.acquire(keyMaterial, algorithm, mode, forEncryption, mode == CipherMode.GCM ? iv : null)) {
+            Object cipher = init(lease, keyMaterial, mode, forEncryption, iv, aad);
+
+            int tam = update(cipher, in, inOff, len, out, outOff);
+            return tam + doFinal(cipher, out, outOff + tam);
+        }
+    }
+
+    /**
+     * <pre>
+     * 병렬 처리 대상 여부
+     * - CTR : 암복호화
+     * - ECB : 암복호화 - 각 블록이 독립적
+     * - CBC, CFB : 복호화 - 각 블록은 암호문(이전 블록 포함)에만 의존
+     * - 입력과 출력 영역이 겹치는 경우는 다른 segment의 입력을 덮어쓸 수 있으므로 순차 처리
+     *   (CTR, ECB 는 동일 위치 처리(in-place)만 허용)
+     * </pre>
+     */
+    private static boolean isParallel(CipherMode mode, boolean forEncryption, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        if (!ParallelCipher.isParallel(len)) {
+            return false;
+        }
+        switch (mode) {
+            case CTR:
+                break;
+            case ECB:
+                if (!forEncryption && len % BLOCK_SIZE != 0) {
+                    return false;
+                }
+                break;
+            case CBC:
+            case CFB:
+                if (forEncryption || (mode == CipherMode.CBC && len % BLOCK_SIZE != 0)) {
+                    return false;
+                }
+                break;
+            default:
+                return false;
+        }
+        boolean overlap = in == out && inOff < outOff + len && outOff < inOff + len;
+        return !overlap || (inOff == outOff && (mode == CipherMode.CTR || mode == CipherMode.ECB));
+    }
+
+    /**
+     * <pre>
+     * segment 단위 병렬 처리
+     * - CTR : 각 segment는 seekTo로 counter 위치 이동
+     * - CFB : 각 segment는 직전 암호문 블록을 IV로 사용
+     * - ECB, CBC : 마지막 segment를 제외하고 패딩 없이 블록 단위 처리,
+     *              마지막 segment는 패딩 처리 (CBC는 직전 암호문 블록을 IV로 사용)
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    private static int processParallel(CipherAlgorithm algorithm, KeyMaterial keyMaterial, CipherMode mode, boolean forEncryption, byte[] iv,
+        byte[] in, int inOff, int len, byte[] out, int outOff) {
+        KeyParameter keyParameter = keyMaterial.getKeyParameter();
+        int[] written = {len};
+
+        ParallelCipher.forEachSegment(len, (from, to) -> {
+            byte[] segmentIv = from == 0 ? iv : Arrays.copyOfRange(in, inOff + from - BLOCK_SIZE, inOff + from);
+            try (ModeCipherPool.Lease<Object> lease = ModeCipherPool.acquire(keyMaterial, algorithm, mode, forEncryption, null)) {
+                switch (mode) {
+                    case CTR:
+                        CTRModeCipher ctr = (CTRModeCipher)lease.cipher();
+                        ctr.init(forEncryption, new ParametersWithIV(keyParameter, iv));
+                        ctr.seekTo(from);
+                        ctr.processBytes(in, inOff + from, to - from, out, outOff + from);
+                        break;
+                    case CFB:
+                        CFBModeCipher cfb = (CFBModeCipher)lease.cipher();
+                        cfb.init(forEncryption, new ParametersWithIV(keyParameter, segmentIv));
+                        cfb.processBytes(in, inOff + from, to - from, out, outOff + from);
+                        break;
+                    default:
+                        BufferedBlockCipher padded = (BufferedBlockCipher)lease.cipher();
+                        CipherParameters params = mode == CipherMode.ECB ? keyParameter : new ParametersWithIV(keyParameter, segmentIv);
+                        if (to < len) {
+                            BlockCipher cipher = padded.getUnderlyingCipher();
+                            cipher.init(forEncryption, params);
+                            if (cipher instanceof MultiBlockCipher) {
+                                ((MultiBlockCipher)cipher).processBlocks(in, inOff + from, (to - from) / BLOCK_SIZE, out, outOff + from);
+                            } else {
+                                for (int off = from; off < to; off += BLOCK_SIZE) {
+                                    cipher.processBlock(in, inOff + off, out, outOff + off);
+                                }
+                            }
+                        } else {
+                            padded.init(forEncryption, params);
+                            int tam = padded.processBytes(in, inOff + from, to - from, out, outOff + from);
+                            written[0] = from + tam + doFinal(padded, out, outOff + from + tam);
+                        }
+                        break;
+                }
+            }
+        });
+        return written[0];
+    }
+
+    /**
+     * <pre>
+     * ByteBuffer(heap, direct) 처리
+     * - in 은 limit 까지 모두 처리하며, out 에는 결과 길이 만큼 position 이동
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    static int process(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, byte[] key, byte[] iv, byte[] aad,
+        ByteBuffer in, ByteBuffer out) {
+        int len = in.remaining();
+        if (out.remaining() < outputSize(mode, forEncryption, len)) {
+            throw new BufferOverflowException();
+        }
+
+        if (in.hasArray() && out.hasArray()) {
+            int written = process(algorithm, mode, forEncryption, key, iv, aad,
+                in.array(), in.arrayOffset() + in.position(), len, out.array(), out.arrayOffset() + out.position());
+            in.position(in.limit());
+            out.position(out.position() + written);
+            return written;
+        }
+
+        KeyMaterial keyMaterial = KeyMaterialCache.of(key);
+        if (!CipherObservers.isEnabled()) {
+            return processDirect(algorithm, mode, forEncryption, keyMaterial, iv, aad, in, out, len);
+        }
+        Object span = CipherObservers.begin();
+        long start = System.nanoTime();
+        try {
+            int written = processDirect(algorithm, mode, forEncryption, keyMaterial, iv, aad, in, out, len);
+            CipherObservers.completed(algorithm, mode, forEncryption, keyMaterial, len, System.nanoTime() - start, span);
+            return written;
+        } catch (RuntimeException e) {
+            CipherObservers.failed(algorithm, mode, forEncryption, keyMaterial, len, e, span);
+            throw e;
+        }
+    }
+
+    /**
+     * direct buffer 처리
+     */
+    private static int processDirect(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, KeyMaterial keyMaterial,
+        byte[] iv, byte[] aad, ByteBuffer in, ByteBuffer out, int len) {
+        if (mode == CipherMode.SIV) {
+            // S2V는 전체 평문이 필요하므로 배열로 복사하여 처리
+            byte[] input = new byte[len];
+            in.get(input);
+            byte[] output = new byte[outputSize(mode, forEncryption, len)];
+            int written = execute(algorithm, mode, forEncryption, keyMaterial, iv, aad, input, 0, len, output, 0);
+            out.put(output, 0, written);
+            return written;
+        }
+        if (mode == CipherMode.CTR && ParallelCipher.isParallel(len)) {
+            return processCtr(algorithm, keyMaterial, forEncryption, iv, in, out, 0);
+        }
+
+        try (ModeCipherPool.Lease<Object> lease = ModeCipherPool.acquire(keyMaterial, algorithm, mode, forEncryption, mode == CipherMode.GCM ? iv : null)) {
+            Object cipher = init(lease, keyMaterial, mode, forEncryption, iv, aad);
+            int written = update(cipher, in, out);
+
+            // CCM은 doFinal 에서 전체 결과를 한번에 출력하므로 전체 길이의 배열 필요
+            byte[] finalBuf = mode == CipherMode.CCM ? new byte[outputSize(mode, forEncryption, len)] : SCRATCH.get()[1];
+            int tam = doFinal(cipher, finalBuf, 0);
+            out.put(finalBuf, 0, tam);
+            return written + tam;
+        }
+    }
+
+    /**
+     * <pre>
+     * CTR ByteBuffer(direct) 처리 - keystream 위치(counterOffset) 부터 암복호화
+     * - 큰 데이터를 여러 구간(파일 mapping 등)으로 나누어 처리할 때 각 구간의 시작 위치를 전달
+     * - ParallelCipher 설정의 threshold 이상이면 segment 별로 seekTo 하여 병렬 처리
+     * @param counterOffset 전체 데이터에서 in 의 시작 위치(bytes)
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    static int processCtr(CipherAlgorithm algorithm, KeyMaterial keyMaterial, boolean forEncryption, byte[] iv,
+        ByteBuffer in, ByteBuffer out, long counterOffset) {
+        int len = in.remaining();
+        int inPos = in.position();
+        int outPos = out.position();
+        ParallelCipher.Segment segment = (from, to) -> {
+            try (ModeCipherPool.Lease<CTRModeCipher> lease = ModeCipherPool.acquire(keyMaterial, algorithm, CipherMode.CTR, forEncryption, null)) {
+                CTRModeCipher cipher = lease.cipher();
+                cipher.init(forEncryption, new ParametersWithIV(keyMaterial.getKeyParameter(), iv));
+                cipher.seekTo(counterOffset + from);
+                ByteBuffer segmentIn = in.duplicate();
+                segmentIn.limit(inPos + to).position(inPos + from);
+                ByteBuffer segmentOut = out.duplicate();
+                segmentOut.position(outPos + from);
+                update(cipher, segmentIn, segmentOut);
+            }
+        };
+
+        if (ParallelCipher.isParallel(len)) {
+            ParallelCipher.forEachSegment(len, segment);
+        } else {
+            segment.process(0, len);
+        }
+        in.position(in.limit());
+        out.position(outPos + len);
+        return len;
+    }
+
+    /**
+     * <pre>
+     * direct buffer 처리 - thread 별 scratch 배열에 CHUNK_SIZE 만큼씩 복사하여 처리
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    static int update(Object cipher, ByteBuffer in, ByteBuffer out) {
+        byte[][] scratch = SCRATCH.get();
+        byte[] inBuf = scratch[0];
+        byte[] outBuf = scratch[1];
+
+        int written = 0;
+        while (in.hasRemaining()) {
+            int chunk = Math.min(CHUNK_SIZE, in.remaining());
+            in.get(inBuf, 0, chunk);
+            int tam = update(cipher, inBuf, 0, chunk, outBuf, 0);
+            out.put(outBuf, 0, tam);
+            written += tam;
+        }
+        return written;
+    }
+
+    /**
+     * <pre>
+     * CCM 암호화 - [암호문 + mac, mac] 반환
+     * </pre>
+     */
+    static List<byte[]> encryptCCM(CipherAlgorithm algorithm, byte[] key, byte[] iv, byte[] plainText, byte[] aad) {
+        byte[] outputData = process(algorithm, CipherMode.CCM, true, key, iv, aad, plainText);
+
+        List<byte[]> arr = new ArrayList<>();
+        arr.add(outputData);
+        arr.add(Arrays.copyOfRange(outputData, outputData.length - MAC_BYTES, outputData.length));
+        return arr;
+    }
+
+    /**
+     * <pre>
+     * CCM 복호화 - 암호문 끝의 mac 은 doFinal 에서 검증되며, 전달받은 mac 과도 비교
+     * </pre>
+     */
+    static byte[] decryptCCM(CipherAlgorithm algorithm, byte[] key, byte[] iv, byte[] cipherText, byte[] aad, byte[] mac) {
+        byte[] result = process(algorithm, CipherMode.CCM, false, key, iv, aad, cipherText);
+
+        // encrypt의 mac 값과 decrypt의 mac 값이 다르면 암호화 된 데이터가 위조 혹은 변조된 것이다
+        if (mac == null || !org.bouncycastle.util.Arrays.constantTimeAreEqual(
+            MAC_BYTES, mac, 0, cipherText, cipherText.length - MAC_BYTES)) {
+            throw BizRuntimeException.create("데이터가 위변조되었습니다.");
+        }
+        return result;
+    }
+
+    /**
+     * <pre>
+     * 결과를 담는데 필요한 최대 길이
+     * - ECB, CBC 복호화는 패딩 제거 전 길이
+     * @param mode 운용 모드
+     * @param forEncryption 암호화 여부
+     * @param len 입력 길이
+     * @return 출력 길이
+     * </pre>
+     */
+    static int outputSize(CipherMode mode, boolean forEncryption, int len) {
+        switch (mode) {
+            case ECB:
+            case CBC:
+                return forEncryption ? len - len % BLOCK_SIZE + BLOCK_SIZE : len;
+            case CCM:
+            case GCM:
+            case SIV:
+                return forEncryption ? len + MAC_BYTES : Math.max(len - MAC_BYTES, 0);
+            default:
+                return len;
+        }
+    }
+
+    static Object init(ModeCipherPool.Lease<Object> lease, KeyMaterial keyMaterial, CipherMode mode, boolean forEncryption,
+        byte[] iv, byte[] aad) {
+        Object cipher = lease.cipher();
+        KeyParameter keyParameter = keyMaterial.getKeyParameter();
+
+        switch (mode) {
+            case ECB:
+            case CTS:
+                ((BufferedBlockCipher)cipher).init(forEncryption, keyParameter);
+                break;
+            case CBC:
+                ((BufferedBlockCipher)cipher).init(forEncryption, new ParametersWithIV(keyParameter, iv));
+                break;
+            case CFB:
+            case OFB:
+            case CTR:
+                ((StreamCipher)cipher).init(forEncryption, new ParametersWithIV(keyParameter, iv));
+                break;
+            case CCM:
+                ((AEADCipher)cipher).init(forEncryption, new AEADParameters(keyParameter, MAC_SIZE, iv, aad));
+                break;
+            case GCM:
+                ((AEADCipher)cipher).init(forEncryption, new AEADParameters(lease.keyParameter(), MAC_SIZE, iv, aad));
+                lease.initialised();
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 mode 입니다 - " + mode);
+        }
+        return cipher;
+    }
+
+    private static int update(Object cipher, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        if (cipher instanceof BufferedBlockCipher) {
+            return ((BufferedBlockCipher)cipher).processBytes(in, inOff, len, out, outOff);
+        }
+        if (cipher instanceof AEADCipher) {
+            return ((AEADCipher)cipher).processBytes(in, inOff, len, out, outOff);
+        }
+        return ((StreamCipher)cipher).processBytes(in, inOff, len, out, outOff);
+    }
+
+    static int doFinal(Object cipher, byte[] out, int outOff) {
+        try {
+            if (cipher instanceof BufferedBlockCipher) {
+                return ((BufferedBlockCipher)cipher).doFinal(out, outOff);
+            }
+            if (cipher instanceof AEADCipher) {
+                return ((AEADCipher)cipher).doFinal(out, outOff);
+            }
+            // stream 방식(CFB, OFB, CTR)은 processBytes 에서 모두 처리
+            return 0;
+        } catch (InvalidCipherTextException e) {
+            throw BizRuntimeException.create(e);
+        }
+    }
+}
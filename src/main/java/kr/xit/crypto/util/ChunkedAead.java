@@ -0,0 +1,145 @@
+package kr.xit.crypto.util;
+
+import java.io.*;
+import java.security.*;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.digests.*;
+import org.bouncycastle.crypto.generators.*;
+import org.bouncycastle.crypto.modes.*;
+import org.bouncycastle.crypto.params.*;
+import org.bouncycastle.util.*;
+
+/**
+ * <pre>
+ * chunk 단위 GCM 스트림 형식(ChunkedAeadOutputStream, ChunkedAeadInputStream 공통)
+ * - 전체 데이터를 메모리에 올리지 않고 chunk 크기 만큼의 버퍼로 암복호화
+ * - 각 chunk는 독립적으로 인증(태그 16bytes)되므로 복호화시 검증된 chunk만 반환
+ *
+ * 형식
+ *   header : version(1) | chunk 크기(4, big-endian) | salt(24, random) | nonce prefix(7, random)
+ *   key    : HKDF-SHA256(key, salt, version | chunk 크기) -> 스트림마다 다른 key 로 암호화
+ *   chunk  : 암호문(chunk 크기, 마지막 chunk는 0 ~ chunk 크기) | 태그(16)
+ *   nonce  : nonce prefix(7) | chunk 순번(4, big-endian) | 마지막 chunk 여부(1)
+ *   aad    : header | 사용자 aad
+ *   -> chunk 순서 변경, 삭제, 마지막 chunk 이후 절단(truncation)은 인증 실패로 검출
+ *   -> 같은 key 로 암호화하는 스트림 수에 random nonce(56bit) 충돌 한도가 적용되지 않음 (salt 192bit)
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : ChunkedAead
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 17   limju       스트림별 HKDF 파생 key 적용 (version 2)
+ *
+ * </pre>
+ */
+final class ChunkedAead {
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+    static final int HEADER_SIZE = 36;
+    static final int TAG_SIZE = BlockCipherModes.MAC_BYTES;
+
+    private static final byte VERSION = 2;
+    private static final int INFO_SIZE = 5;
+    private static final int SALT_SIZE = 24;
+    private static final int PREFIX_SIZE = 7;
+    private static final int NONCE_SIZE = 12;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final GCMModeCipher cipher;
+    private final KeyParameter keyParameter;
+    private final byte[] header;
+    private final byte[] aad;
+    private final byte[] nonce = new byte[NONCE_SIZE];
+    private final int chunkSize;
+    private long sequence;
+    private boolean keyInitialised;
+
+    private ChunkedAead(CipherAlgorithm algorithm, byte[] key, byte[] header, byte[] aad) {
+        this.keyParameter = deriveKey(key, header);
+        this.cipher = ModeCipherPool.newInstance(keyParameter, algorithm, CipherMode.GCM);
+        this.header = header;
+        this.aad = aad == null ? header : Arrays.concatenate(header, aad);
+        this.chunkSize = Pack.bigEndianToInt(header, 1);
+        System.arraycopy(header, INFO_SIZE + SALT_SIZE, nonce, 0, PREFIX_SIZE);
+    }
+
+    /**
+     * 스트림 key 파생 - HKDF-SHA256(key, salt, version | chunk 크기), key 와 같은 길이
+     */
+    private static KeyParameter deriveKey(byte[] key, byte[] header) {
+        HKDFBytesGenerator hkdf = new HKDFBytesGenerator(new SHA256Digest());
+        hkdf.init(new HKDFParameters(key, Arrays.copyOfRange(header, INFO_SIZE, INFO_SIZE + SALT_SIZE),
+            Arrays.copyOf(header, INFO_SIZE)));
+        byte[] derived = new byte[key.length];
+        hkdf.generateBytes(derived, 0, derived.length);
+        return new KeyParameter(derived);
+    }
+
+    /**
+     * 암호화 - 새 salt, nonce prefix로 header 생성
+     */
+    static ChunkedAead forEncryption(CipherAlgorithm algorithm, byte[] key, byte[] aad, int chunkSize) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunk 크기는 1 ~ " + MAX_CHUNK_SIZE + " bytes 입니다 - " + chunkSize);
+        }
+        byte[] header = new byte[HEADER_SIZE];
+        header[0] = VERSION;
+        Pack.intToBigEndian(chunkSize, header, 1);
+        byte[] random = new byte[SALT_SIZE + PREFIX_SIZE];
+        RANDOM.nextBytes(random);
+        System.arraycopy(random, 0, header, INFO_SIZE, random.length);
+        return new ChunkedAead(algorithm, key, header, aad);
+    }
+
+    /**
+     * 복호화 - 스트림 앞의 header 검증
+     */
+    static ChunkedAead forDecryption(CipherAlgorithm algorithm, byte[] key, byte[] aad, byte[] header) throws IOException {
+        if (header[0] != VERSION) {
+            throw new IOException("지원하지 않는 스트림 형식 입니다 - version " + header[0]);
+        }
+        int chunkSize = Pack.bigEndianToInt(header, 1);
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IOException("잘못된 chunk 크기 입니다 - " + chunkSize);
+        }
+        return new ChunkedAead(algorithm, key, header.clone(), aad);
+    }
+
+    byte[] header() {
+        return header.clone();
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * <pre>
+     * 다음 순번의 chunk 암복호화
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    int process(boolean forEncryption, boolean last, byte[] in, int len, byte[] out) throws IOException {
+        if (sequence > 0xffffffffL) {
+            throw new IOException("chunk 개수가 최대값(2^32)을 초과 하였습니다");
+        }
+        Pack.intToBigEndian((int)sequence++, nonce, PREFIX_SIZE);
+        nonce[NONCE_SIZE - 1] = (byte)(last ? 1 : 0);
+
+        // 최초 chunk 만 key로 init -> 이후 chunk는 GHASH table 재사용
+        cipher.init(forEncryption, new AEADParameters(keyInitialised ? null : keyParameter, BlockCipherModes.MAC_SIZE, nonce, aad));
+        keyInitialised = true;
+        try {
+            int tam = cipher.processBytes(in, 0, len, out, 0);
+            return tam + cipher.doFinal(out, tam);
+        } catch (InvalidCipherTextException e) {
+            throw new IOException("데이터가 위변조되었습니다.", e);
+        }
+    }
+}
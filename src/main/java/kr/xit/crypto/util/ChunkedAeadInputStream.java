@@ -0,0 +1,154 @@
+package kr.xit.crypto.util;
+
+import java.io.*;
+
+/**
+ * <pre>
+ * chunk 단위 GCM 복호화 InputStream (형식은 ChunkedAead 참조)
+ * - chunk 단위로 읽어 인증(태그 검증)이 끝난 평문만 반환
+ * - 위변조, 순서 변경, 절단(truncation)된 경우 해당 chunk를 읽을 때 IOException
+ *   -> 이미 반환된 이전 chunk 들은 검증된 데이터이나, 전체 데이터는 EOF(-1)까지 읽어야 검증 완료
+ * - thread safe 하지 않음
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : ChunkedAeadInputStream
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+public class ChunkedAeadInputStream extends FilterInputStream {
+    private final CipherAlgorithm algorithm;
+    private final byte[] key;
+    private final byte[] aad;
+
+    private ChunkedAead aead;
+    private byte[] cipherBuf;
+    private byte[] plainBuf;
+    private int plainOff;
+    private int plainLen;
+    // 다음 chunk의 첫 byte(마지막 chunk 여부 확인을 위해 미리 읽은 값), 없으면 -1
+    private int lookahead = -1;
+    private boolean finished;
+
+    /**
+     * <pre>
+     * @param algorithm ARIA, LEA
+     * @param key 16, 24, 32bytes 길이의 key
+     * @param in ChunkedAeadOutputStream 으로 암호화된 스트림
+     * @param aad 암호화시 사용한 aad
+     * </pre>
+     */
+    public ChunkedAeadInputStream(CipherAlgorithm algorithm, byte[] key, InputStream in, byte[] aad) {
+        super(in);
+        this.algorithm = algorithm;
+        this.key = key;
+        this.aad = aad;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int n = read(b, 0, 1);
+        return n < 0 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        while (plainOff == plainLen) {
+            if (finished) {
+                return -1;
+            }
+            readChunk();
+        }
+        int n = Math.min(len, plainLen - plainOff);
+        System.arraycopy(plainBuf, plainOff, b, off, n);
+        plainOff += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        byte[] buf = new byte[(int)Math.min(n, 8192)];
+        while (skipped < n) {
+            int r = read(buf, 0, (int)Math.min(n - skipped, buf.length));
+            if (r < 0) {
+                break;
+            }
+            skipped += r;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return plainLen - plainOff;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // 지원하지 않음
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    private void readChunk() throws IOException {
+        if (aead == null) {
+            byte[] header = new byte[ChunkedAead.HEADER_SIZE];
+            if (readFully(header, 0, header.length) != header.length) {
+                throw new IOException("암호화 스트림 header가 없습니다");
+            }
+            aead = ChunkedAead.forDecryption(algorithm, key, aad, header);
+            cipherBuf = new byte[aead.chunkSize() + ChunkedAead.TAG_SIZE];
+            plainBuf = new byte[aead.chunkSize()];
+        }
+
+        int len = 0;
+        if (lookahead >= 0) {
+            cipherBuf[len++] = (byte)lookahead;
+            lookahead = -1;
+        }
+        len += readFully(cipherBuf, len, cipherBuf.length - len);
+
+        // chunk 크기 만큼 읽은 경우 다음 byte가 없어야 마지막 chunk
+        boolean last = len < cipherBuf.length || (lookahead = in.read()) < 0;
+        if (len < ChunkedAead.TAG_SIZE) {
+            throw new IOException("데이터가 위변조되었습니다.");
+        }
+        plainLen = aead.process(false, last, cipherBuf, len, plainBuf);
+        plainOff = 0;
+        finished = last;
+    }
+
+    private int readFully(byte[] b, int off, int len) throws IOException {
+        int total = 0;
+        while (total < len) {
+            int n = in.read(b, off + total, len - total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,112 @@
+package kr.xit.crypto.util;
+
+import java.io.*;
+
+/**
+ * <pre>
+ * chunk 단위 GCM 암호화 OutputStream (형식은 ChunkedAead 참조)
+ * - chunk 크기 만큼 평문을 모아 암호화하여 하위 스트림에 기록 -> 메모리 사용량은 데이터 크기와 무관
+ * - 마지막 chunk는 close() 에서 기록되므로 반드시 close 하여야 한다(하위 스트림도 close)
+ * - flush() 는 완성되지 않은 chunk를 기록하지 않고 하위 스트림만 flush
+ * - thread safe 하지 않음
+ *
+ * 사용법
+ *   try (OutputStream out = AriaCryptoCipher.encryptGCMStream(key, Files.newOutputStream(path), aad)) {
+ *       out.write(...);
+ *   }
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : ChunkedAeadOutputStream
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+public class ChunkedAeadOutputStream extends FilterOutputStream {
+    private final ChunkedAead aead;
+    private final byte[] plainBuf;
+    private final byte[] cipherBuf;
+    private int bufOff;
+    private boolean headerWritten;
+    private boolean closed;
+
+    /**
+     * <pre>
+     * @param algorithm ARIA, LEA
+     * @param key 16, 24, 32bytes 길이의 key
+     * @param out 암호문을 기록할 스트림
+     * @param aad aad 값은 필수는 아니며, 모든 chunk 인증에 사용
+     * @param chunkSize chunk 크기(기본 64KB)
+     * </pre>
+     */
+    public ChunkedAeadOutputStream(CipherAlgorithm algorithm, byte[] key, OutputStream out, byte[] aad, int chunkSize) {
+        super(out);
+        this.aead = ChunkedAead.forEncryption(algorithm, key, aad, chunkSize);
+        this.plainBuf = new byte[chunkSize];
+        this.cipherBuf = new byte[chunkSize + ChunkedAead.TAG_SIZE];
+    }
+
+    public ChunkedAeadOutputStream(CipherAlgorithm algorithm, byte[] key, OutputStream out, byte[] aad) {
+        this(algorithm, key, out, aad, ChunkedAead.DEFAULT_CHUNK_SIZE);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte)b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("stream closed");
+        }
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            // 버퍼가 가득 찬 상태에서 데이터가 더 있는 경우에만 마지막이 아닌 chunk로 암호화
+            if (bufOff == plainBuf.length) {
+                writeChunk(false);
+            }
+            int n = Math.min(len, plainBuf.length - bufOff);
+            System.arraycopy(b, off, plainBuf, bufOff, n);
+            bufOff += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writeChunk(true);
+            out.flush();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void writeChunk(boolean last) throws IOException {
+        if (!headerWritten) {
+            out.write(aead.header());
+            headerWritten = true;
+        }
+        int len = aead.process(true, last, plainBuf, bufOff, cipherBuf);
+        out.write(cipherBuf, 0, len);
+        bufOff = 0;
+    }
+}
@@ -0,0 +1,57 @@
+package kr.xit.crypto.util;
+
+import java.util.function.*;
+
+import org.bouncycastle.crypto.*;
+
+/**
+ * <pre>
+ * description : 블록 암호 알고리즘 구분 및 엔진 생성
+ *               ARIA 기본 엔진은 table 기반 AriaTableEngine (app.crypto.aria-engine 으로 선택)
+ *               LEA 기본 엔진은 여러 블록 교차 처리 LeaMultiBlockEngine (app.crypto.lea-engine 으로 선택)
+ * packageName : kr.xit.crypto.util
+ * fileName    : CipherAlgorithm
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 16   limju       엔진 생성 방식 변경 기능 추가
+ *
+ * </pre>
+ */
+public enum CipherAlgorithm {
+    ARIA(AriaTableEngine::new),
+    LEA(LeaMultiBlockEngine::new);
+
+    private volatile Supplier<BlockCipher> engineFactory;
+
+    CipherAlgorithm(Supplier<BlockCipher> engineFactory) {
+        this.engineFactory = engineFactory;
+    }
+
+    /**
+     * <pre>
+     * key schedule이 적용되지 않은 새 엔진 생성
+     * @return BlockCipher
+     * </pre>
+     */
+    public BlockCipher newEngine() {
+        return engineFactory.get();
+    }
+
+    /**
+     * <pre>
+     * 엔진 생성 방식 변경
+     * - 이미 key schedule이 적용된 엔진(KeyMaterial)에는 영향을 주지 않으므로 기동시 설정
+     * @param engineFactory 엔진 생성
+     * </pre>
+     */
+    public void setEngineFactory(Supplier<BlockCipher> engineFactory) {
+        if (engineFactory == null) {
+            throw new IllegalArgumentException("engineFactory is null");
+        }
+        this.engineFactory = engineFactory;
+    }
+}
@@ -0,0 +1,308 @@
+package kr.xit.crypto.util;
+
+import java.nio.charset.*;
+import java.util.*;
+import java.util.function.*;
+
+import kr.xit.crypto.config.*;
+
+/**
+ * <pre>
+ * 암호문 envelope - 복호화에 필요한 정보를 header 에 포함한 CipherSuite
+ *
+ * header (byte)
+ * - version(1) | algorithm(1) | mode(1) | tag 길이(1) | key ID 길이(1) | key ID(UTF-8) | nonce 길이(1) | nonce
+ * - 이후 암호문 (CCM, GCM 은 끝에, SIV 는 앞에 tag(synthetic iv) 포함)
+ * - algorithm, mode 는 enum 순서와 무관한 고정 code 사용
+ * - CTR nonce 가 16 byte 미만이면 나머지는 블록 counter(0부터)
+ * - CCM, GCM, SIV 는 header 전체(nonce 포함)를 aad 로 인증 - header 변경은 tag 검증 실패
+ *
+ * 암호화 : 생성시 지정한 알고리즘, 모드, key 사용 (nonce 는 CounterNonceGenerator 발급 또는 고정 iv)
+ * 복호화 : header 의 알고리즘, 모드, key ID(KeyMaterialCache 또는 KeyRing 등록 key)로 바로 처리
+ *   -> 알고리즘, 모드, key 가 다른 암호문이 섞여 있어도 시도(trial) 없이 복호화 (key 교체, 모드 전환 기간)
+ *   -> 허용 모드 : 생성시 지정한 알고리즘, 모드 또는 인증 모드(CCM, GCM, SIV)
+ *      (header 로 ECB, CTR 등 비인증 모드를 지정하면 block cipher 를 그대로 노출하므로 거부 - GCM 의 hash key 유출 등)
+ *   -> key ID 는 key 조회 방식(KeyMaterialCache, KeyRing)에 등록된 key 만 허용
+ *   -> header 가 없는 이전 형식은 지원하지 않음 - CipherSuites.withLegacy 로 이전 형식 처리기와 함께 사용
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : CipherEnvelope
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       key 조회 방식 지정(KeyRing) 추가
+ * 2026 10월 17   limju       SIV 추가
+ * 2026 10월 17   limju       이전 형식 호환(CipherSuites.withLegacy) 설명 추가
+ * 2026 10월 17   limju       복호화 허용 모드 제한, header aad 인증, nonce 길이 검증 (version 2)
+ *
+ * </pre>
+ */
+public final class CipherEnvelope implements CipherSuite {
+    public static final int VERSION = 2;
+
+    private static final int MAX_ID_LENGTH = 255;
+    // version, algorithm, mode, tag 길이, key ID 길이, nonce 길이
+    private static final int FIXED_HEADER_SIZE = 6;
+
+    private final CipherAlgorithm algorithm;
+    private final CipherMode mode;
+    private final KeyMaterial keyMaterial;
+    private final CounterNonceGenerator nonceGenerator;
+    private final byte[] fixedIv;
+    private final Function<String, KeyMaterial> keyResolver;
+    private final int ivSize;
+    private final int nonceSize;
+    // nonce 앞 까지의 header - 암호화 마다 복사
+    private final byte[] header;
+
+    CipherEnvelope(CipherAlgorithm algorithm, CipherMode mode, KeyMaterial keyMaterial, CounterNonceGenerator nonceGenerator,
+        byte[] fixedIv, Function<String, KeyMaterial> keyResolver) {
+        if (keyMaterial.getKeyId() == null) {
+            throw BizRuntimeException.create("envelope 암호화는 key ID로 등록된 key만 사용할 수 있습니다");
+        }
+        byte[] keyId = keyMaterial.getKeyId().getBytes(StandardCharsets.UTF_8);
+        if (keyId.length > MAX_ID_LENGTH) {
+            throw BizRuntimeException.create("key ID 길이가 255 byte를 초과합니다 - " + keyMaterial.getKeyId());
+        }
+        this.algorithm = algorithm;
+        this.mode = mode;
+        this.keyMaterial = keyMaterial;
+        this.nonceGenerator = nonceGenerator;
+        this.fixedIv = fixedIv;
+        this.keyResolver = keyResolver;
+        if (nonceGenerator != null) {
+            this.nonceSize = CounterNonceGenerator.NONCE_SIZE;
+            this.ivSize = mode == CipherMode.CTR ? BlockCipherModes.BLOCK_SIZE : nonceSize;
+        } else {
+            this.nonceSize = fixedIv == null ? 0 : fixedIv.length;
+            this.ivSize = nonceSize;
+        }
+
+        header = new byte[FIXED_HEADER_SIZE - 1 + keyId.length];
+        header[0] = VERSION;
+        header[1] = algorithmCode(algorithm);
+        header[2] = modeCode(mode);
+        header[3] = (byte)tagSize(mode);
+        header[4] = (byte)keyId.length;
+        System.arraycopy(keyId, 0, header, 5, keyId.length);
+    }
+
+    @Override
+    public CipherAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public CipherMode getMode() {
+        return mode;
+    }
+
+    @Override
+    public byte[] encrypt(byte[] plainText) {
+        byte[] iv = fixedIv;
+        if (nonceGenerator != null) {
+            iv = new byte[ivSize];
+            nonceGenerator.next(iv, 0);
+        }
+
+        int off = header.length + 1 + nonceSize;
+        byte[] out = new byte[off + BlockCipherModes.outputSize(mode, true, plainText.length)];
+        System.arraycopy(header, 0, out, 0, header.length);
+        out[header.length] = (byte)nonceSize;
+        if (nonceSize > 0) {
+            System.arraycopy(iv, 0, out, header.length + 1, nonceSize);
+        }
+        byte[] aad = tagSize(mode) > 0 ? Arrays.copyOf(out, off) : null;
+        int len = BlockCipherModes.process(algorithm, mode, true, keyMaterial, iv, aad, plainText, 0, plainText.length, out, off);
+        return off + len == out.length ? out : Arrays.copyOf(out, off + len);
+    }
+
+    /**
+     * <pre>
+     * header 의 알고리즘, 모드, key ID로 복호화
+     * - 생성시 지정한 알고리즘, 모드 또는 인증 모드(CCM, GCM, SIV)만 허용
+     * (key ID는 생성시 지정한 key 조회 방식 사용)
+     * @param cipherText envelope 암호문
+     * @return 평문
+     * </pre>
+     */
+    @Override
+    public byte[] decrypt(byte[] cipherText) {
+        return open(cipherText, keyResolver, algorithm, mode);
+    }
+
+    /**
+     * <pre>
+     * envelope 암호문 복호화 - header 의 알고리즘, 모드, key ID(KeyMaterialCache) 사용
+     * - 인증 모드(CCM, GCM, SIV)만 허용 - 그 외 모드는 해당 모드로 생성한 CipherSuite 의 decrypt 사용
+     * @param envelope envelope 암호문
+     * @return 평문
+     * </pre>
+     */
+    public static byte[] open(byte[] envelope) {
+        return open(envelope, KeyMaterialCache::get);
+    }
+
+    /**
+     * <pre>
+     * envelope 암호문 복호화 - header 의 알고리즘, 모드, key ID 사용
+     * - 인증 모드(CCM, GCM, SIV)만 허용 - 그 외 모드는 해당 모드로 생성한 CipherSuite 의 decrypt 사용
+     * @param envelope envelope 암호문
+     * @param keyResolver key ID로 key 조회 (KeyMaterialCache::get, KeyRing::get 등)
+     * @return 평문
+     * </pre>
+     */
+    public static byte[] open(byte[] envelope, Function<String, KeyMaterial> keyResolver) {
+        return open(envelope, keyResolver, null, null);
+    }
+
+    /**
+     * allowedAlgorithm, allowedMode 가 null 이면 인증 모드만 허용
+     */
+    private static byte[] open(byte[] envelope, Function<String, KeyMaterial> keyResolver, CipherAlgorithm allowedAlgorithm,
+        CipherMode allowedMode) {
+        if (envelope == null || envelope.length < FIXED_HEADER_SIZE || envelope[0] != VERSION) {
+            throw BizRuntimeException.create("지원하지 않는 암호문 형식 입니다");
+        }
+        CipherAlgorithm algorithm = algorithmOf(envelope[1]);
+        CipherMode mode = modeOf(envelope[2]);
+        if (!CipherSuites.isAuthenticated(mode) && (algorithm != allowedAlgorithm || mode != allowedMode)) {
+            throw BizRuntimeException.create(String.format("허용되지 않은 암호문 algorithm, mode 입니다 - %s/%s", algorithm, mode));
+        }
+        if ((envelope[3] & 0xff) != tagSize(mode)) {
+            throw BizRuntimeException.create("암호문 tag 길이가 올바르지 않습니다");
+        }
+
+        int idLength = envelope[4] & 0xff;
+        int pos = 5 + idLength;
+        if (envelope.length < pos + 1) {
+            throw BizRuntimeException.create("암호문 header 길이가 올바르지 않습니다");
+        }
+        String keyId = new String(envelope, 5, idLength, StandardCharsets.UTF_8);
+        int nonceLength = envelope[pos++] & 0xff;
+        if (envelope.length < pos + nonceLength + tagSize(mode)) {
+            throw BizRuntimeException.create("암호문 길이가 올바르지 않습니다");
+        }
+        if (nonceLength > ivLength(mode, nonceLength) || !CipherSuites.isValidIv(mode, ivLength(mode, nonceLength))) {
+            throw BizRuntimeException.create(String.format("%s 모드의 nonce 길이가 올바르지 않습니다(%d)", mode, nonceLength));
+        }
+
+        byte[] iv = null;
+        if (nonceLength > 0) {
+            iv = new byte[ivLength(mode, nonceLength)];
+            System.arraycopy(envelope, pos, iv, 0, nonceLength);
+            pos += nonceLength;
+        }
+
+        KeyMaterial keyMaterial = keyResolver.apply(keyId);
+        byte[] aad = tagSize(mode) > 0 ? Arrays.copyOf(envelope, pos) : null;
+        int len = envelope.length - pos;
+        byte[] out = new byte[BlockCipherModes.outputSize(mode, false, len)];
+        int written = BlockCipherModes.process(algorithm, mode, false, keyMaterial, iv, aad, envelope, pos, len, out, 0);
+        return written == out.length ? out : Arrays.copyOf(out, written);
+    }
+
+    /**
+     * <pre>
+     * envelope header 의 key ID - 복호화 없이 key 사용 현황 확인 등에 사용
+     * @param envelope envelope 암호문
+     * @return key ID
+     * </pre>
+     */
+    public static String keyIdOf(byte[] envelope) {
+        if (envelope == null || envelope.length < FIXED_HEADER_SIZE || envelope[0] != VERSION
+            || envelope.length < 5 + (envelope[4] & 0xff)) {
+            throw BizRuntimeException.create("지원하지 않는 암호문 형식 입니다");
+        }
+        return new String(envelope, 5, envelope[4] & 0xff, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "envelope v" + VERSION + " " + algorithm + "/" + mode + "(" + keyMaterial.getKeyId() + ")";
+    }
+
+    private static int ivLength(CipherMode mode, int nonceLength) {
+        return mode == CipherMode.CTR && nonceLength > 0 ? BlockCipherModes.BLOCK_SIZE : nonceLength;
+    }
+
+    private static int tagSize(CipherMode mode) {
+        return mode == CipherMode.CCM || mode == CipherMode.GCM || mode == CipherMode.SIV ? BlockCipherModes.MAC_BYTES : 0;
+    }
+
+    private static byte algorithmCode(CipherAlgorithm algorithm) {
+        switch (algorithm) {
+            case ARIA:
+                return 1;
+            case LEA:
+                return 2;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 algorithm 입니다 - " + algorithm);
+        }
+    }
+
+    private static CipherAlgorithm algorithmOf(byte code) {
+        switch (code) {
+            case 1:
+                return CipherAlgorithm.ARIA;
+            case 2:
+                return CipherAlgorithm.LEA;
+            default:
+                throw BizRuntimeException.create("지원하지 않는 암호문 algorithm 입니다 - " + code);
+        }
+    }
+
+    private static byte modeCode(CipherMode mode) {
+        switch (mode) {
+            case ECB:
+                return 1;
+            case CBC:
+                return 2;
+            case CFB:
+                return 3;
+            case OFB:
+                return 4;
+            case CTS:
+                return 5;
+            case CTR:
+                return 6;
+            case CCM:
+                return 7;
+            case GCM:
+                return 8;
+            case SIV:
+                return 9;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 mode 입니다 - " + mode);
+        }
+    }
+
+    private static CipherMode modeOf(byte code) {
+        switch (code) {
+            case 1:
+                return CipherMode.ECB;
+            case 2:
+                return CipherMode.CBC;
+            case 3:
+                return CipherMode.CFB;
+            case 4:
+                return CipherMode.OFB;
+            case 5:
+                return CipherMode.CTS;
+            case 6:
+                return CipherMode.CTR;
+            case 7:
+                return CipherMode.CCM;
+            case 8:
+                return CipherMode.GCM;
+            case 9:
+                return CipherMode.SIV;
+            default:
+                throw BizRuntimeException.create("지원하지 않는 암호문 mode 입니다 - " + code);
+        }
+    }
+}
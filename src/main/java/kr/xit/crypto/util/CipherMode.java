@@ -0,0 +1,28 @@
+package kr.xit.crypto.util;
+
+/**
+ * <pre>
+ * description : 블록 암호 운용 모드 구분
+ * packageName : kr.xit.crypto.util
+ * fileName    : CipherMode
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 17   limju       SIV 추가
+ *
+ * </pre>
+ */
+public enum CipherMode {
+    ECB,
+    CBC,
+    CFB,
+    OFB,
+    CTS,
+    CTR,
+    CCM,
+    GCM,
+    SIV
+}
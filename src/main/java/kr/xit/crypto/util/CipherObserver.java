@@ -0,0 +1,47 @@
+package kr.xit.crypto.util;
+
+/**
+ * <pre>
+ * 암복호화 처리 결과 통지 - CipherObservers 에 등록 (metrics 등)
+ * - 암복호화 thread 에서 호출되므로 blocking, 할당이 없어야 한다
+ * - 통지 단위는 BlockCipherModes 처리 1회(CipherSuite, AriaCryptoCipher, LeaCryptoCipher 암복호화 1회)
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : CipherObserver
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public interface CipherObserver {
+
+    /**
+     * <pre>
+     * 처리 완료
+     * @param algorithm 알고리즘
+     * @param mode 운용 모드
+     * @param forEncryption 암호화 여부
+     * @param keyId key ID (KeyMaterialCache.of 로 등록된 key 는 null)
+     * @param length 입력 길이(bytes)
+     * @param nanos 처리 시간
+     * </pre>
+     */
+    void completed(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, String keyId, int length, long nanos);
+
+    /**
+     * <pre>
+     * 처리 실패 - 복호화 인증 실패(위변조), 패딩 오류 등
+     * @param algorithm 알고리즘
+     * @param mode 운용 모드
+     * @param forEncryption 암호화 여부
+     * @param keyId key ID
+     * @param e 예외
+     * </pre>
+     */
+    void failed(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, String keyId, RuntimeException e);
+}
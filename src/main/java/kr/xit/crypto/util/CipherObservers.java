@@ -0,0 +1,83 @@
+package kr.xit.crypto.util;
+
+import java.util.*;
+
+/**
+ * <pre>
+ * CipherObserver, CipherTracer 등록
+ * - 등록된 observer, tracer 가 없으면 BlockCipherModes 는 시간 측정 없이 처리(배열 길이 확인만)
+ * - 등록/해제는 기동, 종료시에만 발생하므로 copy-on-write 배열 사용 -> 통지시 lock, iterator 할당 없음
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : CipherObservers
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       CipherTracer(JFR) 추가
+ *
+ * </pre>
+ */
+public final class CipherObservers {
+    private static volatile CipherObserver[] observers = new CipherObserver[0];
+    private static volatile CipherTracer tracer;
+
+    private CipherObservers() {
+    }
+
+    public static synchronized void register(CipherObserver observer) {
+        CipherObserver[] current = observers;
+        CipherObserver[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = observer;
+        observers = next;
+    }
+
+    public static synchronized void unregister(CipherObserver observer) {
+        List<CipherObserver> next = new ArrayList<>(Arrays.asList(observers));
+        next.remove(observer);
+        observers = next.toArray(new CipherObserver[0]);
+    }
+
+    /**
+     * tracer 등록 - null 이면 해제
+     */
+    public static void trace(CipherTracer cipherTracer) {
+        tracer = cipherTracer;
+    }
+
+    static boolean isEnabled() {
+        return observers.length != 0 || tracer != null;
+    }
+
+    static Object begin() {
+        CipherTracer current = tracer;
+        return current != null ? current.begin() : null;
+    }
+
+    static void completed(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, KeyMaterial keyMaterial, int length,
+        long nanos, Object span) {
+        for (CipherObserver observer : observers) {
+            observer.completed(algorithm, mode, forEncryption, keyMaterial.getKeyId(), length, nanos);
+        }
+        end(span, algorithm, mode, forEncryption, keyMaterial, length, true);
+    }
+
+    static void failed(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, KeyMaterial keyMaterial, int length,
+        RuntimeException e, Object span) {
+        for (CipherObserver observer : observers) {
+            observer.failed(algorithm, mode, forEncryption, keyMaterial.getKeyId(), e);
+        }
+        end(span, algorithm, mode, forEncryption, keyMaterial, length, false);
+    }
+
+    private static void end(Object span, CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, KeyMaterial keyMaterial,
+        int length, boolean success) {
+        CipherTracer current = tracer;
+        if (span != null && current != null) {
+            current.end(span, algorithm, mode, forEncryption, keyMaterial.getKeyId(), length, success);
+        }
+    }
+}
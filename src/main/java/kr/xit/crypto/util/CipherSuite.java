@@ -0,0 +1,41 @@
+package kr.xit.crypto.util;
+
+/**
+ * <pre>
+ * description : 알고리즘, 운용 모드, key, iv가 결정된 암복호화 처리기
+ *               CipherSuites.resolve 로 기동시 한번 생성하여 사용
+ * packageName : kr.xit.crypto.util
+ * fileName    : CipherSuite
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public interface CipherSuite {
+
+    CipherAlgorithm getAlgorithm();
+
+    CipherMode getMode();
+
+    /**
+     * <pre>
+     * 암호화 - CCM, GCM은 결과 뒤에 MAC(16 byte) 포함
+     * @param plainText 평문
+     * @return 암호문
+     * </pre>
+     */
+    byte[] encrypt(byte[] plainText);
+
+    /**
+     * <pre>
+     * 복호화 - CCM, GCM은 MAC 검증 실패시 BizRuntimeException
+     * @param cipherText 암호문
+     * @return 평문
+     * </pre>
+     */
+    byte[] decrypt(byte[] cipherText);
+}
@@ -0,0 +1,424 @@
+package kr.xit.crypto.util;
+
+import java.util.*;
+
+import kr.xit.crypto.config.*;
+
+/**
+ * <pre>
+ * 설정(app.crypto.alg, app.crypto.mode)에 따른 CipherSuite 생성
+ * - 운용 모드별 iv 규칙을 등록해 두고 기동시 한번 검증하여 알고리즘, 모드, KeyMaterial, iv가 고정된 처리기 생성
+ *   -> 호출시 알고리즘/모드 문자열 해석, KeyMaterialCache 조회가 없고
+ *      처리기 구현은 하나(final class)이므로 호출 위치는 항상 동일 구현으로 inline 가능
+ * - 고정 iv 처리기는 같은 평문에 같은 암호문이 생성됨(기존 동작 유지)
+ * - nonce 처리기(CTR, CCM, GCM)는 암호화 마다 CounterNonceGenerator 에서 nonce를 발급하여 암호문 앞에 포함
+ *   -> nonce(12 byte) + 암호문 (CTR iv는 nonce + 블록 counter(4 byte, 0부터))
+ * - SIV는 iv 없이 결정적 암호화 - 같은 평문은 같은 암호문(동등 검색용 column)
+ * - 이전 형식 호환 처리기(withLegacy)는 현재 형식 복호화 실패시 이전 형식(고정 iv 등)으로 복호화
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : CipherSuites
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ * 2026 10월 17   limju       nonce 포함 처리기 추가
+ * 2026 10월 17   limju       envelope(CipherEnvelope) 처리기 추가
+ * 2026 10월 17   limju       KeyRing envelope 처리기 추가
+ * 2026 10월 17   limju       SIV 추가
+ * 2026 10월 17   limju       이전 형식 호환 처리기(withLegacy) 추가
+ *
+ * </pre>
+ */
+public final class CipherSuites {
+    private static final int NO_IV = 0;
+
+    // 운용 모드별 iv 길이 범위 {min, max} - NO_IV 이면 iv 미사용
+    private static final Map<CipherMode, int[]> IV_LENGTHS = new EnumMap<>(CipherMode.class);
+
+    static {
+        IV_LENGTHS.put(CipherMode.ECB, new int[]{NO_IV, NO_IV});
+        IV_LENGTHS.put(CipherMode.CTS, new int[]{NO_IV, NO_IV});
+        IV_LENGTHS.put(CipherMode.SIV, new int[]{NO_IV, NO_IV});
+        IV_LENGTHS.put(CipherMode.CBC, new int[]{BlockCipherModes.BLOCK_SIZE, BlockCipherModes.BLOCK_SIZE});
+        IV_LENGTHS.put(CipherMode.CFB, new int[]{BlockCipherModes.BLOCK_SIZE, BlockCipherModes.BLOCK_SIZE});
+        IV_LENGTHS.put(CipherMode.OFB, new int[]{BlockCipherModes.BLOCK_SIZE, BlockCipherModes.BLOCK_SIZE});
+        IV_LENGTHS.put(CipherMode.CTR, new int[]{BlockCipherModes.BLOCK_SIZE, BlockCipherModes.BLOCK_SIZE});
+        IV_LENGTHS.put(CipherMode.CCM, new int[]{7, 13});
+        IV_LENGTHS.put(CipherMode.GCM, new int[]{1, Integer.MAX_VALUE});
+    }
+
+    private CipherSuites() {
+    }
+
+    /**
+     * <pre>
+     * 설정 문자열로 CipherSuite 생성
+     * @param algorithm ARIA | LEA (대소문자 무시)
+     * @param mode ECB | CBC | CFB | OFB | CTS | CTR | CCM | GCM | SIV (대소문자 무시)
+     * @param keyMaterial key
+     * @param iv iv(nonce) - ECB, CTS, SIV는 미사용
+     * @return CipherSuite
+     * </pre>
+     */
+    public static CipherSuite resolve(String algorithm, String mode, KeyMaterial keyMaterial, byte[] iv) {
+        return resolve(valueOf(CipherAlgorithm.class, algorithm), valueOf(CipherMode.class, mode), keyMaterial, iv);
+    }
+
+    /**
+     * <pre>
+     * CipherSuite 생성
+     * @param algorithm 알고리즘
+     * @param mode 운용 모드
+     * @param keyMaterial key
+     * @param iv iv(nonce) - ECB, CTS, SIV는 미사용
+     * @return CipherSuite
+     * </pre>
+     */
+    public static CipherSuite resolve(CipherAlgorithm algorithm, CipherMode mode, KeyMaterial keyMaterial, byte[] iv) {
+        if (keyMaterial == null) {
+            throw BizRuntimeException.create("key가 지정되지 않았습니다");
+        }
+        return new FixedCipherSuite(algorithm, mode, keyMaterial, checkIv(mode, iv));
+    }
+
+    /**
+     * <pre>
+     * 고정 iv를 사용하는 envelope(CipherEnvelope) CipherSuite 생성 - 암호문 header 에 iv 포함
+     * @param algorithm 알고리즘
+     * @param mode 운용 모드
+     * @param keyMaterial key ID로 등록된 key
+     * @param iv iv(nonce) - ECB, CTS, SIV는 미사용
+     * @return CipherSuite
+     * </pre>
+     */
+    public static CipherSuite envelope(CipherAlgorithm algorithm, CipherMode mode, KeyMaterial keyMaterial, byte[] iv) {
+        if (keyMaterial == null) {
+            throw BizRuntimeException.create("key가 지정되지 않았습니다");
+        }
+        return new CipherEnvelope(algorithm, mode, keyMaterial, null, checkIv(mode, iv), KeyMaterialCache::get);
+    }
+
+    /**
+     * <pre>
+     * 암호화 마다 nonce를 발급하는 envelope(CipherEnvelope) CipherSuite 생성 - 암호문 header 에 nonce 포함
+     * @param algorithm 알고리즘
+     * @param mode CTR | CCM | GCM
+     * @param keyMaterial key ID로 등록된 key
+     * @param nonceGenerator nonce 발급
+     * @return CipherSuite
+     * </pre>
+     */
+    public static CipherSuite envelope(CipherAlgorithm algorithm, CipherMode mode, KeyMaterial keyMaterial,
+        CounterNonceGenerator nonceGenerator) {
+        if (keyMaterial == null || nonceGenerator == null) {
+            throw BizRuntimeException.create("key 또는 nonce 생성기가 지정되지 않았습니다");
+        }
+        if (!isNonceMode(mode)) {
+            throw BizRuntimeException.create(String.format("%s 모드는 counter nonce를 지원하지 않습니다(CTR, CCM, GCM)", mode));
+        }
+        return new CipherEnvelope(algorithm, mode, keyMaterial, nonceGenerator, null, KeyMaterialCache::get);
+    }
+
+    /**
+     * <pre>
+     * KeyRing 기반 envelope CipherSuite 생성 - 고정 iv
+     * - 암호화는 생성 시점의 활성 key, 복호화는 KeyRing 에서 header 의 key ID 조회
+     *   -> 활성 key가 바뀌면(KeyRing listener) 다시 생성하여 교체
+     * @param algorithm 알고리즘
+     * @param mode 운용 모드
+     * @param keyRing keyring
+     * @param iv iv(nonce) - ECB, CTS, SIV는 미사용
+     * @return CipherSuite
+     * </pre>
+     */
+    public static CipherSuite envelope(CipherAlgorithm algorithm, CipherMode mode, KeyRing keyRing, byte[] iv) {
+        return new CipherEnvelope(algorithm, mode, keyRing.active(), null, checkIv(mode, iv), keyRing::get);
+    }
+
+    /**
+     * <pre>
+     * KeyRing 기반 envelope CipherSuite 생성 - 암호화 마다 nonce 발급
+     * - 암호화는 생성 시점의 활성 key, 복호화는 KeyRing 에서 header 의 key ID 조회
+     *   -> 활성 key가 바뀌면(KeyRing listener) 다시 생성하여 교체
+     * @param algorithm 알고리즘
+     * @param mode CTR | CCM | GCM
+     * @param keyRing keyring
+     * @param nonceGenerator nonce 발급
+     * @return CipherSuite
+     * </pre>
+     */
+    public static CipherSuite envelope(CipherAlgorithm algorithm, CipherMode mode, KeyRing keyRing,
+        CounterNonceGenerator nonceGenerator) {
+        if (nonceGenerator == null) {
+            throw BizRuntimeException.create("nonce 생성기가 지정되지 않았습니다");
+        }
+        if (!isNonceMode(mode)) {
+            throw BizRuntimeException.create(String.format("%s 모드는 counter nonce를 지원하지 않습니다(CTR, CCM, GCM)", mode));
+        }
+        return new CipherEnvelope(algorithm, mode, keyRing.active(), nonceGenerator, null, keyRing::get);
+    }
+
+    /**
+     * 운용 모드의 iv 길이 규칙 충족 여부 - ECB, CTS 는 0
+     */
+    static boolean isValidIv(CipherMode mode, int length) {
+        int[] ivLength = IV_LENGTHS.get(mode);
+        return length >= ivLength[0] && length <= ivLength[1];
+    }
+
+    private static byte[] checkIv(CipherMode mode, byte[] iv) {
+        if (IV_LENGTHS.get(mode)[0] == NO_IV) {
+            return null;
+        }
+        if (iv == null || !isValidIv(mode, iv.length)) {
+            throw BizRuntimeException.create(String.format("%s 모드의 iv 길이가 올바르지 않습니다(%d)", mode, iv == null ? 0 : iv.length));
+        }
+        return iv.clone();
+    }
+
+    /**
+     * <pre>
+     * 암호화 마다 nonce를 발급하여 암호문에 포함하는 CipherSuite 생성
+     * @param algorithm ARIA | LEA (대소문자 무시)
+     * @param mode CTR | CCM | GCM (대소문자 무시)
+     * @param keyMaterial key
+     * @param nonceGenerator nonce 발급
+     * @return CipherSuite
+     * </pre>
+     */
+    public static CipherSuite resolve(String algorithm, String mode, KeyMaterial keyMaterial, CounterNonceGenerator nonceGenerator) {
+        return resolve(valueOf(CipherAlgorithm.class, algorithm), valueOf(CipherMode.class, mode), keyMaterial, nonceGenerator);
+    }
+
+    /**
+     * <pre>
+     * 암호화 마다 nonce를 발급하여 암호문에 포함하는 CipherSuite 생성
+     * @param algorithm 알고리즘
+     * @param mode CTR | CCM | GCM
+     * @param keyMaterial key
+     * @param nonceGenerator nonce 발급
+     * @return CipherSuite
+     * </pre>
+     */
+    public static CipherSuite resolve(CipherAlgorithm algorithm, CipherMode mode, KeyMaterial keyMaterial,
+        CounterNonceGenerator nonceGenerator) {
+        if (keyMaterial == null || nonceGenerator == null) {
+            throw BizRuntimeException.create("key 또는 nonce 생성기가 지정되지 않았습니다");
+        }
+        if (!isNonceMode(mode)) {
+            throw BizRuntimeException.create(String.format("%s 모드는 counter nonce를 지원하지 않습니다(CTR, CCM, GCM)", mode));
+        }
+        return new NonceCipherSuite(algorithm, mode, keyMaterial, nonceGenerator);
+    }
+
+    /**
+     * <pre>
+     * 이전 형식 암호문 복호화를 지원하는 CipherSuite
+     * - 암호화는 current, 복호화는 current 로 시도하고 실패하면 legacy 로 복호화
+     * - 인증 모드(CCM, GCM, SIV)만 허용 - 형식이 다른 암호문은 tag 검증에서 실패하므로 잘못된 평문을 반환하지 않음
+     * - 둘 다 실패하면 current 의 예외
+     * @param current 현재 형식 (nonce, envelope 등)
+     * @param legacy 이전 형식 (고정 iv 등)
+     * @return CipherSuite
+     * </pre>
+     */
+    public static CipherSuite withLegacy(CipherSuite current, CipherSuite legacy) {
+        if (!isAuthenticated(legacy.getMode())) {
+            throw BizRuntimeException.create(String.format("%s 모드는 인증 모드가 아니므로 이전 형식 복호화를 지원하지 않습니다(CCM, GCM, SIV)",
+                legacy.getMode()));
+        }
+        return new LegacyCipherSuite(current, legacy);
+    }
+
+    /**
+     * 인증(tag 검증) 모드 여부
+     */
+    public static boolean isAuthenticated(CipherMode mode) {
+        return mode == CipherMode.CCM || mode == CipherMode.GCM || mode == CipherMode.SIV;
+    }
+
+    /**
+     * <pre>
+     * counter nonce 사용 가능 모드 - 같은 key로 nonce가 중복되지만 않으면 되는 모드
+     * (CBC, CFB 등은 예측 불가능한 iv가 필요하므로 제외)
+     * </pre>
+     */
+    public static boolean isNonceMode(CipherMode mode) {
+        return mode == CipherMode.CTR || mode == CipherMode.CCM || mode == CipherMode.GCM;
+    }
+
+    /**
+     * <pre>
+     * 운용 모드 문자열 해석
+     * @param mode 운용 모드 (대소문자 무시)
+     * @return CipherMode
+     * </pre>
+     */
+    public static CipherMode mode(String mode) {
+        return valueOf(CipherMode.class, mode);
+    }
+
+    /**
+     * <pre>
+     * 알고리즘 문자열 해석
+     * @param algorithm 알고리즘 (대소문자 무시)
+     * @return CipherAlgorithm
+     * </pre>
+     */
+    public static CipherAlgorithm algorithm(String algorithm) {
+        return valueOf(CipherAlgorithm.class, algorithm);
+    }
+
+    private static <E extends Enum<E>> E valueOf(Class<E> type, String name) {
+        try {
+            return Enum.valueOf(type, name.trim().toUpperCase());
+        } catch (RuntimeException e) {
+            throw BizRuntimeException.create(String.format("지원하지 않는 %s[%s] 입니다", type.getSimpleName(), name));
+        }
+    }
+
+    private static final class FixedCipherSuite implements CipherSuite {
+        private final CipherAlgorithm algorithm;
+        private final CipherMode mode;
+        private final KeyMaterial keyMaterial;
+        private final byte[] iv;
+
+        FixedCipherSuite(CipherAlgorithm algorithm, CipherMode mode, KeyMaterial keyMaterial, byte[] iv) {
+            this.algorithm = algorithm;
+            this.mode = mode;
+            this.keyMaterial = keyMaterial;
+            this.iv = iv;
+        }
+
+        @Override
+        public CipherAlgorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        @Override
+        public CipherMode getMode() {
+            return mode;
+        }
+
+        @Override
+        public byte[] encrypt(byte[] plainText) {
+            return BlockCipherModes.process(algorithm, mode, true, keyMaterial, iv, null, plainText);
+        }
+
+        @Override
+        public byte[] decrypt(byte[] cipherText) {
+            return BlockCipherModes.process(algorithm, mode, false, keyMaterial, iv, null, cipherText);
+        }
+
+        @Override
+        public String toString() {
+            return algorithm + "/" + mode + "(" + keyMaterial.getKeyId() + ")";
+        }
+    }
+
+    private static final class LegacyCipherSuite implements CipherSuite {
+        private final CipherSuite current;
+        private final CipherSuite legacy;
+
+        LegacyCipherSuite(CipherSuite current, CipherSuite legacy) {
+            this.current = current;
+            this.legacy = legacy;
+        }
+
+        @Override
+        public CipherAlgorithm getAlgorithm() {
+            return current.getAlgorithm();
+        }
+
+        @Override
+        public CipherMode getMode() {
+            return current.getMode();
+        }
+
+        @Override
+        public byte[] encrypt(byte[] plainText) {
+            return current.encrypt(plainText);
+        }
+
+        @Override
+        public byte[] decrypt(byte[] cipherText) {
+            try {
+                return current.decrypt(cipherText);
+            } catch (RuntimeException e) {
+                try {
+                    return legacy.decrypt(cipherText);
+                } catch (RuntimeException ignored) {
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return current + " (legacy " + legacy + ")";
+        }
+    }
+
+    private static final class NonceCipherSuite implements CipherSuite {
+        private static final int NONCE_SIZE = CounterNonceGenerator.NONCE_SIZE;
+
+        private final CipherAlgorithm algorithm;
+        private final CipherMode mode;
+        private final KeyMaterial keyMaterial;
+        private final CounterNonceGenerator nonceGenerator;
+        // CTR 은 nonce 뒤에 블록 counter(4 byte)를 붙인 16 byte iv 사용
+        private final int ivSize;
+
+        NonceCipherSuite(CipherAlgorithm algorithm, CipherMode mode, KeyMaterial keyMaterial, CounterNonceGenerator nonceGenerator) {
+            this.algorithm = algorithm;
+            this.mode = mode;
+            this.keyMaterial = keyMaterial;
+            this.nonceGenerator = nonceGenerator;
+            this.ivSize = mode == CipherMode.CTR ? BlockCipherModes.BLOCK_SIZE : NONCE_SIZE;
+        }
+
+        @Override
+        public CipherAlgorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        @Override
+        public CipherMode getMode() {
+            return mode;
+        }
+
+        @Override
+        public byte[] encrypt(byte[] plainText) {
+            byte[] iv = new byte[ivSize];
+            nonceGenerator.next(iv, 0);
+
+            byte[] out = new byte[NONCE_SIZE + BlockCipherModes.outputSize(mode, true, plainText.length)];
+            System.arraycopy(iv, 0, out, 0, NONCE_SIZE);
+            BlockCipherModes.process(algorithm, mode, true, keyMaterial, iv, null, plainText, 0, plainText.length, out, NONCE_SIZE);
+            return out;
+        }
+
+        @Override
+        public byte[] decrypt(byte[] cipherText) {
+            int len = cipherText.length - NONCE_SIZE;
+            if (len < BlockCipherModes.outputSize(mode, true, 0)) {
+                throw BizRuntimeException.create("암호문 길이가 올바르지 않습니다");
+            }
+            byte[] iv = new byte[ivSize];
+            System.arraycopy(cipherText, 0, iv, 0, NONCE_SIZE);
+
+            byte[] out = new byte[BlockCipherModes.outputSize(mode, false, len)];
+            BlockCipherModes.process(algorithm, mode, false, keyMaterial, iv, null, cipherText, NONCE_SIZE, len, out, 0);
+            return out;
+        }
+
+        @Override
+        public String toString() {
+            return algorithm + "/" + mode + "(" + keyMaterial.getKeyId() + ", node " + nonceGenerator.getNodeId() + ")";
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package kr.xit.crypto.util;
+
+/**
+ * <pre>
+ * 암복호화 구간 추적 - CipherObservers.trace 로 1개만 등록 (JFR event 등)
+ * - 처리 전 begin, 처리 후 end 를 같은 thread 에서 호출
+ * - 기록 대상이 아니면(event 비활성 등) begin 에서 null 을 반환 -> end 호출 없음
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : CipherTracer
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public interface CipherTracer {
+
+    /**
+     * <pre>
+     * 처리 시작
+     * @return 추적 구간 - 기록하지 않으면 null
+     * </pre>
+     */
+    Object begin();
+
+    /**
+     * <pre>
+     * 처리 종료
+     * @param span begin 의 반환값
+     * @param algorithm 알고리즘
+     * @param mode 운용 모드
+     * @param forEncryption 암호화 여부
+     * @param keyId key ID (KeyMaterialCache.of 로 등록된 key 는 null)
+     * @param length 입력 길이(bytes)
+     * @param success 성공 여부
+     * </pre>
+     */
+    void end(Object span, CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, String keyId, int length,
+        boolean success);
+}
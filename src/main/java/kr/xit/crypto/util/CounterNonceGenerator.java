@@ -0,0 +1,219 @@
+package kr.xit.crypto.util;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.concurrent.atomic.*;
+
+import kr.xit.crypto.config.*;
+
+/**
+ * <pre>
+ * counter 기반 nonce(12 byte) 생성 - node ID(4 byte) + counter(8 byte), big-endian
+ * - 발급은 AtomicLong 증가 1회(lock, SecureRandom 없음)
+ * - counter는 reserveSize 단위 구간으로 예약하고, 예약 한도를 파일에 기록(fsync)한 후에만 해당 구간을 발급
+ *   -> 재기동시 파일에 기록된 한도부터 발급하므로 이전에 발급한 값과 중복되지 않음
+ *   -> 예약 구간 경계에서만 synchronized 로 파일 기록 (reserveSize 회에 1번)
+ * - node 간 중복은 node ID로 방지 -> node 마다 다른 node ID와 별도 파일을 사용하여야 한다
+ * - 같은 파일을 여러 process가 동시에 사용하지 못하도록 파일 lock 유지 (close 에서 해제)
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : CounterNonceGenerator
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public final class CounterNonceGenerator implements Closeable {
+    public static final int NONCE_SIZE = 12;
+
+    private final int nodeId;
+    private final Path file;
+    private final long reserveSize;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final AtomicLong counter;
+    // 파일에 기록된 예약 한도 - 이 값 미만의 counter만 발급 가능
+    private volatile long limit;
+
+    /**
+     * <pre>
+     * @param nodeId node 구분 값 - cluster 내에서 유일하여야 한다
+     * @param file 예약 한도 기록 파일
+     * @param reserveSize 한번에 예약할 counter 수
+     * </pre>
+     */
+    public CounterNonceGenerator(int nodeId, Path file, long reserveSize) {
+        if (reserveSize <= 0) {
+            throw BizRuntimeException.create("reserveSize는 0보다 커야 합니다");
+        }
+        this.nodeId = nodeId;
+        this.file = file.toAbsolutePath();
+        this.reserveSize = reserveSize;
+
+        FileChannel channel = null;
+        try {
+            if (this.file.getParent() != null) {
+                Files.createDirectories(this.file.getParent());
+            }
+            channel = FileChannel.open(lockFile(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock fileLock = channel.tryLock();
+            if (fileLock == null) {
+                throw BizRuntimeException.create(String.format("nonce 파일[%s]을 다른 process가 사용중 입니다", this.file));
+            }
+            this.lockChannel = channel;
+            this.lock = fileLock;
+
+            long start = readLimit();
+            this.counter = new AtomicLong(start);
+            this.limit = start;
+            reserve(start);
+        } catch (IOException | OverlappingFileLockException e) {
+            closeQuietly(channel);
+            throw BizRuntimeException.create(String.format("nonce 파일[%s] 초기화 실패 - %s", this.file, e.getMessage()));
+        }
+    }
+
+    /**
+     * <pre>
+     * 새 nonce 생성
+     * @return nonce(12 byte)
+     * </pre>
+     */
+    public byte[] next() {
+        byte[] nonce = new byte[NONCE_SIZE];
+        next(nonce, 0);
+        return nonce;
+    }
+
+    /**
+     * <pre>
+     * 새 nonce를 out[off] 부터 기록
+     * @param out 기록할 배열
+     * @param off 기록 시작 위치
+     * </pre>
+     */
+    public void next(byte[] out, int off) {
+        long value = counter.getAndIncrement();
+        if (value >= limit) {
+            reserve(value);
+        }
+        putInt(nodeId, out, off);
+        putInt((int)(value >>> 32), out, off + 4);
+        putInt((int)value, out, off + 8);
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 다음에 발급할 counter
+     */
+    public long getCounter() {
+        return counter.get();
+    }
+
+    /**
+     * 파일에 기록된 예약 한도
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            lock.release();
+        } finally {
+            lockChannel.close();
+        }
+    }
+
+    /**
+     * value 를 발급할 수 있을 때까지 예약 한도를 늘려 파일에 기록
+     */
+    private synchronized void reserve(long value) {
+        if (value < limit) {
+            return;
+        }
+        long newLimit = limit;
+        while (newLimit <= value) {
+            if (newLimit > Long.MAX_VALUE - reserveSize) {
+                throw BizRuntimeException.create("nonce counter가 모두 사용되었습니다");
+            }
+            newLimit += reserveSize;
+        }
+        try {
+            writeLimit(newLimit);
+        } catch (IOException e) {
+            throw BizRuntimeException.create(String.format("nonce 파일[%s] 기록 실패 - %s", file, e.getMessage()));
+        }
+        limit = newLimit;
+    }
+
+    private long readLimit() throws IOException {
+        if (!Files.exists(file)) {
+            return 0L;
+        }
+        String text = new String(Files.readAllBytes(file), StandardCharsets.US_ASCII).trim();
+        try {
+            long value = Long.parseLong(text);
+            if (value < 0) {
+                throw new NumberFormatException(text);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IOException("잘못된 nonce 파일 내용 - " + text, e);
+        }
+    }
+
+    /**
+     * 임시 파일에 기록(fsync) 후 교체 - 기록 도중 중단되어도 이전 한도가 유지된다
+     */
+    private void writeLimit(long value) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path lockFile() {
+        return file.resolveSibling(file.getFileName() + ".lock");
+    }
+
+    private static void putInt(int value, byte[] out, int off) {
+        out[off] = (byte)(value >>> 24);
+        out[off + 1] = (byte)(value >>> 16);
+        out[off + 2] = (byte)(value >>> 8);
+        out[off + 3] = (byte)value;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // 초기화 실패 처리중
+        }
+    }
+}
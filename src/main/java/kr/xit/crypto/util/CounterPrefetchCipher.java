@@ -0,0 +1,126 @@
+package kr.xit.crypto.util;
+
+import org.bouncycastle.crypto.*;
+
+/**
+ * <pre>
+ * counter 기반 모드(CTR, GCM)용 keystream 선계산 BlockCipher
+ * - Bouncy Castle의 SICBlockCipher, GCMBlockCipher는 counter 블록을 1개씩 엔진에 전달
+ *   -> 연속된 counter 요청이 확인되면 다음 counter 블록들을 예측하여 MultiBlockCipher.processBlocks로
+ *      한번에(교차 처리) 암호화해 두고, 이후 요청은 입력이 예측한 counter와 일치할 때만 선계산 결과를 반환
+ * - 예측은 하위 32bit 증가(GCM inc32) 기준이며, 입력이 다르면(GCM의 H, J0 계산, CTR seekTo 등) 1블록만 직접 처리
+ *   -> 결과는 항상 엔진의 1블록 처리 결과와 동일
+ * - thread safe 하지 않음 (mode cipher 와 함께 ModeCipherPool 에서 thread 별로 사용)
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : CounterPrefetchCipher
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+final class CounterPrefetchCipher implements BlockCipher {
+    private static final int BLOCK_SIZE = 16;
+
+    private final MultiBlockCipher cipher;
+    private final int blocks;
+    private final byte[] counters;
+    private final byte[] keystream;
+    private final byte[] next = new byte[BLOCK_SIZE];
+
+    // next 가 유효한(직전 요청의 다음 counter) 상태
+    private boolean sequential;
+    private int position;
+    private int available;
+
+    CounterPrefetchCipher(MultiBlockCipher cipher) {
+        this.cipher = cipher;
+        this.blocks = cipher.getMultiBlockSize() / BLOCK_SIZE;
+        this.counters = new byte[blocks * BLOCK_SIZE];
+        this.keystream = new byte[blocks * BLOCK_SIZE];
+    }
+
+    @Override
+    public void init(boolean forEncryption, CipherParameters params) {
+        cipher.init(forEncryption, params);
+        invalidate();
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return cipher.getAlgorithmName();
+    }
+
+    @Override
+    public int getBlockSize() {
+        return BLOCK_SIZE;
+    }
+
+    @Override
+    public int processBlock(byte[] in, int inOff, byte[] out, int outOff) {
+        if (sequential && matches(in, inOff)) {
+            if (available == 0) {
+                prefetch();
+            }
+            System.arraycopy(keystream, position * BLOCK_SIZE, out, outOff, BLOCK_SIZE);
+            position++;
+            available--;
+            increment(next, 0);
+            return BLOCK_SIZE;
+        }
+
+        // in, out 이 같은 배열일 수 있으므로 처리 전에 다음 counter 보관
+        System.arraycopy(in, inOff, next, 0, BLOCK_SIZE);
+        cipher.processBlock(in, inOff, out, outOff);
+        increment(next, 0);
+        sequential = true;
+        available = 0;
+        return BLOCK_SIZE;
+    }
+
+    @Override
+    public void reset() {
+        cipher.reset();
+        invalidate();
+    }
+
+    private void prefetch() {
+        System.arraycopy(next, 0, counters, 0, BLOCK_SIZE);
+        for (int i = 1; i < blocks; i++) {
+            System.arraycopy(counters, (i - 1) * BLOCK_SIZE, counters, i * BLOCK_SIZE, BLOCK_SIZE);
+            increment(counters, i * BLOCK_SIZE);
+        }
+        cipher.processBlocks(counters, 0, blocks, keystream, 0);
+        position = 0;
+        available = blocks;
+    }
+
+    private boolean matches(byte[] in, int inOff) {
+        int diff = 0;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            diff |= next[i] ^ in[inOff + i];
+        }
+        return diff == 0;
+    }
+
+    private void invalidate() {
+        sequential = false;
+        available = 0;
+    }
+
+    /**
+     * 블록의 하위 32bit(big-endian) 1 증가
+     */
+    private static void increment(byte[] block, int off) {
+        for (int i = off + BLOCK_SIZE - 1; i >= off + BLOCK_SIZE - 4; i--) {
+            if (++block[i] != 0) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package kr.xit.crypto.util;
+
+import lombok.*;
+
+/**
+ * <pre>
+ * description : 파일 암복호화 결과
+ *               - length : 대상 파일에 기록한 길이
+ *               - digest : 대상 파일 내용의 SHA-256
+ *               - tag    : GCM 인증 태그(16bytes), CTR 은 null
+ * packageName : kr.xit.crypto.util
+ * fileName    : FileCipherResult
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class FileCipherResult {
+    private final long length;
+    private final byte[] digest;
+    private final byte[] tag;
+}
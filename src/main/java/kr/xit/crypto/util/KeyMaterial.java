@@ -0,0 +1,88 @@
+package kr.xit.crypto.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.bouncycastle.crypto.params.*;
+
+/**
+ * <pre>
+ * 암호화 key 및 key schedule이 적용된 엔진 보관
+ * - KeyParameter는 모든 thread가 공유
+ * - 엔진은 thread safe 하지 않으므로 알고리즘별로 thread 마다 하나씩 생성하여 재사용
+ * - SIV 유도 key 및 CMAC 상태는 알고리즘별로 최초 사용시 생성
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : KeyMaterial
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 17   limju       SIV key 상태 추가
+ *
+ * </pre>
+ */
+public final class KeyMaterial {
+    private final String keyId;
+    private final KeyParameter keyParameter;
+    private final Map<CipherAlgorithm, ThreadLocal<ScheduledBlockCipher>> engines = new EnumMap<>(CipherAlgorithm.class);
+    private final Map<CipherAlgorithm, ThreadLocal<ModeCipherPool.Slot[]>> slots = new EnumMap<>(CipherAlgorithm.class);
+    private final Map<CipherAlgorithm, SivCipher.SivKey> sivKeys = new ConcurrentHashMap<>();
+
+    KeyMaterial(String keyId, byte[] key) {
+        this.keyId = keyId;
+        this.keyParameter = new KeyParameter(key.clone());
+        for (CipherAlgorithm algorithm : CipherAlgorithm.values()) {
+            engines.put(algorithm, ThreadLocal.withInitial(() -> new ScheduledBlockCipher(algorithm, keyParameter)));
+            slots.put(algorithm, ThreadLocal.withInitial(() -> new ModeCipherPool.Slot[CipherMode.values().length]));
+        }
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    /**
+     * <pre>
+     * mode cipher init시 사용할 KeyParameter
+     * -> 동일 인스턴스로 init 하여야 ScheduledBlockCipher 에서 key 비교 없이 key schedule 생략
+     * @return KeyParameter
+     * </pre>
+     */
+    public KeyParameter getKeyParameter() {
+        return keyParameter;
+    }
+
+    /**
+     * <pre>
+     * 현재 thread 전용 엔진(key schedule 적용 완료)
+     * - 하나의 암/복호화 처리 동안에만 사용하고, 다른 thread에 전달하면 안된다
+     * @param algorithm ARIA, LEA
+     * @return ScheduledBlockCipher
+     * </pre>
+     */
+    public ScheduledBlockCipher engine(CipherAlgorithm algorithm) {
+        return engines.get(algorithm).get();
+    }
+
+    /**
+     * 현재 thread 전용 mode cipher 슬롯 - ModeCipherPool 에서 사용
+     */
+    ModeCipherPool.Slot[] slots(CipherAlgorithm algorithm) {
+        return slots.get(algorithm).get();
+    }
+
+    /**
+     * SIV 유도 key 및 CMAC 상태 - SivCipher 에서 사용
+     */
+    SivCipher.SivKey siv(CipherAlgorithm algorithm) {
+        return sivKeys.computeIfAbsent(algorithm, alg -> SivCipher.SivKey.derive(alg, keyParameter));
+    }
+
+    boolean matches(byte[] key) {
+        return Arrays.equals(keyParameter.getKey(), key);
+    }
+}
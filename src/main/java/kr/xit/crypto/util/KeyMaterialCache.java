@@ -0,0 +1,139 @@
+package kr.xit.crypto.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import kr.xit.crypto.config.*;
+
+/**
+ * <pre>
+ * key 별 KeyMaterial cache
+ * - key ID로 등록된 key는 항상 유지
+ * - 등록되지 않은 key(byte[])로 호출되는 경우 MAX_ENTRIES 까지만 cache 하고,
+ *   초과시에는 cache 하지 않은 KeyMaterial을 반환(메모리 무한 증가 방지)
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : KeyMaterialCache
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 17   limju       key ID 등록 여부(contains) 추가
+ *
+ * </pre>
+ */
+public final class KeyMaterialCache {
+    private static final int MAX_ENTRIES = 1024;
+
+    private static final ConcurrentMap<String, KeyMaterial> BY_ID = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<KeyBytes, KeyMaterial> BY_KEY = new ConcurrentHashMap<>();
+
+    private KeyMaterialCache() {
+    }
+
+    /**
+     * <pre>
+     * key ID로 key 등록
+     * - 동일 ID로 다른 key를 등록하면 교체
+     * @param keyId key ID
+     * @param key 16, 24, 32bytes 길이의 key
+     * @return KeyMaterial
+     * </pre>
+     */
+    public static KeyMaterial register(String keyId, byte[] key) {
+        if (keyId == null || key == null) {
+            throw BizRuntimeException.create("key ID와 key는 필수 입니다");
+        }
+        KeyMaterial material = new KeyMaterial(keyId, key);
+        KeyMaterial old = BY_ID.put(keyId, material);
+        if (old != null && !old.matches(key)) {
+            BY_KEY.remove(new KeyBytes(old.getKeyParameter().getKey()), old);
+        }
+        BY_KEY.put(new KeyBytes(material.getKeyParameter().getKey()), material);
+        return material;
+    }
+
+    /**
+     * <pre>
+     * key ID로 등록된 KeyMaterial 조회
+     * @param keyId key ID
+     * @return KeyMaterial
+     * </pre>
+     */
+    public static KeyMaterial get(String keyId) {
+        KeyMaterial material = BY_ID.get(keyId);
+        if (material == null) {
+            throw BizRuntimeException.create("등록되지 않은 key ID 입니다 - " + keyId);
+        }
+        return material;
+    }
+
+    /**
+     * <pre>
+     * key ID 등록 여부
+     * @param keyId key ID
+     * @return 등록되어 있으면 true
+     * </pre>
+     */
+    public static boolean contains(String keyId) {
+        return keyId != null && BY_ID.containsKey(keyId);
+    }
+
+    /**
+     * <pre>
+     * key(byte[])에 해당하는 KeyMaterial 조회 - 없으면 생성
+     * @param key 16, 24, 32bytes 길이의 key
+     * @return KeyMaterial
+     * </pre>
+     */
+    public static KeyMaterial of(byte[] key) {
+        KeyBytes lookup = new KeyBytes(key);
+        KeyMaterial material = BY_KEY.get(lookup);
+        if (material != null) {
+            return material;
+        }
+
+        material = new KeyMaterial(null, key);
+        if (BY_KEY.size() >= MAX_ENTRIES) {
+            return material;
+        }
+        KeyMaterial prev = BY_KEY.putIfAbsent(new KeyBytes(material.getKeyParameter().getKey()), material);
+        return prev != null ? prev : material;
+    }
+
+    /**
+     * <pre>
+     * cache 된 KeyMaterial 수
+     * @return size
+     * </pre>
+     */
+    public static int size() {
+        return BY_KEY.size();
+    }
+
+    /**
+     * ConcurrentHashMap의 key로 사용하기 위한 byte[] wrapper
+     */
+    private static final class KeyBytes {
+        private final byte[] key;
+        private final int hash;
+
+        private KeyBytes(byte[] key) {
+            this.key = key;
+            this.hash = Arrays.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof KeyBytes && Arrays.equals(key, ((KeyBytes)o).key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package kr.xit.crypto.util;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import kr.xit.crypto.config.*;
+import lombok.extern.slf4j.*;
+
+/**
+ * <pre>
+ * 여러 key(활성 1개 + 복호화 전용 key)를 key ID로 관리하는 keyring
+ * - key 파일(properties)을 읽어 불변 snapshot(HashMap)을 만들고 volatile 참조를 교체(copy-on-write)
+ *   -> 조회는 lock 없이 O(1), 교체 중에도 요청은 이전 또는 새 snapshot 중 하나를 일관되게 사용
+ * - watch() 이면 key 파일 변경(WatchService)시 재적재 - 재기동 없이 key 교체
+ *   -> 파일 형식 오류 등 재적재 실패시 이전 snapshot 유지
+ * - 값이 바뀌지 않은 key는 기존 KeyMaterial(key schedule, mode cipher pool)을 그대로 사용
+ *
+ * key 파일 형식
+ *   active=key2                      : 암호화에 사용할 key ID
+ *   key.key1=Base64(16, 24, 32byte)  : 복호화 전용(retired) key
+ *   key.key2=Base64(16, 24, 32byte)  : 활성 key
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : KeyRing
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+@Slf4j
+public final class KeyRing implements Closeable {
+    private static final String ACTIVE = "active";
+    private static final String KEY_PREFIX = "key.";
+    // 편집기가 파일을 나누어 기록하는 경우를 위해 마지막 변경 후 대기(ms)
+    private static final long SETTLE_MILLIS = 200;
+
+    private final Path file;
+    private final List<Consumer<KeyRing>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot;
+    private volatile WatchService watchService;
+
+    /**
+     * <pre>
+     * key 파일로 keyring 생성 - 파일 오류시 BizRuntimeException
+     * @param file key 파일
+     * </pre>
+     */
+    public KeyRing(Path file) {
+        this.file = file.toAbsolutePath();
+        this.snapshot = load(null);
+    }
+
+    /**
+     * <pre>
+     * key ID로 key 조회
+     * @param keyId key ID
+     * @return KeyMaterial
+     * </pre>
+     */
+    public KeyMaterial get(String keyId) {
+        KeyMaterial material = snapshot.keys.get(keyId);
+        if (material == null) {
+            throw BizRuntimeException.create("keyring에 등록되지 않은 key ID 입니다 - " + keyId);
+        }
+        return material;
+    }
+
+    /**
+     * 암호화에 사용할 활성 key
+     */
+    public KeyMaterial active() {
+        return snapshot.active;
+    }
+
+    /**
+     * 등록된 key ID 목록
+     */
+    public Set<String> keyIds() {
+        return snapshot.keys.keySet();
+    }
+
+    /**
+     * <pre>
+     * key 교체 후 호출될 listener 등록 - 재적재 thread 에서 호출
+     * @param listener listener
+     * </pre>
+     */
+    public void addListener(Consumer<KeyRing> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * <pre>
+     * key 파일 재적재 - 실패시 이전 snapshot 유지
+     * @return 재적재 성공 여부
+     * </pre>
+     */
+    public boolean reload() {
+        Snapshot next;
+        try {
+            next = load(snapshot);
+        } catch (RuntimeException e) {
+            log.error("keyring 재적재 실패 - 이전 key 유지 [{}]: {}", file, e.getMessage());
+            return false;
+        }
+        snapshot = next;
+        log.info("keyring 재적재 - active: {}, keys: {}", next.active.getKeyId(), next.keys.keySet());
+        for (Consumer<KeyRing> listener : listeners) {
+            try {
+                listener.accept(this);
+            } catch (RuntimeException e) {
+                log.error("keyring listener 처리 실패: {}", e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <pre>
+     * key 파일 변경 감시 시작 - daemon thread 에서 변경시 reload
+     * </pre>
+     */
+    public synchronized void watch() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        WatchService service = file.getFileSystem().newWatchService();
+        file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watchService = service;
+
+        Thread thread = new Thread(() -> watchLoop(service), "keyring-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    private void watchLoop(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = isChanged(key);
+                // 연속된 변경은 마지막 변경 후 한번만 재적재
+                while ((key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= isChanged(key);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // close 호출
+        }
+    }
+
+    private boolean isChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (context == null || file.getFileName().equals(context)) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private Snapshot load(Snapshot previous) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw BizRuntimeException.create(String.format("key 파일[%s] 읽기 실패 - %s", file, e.getMessage()));
+        }
+
+        Map<String, KeyMaterial> keys = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith(KEY_PREFIX)) {
+                continue;
+            }
+            String keyId = name.substring(KEY_PREFIX.length());
+            byte[] key = decode(keyId, properties.getProperty(name));
+            KeyMaterial old = previous == null ? null : previous.keys.get(keyId);
+            keys.put(keyId, old != null && old.matches(key) ? old : new KeyMaterial(keyId, key));
+        }
+
+        String activeId = properties.getProperty(ACTIVE, "").trim();
+        KeyMaterial active = keys.get(activeId);
+        if (active == null) {
+            throw BizRuntimeException.create(String.format("key 파일[%s]의 active key[%s]가 없습니다", file, activeId));
+        }
+        return new Snapshot(Collections.unmodifiableMap(keys), active);
+    }
+
+    private static byte[] decode(String keyId, String value) {
+        byte[] key;
+        try {
+            key = Base64.getDecoder().decode(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw BizRuntimeException.create("key가 Base64 형식이 아닙니다 - " + keyId);
+        }
+        if (key.length != 16 && key.length != 24 && key.length != 32) {
+            throw BizRuntimeException.create(String.format("key[%s] 길이는 16, 24, 32 byte 이어야 합니다(%d)", keyId, key.length));
+        }
+        return key;
+    }
+
+    private static final class Snapshot {
+        private final Map<String, KeyMaterial> keys;
+        private final KeyMaterial active;
+
+        Snapshot(Map<String, KeyMaterial> keys, KeyMaterial active) {
+            this.keys = keys;
+            this.active = active;
+        }
+    }
+}
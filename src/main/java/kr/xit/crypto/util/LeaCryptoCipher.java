@@ -1,12 +1,11 @@
 package kr.xit.crypto.util;
 
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
 import java.util.*;
 
 import org.bouncycastle.crypto.*;
-import org.bouncycastle.crypto.engines.*;
-import org.bouncycastle.crypto.modes.*;
-import org.bouncycastle.crypto.paddings.*;
-import org.bouncycastle.crypto.params.*;
 
 /**
  * <pre>
@@ -36,6 +35,7 @@ import org.bouncycastle.crypto.params.*;
  * 변경일         변경자        변경 내용
  * ----------------------------------------------------------------------
  * 2024 11월 06   limju       최초 생성
+ * 2026 10월 17   limju       SIV 모드 추가
  *
  * </pre>
  */
@@ -59,16 +59,7 @@ public class LeaCryptoCipher {
      * </pre>
      */
     public static byte[] encryptECB(byte[] key, byte[] plainText) throws Exception {
-
-        // block size가 16의 배수가 아닐경우, 암호화가 안될수 있으므로 항상 데이터를 패딩한다
-        BufferedBlockCipher cipher = new PaddedBufferedBlockCipher(new LEAEngine());
-        cipher.init(true, new KeyParameter(key));
-
-        byte[] outputData = new byte[cipher.getOutputSize(plainText.length)];
-        int tam = cipher.processBytes(plainText, 0, plainText.length, outputData, 0);
-        cipher.doFinal(outputData, tam);
-
-        return outputData;
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.ECB, true, key, null, null, plainText);
     }
 
     /**
@@ -81,14 +72,67 @@ public class LeaCryptoCipher {
      * </pre>
      */
     public static byte[] decryptECB(byte[] key, byte[] cipherText) throws Exception {
-        BufferedBlockCipher cipher = new PaddedBufferedBlockCipher(new LEAEngine());
-        cipher.init(false, new KeyParameter(key));
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.ECB, false, key, null, null, cipherText);
+    }
 
-        byte[] outputData = new byte[cipher.getOutputSize(cipherText.length)];
-        int tam = cipher.processBytes(cipherText, 0, cipherText.length, outputData, 0);
-        int finalLen = cipher.doFinal(outputData, tam);
+    /**
+     * <pre>
+     * ECB 암호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param in 평문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out 패딩 포함 길이(len - len % 16 + 16) 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptECB(byte[] key, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.ECB, true, key, null, null, in, inOff, len, out, outOff);
+    }
+
+    /**
+     * <pre>
+     * ECB 복호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param in 암호문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len 이상의 공간 필요(패딩 제거 전 길이)
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptECB(byte[] key, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.ECB, false, key, null, null, in, inOff, len, out, outOff);
+    }
+
+    /**
+     * <pre>
+     * ECB 암호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param in 평문
+     * @param out 패딩 포함 길이(in.remaining() - in.remaining() % 16 + 16) 이상의 공간 필요
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptECB(byte[] key, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.ECB, true, key, null, null, in, out);
+    }
 
-        return Arrays.copyOfRange(outputData, 0, finalLen + tam);
+    /**
+     * <pre>
+     * ECB 복호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param in 암호문
+     * @param out in.remaining() 이상의 공간 필요(패딩 제거 전 길이)
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptECB(byte[] key, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.ECB, false, key, null, null, in, out);
     }
 
     /**
@@ -131,25 +175,75 @@ public class LeaCryptoCipher {
      * </pre>
      */
     public static byte[] encryptCBC(byte[] key, byte[] iv, byte[] plainText) throws Exception {
-        BufferedBlockCipher cipher = new PaddedBufferedBlockCipher(CBCBlockCipher.newInstance(new LEAEngine()));
-        cipher.init(true, new ParametersWithIV(new KeyParameter(key), iv));
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CBC, true, key, iv, null, plainText);
+    }
 
-        byte[] outputData = new byte[cipher.getOutputSize(plainText.length)];
-        int tam = cipher.processBytes(plainText, 0, plainText.length, outputData, 0);
-        cipher.doFinal(outputData, tam);
+    public static byte[] decryptCBC(byte[] key, byte[] iv, byte[] cipherText) throws Exception {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CBC, false, key, iv, null, cipherText);
+    }
 
-        return outputData;
+    /**
+     * <pre>
+     * CBC 암호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out 패딩 포함 길이(len - len % 16 + 16) 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptCBC(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CBC, true, key, iv, null, in, inOff, len, out, outOff);
     }
 
-    public static byte[] decryptCBC(byte[] key, byte[] iv, byte[] cipherText) throws Exception {
-        BufferedBlockCipher cipher = new PaddedBufferedBlockCipher(CBCBlockCipher.newInstance(new LEAEngine()));
-        cipher.init(false, new ParametersWithIV(new KeyParameter(key), iv));
+    /**
+     * <pre>
+     * CBC 복호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 암호문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len 이상의 공간 필요(패딩 제거 전 길이)
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptCBC(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CBC, false, key, iv, null, in, inOff, len, out, outOff);
+    }
 
-        byte[] outputData = new byte[cipher.getOutputSize(cipherText.length)];
-        int tam = cipher.processBytes(cipherText, 0, cipherText.length, outputData, 0);
-        int finalLen = cipher.doFinal(outputData, tam);
+    /**
+     * <pre>
+     * CBC 암호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param out 패딩 포함 길이(in.remaining() - in.remaining() % 16 + 16) 이상의 공간 필요
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptCBC(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CBC, true, key, iv, null, in, out);
+    }
 
-        return Arrays.copyOfRange(outputData, 0, finalLen + tam);
+    /**
+     * <pre>
+     * CBC 복호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 암호문
+     * @param out in.remaining() 이상의 공간 필요(패딩 제거 전 길이)
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptCBC(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CBC, false, key, iv, null, in, out);
     }
     
     /**
@@ -191,25 +285,75 @@ public class LeaCryptoCipher {
      * </pre>
      */
     public static byte[] encryptCFB(byte[] key, byte[] iv, byte[] plainText) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CFB, true, key, iv, null, plainText);
+    }
 
-        // blockSize는 64 혹은 128만 입력 가능 (128 권장)
-        CFBModeCipher cipher = CFBBlockCipher.newInstance(new LEAEngine(), 128);
-        cipher.init(true, new ParametersWithIV(new KeyParameter(key), iv));
-
-        byte[] outputData = new byte[plainText.length];
-        cipher.processBytes(plainText, 0, plainText.length, outputData, 0);
+    public static byte[] decryptCFB(byte[] key, byte[] iv, byte[] cipherText) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CFB, false, key, iv, null, cipherText);
+    }
 
-        return outputData;
+    /**
+     * <pre>
+     * CFB 암호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptCFB(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CFB, true, key, iv, null, in, inOff, len, out, outOff);
     }
 
-    public static byte[] decryptCFB(byte[] key, byte[] iv, byte[] cipherText) {
-        CFBModeCipher cipher = CFBBlockCipher.newInstance(new LEAEngine(), 128);
-        cipher.init(false, new ParametersWithIV(new KeyParameter(key), iv));
+    /**
+     * <pre>
+     * CFB 복호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 암호문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptCFB(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CFB, false, key, iv, null, in, inOff, len, out, outOff);
+    }
 
-        byte[] result = new byte[cipherText.length];
-        cipher.processBytes(cipherText, 0, cipherText.length, result, 0);
+    /**
+     * <pre>
+     * CFB 암호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param out in.remaining() 이상의 공간 필요
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptCFB(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CFB, true, key, iv, null, in, out);
+    }
 
-        return result;
+    /**
+     * <pre>
+     * CFB 복호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 암호문
+     * @param out in.remaining() 이상의 공간 필요
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptCFB(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CFB, false, key, iv, null, in, out);
     }
 
     /**
@@ -255,26 +399,75 @@ public class LeaCryptoCipher {
      * </pre>
      */
     public static byte[] encryptOFB(byte[] key, byte[] iv, byte[] plainText) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.OFB, true, key, iv, null, plainText);
+    }
 
-        // blockSize는 8 혹은 16만 입력 가능 (16 권장)
-        // OFBBlockCipher는 newInstance() 메소드가 없다
-        OFBBlockCipher cipher = new OFBBlockCipher(new LEAEngine(), 16);
-        cipher.init(true, new ParametersWithIV(new KeyParameter(key), iv));
-
-        byte[] outputData = new byte[plainText.length];
-        cipher.processBytes(plainText, 0, plainText.length, outputData, 0);
+    public static byte[] decryptOFB(byte[] key, byte[] iv, byte[] cipherText) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.OFB, false, key, iv, null, cipherText);
+    }
 
-        return outputData;
+    /**
+     * <pre>
+     * OFB 암호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptOFB(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.OFB, true, key, iv, null, in, inOff, len, out, outOff);
     }
 
-    public static byte[] decryptOFB(byte[] key, byte[] iv, byte[] cipherText) {
-        OFBBlockCipher cipher = new OFBBlockCipher(new LEAEngine(), 16);
-        cipher.init(false, new ParametersWithIV(new KeyParameter(key), iv));
+    /**
+     * <pre>
+     * OFB 복호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 암호문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptOFB(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.OFB, false, key, iv, null, in, inOff, len, out, outOff);
+    }
 
-        byte[] result = new byte[cipherText.length];
-        cipher.processBytes(cipherText, 0, cipherText.length, result, 0);
+    /**
+     * <pre>
+     * OFB 암호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param out in.remaining() 이상의 공간 필요
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptOFB(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.OFB, true, key, iv, null, in, out);
+    }
 
-        return result;
+    /**
+     * <pre>
+     * OFB 복호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 암호문
+     * @param out in.remaining() 이상의 공간 필요
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptOFB(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.OFB, false, key, iv, null, in, out);
     }
 
     /**
@@ -317,25 +510,71 @@ public class LeaCryptoCipher {
      * </pre>
      */
     public static byte[] encryptCTS(byte[] key, byte[] plainText) throws Exception {
-        CTSBlockCipher cipher = new CTSBlockCipher(new LEAEngine());
-        cipher.init(true, new KeyParameter(key));
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTS, true, key, null, null, plainText);
+    }
 
-        byte[] outputData = new byte[plainText.length];
-        int tam = cipher.processBytes(plainText, 0, plainText.length, outputData, 0);
-        cipher.doFinal(outputData, tam);
+    public static byte[] decryptCTS(byte[] key, byte[] cipherText) throws Exception {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTS, false, key, null, null, cipherText);
+    }
 
-        return outputData;
+    /**
+     * <pre>
+     * CTS 암호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param in 평문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptCTS(byte[] key, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTS, true, key, null, null, in, inOff, len, out, outOff);
     }
 
-    public static byte[] decryptCTS(byte[] key, byte[] cipherText) throws Exception {
-        CTSBlockCipher cipher = new CTSBlockCipher(new LEAEngine());
-        cipher.init(false, new KeyParameter(key));
+    /**
+     * <pre>
+     * CTS 복호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param in 암호문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptCTS(byte[] key, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTS, false, key, null, null, in, inOff, len, out, outOff);
+    }
 
-        byte[] result = new byte[cipherText.length];
-        int finalLen = cipher.processBytes(cipherText, 0, cipherText.length, result, 0);
-        cipher.doFinal(result, finalLen);
+    /**
+     * <pre>
+     * CTS 암호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param in 평문
+     * @param out in.remaining() 이상의 공간 필요
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptCTS(byte[] key, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTS, true, key, null, null, in, out);
+    }
 
-        return result;
+    /**
+     * <pre>
+     * CTS 복호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param in 암호문
+     * @param out in.remaining() 이상의 공간 필요
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptCTS(byte[] key, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTS, false, key, null, null, in, out);
     }
 
     /**
@@ -382,23 +621,103 @@ public class LeaCryptoCipher {
      * </pre>
      */
     public static byte[] encryptCTR(byte[] key, byte[] iv, byte[] plainText) {
-        CTRModeCipher cipher = SICBlockCipher.newInstance(new LEAEngine());
-        cipher.init(true, new ParametersWithIV(new KeyParameter(key), iv));
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTR, true, key, iv, null, plainText);
+    }
 
-        byte[] outputData = new byte[plainText.length];
-        cipher.processBytes(plainText, 0, plainText.length, outputData, 0);
+    public static byte[] decryptCTR(byte[] key, byte[] iv, byte[] cipherText) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTR, false, key, iv, null, cipherText);
+    }
 
-        return outputData;
+    /**
+     * <pre>
+     * CTR 암호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptCTR(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTR, true, key, iv, null, in, inOff, len, out, outOff);
     }
 
-    public static byte[] decryptCTR(byte[] key, byte[] iv, byte[] cipherText) {
-        CTRModeCipher cipher = SICBlockCipher.newInstance(new LEAEngine());
-        cipher.init(false, new ParametersWithIV(new KeyParameter(key), iv));
+    /**
+     * <pre>
+     * CTR 복호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 암호문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptCTR(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTR, false, key, iv, null, in, inOff, len, out, outOff);
+    }
+
+    /**
+     * <pre>
+     * CTR 암호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param out in.remaining() 이상의 공간 필요
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptCTR(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTR, true, key, iv, null, in, out);
+    }
 
-        byte[] result = new byte[cipherText.length];
-        cipher.processBytes(cipherText, 0, cipherText.length, result, 0);
+    /**
+     * <pre>
+     * CTR 복호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 암호문
+     * @param out in.remaining() 이상의 공간 필요
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptCTR(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CTR, false, key, iv, null, in, out);
+    }
 
-        return result;
+    /**
+     * <pre>
+     * CTR 파일 암호화 - 원본 파일을 memory mapping 하여 처리 (MappedFileCipher 참조)
+     * @param key
+     * @param iv
+     * @param source 원본 파일
+     * @param target 암호화 파일 - 존재하면 덮어씀
+     * @return 기록한 길이, 암호화 파일의 SHA-256
+     * </pre>
+     */
+    public static FileCipherResult encryptCTR(byte[] key, byte[] iv, Path source, Path target) throws IOException {
+        return MappedFileCipher.encrypt(CipherAlgorithm.LEA, CipherMode.CTR, key, iv, null, source, target);
+    }
+
+    /**
+     * <pre>
+     * CTR 파일 복호화 - 원본 파일을 memory mapping 하여 처리 (MappedFileCipher 참조)
+     * @param key
+     * @param iv
+     * @param source 암호화 파일
+     * @param target 복호화 파일 - 존재하면 덮어씀
+     * @return 기록한 길이, 복호화 파일의 SHA-256
+     * </pre>
+     */
+    public static FileCipherResult decryptCTR(byte[] key, byte[] iv, Path source, Path target) throws IOException {
+        return MappedFileCipher.decrypt(CipherAlgorithm.LEA, CipherMode.CTR, key, iv, null, source, target);
     }
 
     /**
@@ -457,19 +776,7 @@ public class LeaCryptoCipher {
      */
     public static List<byte[]> encryptCCM(byte[] key, byte[] iv, byte[] plainText, byte[] aad) throws
         InvalidCipherTextException {
-        int macSize = 128;
-        CCMModeCipher cipher = CCMBlockCipher.newInstance(new LEAEngine());
-        cipher.init(true, new AEADParameters(new KeyParameter(key), macSize, iv, aad));
-
-        byte[] outputData = new byte[cipher.getOutputSize(plainText.length)];
-        int tam = cipher.processBytes(plainText, 0, plainText.length, outputData, 0);
-        cipher.doFinal(outputData, tam);
-
-        List<byte[]> arr = new ArrayList<>();
-        arr.add(outputData);
-        arr.add(cipher.getMac());
-
-        return arr;
+        return BlockCipherModes.encryptCCM(CipherAlgorithm.LEA, key, iv, plainText, aad);
     }
 
     /**
@@ -483,20 +790,75 @@ public class LeaCryptoCipher {
      * @throws Exception
      */
     public static byte[] decryptCCM(byte[] key, byte[] iv, byte[] cipherText, byte[] aad, byte[] mac) throws Exception {
-        int macSize = 128;
-        CCMModeCipher cipher = CCMBlockCipher.newInstance(new LEAEngine());
-        cipher.init(false, new AEADParameters(new KeyParameter(key), macSize, iv, aad));
+        return BlockCipherModes.decryptCCM(CipherAlgorithm.LEA, key, iv, cipherText, aad, mac);
+    }
 
-        byte[] result = new byte[cipher.getOutputSize(cipherText.length)];
-        int tam = cipher.processBytes(cipherText, 0, cipherText.length, result, 0);
-        cipher.doFinal(result, tam);
+    /**
+     * <pre>
+     * CCM 암호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len + 16bytes(mac) 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @param aad aad 값은 필수는 아니며, 길이는 2^64 bit보다 작아야 한다
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptCCM(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff, byte[] aad) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CCM, true, key, iv, aad, in, inOff, len, out, outOff);
+    }
 
-        // encrypt의 cipher.mac 값과 decrypt의 cipher.mac 값이 다르면 암호화 된 데이터가 위조 혹은 변조된 것이다
-        if (!Arrays.equals(mac, cipher.getMac())) {
-            throw new Exception("데이터가 위변조되었습니다.");
-        }
+    /**
+     * <pre>
+     * CCM 복호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 암호문 + mac
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len - 16bytes(mac) 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @param aad aad 값은 필수는 아니며, 길이는 2^64 bit보다 작아야 한다
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptCCM(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff, byte[] aad) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CCM, false, key, iv, aad, in, inOff, len, out, outOff);
+    }
 
-        return result;
+    /**
+     * <pre>
+     * CCM 암호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param out in.remaining() + 16bytes(mac) 이상의 공간 필요
+     * @param aad aad 값은 필수는 아니며, 길이는 2^64 bit보다 작아야 한다
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptCCM(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out, byte[] aad) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CCM, true, key, iv, aad, in, out);
+    }
+
+    /**
+     * <pre>
+     * CCM 복호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 암호문 + mac
+     * @param out in.remaining() - 16bytes(mac) 이상의 공간 필요
+     * @param aad aad 값은 필수는 아니며, 길이는 2^64 bit보다 작아야 한다
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptCCM(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out, byte[] aad) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.CCM, false, key, iv, aad, in, out);
     }
 
     /**
@@ -555,37 +917,164 @@ public class LeaCryptoCipher {
      * </pre>
      */
     public static byte[] encryptGCM(byte[] key, byte[] iv, byte[] plainText, byte[] aad) throws Exception {
-        int macSize = 128;
-        GCMModeCipher cipher = GCMBlockCipher.newInstance(new LEAEngine());
-        cipher.init(true, new AEADParameters(new KeyParameter(key), macSize, iv, aad));
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.GCM, true, key, iv, aad, plainText);
+    }
 
-        byte[] encryptedData = new byte[cipher.getOutputSize(plainText.length)];
-        int tam = cipher.processBytes(plainText, 0, plainText.length, encryptedData, 0);
+    public static byte[] decryptGCM(byte[] key, byte[] iv, byte[] cipherText, byte[] aad) throws Exception {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.GCM, false, key, iv, aad, cipherText);
+    }
 
-        try {
-            cipher.doFinal(encryptedData, tam);
-        } catch (InvalidCipherTextException e) {
-            throw new Exception("GCM authentication tag generation failed: " + e.getMessage(), e);
-        }
+    /**
+     * <pre>
+     * GCM 암호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len + 16bytes(인증 태그) 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @param aad aad 값은 필수는 아니며, 길이는 2^64 bit보다 작아야 한다
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptGCM(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff, byte[] aad) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.GCM, true, key, iv, aad, in, inOff, len, out, outOff);
+    }
 
-        return encryptedData;
+    /**
+     * <pre>
+     * GCM 복호화 - 결과를 out 배열에 직접 기록(결과 배열 생성 없음)
+     * @param key
+     * @param iv
+     * @param in 암호문 + 인증 태그
+     * @param inOff in 시작 위치
+     * @param len 처리할 길이
+     * @param out len - 16bytes(인증 태그) 이상의 공간 필요
+     * @param outOff out 시작 위치
+     * @param aad aad 값은 필수는 아니며, 길이는 2^64 bit보다 작아야 한다
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptGCM(byte[] key, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff, byte[] aad) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.GCM, false, key, iv, aad, in, inOff, len, out, outOff);
     }
 
-    public static byte[] decryptGCM(byte[] key, byte[] iv, byte[] cipherText, byte[] aad) throws Exception {
-        int macSize = 128;
-        GCMModeCipher cipher = GCMBlockCipher.newInstance(new LEAEngine());
-        cipher.init(false, new AEADParameters(new KeyParameter(key), macSize, iv, aad));
+    /**
+     * <pre>
+     * GCM 암호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 평문
+     * @param out in.remaining() + 16bytes(인증 태그) 이상의 공간 필요
+     * @param aad aad 값은 필수는 아니며, 길이는 2^64 bit보다 작아야 한다
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int encryptGCM(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out, byte[] aad) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.GCM, true, key, iv, aad, in, out);
+    }
 
-        byte[] outputData = new byte[cipher.getOutputSize(cipherText.length)];
-        int tam = cipher.processBytes(cipherText, 0, cipherText.length, outputData, 0);
+    /**
+     * <pre>
+     * GCM 복호화 - ByteBuffer(heap, direct)
+     * - in 의 position ~ limit 을 처리하고, 결과를 out 의 position 부터 기록
+     * @param key
+     * @param iv
+     * @param in 암호문 + 인증 태그
+     * @param out in.remaining() - 16bytes(인증 태그) 이상의 공간 필요
+     * @param aad aad 값은 필수는 아니며, 길이는 2^64 bit보다 작아야 한다
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    public static int decryptGCM(byte[] key, byte[] iv, ByteBuffer in, ByteBuffer out, byte[] aad) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.GCM, false, key, iv, aad, in, out);
+    }
 
-        try {
-            cipher.doFinal(outputData, tam);
-        } catch (InvalidCipherTextException e) {
-            throw new Exception("GCM authentication tag generation failed: " + e.getMessage(), e);
-        }
+    /**
+     * <pre>
+     * GCM 스트림 암호화 - chunk(64KB) 단위로 암호화 및 인증하여 메모리 사용량이 데이터 크기와 무관
+     * - nonce는 스트림마다 random 으로 생성되어 header 에 기록되므로 iv 를 전달하지 않는다
+     * - 반드시 close 하여야 마지막 chunk가 기록된다
+     * @param key 16, 24, 32bytes 길이의 key를 사용
+     * @param out 암호문을 기록할 스트림
+     * @param aad aad 값은 필수는 아니며, 모든 chunk 인증에 사용
+     * @return 평문을 기록할 OutputStream
+     * </pre>
+     */
+    public static OutputStream encryptGCMStream(byte[] key, OutputStream out, byte[] aad) {
+        return new ChunkedAeadOutputStream(CipherAlgorithm.LEA, key, out, aad);
+    }
+
+    /**
+     * <pre>
+     * GCM 스트림 복호화 - encryptGCMStream 으로 암호화된 스트림
+     * - 인증(태그 검증)된 chunk의 평문만 반환하며, 위변조시 IOException
+     * @param key 16, 24, 32bytes 길이의 key를 사용
+     * @param in 암호문 스트림
+     * @param aad 암호화시 사용한 aad
+     * @return 평문을 읽을 InputStream
+     * </pre>
+     */
+    public static InputStream decryptGCMStream(byte[] key, InputStream in, byte[] aad) {
+        return new ChunkedAeadInputStream(CipherAlgorithm.LEA, key, in, aad);
+    }
+
+    /**
+     * <pre>
+     * GCM 파일 암호화 - 원본 파일을 memory mapping 하여 처리 (MappedFileCipher 참조)
+     * - 암호화 파일은 암호문 + 인증 태그(16bytes)
+     * @param key
+     * @param iv
+     * @param source 원본 파일
+     * @param target 암호화 파일 - 존재하면 덮어씀
+     * @param aad aad 값은 필수는 아니며, 길이는 2^64 bit보다 작아야 한다
+     * @return 기록한 길이, 암호화 파일의 SHA-256, 인증 태그
+     * </pre>
+     */
+    public static FileCipherResult encryptGCM(byte[] key, byte[] iv, Path source, Path target, byte[] aad) throws IOException {
+        return MappedFileCipher.encrypt(CipherAlgorithm.LEA, CipherMode.GCM, key, iv, aad, source, target);
+    }
+
+    /**
+     * <pre>
+     * GCM 파일 복호화 - 원본 파일을 memory mapping 하여 처리 (MappedFileCipher 참조)
+     * - 인증 실패시 복호화 파일을 삭제하고 Exception
+     * @param key
+     * @param iv
+     * @param source 암호화 파일(암호문 + 인증 태그)
+     * @param target 복호화 파일 - 존재하면 덮어씀
+     * @param aad 암호화시 사용한 aad
+     * @return 기록한 길이, 복호화 파일의 SHA-256, 검증된 인증 태그
+     * </pre>
+     */
+    public static FileCipherResult decryptGCM(byte[] key, byte[] iv, Path source, Path target, byte[] aad) throws IOException {
+        return MappedFileCipher.decrypt(CipherAlgorithm.LEA, CipherMode.GCM, key, iv, aad, source, target);
+    }
+
+    /**
+     * <pre>
+     * 암호화 모드 - SIV (Synthetic Initialization Vector, RFC 5297) 결정적 인증 암호화
+     * - iv 없이 key, aad, 평문으로 계산한 CMAC 값(synthetic iv)을 CTR iv로 사용
+     *   -> 같은 key, aad, 평문은 항상 같은 암호문 - 암호화 column 에서 동등(=) 검색, unique index 가능
+     * - 암호문 = synthetic iv(16 bytes, 인증 태그 겸용) + 암호문(평문과 같은 길이)
+     * - ECB, 고정 iv 사용과 달리 블록 패턴이나 keystream 재사용이 없고, 같은 값인지 여부만 노출
+     * - key(16, 24, 32bytes)에서 CMAC 용, CTR 용 key를 유도하며 key 별로 유도 결과와 CMAC 상태를 cache
+     * - 복호화시 인증 실패(위변조)이면 BizRuntimeException
+     * - 같은 값 여부도 숨겨야 하는 데이터는 GCM(nonce 사용) 권장
+     * @param key 16, 24, 32bytes 길이의 key를 사용
+     * @param plainText
+     * @param aad 선택(null 가능) - table, column 명 등을 지정하면 다른 column 의 같은 값과 암호문이 달라짐
+     * @return
+     * </pre>
+     */
+    public static byte[] encryptSIV(byte[] key, byte[] plainText, byte[] aad) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.SIV, true, key, null, aad, plainText);
+    }
 
-        return outputData;
+    public static byte[] decryptSIV(byte[] key, byte[] cipherText, byte[] aad) {
+        return BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.SIV, false, key, null, aad, cipherText);
     }
     
     public static void main(String[] args) {
@@ -0,0 +1,372 @@
+package kr.xit.crypto.util;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.params.*;
+import org.bouncycastle.util.*;
+
+/**
+ * <pre>
+ * 여러 블록을 교차(interleave) 처리하는 LEA 블록 암호 엔진 (TTAS.KO-12.0223)
+ * - LEA는 덧셈, 회전, XOR(ARX) 연산만 사용하므로 블록 간 의존성이 없는 경우
+ *   4개 블록의 라운드를 교차 처리하면 CPU pipeline을 채울 수 있다
+ *   -> processBlocks : 4블록 단위로 int 변수 16개에 상태를 두고 같은 라운드를 연속 처리
+ *   -> processBlock  : 1블록 처리 (LEAEngine 과 동일한 결과)
+ * - ECB 모드, counter 기반 모드(CTR, GCM)에서 자동 사용 (ModeCipherPool 참조)
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : LeaMultiBlockEngine
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+public class LeaMultiBlockEngine implements MultiBlockCipher {
+    private static final int BLOCK_SIZE = 16;
+    private static final int INTERLEAVE = 4;
+
+    private static final int[] DELTA = {
+        0xc3efe9db, 0x44626b02, 0x79e27c8a, 0x78df30ec, 0x715ea49e, 0xc785da0a, 0xe04ef22a, 0xe5c40957
+    };
+    private static final int[] KEY_ROTATIONS = {1, 3, 6, 11, 13, 17};
+
+    private boolean forEncryption;
+    private int rounds;
+    private int[] roundKeys;
+
+    @Override
+    public void init(boolean forEncryption, CipherParameters params) {
+        if (!(params instanceof KeyParameter)) {
+            throw new IllegalArgumentException("invalid parameter passed to LEA init - " + (params == null ? "null" : params.getClass().getName()));
+        }
+        byte[] key = ((KeyParameter)params).getKey();
+        if (key.length != 16 && key.length != 24 && key.length != 32) {
+            throw new IllegalArgumentException("Key length not 128/192/256 bits.");
+        }
+        this.forEncryption = forEncryption;
+        this.rounds = 24 + (key.length - 16) / 2;
+        this.roundKeys = keySchedule(key, rounds);
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "LEA";
+    }
+
+    @Override
+    public int getBlockSize() {
+        return BLOCK_SIZE;
+    }
+
+    @Override
+    public int getMultiBlockSize() {
+        return BLOCK_SIZE * INTERLEAVE;
+    }
+
+    @Override
+    public int processBlock(byte[] in, int inOff, byte[] out, int outOff) {
+        checkState();
+        if (inOff > in.length - BLOCK_SIZE) {
+            throw new DataLengthException("input buffer too short");
+        }
+        if (outOff > out.length - BLOCK_SIZE) {
+            throw new OutputLengthException("output buffer too short");
+        }
+        if (forEncryption) {
+            encryptBlock(in, inOff, out, outOff);
+        } else {
+            decryptBlock(in, inOff, out, outOff);
+        }
+        return BLOCK_SIZE;
+    }
+
+    @Override
+    public int processBlocks(byte[] in, int inOff, int blockCount, byte[] out, int outOff) {
+        checkState();
+        int len = blockCount * BLOCK_SIZE;
+        if (blockCount < 0 || inOff > in.length - len) {
+            throw new DataLengthException("input buffer too short");
+        }
+        if (outOff > out.length - len) {
+            throw new OutputLengthException("output buffer too short");
+        }
+
+        int i = 0;
+        for (; i + INTERLEAVE <= blockCount; i += INTERLEAVE) {
+            int off = i * BLOCK_SIZE;
+            if (forEncryption) {
+                encryptBlocks(in, inOff + off, out, outOff + off);
+            } else {
+                decryptBlocks(in, inOff + off, out, outOff + off);
+            }
+        }
+        for (; i < blockCount; i++) {
+            int off = i * BLOCK_SIZE;
+            if (forEncryption) {
+                encryptBlock(in, inOff + off, out, outOff + off);
+            } else {
+                decryptBlock(in, inOff + off, out, outOff + off);
+            }
+        }
+        return len;
+    }
+
+    @Override
+    public void reset() {
+        // 상태를 유지하지 않음
+    }
+
+    private void checkState() {
+        if (roundKeys == null) {
+            throw new IllegalStateException("LEA engine not initialised");
+        }
+    }
+
+    private void encryptBlock(byte[] in, int inOff, byte[] out, int outOff) {
+        final int[] rk = roundKeys;
+        int x0 = Pack.littleEndianToInt(in, inOff);
+        int x1 = Pack.littleEndianToInt(in, inOff + 4);
+        int x2 = Pack.littleEndianToInt(in, inOff + 8);
+        int x3 = Pack.littleEndianToInt(in, inOff + 12);
+
+        for (int k = 0, end = rounds * 6; k < end; k += 6) {
+            int t = x0;
+            x0 = Integer.rotateLeft((x0 ^ rk[k]) + (x1 ^ rk[k + 1]), 9);
+            x1 = Integer.rotateRight((x1 ^ rk[k + 2]) + (x2 ^ rk[k + 3]), 5);
+            x2 = Integer.rotateRight((x2 ^ rk[k + 4]) + (x3 ^ rk[k + 5]), 3);
+            x3 = t;
+        }
+
+        Pack.intToLittleEndian(x0, out, outOff);
+        Pack.intToLittleEndian(x1, out, outOff + 4);
+        Pack.intToLittleEndian(x2, out, outOff + 8);
+        Pack.intToLittleEndian(x3, out, outOff + 12);
+    }
+
+    private void decryptBlock(byte[] in, int inOff, byte[] out, int outOff) {
+        final int[] rk = roundKeys;
+        int x0 = Pack.littleEndianToInt(in, inOff);
+        int x1 = Pack.littleEndianToInt(in, inOff + 4);
+        int x2 = Pack.littleEndianToInt(in, inOff + 8);
+        int x3 = Pack.littleEndianToInt(in, inOff + 12);
+
+        for (int k = (rounds - 1) * 6; k >= 0; k -= 6) {
+            int y0 = x0;
+            int y1 = x1;
+            int y2 = x2;
+            x0 = x3;
+            x1 = (Integer.rotateRight(y0, 9) - (x0 ^ rk[k])) ^ rk[k + 1];
+            x2 = (Integer.rotateLeft(y1, 5) - (x1 ^ rk[k + 2])) ^ rk[k + 3];
+            x3 = (Integer.rotateLeft(y2, 3) - (x2 ^ rk[k + 4])) ^ rk[k + 5];
+        }
+
+        Pack.intToLittleEndian(x0, out, outOff);
+        Pack.intToLittleEndian(x1, out, outOff + 4);
+        Pack.intToLittleEndian(x2, out, outOff + 8);
+        Pack.intToLittleEndian(x3, out, outOff + 12);
+    }
+
+    /**
+     * 4블록 교차 암호화 - 블록 a, b, c, d 의 같은 라운드를 연속 처리
+     */
+    private void encryptBlocks(byte[] in, int inOff, byte[] out, int outOff) {
+        final int[] rk = roundKeys;
+        int a0 = Pack.littleEndianToInt(in, inOff);
+        int a1 = Pack.littleEndianToInt(in, inOff + 4);
+        int a2 = Pack.littleEndianToInt(in, inOff + 8);
+        int a3 = Pack.littleEndianToInt(in, inOff + 12);
+        int b0 = Pack.littleEndianToInt(in, inOff + 16);
+        int b1 = Pack.littleEndianToInt(in, inOff + 20);
+        int b2 = Pack.littleEndianToInt(in, inOff + 24);
+        int b3 = Pack.littleEndianToInt(in, inOff + 28);
+        int c0 = Pack.littleEndianToInt(in, inOff + 32);
+        int c1 = Pack.littleEndianToInt(in, inOff + 36);
+        int c2 = Pack.littleEndianToInt(in, inOff + 40);
+        int c3 = Pack.littleEndianToInt(in, inOff + 44);
+        int d0 = Pack.littleEndianToInt(in, inOff + 48);
+        int d1 = Pack.littleEndianToInt(in, inOff + 52);
+        int d2 = Pack.littleEndianToInt(in, inOff + 56);
+        int d3 = Pack.littleEndianToInt(in, inOff + 60);
+
+        for (int k = 0, end = rounds * 6; k < end; k += 6) {
+            final int k0 = rk[k];
+            final int k1 = rk[k + 1];
+            final int k2 = rk[k + 2];
+            final int k3 = rk[k + 3];
+            final int k4 = rk[k + 4];
+            final int k5 = rk[k + 5];
+            int t;
+
+            t = a0;
+            a0 = Integer.rotateLeft((a0 ^ k0) + (a1 ^ k1), 9);
+            a1 = Integer.rotateRight((a1 ^ k2) + (a2 ^ k3), 5);
+            a2 = Integer.rotateRight((a2 ^ k4) + (a3 ^ k5), 3);
+            a3 = t;
+
+            t = b0;
+            b0 = Integer.rotateLeft((b0 ^ k0) + (b1 ^ k1), 9);
+            b1 = Integer.rotateRight((b1 ^ k2) + (b2 ^ k3), 5);
+            b2 = Integer.rotateRight((b2 ^ k4) + (b3 ^ k5), 3);
+            b3 = t;
+
+            t = c0;
+            c0 = Integer.rotateLeft((c0 ^ k0) + (c1 ^ k1), 9);
+            c1 = Integer.rotateRight((c1 ^ k2) + (c2 ^ k3), 5);
+            c2 = Integer.rotateRight((c2 ^ k4) + (c3 ^ k5), 3);
+            c3 = t;
+
+            t = d0;
+            d0 = Integer.rotateLeft((d0 ^ k0) + (d1 ^ k1), 9);
+            d1 = Integer.rotateRight((d1 ^ k2) + (d2 ^ k3), 5);
+            d2 = Integer.rotateRight((d2 ^ k4) + (d3 ^ k5), 3);
+            d3 = t;
+        }
+
+        Pack.intToLittleEndian(a0, out, outOff);
+        Pack.intToLittleEndian(a1, out, outOff + 4);
+        Pack.intToLittleEndian(a2, out, outOff + 8);
+        Pack.intToLittleEndian(a3, out, outOff + 12);
+        Pack.intToLittleEndian(b0, out, outOff + 16);
+        Pack.intToLittleEndian(b1, out, outOff + 20);
+        Pack.intToLittleEndian(b2, out, outOff + 24);
+        Pack.intToLittleEndian(b3, out, outOff + 28);
+        Pack.intToLittleEndian(c0, out, outOff + 32);
+        Pack.intToLittleEndian(c1, out, outOff + 36);
+        Pack.intToLittleEndian(c2, out, outOff + 40);
+        Pack.intToLittleEndian(c3, out, outOff + 44);
+        Pack.intToLittleEndian(d0, out, outOff + 48);
+        Pack.intToLittleEndian(d1, out, outOff + 52);
+        Pack.intToLittleEndian(d2, out, outOff + 56);
+        Pack.intToLittleEndian(d3, out, outOff + 60);
+    }
+
+    /**
+     * 4블록 교차 복호화
+     */
+    private void decryptBlocks(byte[] in, int inOff, byte[] out, int outOff) {
+        final int[] rk = roundKeys;
+        int a0 = Pack.littleEndianToInt(in, inOff);
+        int a1 = Pack.littleEndianToInt(in, inOff + 4);
+        int a2 = Pack.littleEndianToInt(in, inOff + 8);
+        int a3 = Pack.littleEndianToInt(in, inOff + 12);
+        int b0 = Pack.littleEndianToInt(in, inOff + 16);
+        int b1 = Pack.littleEndianToInt(in, inOff + 20);
+        int b2 = Pack.littleEndianToInt(in, inOff + 24);
+        int b3 = Pack.littleEndianToInt(in, inOff + 28);
+        int c0 = Pack.littleEndianToInt(in, inOff + 32);
+        int c1 = Pack.littleEndianToInt(in, inOff + 36);
+        int c2 = Pack.littleEndianToInt(in, inOff + 40);
+        int c3 = Pack.littleEndianToInt(in, inOff + 44);
+        int d0 = Pack.littleEndianToInt(in, inOff + 48);
+        int d1 = Pack.littleEndianToInt(in, inOff + 52);
+        int d2 = Pack.littleEndianToInt(in, inOff + 56);
+        int d3 = Pack.littleEndianToInt(in, inOff + 60);
+
+        for (int k = (rounds - 1) * 6; k >= 0; k -= 6) {
+            final int k0 = rk[k];
+            final int k1 = rk[k + 1];
+            final int k2 = rk[k + 2];
+            final int k3 = rk[k + 3];
+            final int k4 = rk[k + 4];
+            final int k5 = rk[k + 5];
+            int y0;
+            int y1;
+            int y2;
+
+            y0 = a0; y1 = a1; y2 = a2;
+            a0 = a3;
+            a1 = (Integer.rotateRight(y0, 9) - (a0 ^ k0)) ^ k1;
+            a2 = (Integer.rotateLeft(y1, 5) - (a1 ^ k2)) ^ k3;
+            a3 = (Integer.rotateLeft(y2, 3) - (a2 ^ k4)) ^ k5;
+
+            y0 = b0; y1 = b1; y2 = b2;
+            b0 = b3;
+            b1 = (Integer.rotateRight(y0, 9) - (b0 ^ k0)) ^ k1;
+            b2 = (Integer.rotateLeft(y1, 5) - (b1 ^ k2)) ^ k3;
+            b3 = (Integer.rotateLeft(y2, 3) - (b2 ^ k4)) ^ k5;
+
+            y0 = c0; y1 = c1; y2 = c2;
+            c0 = c3;
+            c1 = (Integer.rotateRight(y0, 9) - (c0 ^ k0)) ^ k1;
+            c2 = (Integer.rotateLeft(y1, 5) - (c1 ^ k2)) ^ k3;
+            c3 = (Integer.rotateLeft(y2, 3) - (c2 ^ k4)) ^ k5;
+
+            y0 = d0; y1 = d1; y2 = d2;
+            d0 = d3;
+            d1 = (Integer.rotateRight(y0, 9) - (d0 ^ k0)) ^ k1;
+            d2 = (Integer.rotateLeft(y1, 5) - (d1 ^ k2)) ^ k3;
+            d3 = (Integer.rotateLeft(y2, 3) - (d2 ^ k4)) ^ k5;
+        }
+
+        Pack.intToLittleEndian(a0, out, outOff);
+        Pack.intToLittleEndian(a1, out, outOff + 4);
+        Pack.intToLittleEndian(a2, out, outOff + 8);
+        Pack.intToLittleEndian(a3, out, outOff + 12);
+        Pack.intToLittleEndian(b0, out, outOff + 16);
+        Pack.intToLittleEndian(b1, out, outOff + 20);
+        Pack.intToLittleEndian(b2, out, outOff + 24);
+        Pack.intToLittleEndian(b3, out, outOff + 28);
+        Pack.intToLittleEndian(c0, out, outOff + 32);
+        Pack.intToLittleEndian(c1, out, outOff + 36);
+        Pack.intToLittleEndian(c2, out, outOff + 40);
+        Pack.intToLittleEndian(c3, out, outOff + 44);
+        Pack.intToLittleEndian(d0, out, outOff + 48);
+        Pack.intToLittleEndian(d1, out, outOff + 52);
+        Pack.intToLittleEndian(d2, out, outOff + 56);
+        Pack.intToLittleEndian(d3, out, outOff + 60);
+    }
+
+    /**
+     * <pre>
+     * 라운드 키 생성 - 라운드 당 32bit 키 6개
+     * - 128bit key : 24 라운드, 192bit key : 28 라운드, 256bit key : 32 라운드
+     * </pre>
+     */
+    private static int[] keySchedule(byte[] key, int rounds) {
+        int[] t = new int[key.length / 4];
+        Pack.littleEndianToInt(key, 0, t);
+        int[] rk = new int[rounds * 6];
+
+        for (int i = 0; i < rounds; i++) {
+            int k = i * 6;
+            switch (t.length) {
+                case 4: {
+                    int delta = DELTA[i & 3];
+                    t[0] = Integer.rotateLeft(t[0] + Integer.rotateLeft(delta, i), 1);
+                    t[1] = Integer.rotateLeft(t[1] + Integer.rotateLeft(delta, i + 1), 3);
+                    t[2] = Integer.rotateLeft(t[2] + Integer.rotateLeft(delta, i + 2), 6);
+                    t[3] = Integer.rotateLeft(t[3] + Integer.rotateLeft(delta, i + 3), 11);
+                    rk[k] = t[0];
+                    rk[k + 1] = t[1];
+                    rk[k + 2] = t[2];
+                    rk[k + 3] = t[1];
+                    rk[k + 4] = t[3];
+                    rk[k + 5] = t[1];
+                    break;
+                }
+                case 6: {
+                    int delta = DELTA[i % 6];
+                    for (int j = 0; j < 6; j++) {
+                        t[j] = Integer.rotateLeft(t[j] + Integer.rotateLeft(delta, i + j), KEY_ROTATIONS[j]);
+                        rk[k + j] = t[j];
+                    }
+                    break;
+                }
+                default: {
+                    int delta = DELTA[i & 7];
+                    for (int j = 0; j < 6; j++) {
+                        int idx = (6 * i + j) & 7;
+                        t[idx] = Integer.rotateLeft(t[idx] + Integer.rotateLeft(delta, i + j), KEY_ROTATIONS[j]);
+                        rk[k + j] = t[idx];
+                    }
+                    break;
+                }
+            }
+        }
+        return rk;
+    }
+}
@@ -0,0 +1,181 @@
+package kr.xit.crypto.util;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.security.*;
+
+import org.bouncycastle.crypto.modes.*;
+
+import kr.xit.crypto.config.*;
+
+/**
+ * <pre>
+ * 파일 단위 CTR, GCM 암복호화
+ * - 원본 파일은 FileChannel memory mapping(MAP_SIZE 단위)으로 읽어 heap 에 파일 전체를 올리지 않음
+ * - CTR : 대상 파일도 같은 위치를 mapping 하여 직접 기록
+ *         -> 구간 별로 counter 위치(seekTo)를 지정하므로 ParallelCipher 설정에 따라 병렬 처리
+ * - GCM : 출력이 입력보다 지연(태그 검증용 버퍼링)되므로 direct buffer(OUT_BUFFER_SIZE)에 받아 FileChannel 로 기록
+ *         -> 암호화 결과는 암호문 + 태그(16bytes)로 byte[] API 와 동일한 형식
+ *         -> 복호화는 인증 실패시 대상 파일을 삭제하고 Exception
+ * - 처리 중 Exception(인증 실패, I/O 오류 등)이면 일부만 기록된 대상 파일을 삭제
+ * - Bouncy Castle은 byte[]만 처리하므로 mapping 된 buffer는 thread 별 고정 크기 scratch 배열을 거쳐 처리
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : MappedFileCipher
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 17   limju       I/O 오류시에도 일부만 기록된 대상 파일 삭제
+ *
+ * </pre>
+ */
+public final class MappedFileCipher {
+    static final int MAP_SIZE = 64 * 1024 * 1024;
+    private static final int OUT_BUFFER_SIZE = 1024 * 1024;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private MappedFileCipher() {
+    }
+
+    /**
+     * <pre>
+     * 파일 암호화
+     * @param algorithm ARIA, LEA
+     * @param mode CTR, GCM
+     * @param key 16, 24, 32bytes 길이의 key
+     * @param iv CTR 16bytes, GCM 12bytes 권장
+     * @param aad GCM aad (필수 아님)
+     * @param source 원본 파일
+     * @param target 대상 파일 - 존재하면 덮어씀
+     * @return FileCipherResult
+     * </pre>
+     */
+    public static FileCipherResult encrypt(CipherAlgorithm algorithm, CipherMode mode, byte[] key, byte[] iv, byte[] aad,
+        Path source, Path target) throws IOException {
+        return process(algorithm, mode, true, key, iv, aad, source, target);
+    }
+
+    /**
+     * <pre>
+     * 파일 복호화
+     * @return FileCipherResult - GCM 은 검증된 태그
+     * </pre>
+     */
+    public static FileCipherResult decrypt(CipherAlgorithm algorithm, CipherMode mode, byte[] key, byte[] iv, byte[] aad,
+        Path source, Path target) throws IOException {
+        return process(algorithm, mode, false, key, iv, aad, source, target);
+    }
+
+    private static FileCipherResult process(CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption, byte[] key,
+        byte[] iv, byte[] aad, Path source, Path target) throws IOException {
+        if (mode != CipherMode.CTR && mode != CipherMode.GCM) {
+            throw BizRuntimeException.create("파일 암복호화는 CTR, GCM 모드만 지원 합니다 - " + mode);
+        }
+        KeyMaterial keyMaterial = KeyMaterialCache.of(key);
+        MessageDigest digest = newDigest();
+
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            boolean completed = false;
+            try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                FileCipherResult result;
+                if (mode == CipherMode.CTR) {
+                    long length = processCtr(algorithm, keyMaterial, forEncryption, iv, in, out, digest);
+                    result = new FileCipherResult(length, digest.digest(), null);
+                } else {
+                    result = processGcm(algorithm, keyMaterial, forEncryption, iv, aad, in, out, digest);
+                }
+                completed = true;
+                return result;
+            } finally {
+                if (!completed) {
+                    // 인증 실패, I/O 오류(디스크 부족 등) - 일부만 기록된(검증되지 않은) 대상 파일은 남기지 않음
+                    deleteQuietly(target);
+                }
+            }
+        }
+    }
+
+    /**
+     * 대상 파일 삭제 - 삭제 실패가 원래 Exception 을 가리지 않도록 무시
+     */
+    private static void deleteQuietly(Path target) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException | RuntimeException ignored) {
+            // 원래 Exception 전파
+        }
+    }
+
+    private static long processCtr(CipherAlgorithm algorithm, KeyMaterial keyMaterial, boolean forEncryption, byte[] iv,
+        FileChannel in, FileChannel out, MessageDigest digest) throws IOException {
+        long size = in.size();
+        for (long pos = 0; pos < size; pos += MAP_SIZE) {
+            int len = (int)Math.min(MAP_SIZE, size - pos);
+            MappedByteBuffer src = in.map(FileChannel.MapMode.READ_ONLY, pos, len);
+            MappedByteBuffer dst = out.map(FileChannel.MapMode.READ_WRITE, pos, len);
+            BlockCipherModes.processCtr(algorithm, keyMaterial, forEncryption, iv, src, dst, pos);
+            dst.flip();
+            digest.update(dst);
+        }
+        return size;
+    }
+
+    private static FileCipherResult processGcm(CipherAlgorithm algorithm, KeyMaterial keyMaterial, boolean forEncryption,
+        byte[] iv, byte[] aad, FileChannel in, FileChannel out, MessageDigest digest) throws IOException {
+        ByteBuffer outBuf = ByteBuffer.allocateDirect(OUT_BUFFER_SIZE + 2 * BlockCipherModes.MAC_BYTES);
+        long size = in.size();
+        long written = 0;
+
+        try (ModeCipherPool.Lease<Object> lease = ModeCipherPool.acquire(keyMaterial, algorithm, CipherMode.GCM, forEncryption, iv)) {
+            Object cipher = BlockCipherModes.init(lease, keyMaterial, CipherMode.GCM, forEncryption, iv, aad);
+
+            for (long pos = 0; pos < size; pos += MAP_SIZE) {
+                MappedByteBuffer src = in.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(MAP_SIZE, size - pos));
+                while (src.hasRemaining()) {
+                    ByteBuffer piece = src.duplicate();
+                    piece.limit(piece.position() + Math.min(OUT_BUFFER_SIZE, piece.remaining()));
+                    src.position(piece.limit());
+
+                    outBuf.clear();
+                    BlockCipherModes.update(cipher, piece, outBuf);
+                    written += write(out, outBuf, digest);
+                }
+            }
+
+            byte[] finalBuf = new byte[2 * BlockCipherModes.MAC_BYTES];
+            int tam = BlockCipherModes.doFinal(cipher, finalBuf, 0);
+            ByteBuffer last = ByteBuffer.wrap(finalBuf, 0, tam);
+            last.position(tam);
+            written += write(out, last, digest);
+            return new FileCipherResult(written, digest.digest(), ((AEADCipher)cipher).getMac());
+        }
+    }
+
+    /**
+     * position 까지 기록된 buffer 를 파일에 기록하고 digest 갱신
+     */
+    private static int write(FileChannel out, ByteBuffer buffer, MessageDigest digest) throws IOException {
+        buffer.flip();
+        int len = buffer.remaining();
+        digest.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        return len;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw BizRuntimeException.create(e);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package kr.xit.crypto.util;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.modes.*;
+import org.bouncycastle.crypto.paddings.*;
+import org.bouncycastle.crypto.params.*;
+
+/**
+ * <pre>
+ * mode cipher(GCM, CCM, CBC 등) 재사용 pool
+ * - thread 및 KeyMaterial 별로 mode 마다 하나의 인스턴스를 보관(thread-confined)하여 lock 없이 재사용
+ * - 각 mode cipher는 전용 ScheduledBlockCipher를 사용 -> key schedule 및 GCM GHASH table을 재계산하지 않음
+ * - 아래의 경우 pool에 보관하지 않은 새 인스턴스를 사용(miss)
+ *   -> 해당 thread에서 최초 사용
+ *   -> 같은 thread에서 이미 사용중(재진입)
+ *   -> GCM 모드 암호화에서 직전에 사용한 nonce와 동일한 nonce(Bouncy Castle은 동일 nonce로 암호화 재초기화를 허용하지 않음)
+ *      (복호화는 동일 nonce 재초기화 허용 -> 고정 iv 복호화도 재사용)
+ * - 엔진이 여러 블록 교차 처리(LeaMultiBlockEngine)를 지원하면
+ *   -> ECB : MultiBlockPaddedCipher 로 블록을 한번에 처리
+ *   -> CTR, GCM : CounterPrefetchCipher 로 counter 블록을 선계산
+ *
+ * 사용법
+ *   try (ModeCipherPool.Lease&lt;GCMModeCipher&gt; lease = ModeCipherPool.acquire(keyMaterial, algorithm, CipherMode.GCM, true, iv)) {
+ *       lease.cipher().init(true, new AEADParameters(lease.keyParameter(), 128, iv, aad));
+ *       lease.initialised();
+ *       ...
+ *   }
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : ModeCipherPool
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 16   limju       여러 블록 교차 처리 엔진 적용
+ * 2026 10월 17   limju       KeyParameter 로 생성하는 newInstance 추가
+ * 2026 10월 17   limju       GCM 동일 nonce miss 는 암호화에만 적용
+ *
+ * </pre>
+ */
+public final class ModeCipherPool {
+    private static final Map<CipherMode, LongAdder> HITS = new EnumMap<>(CipherMode.class);
+    private static final Map<CipherMode, LongAdder> MISSES = new EnumMap<>(CipherMode.class);
+
+    static {
+        for (CipherMode mode : CipherMode.values()) {
+            HITS.put(mode, new LongAdder());
+            MISSES.put(mode, new LongAdder());
+        }
+    }
+
+    private ModeCipherPool() {
+    }
+
+    /**
+     * <pre>
+     * 현재 thread 에서 사용할 mode cipher 대여
+     * - 반드시 try-with-resources 로 사용하여 반납
+     * @param keyMaterial KeyMaterial
+     * @param algorithm ARIA, LEA
+     * @param mode 운용 모드
+     * @param forEncryption 암호화 여부
+     * @param nonce GCM 모드인 경우 init 에 사용할 nonce(그 외 null)
+     * @return Lease
+     * </pre>
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Lease<T> acquire(KeyMaterial keyMaterial, CipherAlgorithm algorithm, CipherMode mode, boolean forEncryption,
+        byte[] nonce) {
+        Slot[] slots = keyMaterial.slots(algorithm);
+        Slot slot = slots[mode.ordinal()];
+
+        // Bouncy Castle 은 직전 init(암복호화 모두)의 nonce 를 보관하고 암호화 init 에서만 비교
+        if (slot != null && !slot.inUse && !(forEncryption && mode == CipherMode.GCM && Arrays.equals(slot.lastNonce, nonce))) {
+            HITS.get(mode).increment();
+            slot.inUse = true;
+            slot.lastNonce = copyNonce(mode, nonce);
+            return new Lease<>((T)slot.cipher, slot, keyMaterial);
+        }
+
+        MISSES.get(mode).increment();
+        Object cipher = create(mode, new ScheduledBlockCipher(algorithm, keyMaterial.getKeyParameter()));
+        if (slot != null) {
+            // 사용중 이거나 nonce 재사용 -> pool 에 보관하지 않음
+            return new Lease<>((T)cipher, null, keyMaterial);
+        }
+
+        slot = new Slot(cipher);
+        slot.inUse = true;
+        slot.lastNonce = copyNonce(mode, nonce);
+        slots[mode.ordinal()] = slot;
+        return new Lease<>((T)cipher, slot, keyMaterial);
+    }
+
+    /**
+     * <pre>
+     * pool 에 보관하지 않는 mode cipher 생성
+     * - 여러 호출(thread)에 걸쳐 사용하는 stream 등 thread-confined 재사용이 불가능한 경우 사용
+     * @param keyMaterial KeyMaterial
+     * @param algorithm ARIA, LEA
+     * @param mode 운용 모드
+     * @return mode cipher
+     * </pre>
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T newInstance(KeyMaterial keyMaterial, CipherAlgorithm algorithm, CipherMode mode) {
+        return newInstance(keyMaterial.getKeyParameter(), algorithm, mode);
+    }
+
+    /**
+     * <pre>
+     * pool 에 보관하지 않는 mode cipher 생성
+     * - 일회성 key(스트림별 파생 key 등)로 KeyMaterialCache 를 거치지 않는 경우 사용
+     * @param keyParameter key
+     * @param algorithm ARIA, LEA
+     * @param mode 운용 모드
+     * @return mode cipher
+     * </pre>
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T newInstance(KeyParameter keyParameter, CipherAlgorithm algorithm, CipherMode mode) {
+        return (T)create(mode, new ScheduledBlockCipher(algorithm, keyParameter));
+    }
+
+    private static byte[] copyNonce(CipherMode mode, byte[] nonce) {
+        return mode == CipherMode.GCM && nonce != null ? nonce.clone() : null;
+    }
+
+    private static Object create(CipherMode mode, ScheduledBlockCipher engine) {
+        switch (mode) {
+            case ECB:
+                return engine.isMultiBlock() ? new MultiBlockPaddedCipher(engine) : new PaddedBufferedBlockCipher(engine);
+            case CBC:
+                return new PaddedBufferedBlockCipher(CBCBlockCipher.newInstance(engine));
+            case CFB:
+                // blockSize는 64 혹은 128만 입력 가능 (128 권장)
+                return CFBBlockCipher.newInstance(engine, 128);
+            case OFB:
+                // blockSize는 8 혹은 16만 입력 가능 (16 권장)
+                return new OFBBlockCipher(engine, 16);
+            case CTS:
+                return new CTSBlockCipher(engine);
+            case CTR:
+                return SICBlockCipher.newInstance(engine.isMultiBlock() ? new CounterPrefetchCipher(engine) : engine);
+            case CCM:
+                return CCMBlockCipher.newInstance(engine);
+            case GCM:
+                return GCMBlockCipher.newInstance(engine.isMultiBlock() ? new CounterPrefetchCipher(engine) : engine);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 mode 입니다 - " + mode);
+        }
+    }
+
+    /**
+     * <pre>
+     * pool 에서 재사용된 횟수
+     * @param mode 운용 모드
+     * @return hit count
+     * </pre>
+     */
+    public static long hits(CipherMode mode) {
+        return HITS.get(mode).sum();
+    }
+
+    /**
+     * <pre>
+     * 새 인스턴스를 생성한 횟수
+     * @param mode 운용 모드
+     * @return miss count
+     * </pre>
+     */
+    public static long misses(CipherMode mode) {
+        return MISSES.get(mode).sum();
+    }
+
+    /**
+     * <pre>
+     * mode 별 hit / miss 통계
+     * @return {mode: {hits, misses}}
+     * </pre>
+     */
+    public static Map<CipherMode, long[]> stats() {
+        Map<CipherMode, long[]> stats = new EnumMap<>(CipherMode.class);
+        for (CipherMode mode : CipherMode.values()) {
+            stats.put(mode, new long[]{hits(mode), misses(mode)});
+        }
+        return stats;
+    }
+
+    /**
+     * thread 별 mode cipher 보관 슬롯
+     */
+    static final class Slot {
+        private final Object cipher;
+        private boolean inUse;
+        private boolean initialised;
+        private byte[] lastNonce;
+
+        private Slot(Object cipher) {
+            this.cipher = cipher;
+        }
+    }
+
+    /**
+     * 대여한 mode cipher
+     */
+    public static final class Lease<T> implements AutoCloseable {
+        private final T cipher;
+        private final Slot slot;
+        private final KeyMaterial keyMaterial;
+
+        private Lease(T cipher, Slot slot, KeyMaterial keyMaterial) {
+            this.cipher = cipher;
+            this.slot = slot;
+            this.keyMaterial = keyMaterial;
+        }
+
+        public T cipher() {
+            return cipher;
+        }
+
+        /**
+         * <pre>
+         * init 에 사용할 KeyParameter
+         * - GCM 모드에서 사용 - 이미 key로 초기화된 인스턴스는 null을 반환하여 GHASH table 재계산을 생략
+         * @return KeyParameter or null
+         * </pre>
+         */
+        public KeyParameter keyParameter() {
+            return slot != null && slot.initialised ? null : keyMaterial.getKeyParameter();
+        }
+
+        /**
+         * init 성공 표시 - 이후 대여시 keyParameter()는 null 반환
+         */
+        public void initialised() {
+            if (slot != null) {
+                slot.initialised = true;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (slot != null) {
+                slot.inUse = false;
+            }
+        }
+    }
+}
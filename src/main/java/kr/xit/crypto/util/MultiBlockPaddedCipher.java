@@ -0,0 +1,45 @@
+package kr.xit.crypto.util;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.paddings.*;
+
+/**
+ * <pre>
+ * ECB 모드용 PKCS7 패딩 BufferedBlockCipher
+ * - PaddedBufferedBlockCipher는 엔진이 MultiBlockCipher 이더라도 1블록씩 처리
+ *   -> 버퍼가 비어 있으면 마지막 블록(doFinal 패딩 처리 대상)을 제외한 블록을 processBlocks로 한번에 처리
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : MultiBlockPaddedCipher
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ *
+ * </pre>
+ */
+final class MultiBlockPaddedCipher extends PaddedBufferedBlockCipher {
+
+    MultiBlockPaddedCipher(MultiBlockCipher cipher) {
+        super(cipher);
+    }
+
+    @Override
+    public int processBytes(byte[] in, int inOff, int len, byte[] out, int outOff) {
+        int blockSize = getBlockSize();
+        // 최소 1 byte는 버퍼에 남겨야 doFinal 에서 패딩 처리 가능
+        int blocks = len > 0 ? (len - 1) / blockSize : 0;
+        if (bufOff != 0 || blocks == 0) {
+            return super.processBytes(in, inOff, len, out, outOff);
+        }
+        if (outOff > out.length - blocks * blockSize) {
+            throw new OutputLengthException("output buffer too short");
+        }
+
+        int done = ((MultiBlockCipher)cipher).processBlocks(in, inOff, blocks, out, outOff);
+        return done + super.processBytes(in, inOff + done, len - done, out, outOff + done);
+    }
+}
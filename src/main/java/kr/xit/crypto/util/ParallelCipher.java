@@ -0,0 +1,139 @@
+package kr.xit.crypto.util;
+
+import java.util.concurrent.*;
+
+/**
+ * <pre>
+ * 대용량 데이터 병렬 암복호화 실행기
+ * - 입력을 블록 경계(16bytes)에 맞춘 segment로 나누어 ForkJoinPool 에서 병렬 처리
+ * - threshold 미만의 데이터는 병렬 처리 비용이 더 크므로 순차 처리
+ * - 각 segment는 처리하는 thread의 mode cipher(ModeCipherPool)를 사용
+ *
+ * 설정(CryptoParallelConfig)
+ *   app.crypto.parallel.enabled      : 병렬 처리 사용 여부(기본 true)
+ *   app.crypto.parallel.threshold    : 병렬 처리 최소 길이(기본 1MB)
+ *   app.crypto.parallel.segment-size : segment 크기(기본 256KB)
+ *   app.crypto.parallel.parallelism  : 전용 ForkJoinPool thread 수(0 이면 ForkJoinPool.commonPool 사용)
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : ParallelCipher
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 17   limju       기본 설정 복원(reset) 추가
+ *
+ * </pre>
+ */
+public final class ParallelCipher {
+    public static final int DEFAULT_THRESHOLD = 1024 * 1024;
+    public static final int DEFAULT_SEGMENT_SIZE = 256 * 1024;
+
+    private static volatile Settings settings = new Settings(true, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD, DEFAULT_SEGMENT_SIZE);
+
+    private ParallelCipher() {
+    }
+
+    /**
+     * <pre>
+     * 병렬 처리 설정
+     * @param enabled 병렬 처리 사용 여부
+     * @param pool 병렬 처리에 사용할 ForkJoinPool
+     * @param threshold 병렬 처리 최소 길이
+     * @param segmentSize segment 크기 - 16bytes 배수로 조정
+     * </pre>
+     */
+    public static void configure(boolean enabled, ForkJoinPool pool, int threshold, int segmentSize) {
+        if (pool == null || threshold < 0 || segmentSize < BlockCipherModes.BLOCK_SIZE) {
+            throw new IllegalArgumentException("invalid parallel cipher settings");
+        }
+        settings = new Settings(enabled, pool, threshold, segmentSize - segmentSize % BlockCipherModes.BLOCK_SIZE);
+    }
+
+    /**
+     * <pre>
+     * 기본 설정(ForkJoinPool.commonPool)으로 복원
+     * - configure 로 지정한 전용 pool 을 종료하기 전에 호출하여 종료된 pool 에 작업이 제출되지 않도록 한다
+     * </pre>
+     */
+    public static void reset() {
+        settings = new Settings(true, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * <pre>
+     * 병렬 처리 대상 여부
+     * @param len 데이터 길이
+     * @return boolean
+     * </pre>
+     */
+    public static boolean isParallel(int len) {
+        Settings current = settings;
+        return current.enabled && len >= current.threshold && len > current.segmentSize;
+    }
+
+    /**
+     * <pre>
+     * [0, len) 구간을 segment로 나누어 병렬 실행
+     * - segment 시작 위치는 항상 16bytes 배수
+     * - segment 처리 중 발생한 RuntimeException은 호출 thread로 전달
+     * @param len 전체 길이
+     * @param segment (from, to) 구간 처리
+     * </pre>
+     */
+    static void forEachSegment(int len, Segment segment) {
+        Settings current = settings;
+        current.pool.invoke(new SegmentTask(segment, 0, len, current.segmentSize));
+    }
+
+    /**
+     * segment 구간 처리
+     */
+    @FunctionalInterface
+    interface Segment {
+        void process(int from, int to);
+    }
+
+    private static final class SegmentTask extends RecursiveAction {
+        private final Segment segment;
+        private final int from;
+        private final int to;
+        private final int segmentSize;
+
+        private SegmentTask(Segment segment, int from, int to, int segmentSize) {
+            this.segment = segment;
+            this.from = from;
+            this.to = to;
+            this.segmentSize = segmentSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= segmentSize) {
+                segment.process(from, to);
+                return;
+            }
+            // segment 개수 기준으로 반분 -> 분할 지점은 항상 segmentSize 배수
+            int segments = (to - from + segmentSize - 1) / segmentSize;
+            int mid = from + segments / 2 * segmentSize;
+            invokeAll(new SegmentTask(segment, from, mid, segmentSize), new SegmentTask(segment, mid, to, segmentSize));
+        }
+    }
+
+    private static final class Settings {
+        private final boolean enabled;
+        private final ForkJoinPool pool;
+        private final int threshold;
+        private final int segmentSize;
+
+        private Settings(boolean enabled, ForkJoinPool pool, int threshold, int segmentSize) {
+            this.enabled = enabled;
+            this.pool = pool;
+            this.threshold = threshold;
+            this.segmentSize = segmentSize;
+        }
+    }
+}
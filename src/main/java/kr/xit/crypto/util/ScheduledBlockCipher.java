@@ -0,0 +1,125 @@
+package kr.xit.crypto.util;
+
+import java.util.*;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.params.*;
+
+/**
+ * <pre>
+ * key schedule(라운드 키)을 한번만 계산하여 재사용하는 BlockCipher
+ * - mode cipher(GCM, CBC 등)는 init 할 때마다 엔진의 init을 호출하여 라운드 키를 다시 계산
+ *   -> 동일한 key로 init 되는 경우 암/복호화 방향만 전환하고 key schedule은 생략
+ * - 암호화 / 복호화 엔진을 각각 보관하며, 복호화 엔진은 최초 사용시 생성
+ * - thread safe 하지 않으므로 KeyMaterial 에서 thread 별로 생성하여 사용
+ * - 엔진이 MultiBlockCipher(LeaMultiBlockEngine)이면 processBlocks를 그대로 위임
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : ScheduledBlockCipher
+ * author      : limju
+ * date        : 2026 10월 16
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 16   limju       최초 생성
+ * 2026 10월 16   limju       MultiBlockCipher 위임 추가
+ *
+ * </pre>
+ */
+public class ScheduledBlockCipher implements MultiBlockCipher {
+    private final CipherAlgorithm algorithm;
+    private KeyParameter keyParameter;
+
+    private BlockCipher encryptEngine;
+    private BlockCipher decryptEngine;
+    private BlockCipher current;
+
+    ScheduledBlockCipher(CipherAlgorithm algorithm, KeyParameter keyParameter) {
+        this.algorithm = algorithm;
+        this.keyParameter = keyParameter;
+        this.encryptEngine = algorithm.newEngine();
+        this.encryptEngine.init(true, keyParameter);
+        this.current = encryptEngine;
+    }
+
+    public CipherAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public void init(boolean forEncryption, CipherParameters params) {
+        if (params != keyParameter && !isSameKey(params)) {
+            // 다른 key로 init 되는 경우 key schedule을 다시 계산
+            if (!(params instanceof KeyParameter)) {
+                throw new IllegalArgumentException("invalid parameter passed to " + algorithm + " init - " + (params == null ? "null" : params.getClass().getName()));
+            }
+            keyParameter = (KeyParameter)params;
+            encryptEngine = algorithm.newEngine();
+            encryptEngine.init(true, keyParameter);
+            decryptEngine = null;
+        }
+
+        if (forEncryption) {
+            current = encryptEngine;
+            return;
+        }
+        if (decryptEngine == null) {
+            decryptEngine = algorithm.newEngine();
+            decryptEngine.init(false, keyParameter);
+        }
+        current = decryptEngine;
+    }
+
+    private boolean isSameKey(CipherParameters params) {
+        return params instanceof KeyParameter
+            && Arrays.equals(((KeyParameter)params).getKey(), keyParameter.getKey());
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return current.getAlgorithmName();
+    }
+
+    @Override
+    public int getBlockSize() {
+        return current.getBlockSize();
+    }
+
+    @Override
+    public int processBlock(byte[] in, int inOff, byte[] out, int outOff) {
+        return current.processBlock(in, inOff, out, outOff);
+    }
+
+    @Override
+    public int getMultiBlockSize() {
+        return current instanceof MultiBlockCipher ? ((MultiBlockCipher)current).getMultiBlockSize() : current.getBlockSize();
+    }
+
+    @Override
+    public int processBlocks(byte[] in, int inOff, int blockCount, byte[] out, int outOff) {
+        if (current instanceof MultiBlockCipher) {
+            return ((MultiBlockCipher)current).processBlocks(in, inOff, blockCount, out, outOff);
+        }
+        int blockSize = current.getBlockSize();
+        for (int i = 0; i < blockCount; i++) {
+            current.processBlock(in, inOff + i * blockSize, out, outOff + i * blockSize);
+        }
+        return blockCount * blockSize;
+    }
+
+    /**
+     * <pre>
+     * 여러 블록 교차 처리 지원 여부
+     * @return boolean
+     * </pre>
+     */
+    public boolean isMultiBlock() {
+        return getMultiBlockSize() > current.getBlockSize();
+    }
+
+    @Override
+    public void reset() {
+        current.reset();
+    }
+}
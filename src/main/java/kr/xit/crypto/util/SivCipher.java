@@ -0,0 +1,232 @@
+package kr.xit.crypto.util;
+
+import java.nio.charset.*;
+import java.util.*;
+import java.util.function.*;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.macs.*;
+import org.bouncycastle.crypto.params.*;
+
+import kr.xit.crypto.config.*;
+
+/**
+ * <pre>
+ * SIV(Synthetic IV, RFC 5297) 결정적(deterministic) AEAD - ARIA, LEA
+ * - 같은 key, aad, 평문은 항상 같은 암호문 -> 암호문으로 동등(=) 검색, B-tree index 사용 가능
+ *   (같은 값인지 여부 외에는 노출되지 않음 - ECB, 고정 IV GCM 과 달리 블록 단위 패턴, keystream 재사용 없음)
+ * - 암호화 : V = S2V(K1, aad, 평문)  (CMAC 기반), 암호문 = V(16) + CTR(K2, Q = V의 31, 63 bit 제거, 평문)
+ * - 복호화 : CTR 복호화 후 S2V를 다시 계산하여 V와 비교 - 불일치시 위변조
+ * - K1(CMAC), K2(CTR)는 하나의 key 에서 CMAC 기반 KDF(NIST SP 800-108 counter mode)로 알고리즘 별 유도
+ *   -> 16, 24, 32 byte key 그대로 사용 (RFC 5297 의 2배 길이 key 불필요)
+ * - key 별 상태(유도 key, thread 별 초기화된 CMAC, CMAC(0) 값, CTR용 KeyMaterial)는 KeyMaterial에 cache
+ *   -> CTR은 BlockCipherModes(ModeCipherPool, 선계산, 병렬 처리) 사용
+ *
+ * description :
+ * packageName : kr.xit.crypto.util
+ * fileName    : SivCipher
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+final class SivCipher {
+    static final int BLOCK_SIZE = 16;
+
+    private SivCipher() {
+    }
+
+    /**
+     * <pre>
+     * SIV 암복호화 - out 배열에 직접 기록
+     * - 암호화 : out 에 len + 16 byte 필요
+     * - 복호화 : out 에 len - 16 byte 필요, 위변조시 BizRuntimeException
+     * @return out 에 기록한 길이
+     * </pre>
+     */
+    static int process(CipherAlgorithm algorithm, boolean forEncryption, KeyMaterial keyMaterial, byte[] aad,
+        byte[] in, int inOff, int len, byte[] out, int outOff) {
+        SivKey sivKey = keyMaterial.siv(algorithm);
+        // 입출력 영역이 겹치면 CTR 처리 중 아직 읽지 않은 입력을 덮어쓸 수 있으므로 복사
+        if (in == out && inOff < outOff + len + BLOCK_SIZE && outOff < inOff + len) {
+            in = Arrays.copyOfRange(in, inOff, inOff + len);
+            inOff = 0;
+        }
+        return forEncryption
+            ? sivKey.encrypt(aad, in, inOff, len, out, outOff)
+            : sivKey.decrypt(aad, in, inOff, len, out, outOff);
+    }
+
+    /**
+     * <pre>
+     * CMAC 기반 KDF (NIST SP 800-108 counter mode)
+     * K(i) = CMAC(key, [i]1 || label || 0x00 || [L]2), L = length * 8
+     * </pre>
+     */
+    static byte[] derive(BlockCipher engine, KeyParameter key, byte[] label, int length) {
+        CMac prf = new CMac(engine);
+        prf.init(key);
+        byte[] derived = new byte[length];
+        byte[] block = new byte[BLOCK_SIZE];
+        int bits = length * 8;
+        for (int i = 1, off = 0; off < length; i++, off += BLOCK_SIZE) {
+            prf.update((byte)i);
+            prf.update(label, 0, label.length);
+            prf.update((byte)0);
+            prf.update((byte)(bits >>> 8));
+            prf.update((byte)bits);
+            prf.doFinal(block, 0);
+            System.arraycopy(block, 0, derived, off, Math.min(BLOCK_SIZE, length - off));
+        }
+        return derived;
+    }
+
+    /**
+     * CTR 처리 - iv(Q)로 in 을 out 에 암복호화
+     */
+    interface Ctr {
+        void process(boolean forEncryption, byte[] iv, byte[] in, int inOff, int len, byte[] out, int outOff);
+    }
+
+    /**
+     * key 별 SIV 상태
+     */
+    static final class SivKey {
+        private final ThreadLocal<CMac> mac;
+        // S2V 초기값 D = CMAC(K1, 0^128)
+        private final byte[] zeroMac;
+        private final Ctr ctr;
+
+        /**
+         * <pre>
+         * @param macEngine CMAC 엔진 생성
+         * @param macKey K1
+         * @param ctr K2 CTR 처리
+         * </pre>
+         */
+        SivKey(Supplier<BlockCipher> macEngine, KeyParameter macKey, Ctr ctr) {
+            this.mac = ThreadLocal.withInitial(() -> {
+                CMac cmac = new CMac(macEngine.get());
+                cmac.init(macKey);
+                return cmac;
+            });
+            this.ctr = ctr;
+            this.zeroMac = new byte[BLOCK_SIZE];
+            CMac cmac = mac.get();
+            cmac.update(new byte[BLOCK_SIZE], 0, BLOCK_SIZE);
+            cmac.doFinal(zeroMac, 0);
+        }
+
+        /**
+         * <pre>
+         * key 에서 알고리즘 별 K1, K2 유도
+         * </pre>
+         */
+        static SivKey derive(CipherAlgorithm algorithm, KeyParameter key) {
+            int keyLength = key.getKeyLength();
+            byte[] label = ("SIV-" + algorithm.name()).getBytes(StandardCharsets.US_ASCII);
+            byte[] derived = SivCipher.derive(algorithm.newEngine(), key, label, keyLength * 2);
+            KeyParameter macKey = new KeyParameter(derived, 0, keyLength);
+            KeyMaterial encKey = new KeyMaterial(null, Arrays.copyOfRange(derived, keyLength, keyLength * 2));
+            Arrays.fill(derived, (byte)0);
+
+            return new SivKey(() -> new ScheduledBlockCipher(algorithm, macKey), macKey,
+                (forEncryption, iv, in, inOff, len, out, outOff) -> BlockCipherModes.execute(algorithm, CipherMode.CTR,
+                    forEncryption, encKey, iv, null, in, inOff, len, out, outOff));
+        }
+
+        int encrypt(byte[] aad, byte[] in, int inOff, int len, byte[] out, int outOff) {
+            byte[] v = s2v(aad, in, inOff, len);
+            ctr.process(true, counter(v), in, inOff, len, out, outOff + BLOCK_SIZE);
+            System.arraycopy(v, 0, out, outOff, BLOCK_SIZE);
+            return len + BLOCK_SIZE;
+        }
+
+        int decrypt(byte[] aad, byte[] in, int inOff, int len, byte[] out, int outOff) {
+            if (len < BLOCK_SIZE) {
+                throw BizRuntimeException.create("데이터가 위변조되었습니다.");
+            }
+            byte[] v = Arrays.copyOfRange(in, inOff, inOff + BLOCK_SIZE);
+            int plainLength = len - BLOCK_SIZE;
+            ctr.process(false, counter(v), in, inOff + BLOCK_SIZE, plainLength, out, outOff);
+
+            if (!org.bouncycastle.util.Arrays.constantTimeAreEqual(v, s2v(aad, out, outOff, plainLength))) {
+                Arrays.fill(out, outOff, outOff + plainLength, (byte)0);
+                throw BizRuntimeException.create("데이터가 위변조되었습니다.");
+            }
+            return plainLength;
+        }
+
+        /**
+         * <pre>
+         * S2V(K1, aad, 평문) - aad 가 null 이면 평문만 사용
+         * </pre>
+         */
+        byte[] s2v(byte[] aad, byte[] in, int inOff, int len) {
+            CMac cmac = mac.get();
+            byte[] d = zeroMac.clone();
+            byte[] block = new byte[BLOCK_SIZE];
+            if (aad != null) {
+                dbl(d);
+                cmac.update(aad, 0, aad.length);
+                cmac.doFinal(block, 0);
+                xor(d, block, 0);
+            }
+
+            if (len >= BLOCK_SIZE) {
+                // T = 평문 xorend D
+                int head = len - BLOCK_SIZE;
+                cmac.update(in, inOff, head);
+                System.arraycopy(in, inOff + head, block, 0, BLOCK_SIZE);
+                xor(block, d, 0);
+                cmac.update(block, 0, BLOCK_SIZE);
+            } else {
+                // T = dbl(D) xor pad(평문)
+                dbl(d);
+                Arrays.fill(block, (byte)0);
+                System.arraycopy(in, inOff, block, 0, len);
+                block[len] = (byte)0x80;
+                xor(block, d, 0);
+                cmac.update(block, 0, BLOCK_SIZE);
+            }
+            byte[] v = new byte[BLOCK_SIZE];
+            cmac.doFinal(v, 0);
+            return v;
+        }
+
+        /**
+         * CTR 초기 counter Q - V의 31, 63 bit(뒤에서 두 32bit word의 최상위 bit) 제거
+         */
+        private static byte[] counter(byte[] v) {
+            byte[] q = v.clone();
+            q[8] &= 0x7f;
+            q[12] &= 0x7f;
+            return q;
+        }
+
+        /**
+         * GF(2^128) 2배 (x^128 + x^7 + x^2 + x + 1)
+         */
+        private static void dbl(byte[] block) {
+            int carry = 0;
+            for (int i = BLOCK_SIZE - 1; i >= 0; i--) {
+                int b = block[i] & 0xff;
+                block[i] = (byte)((b << 1) | carry);
+                carry = b >>> 7;
+            }
+            if (carry != 0) {
+                block[BLOCK_SIZE - 1] ^= (byte)0x87;
+            }
+        }
+
+        private static void xor(byte[] target, byte[] source, int sourceOff) {
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                target[i] ^= source[sourceOff + i];
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package kr.xit.crypto.web;
+
+import java.io.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+import org.springframework.web.filter.*;
+import org.springframework.web.servlet.*;
+
+import kr.xit.crypto.metrics.*;
+
+/**
+ * <pre>
+ * description : 요청별 할당량 측정 filter (app.crypto.allocation.enabled)
+ *               - 요청, async dispatch 마다 요청 thread 할당량을 요청 attribute(RequestAllocation)에 합산
+ *               - 응답이 끝나는 dispatch(async 시작 안 됨)에서 mapping pattern, 운용 모드 별로 기록
+ * packageName : kr.xit.crypto.web
+ * fileName    : AllocationFilter
+ * author      : limju
+ * date        : 2026 10월 17
+ * ======================================================================
+ * 변경일         변경자        변경 내용
+ * ----------------------------------------------------------------------
+ * 2026 10월 17   limju       최초 생성
+ *
+ * </pre>
+ */
+public class AllocationFilter extends OncePerRequestFilter {
+    private static final String ATTRIBUTE = AllocationFilter.class.getName() + ".ALLOCATION";
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final AllocationRecorder recorder;
+
+    public AllocationFilter(AllocationRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        RequestAllocation allocation = (RequestAllocation)request.getAttribute(ATTRIBUTE);
+        if (allocation == null) {
+            allocation = new RequestAllocation();
+            request.setAttribute(ATTRIBUTE, allocation);
+        }
+
+        AllocationRecorder.attach(allocation);
+        long start = AllocationRecorder.threadAllocatedBytes();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            allocation.add(AllocationRecorder.threadAllocatedBytes() - start);
+            AllocationRecorder.detach();
+            if (!request.isAsyncStarted()) {
+                recorder.record(endpoint(request), allocation);
+            }
+        }
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMAPPED;
+    }
+}
@@ -1,6 +1,13 @@
 package kr.xit.crypto.web;
 
+import java.io.*;
+import java.util.*;
+
+import javax.servlet.http.*;
+
+import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.*;
 
 import io.swagger.v3.oas.annotations.*;
 import io.swagger.v3.oas.annotations.tags.*;
@@ -8,6 +15,7 @@ import kr.xit.crypto.config.*;
 import kr.xit.crypto.model.*;
 import kr.xit.crypto.service.*;
 import lombok.*;
+import lombok.extern.slf4j.*;
 
 /**
  * <pre>
@@ -20,24 +28,121 @@ import lombok.*;
  * 변경일         변경자        변경 내용
  * ----------------------------------------------------------------------
  * 2024 11월 07   limju       최초 생성
+ * 2026 10월 17   limju       요청 크기에 따른 비동기 처리(CryptoAsyncExecutor) 적용
+ * 2026 10월 17   limju       inline 처리는 ApiResponse 직접 반환(executor 처리만 DeferredResult)
+ * 2026 10월 17   limju       요청 본문(text/plain) 암복호화 추가 - GET query string 은 항상 threshold 미만
  *
  * </pre>
  */
+@Slf4j
 @Tag(name = "CryptoCipherController", description = "ARIA 암복호화")
 @RestController
 @RequiredArgsConstructor
 public class CryptoCipherController {
     private final CryptoCipherService cryptoCipherService;
+    private final CryptoAsyncExecutor cryptoAsyncExecutor;
 
+    /**
+     * <pre>
+     * query string 은 WAS 의 request header 크기 제한(8KB 내외)을 받으므로 async.threshold 이상이 될 수 없음
+     * -> 항상 요청 thread 에서 처리(inline), 큰 값은 POST 요청 본문(encodeBody) 사용
+     * </pre>
+     */
     @Operation(summary = "암호화" , description = "암호화 - 암호화후 Base64로 encoding 하여 return")
     @GetMapping(value = "/crypto/encode")
-    public ApiResponse<?> encode(final String plainText) {
-        return ApiResponse.of(cryptoCipherService.encryptBase64(plainText));
+    public Object encode(final String plainText) {
+        return cryptoAsyncExecutor.execute(length(plainText),
+            () -> ApiResponse.of(cryptoCipherService.encryptBase64(plainText)));
     }
 
+    /**
+     * <pre>
+     * query string 은 항상 inline 처리 - 큰 값은 POST 요청 본문(decodeBody) 사용
+     * </pre>
+     */
     @Operation(summary = "복호화" , description = "복호화 - Base64 encoding된 암호화된 데이타 대상")
     @GetMapping(value = "/crypto/decode")
-    public ApiResponse<?> decode(final String base64Text) {
-        return ApiResponse.of(cryptoCipherService.decryptBase64(base64Text));
+    public Object decode(final String base64Text) {
+        return cryptoAsyncExecutor.execute(length(base64Text),
+            () -> ApiResponse.of(cryptoCipherService.decryptBase64(base64Text)));
+    }
+
+    @Operation(summary = "암호화(요청 본문)" , description = "암호화 - text/plain 요청 본문을 암호화후 Base64로 encoding 하여 return (크기 제한 없음, threshold 이상이면 비동기 처리)")
+    @PostMapping(value = "/crypto/encode", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public Object encodeBody(@RequestBody final String plainText) {
+        return cryptoAsyncExecutor.execute(length(plainText),
+            () -> ApiResponse.of(cryptoCipherService.encryptBase64(plainText)));
+    }
+
+    @Operation(summary = "복호화(요청 본문)" , description = "복호화 - Base64 encoding된 암호화된 데이타(text/plain 요청 본문) 대상 (threshold 이상이면 비동기 처리)")
+    @PostMapping(value = "/crypto/decode", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public Object decodeBody(@RequestBody final String base64Text) {
+        return cryptoAsyncExecutor.execute(length(base64Text),
+            () -> ApiResponse.of(cryptoCipherService.decryptBase64(base64Text)));
+    }
+
+    @Operation(summary = "일괄 암호화" , description = "일괄 암호화 - 요청 순서대로 건별 성공 여부와 Base64로 encoding된 결과를 return")
+    @PostMapping(value = "/crypto/encode/batch")
+    public Object encodeBatch(@RequestBody final BatchRequest request) {
+        return cryptoAsyncExecutor.execute(length(request.getValues()),
+            () -> ApiResponse.of(cryptoCipherService.encryptBatch(request.getValues())));
+    }
+
+    @Operation(summary = "일괄 복호화" , description = "일괄 복호화 - 요청 순서대로 건별 성공 여부와 복호화 결과를 return")
+    @PostMapping(value = "/crypto/decode/batch")
+    public Object decodeBatch(@RequestBody final BatchRequest request) {
+        return cryptoAsyncExecutor.execute(length(request.getValues()),
+            () -> ApiResponse.of(cryptoCipherService.decryptBatch(request.getValues())));
+    }
+
+    @Operation(summary = "비동기 처리 현황" , description = "비동기 처리 현황 - inline/executor 처리 건수, queue 대기 건수, 거절 건수")
+    @GetMapping(value = "/crypto/stats/async")
+    public ApiResponse<?> asyncStats() {
+        return ApiResponse.of(cryptoAsyncExecutor.stats());
+    }
+
+    @Operation(summary = "스트림 암호화" , description = "스트림 암호화 - application/octet-stream 요청 본문을 chunk 단위로 암호화하여 그대로 return")
+    @PostMapping(value = "/crypto/encode/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+        produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> encodeStream(final HttpServletRequest request) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .body(out -> cryptoCipherService.encryptStream(request.getInputStream(), out));
+    }
+
+    /**
+     * <pre>
+     * 응답이 시작된 후 위변조가 확인되면 응답을 중단(연결 종료)하므로
+     * 클라이언트는 응답을 끝까지 정상 수신한 경우에만 결과를 사용하여야 한다
+     * </pre>
+     */
+    @Operation(summary = "스트림 복호화" , description = "스트림 복호화 - /crypto/encode/stream 으로 암호화된 application/octet-stream 요청 본문을 복호화하여 return")
+    @PostMapping(value = "/crypto/decode/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+        produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> decodeStream(final HttpServletRequest request) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .body(out -> {
+                try {
+                    cryptoCipherService.decryptStream(request.getInputStream(), out);
+                } catch (IOException e) {
+                    log.error("==== stream decode 실패 ====\n{}", e.getMessage());
+                    throw e;
+                }
+            });
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static long length(List<String> values) {
+        long total = 0;
+        if (values != null) {
+            for (String value : values) {
+                total += length(value);
+            }
+        }
+        return total;
     }
 }
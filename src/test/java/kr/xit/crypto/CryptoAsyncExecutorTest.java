@@ -0,0 +1,86 @@
+package kr.xit.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.*;
+import org.springframework.test.util.*;
+import org.springframework.web.context.request.async.*;
+
+import kr.xit.crypto.service.*;
+
+public class CryptoAsyncExecutorTest {
+    private CryptoAsyncExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = new CryptoAsyncExecutor();
+        ReflectionTestUtils.setField(executor, "enabled", true);
+        ReflectionTestUtils.setField(executor, "threshold", 100L);
+        ReflectionTestUtils.setField(executor, "poolSize", 1);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(executor, "timeout", 10000L);
+        executor.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("threshold 미만은 요청 thread 에서 바로 처리")
+    public void testExecute_Small_Inline() {
+        String caller = Thread.currentThread().getName();
+        Object result = executor.execute(10, () -> Thread.currentThread().getName());
+
+        assertEquals(caller, result);
+        assertEquals(1L, executor.stats().get("inline"));
+    }
+
+    @Test
+    @DisplayName("threshold 이상은 executor 처리, queue 초과는 거절")
+    public void testExecute_Large_AsyncAndRejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        DeferredResult<?> running = (DeferredResult<?>)executor.execute(1000, () -> {
+            started.countDown();
+            await(release);
+            return Thread.currentThread().getName();
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        DeferredResult<?> queued = (DeferredResult<?>)executor.execute(1000, () -> "queued");
+        DeferredResult<?> rejected = (DeferredResult<?>)executor.execute(1000, () -> "rejected");
+
+        assertEquals(1, executor.getQueueDepth());
+        assertEquals(1L, executor.getRejectedCount());
+        assertTrue(rejected.getResult() instanceof RejectedExecutionException);
+
+        release.countDown();
+        assertTrue(waitFor(queued));
+        assertTrue(((String)running.getResult()).startsWith("crypto-async-"));
+        assertEquals("queued", queued.getResult());
+
+        Map<String, Long> stats = executor.stats();
+        assertEquals(2L, stats.get("submitted"));
+        assertEquals(0L, stats.get("queue-depth"));
+    }
+
+    private static boolean waitFor(DeferredResult<?> result) throws InterruptedException {
+        for (int i = 0; i < 1000 && !result.hasResult(); i++) {
+            Thread.sleep(10);
+        }
+        return result.hasResult();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
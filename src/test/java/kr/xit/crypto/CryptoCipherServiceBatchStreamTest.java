@@ -0,0 +1,76 @@
+package kr.xit.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.test.context.*;
+import org.springframework.test.context.*;
+
+import kr.xit.crypto.config.*;
+import kr.xit.crypto.model.*;
+import kr.xit.crypto.service.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "app.crypto.alg=ARIA",
+    "app.crypto.mode=GCM",
+    "app.crypto.key=4dVAF8dClfelcZjfFU7gg9kgEI7CTjOMQGDyHna236Y=",
+    "app.crypto.iv=NZc5qzWFi/p5wb8HKYzGKA=="
+})
+public class CryptoCipherServiceBatchStreamTest {
+
+    @Autowired
+    private CryptoCipherService cryptoCipherService;
+
+    @Test
+    @DisplayName("일괄 암복호화 - 요청 순서대로 건별 결과")
+    public void testBatch_MixedInput_ItemResults() {
+        // arrange
+        List<String> plainTexts = Arrays.asList("hello", "", null, "world");
+
+        // act
+        List<BatchItemResult> encrypted = cryptoCipherService.encryptBatch(plainTexts);
+        List<String> base64Texts = encrypted.stream().map(BatchItemResult::getValue).collect(Collectors.toList());
+        base64Texts.set(2, "not base64!");
+        List<BatchItemResult> decrypted = cryptoCipherService.decryptBatch(base64Texts);
+
+        // assert
+        assertEquals(4, encrypted.size());
+        assertFalse(encrypted.get(2).isSuccess());
+        assertEquals("hello", decrypted.get(0).getValue());
+        assertEquals("", decrypted.get(1).getValue());
+        assertFalse(decrypted.get(2).isSuccess());
+        assertEquals(2, decrypted.get(2).getIndex());
+        assertEquals("world", decrypted.get(3).getValue());
+    }
+
+    @Test
+    @DisplayName("일괄 처리 건수 초과시 Exception")
+    public void testBatch_TooLarge_ThrowsException() {
+        List<String> plainTexts = Collections.nCopies(10001, "a");
+
+        assertThrows(BizRuntimeException.class, () -> cryptoCipherService.encryptBatch(plainTexts));
+    }
+
+    @Test
+    @DisplayName("스트림 암복호화 성공")
+    public void testStream_LargeInput_CorrectDecryption() throws Exception {
+        // arrange
+        byte[] plainBytes = new byte[300 * 1024 + 7];
+        new Random(7).nextBytes(plainBytes);
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+
+        // act
+        cryptoCipherService.encryptStream(new ByteArrayInputStream(plainBytes), encrypted);
+        cryptoCipherService.decryptStream(new ByteArrayInputStream(encrypted.toByteArray()), decrypted);
+
+        // assert
+        assertArrayEquals(plainBytes, decrypted.toByteArray());
+    }
+}
@@ -0,0 +1,99 @@
+package kr.xit.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.test.context.*;
+import org.springframework.test.context.*;
+import org.springframework.util.StreamUtils;
+
+import kr.xit.crypto.config.*;
+import kr.xit.crypto.service.*;
+import kr.xit.crypto.util.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "app.crypto.alg=ARIA",
+    "app.crypto.mode=GCM",
+    "app.crypto.key=4dVAF8dClfelcZjfFU7gg9kgEI7CTjOMQGDyHna236Y=",
+    "app.crypto.iv=NZc5qzWFi/p5wb8HKYzGKA==",
+    "app.crypto.key-id=keyring-base",
+    "app.crypto.nonce.enabled=false",
+    "app.crypto.envelope.enabled=true",
+    "app.crypto.keyring.file=target/keyring/service-test.properties"
+})
+public class CryptoCipherServiceKeyRingTest {
+    private static final byte[] ACTIVE_KEY = "keyring-active-key-0123456789abc".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        // context 생성(KeyRing 적재) 전에 key 파일 작성
+        try {
+            Path file = Paths.get("target/keyring/service-test.properties");
+            Files.createDirectories(file.getParent());
+            Files.write(file, Arrays.asList("active=ring-2",
+                "key.ring-1=" + Base64.getEncoder().encodeToString("keyring-old-key-0123456789abcdef".getBytes(StandardCharsets.US_ASCII)),
+                "key.ring-2=" + Base64.getEncoder().encodeToString(ACTIVE_KEY)), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Autowired
+    private CryptoCipherService cryptoCipherService;
+
+    @Test
+    @DisplayName("keyring 사용시 스트림은 활성 key 로 암호화하고 key ID header 기록")
+    public void testStream_ActiveKeyIdRecorded() throws Exception {
+        byte[] plainBytes = new byte[200_000];
+        new Random(7).nextBytes(plainBytes);
+
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        cryptoCipherService.encryptStream(new ByteArrayInputStream(plainBytes), encrypted);
+        byte[] cipherBytes = encrypted.toByteArray();
+        assertEquals('K', cipherBytes[0]);
+        assertEquals("ring-2", new String(cipherBytes, 2, cipherBytes[1], StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+        cryptoCipherService.decryptStream(new ByteArrayInputStream(cipherBytes), decrypted);
+        assertArrayEquals(plainBytes, decrypted.toByteArray());
+
+        // 활성 key 로 암호화 - header 이후는 활성 key 의 ChunkedAead 스트림(aad: key ID header)
+        byte[] keyIdHeader = Arrays.copyOf(cipherBytes, 2 + cipherBytes[1]);
+        try (InputStream plainIn = new ChunkedAeadInputStream(CipherAlgorithm.ARIA, ACTIVE_KEY,
+            new ByteArrayInputStream(cipherBytes, keyIdHeader.length, cipherBytes.length - keyIdHeader.length), keyIdHeader)) {
+            assertArrayEquals(plainBytes, StreamUtils.copyToByteArray(plainIn));
+        }
+    }
+
+    @Test
+    @DisplayName("스트림 key ID header 변경시 인증 실패")
+    public void testStream_KeyIdSwapped_ThrowsException() throws Exception {
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        cryptoCipherService.encryptStream(new ByteArrayInputStream("hello stream".getBytes(StandardCharsets.UTF_8)), encrypted);
+        byte[] cipherBytes = encrypted.toByteArray();
+        cipherBytes[2 + cipherBytes[1] - 1] = '1';
+
+        assertThrows(IOException.class,
+            () -> cryptoCipherService.decryptStream(new ByteArrayInputStream(cipherBytes), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    @DisplayName("key ID header 없는 스트림은 app.crypto.key 로 복호화")
+    public void testStream_WithoutKeyIdHeader_DecryptedWithBaseKey() throws Exception {
+        byte[] key = Base64.getDecoder().decode("4dVAF8dClfelcZjfFU7gg9kgEI7CTjOMQGDyHna236Y=");
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        try (OutputStream cipherOut = new ChunkedAeadOutputStream(CipherAlgorithm.ARIA, key, encrypted, null)) {
+            cipherOut.write("baseline stream".getBytes(StandardCharsets.UTF_8));
+        }
+
+        ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+        cryptoCipherService.decryptStream(new ByteArrayInputStream(encrypted.toByteArray()), decrypted);
+        assertEquals("baseline stream", new String(decrypted.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
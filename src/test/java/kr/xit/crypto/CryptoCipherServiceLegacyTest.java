@@ -0,0 +1,55 @@
+package kr.xit.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.*;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.test.context.*;
+import org.springframework.test.context.*;
+
+import kr.xit.crypto.config.*;
+import kr.xit.crypto.service.*;
+import kr.xit.crypto.util.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "app.crypto.alg=ARIA",
+    "app.crypto.mode=GCM",
+    "app.crypto.key=4dVAF8dClfelcZjfFU7gg9kgEI7CTjOMQGDyHna236Y=",
+    "app.crypto.iv=NZc5qzWFi/p5wb8HKYzGKA==",
+    "app.crypto.key-id=legacy-test",
+    "app.crypto.nonce.enabled=false",
+    "app.crypto.envelope.enabled=true"
+})
+public class CryptoCipherServiceLegacyTest {
+    private static final byte[] KEY = Base64.getDecoder().decode("4dVAF8dClfelcZjfFU7gg9kgEI7CTjOMQGDyHna236Y=");
+    private static final byte[] IV = Base64.getDecoder().decode("NZc5qzWFi/p5wb8HKYzGKA==");
+
+    @Autowired
+    private CryptoCipherService cryptoCipherService;
+
+    @Test
+    @DisplayName("envelope 사용중에도 header 없는 이전 형식 암호문 복호화")
+    public void testDecrypt_HeaderlessBaseline_Decrypted() {
+        byte[] baseline = AriaCryptoCipher.encryptGCM(KEY, IV, "hello world".getBytes(StandardCharsets.UTF_8), null);
+
+        assertEquals("hello world", cryptoCipherService.decryptBase64(Base64.getEncoder().encodeToString(baseline)));
+        assertEquals("hello world", new String(cryptoCipherService.decrypt(null, baseline), StandardCharsets.UTF_8));
+        // 신규 암호화는 envelope 형식
+        byte[] encrypted = cryptoCipherService.encrypt(null, "hello world".getBytes(StandardCharsets.UTF_8));
+        assertEquals("legacy-test", CipherEnvelope.keyIdOf(encrypted));
+        assertEquals("hello world", new String(cryptoCipherService.decrypt(null, encrypted), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("위변조된 이전 형식 암호문은 실패")
+    public void testDecrypt_TamperedBaseline_ThrowsException() {
+        byte[] baseline = AriaCryptoCipher.encryptGCM(KEY, IV, "hello world".getBytes(StandardCharsets.UTF_8), null);
+        baseline[3] ^= 1;
+
+        assertThrows(BizRuntimeException.class, () -> cryptoCipherService.decrypt(null, baseline));
+    }
+}
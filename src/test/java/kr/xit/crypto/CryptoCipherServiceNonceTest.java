@@ -0,0 +1,61 @@
+package kr.xit.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.*;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.test.context.*;
+import org.springframework.test.context.*;
+
+import kr.xit.crypto.config.*;
+import kr.xit.crypto.service.*;
+import kr.xit.crypto.util.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "app.crypto.alg=ARIA",
+    "app.crypto.mode=GCM",
+    "app.crypto.key=4dVAF8dClfelcZjfFU7gg9kgEI7CTjOMQGDyHna236Y=",
+    "app.crypto.iv=NZc5qzWFi/p5wb8HKYzGKA==",
+    "app.crypto.nonce.enabled=true",
+    "app.crypto.nonce.node-id=1",
+    "app.crypto.nonce.file=target/nonce/service-test.counter"
+})
+public class CryptoCipherServiceNonceTest {
+
+    @Autowired
+    private CryptoCipherService cryptoCipherService;
+
+    @Test
+    @DisplayName("이전 형식(고정 iv GCM) 암호문 복호화")
+    public void testDecrypt_BaselineFormat_Decrypted() {
+        // nonce, envelope 적용 전 CryptoCipherService.encryptBase64 결과
+        byte[] baseline = AriaCryptoCipher.encryptGCM(Base64.getDecoder().decode("4dVAF8dClfelcZjfFU7gg9kgEI7CTjOMQGDyHna236Y="),
+            Base64.getDecoder().decode("NZc5qzWFi/p5wb8HKYzGKA=="), "hello world".getBytes(StandardCharsets.UTF_8), null);
+
+        assertEquals("hello world", cryptoCipherService.decryptBase64(Base64.getEncoder().encodeToString(baseline)));
+        // 위변조된 이전 형식은 실패
+        baseline[baseline.length - 1] ^= 1;
+        assertThrows(BizRuntimeException.class,
+            () -> cryptoCipherService.decryptBase64(Base64.getEncoder().encodeToString(baseline)));
+    }
+
+    @Test
+    @DisplayName("같은 평문도 암호화 마다 nonce가 달라 다른 암호문 생성")
+    public void testEncrypt_SamePlainText_DifferentCipherText() {
+        // arrange
+        String plainText = "hello world";
+
+        // act
+        String first = cryptoCipherService.encryptBase64(plainText);
+        String second = cryptoCipherService.encryptBase64(plainText);
+
+        // assert
+        assertNotEquals(first, second);
+        assertEquals(plainText, cryptoCipherService.decryptBase64(first));
+        assertEquals(plainText, cryptoCipherService.decryptBase64(second));
+    }
+}
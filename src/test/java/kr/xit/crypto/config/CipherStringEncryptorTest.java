@@ -0,0 +1,81 @@
+package kr.xit.crypto.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jasypt.encryption.pbe.*;
+import org.jasypt.exceptions.*;
+import org.junit.jupiter.api.*;
+
+import kr.xit.crypto.util.*;
+
+public class CipherStringEncryptorTest {
+    private static final String PASSWORD = "xit5811807!@";
+    private static final String SALT = "kr.xit.crypto.jasypt";
+
+    @Test
+    @DisplayName("ARIA, LEA GCM 암복호화 - 알고리즘은 prefix 로 판별")
+    public void testEncryptDecrypt() {
+        CipherStringEncryptor aria = new CipherStringEncryptor(CipherAlgorithm.ARIA, PASSWORD, SALT, 1000, null);
+        CipherStringEncryptor lea = new CipherStringEncryptor(CipherAlgorithm.LEA, PASSWORD, SALT, 1000, null);
+
+        String encrypted = aria.encrypt("비밀 값");
+        assertTrue(encrypted.startsWith("ARIA-GCM:"));
+        assertNotEquals(encrypted, aria.encrypt("비밀 값"));
+        assertEquals("비밀 값", aria.decrypt(encrypted));
+        // 알고리즘 변경 전 값도 복호화
+        assertEquals("비밀 값", lea.decrypt(encrypted));
+        assertEquals("", aria.decrypt(lea.encrypt("")));
+    }
+
+    @Test
+    @DisplayName("위변조, 다른 key, 형식 오류는 EncryptionOperationNotPossibleException")
+    public void testDecrypt_Invalid() {
+        CipherStringEncryptor encryptor = new CipherStringEncryptor(CipherAlgorithm.LEA, PASSWORD, SALT, 1000, null);
+        String encrypted = encryptor.encrypt("value");
+
+        // prefix 는 AAD 로 인증
+        assertThrows(EncryptionOperationNotPossibleException.class, () -> encryptor.decrypt("ARIA" + encrypted.substring(3)));
+        assertThrows(EncryptionOperationNotPossibleException.class,
+            () -> new CipherStringEncryptor(CipherAlgorithm.LEA, "other", SALT, 1000, null).decrypt(encrypted));
+        assertThrows(EncryptionOperationNotPossibleException.class, () -> encryptor.decrypt("LEA-GCM:AAAA"));
+        assertThrows(EncryptionOperationNotPossibleException.class, () -> encryptor.decrypt("plain"));
+    }
+
+    @Test
+    @DisplayName("prefix 없는 기존 PBE 값은 legacy encryptor 로 복호화")
+    public void testDecrypt_Legacy() {
+        StandardPBEStringEncryptor pbe = new StandardPBEStringEncryptor();
+        pbe.setAlgorithm("PBEWithMD5AndDES");
+        pbe.setPassword(PASSWORD);
+        String legacyValue = pbe.encrypt("legacy");
+
+        CipherStringEncryptor encryptor = new CipherStringEncryptor(CipherAlgorithm.ARIA, PASSWORD, SALT, 1000, pbe);
+        assertEquals("legacy", encryptor.decrypt(legacyValue));
+    }
+
+    @Test
+    @DisplayName("여러 property 동시 복호화")
+    public void testDecrypt_Parallel() throws Exception {
+        CipherStringEncryptor encryptor = new CipherStringEncryptor(CipherAlgorithm.ARIA, PASSWORD, SALT, 1000, null);
+        List<String> encrypted = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            encrypted.add(encryptor.encrypt("value-" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (String value : encrypted) {
+                results.add(executor.submit(() -> encryptor.decrypt(value)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals("value-" + i, results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package kr.xit.crypto.jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import jdk.jfr.*;
+import jdk.jfr.consumer.*;
+import kr.xit.crypto.util.*;
+
+public class CryptoJfrTest {
+    private static final byte[] KEY = "0123456789abcdef".getBytes();
+    private static final byte[] IV = "0123456789ab".getBytes();
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setUp() {
+        assertTrue(CryptoJfr.enable());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CryptoJfr.disable();
+    }
+
+    @Test
+    @DisplayName("crypto.jfc 설정으로 암복호화, 서비스 event 기록")
+    public void testRecording_CryptoProfile() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording(profile())) {
+            recording.enable(CipherOperationEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(ServiceOperationEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            CipherSuite suite = CipherSuites.resolve(CipherAlgorithm.LEA, CipherMode.GCM, KeyMaterialCache.register("jfr", KEY), IV);
+            suite.decrypt(suite.encrypt(new byte[100]));
+            Object span = CryptoJfr.beginService();
+            assertNotNull(span);
+            CryptoJfr.endService(span, "encode", CipherAlgorithm.LEA, CipherMode.GCM, "jfr", 100, true);
+
+            recording.stop();
+            Path file = tempDir.resolve("crypto.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<RecordedEvent> ciphers = events.stream()
+            .filter(e -> e.getEventType().getName().equals(CipherOperationEvent.NAME))
+            .collect(Collectors.toList());
+        assertEquals(2, ciphers.size());
+        RecordedEvent encrypt = ciphers.stream().filter(e -> e.getBoolean("encryption")).findFirst().get();
+        assertEquals("LEA", encrypt.getString("algorithm"));
+        assertEquals("GCM", encrypt.getString("mode"));
+        assertEquals(100, encrypt.getLong("payloadSize"));
+        assertEquals("jfr", encrypt.getString("keyId"));
+        assertTrue(encrypt.getBoolean("success"));
+        assertNotNull(encrypt.getDuration());
+
+        RecordedEvent service = events.stream()
+            .filter(e -> e.getEventType().getName().equals(ServiceOperationEvent.NAME))
+            .findFirst().get();
+        assertEquals("encode", service.getString("operation"));
+        assertEquals(100, service.getLong("payloadSize"));
+    }
+
+    @Test
+    @DisplayName("인증 실패도 기록")
+    public void testRecording_Failure() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(CipherOperationEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            byte[] cipherText = AriaCryptoCipher.encryptGCM(KEY, IV, new byte[32], null);
+            cipherText[0] ^= 1;
+            assertThrows(RuntimeException.class, () -> AriaCryptoCipher.decryptGCM(KEY, IV, cipherText, null));
+
+            recording.stop();
+            Path file = tempDir.resolve("failure.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        RecordedEvent failed = events.stream()
+            .filter(e -> e.getEventType().getName().equals(CipherOperationEvent.NAME) && !e.getBoolean("encryption"))
+            .findFirst().get();
+        assertFalse(failed.getBoolean("success"));
+        assertEquals("ARIA", failed.getString("algorithm"));
+    }
+
+    @Test
+    @DisplayName("recording 이 없거나 비활성이면 event 를 생성하지 않음")
+    public void testDisabled_NoSpan() {
+        assertNull(CryptoJfr.beginService());
+        CryptoJfr.disable();
+        assertNull(CryptoJfr.beginService());
+        // 미등록 상태에서도 암복호화는 정상 처리
+        assertArrayEquals(new byte[16], AriaCryptoCipher.decryptGCM(KEY, IV, AriaCryptoCipher.encryptGCM(KEY, IV, new byte[16], null), null));
+    }
+
+    private static Configuration profile() throws IOException, java.text.ParseException {
+        try (Reader reader = new InputStreamReader(CryptoJfrTest.class.getResourceAsStream("/jfr/crypto.jfc"), StandardCharsets.UTF_8)) {
+            Configuration configuration = Configuration.create(reader);
+            assertEquals("true", configuration.getSettings().get(CipherOperationEvent.NAME + "#enabled"));
+            return configuration;
+        }
+    }
+}
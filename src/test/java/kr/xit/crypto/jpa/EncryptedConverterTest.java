@@ -0,0 +1,97 @@
+package kr.xit.crypto.jpa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.junit.jupiter.api.*;
+
+import kr.xit.crypto.util.*;
+
+public class EncryptedConverterTest {
+    private final AtomicInteger encryptCount = new AtomicInteger();
+    private final AtomicInteger decryptCount = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        KeyMaterial keyMaterial = KeyMaterialCache.register("jpa-test", "0123456789abcdef0123456789abcdef".getBytes());
+        CipherSuite suite = CipherSuites.resolve(CipherAlgorithm.ARIA, CipherMode.GCM, keyMaterial, "0123456789ab".getBytes());
+        EncryptedColumns.use(plainText -> {
+            encryptCount.incrementAndGet();
+            return suite.encrypt(plainText);
+        }, cipherText -> {
+            decryptCount.incrementAndGet();
+            return suite.decrypt(cipherText);
+        });
+    }
+
+    @Test
+    @DisplayName("String, byte[], 숫자 column 변환")
+    public void testConverters_RoundTrip() {
+        EncryptedStringConverter stringConverter = new EncryptedStringConverter();
+        String column = stringConverter.convertToDatabaseColumn(EncryptedString.of("홍길동@example.com"));
+        assertEquals("홍길동@example.com", stringConverter.convertToEntityAttribute(column).get());
+
+        EncryptedBytesConverter bytesConverter = new EncryptedBytesConverter();
+        byte[] bytes = {1, 2, 3, 4, 5};
+        byte[] binary = bytesConverter.convertToDatabaseColumn(EncryptedBytes.of(bytes));
+        assertFalse(Arrays.equals(bytes, binary));
+        assertArrayEquals(bytes, bytesConverter.convertToEntityAttribute(binary).get());
+
+        EncryptedNumberConverter numberConverter = new EncryptedNumberConverter();
+        BigDecimal amount = new BigDecimal("-12345678901234567890.1200");
+        assertEquals(amount, numberConverter.convertToEntityAttribute(numberConverter.convertToDatabaseColumn(EncryptedNumber.of(amount))).get());
+        assertEquals(42L, numberConverter.convertToEntityAttribute(numberConverter.convertToDatabaseColumn(EncryptedNumber.of(42L))).longValue());
+
+        assertNull(stringConverter.convertToDatabaseColumn(null));
+        assertNull(stringConverter.convertToEntityAttribute(null));
+        assertNull(EncryptedString.of(null));
+    }
+
+    @Test
+    @DisplayName("조회시 복호화하지 않고 get() 호출시 한번만 복호화, 변경 없는 값은 재암호화 없음")
+    public void testLazyDecrypt() {
+        EncryptedStringConverter converter = new EncryptedStringConverter();
+        List<String> columns = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            columns.add(converter.convertToDatabaseColumn(EncryptedString.of("value-" + i)));
+        }
+        assertEquals(100, encryptCount.get());
+
+        List<EncryptedString> rows = new ArrayList<>();
+        for (String column : columns) {
+            rows.add(converter.convertToEntityAttribute(column));
+        }
+        assertEquals(0, decryptCount.get());
+        assertFalse(rows.get(7).isDecrypted());
+
+        assertEquals("value-7", rows.get(7).get());
+        assertEquals("value-7", rows.get(7).get());
+        assertTrue(rows.get(7).isDecrypted());
+        assertEquals(1, decryptCount.get());
+
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(columns.get(i), converter.convertToDatabaseColumn(rows.get(i)));
+        }
+        assertEquals(100, encryptCount.get());
+        assertEquals(1, decryptCount.get());
+        assertEquals("EncryptedString(******)", rows.get(7).toString());
+    }
+
+    @Test
+    @DisplayName("같은 암호문은 복호화 없이 같은 값, 다른 인스턴스는 평문 비교")
+    public void testEquals() {
+        EncryptedStringConverter converter = new EncryptedStringConverter();
+        String column = converter.convertToDatabaseColumn(EncryptedString.of("same"));
+
+        assertEquals(converter.convertToEntityAttribute(column), converter.convertToEntityAttribute(column));
+        assertEquals(0, decryptCount.get());
+
+        assertEquals(EncryptedString.of("same"), converter.convertToEntityAttribute(column));
+        assertNotEquals(EncryptedString.of("other"), converter.convertToEntityAttribute(column));
+        assertEquals(EncryptedBytes.of(new byte[]{1, 2}), EncryptedBytes.of(new byte[]{1, 2}));
+        assertEquals(EncryptedBytes.of(new byte[]{1, 2}).hashCode(), EncryptedBytes.of(new byte[]{1, 2}).hashCode());
+    }
+}
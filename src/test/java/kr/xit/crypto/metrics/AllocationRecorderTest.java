@@ -0,0 +1,87 @@
+package kr.xit.crypto.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.*;
+import org.springframework.web.servlet.*;
+
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.simple.*;
+import kr.xit.crypto.util.*;
+import kr.xit.crypto.web.*;
+
+public class AllocationRecorderTest {
+    private static final byte[] KEY = "0123456789abcdef".getBytes();
+    private static final byte[] IV = "0123456789ab".getBytes();
+    private static final int SIZE = 1024 * 1024;
+
+    private MeterRegistry registry;
+    private AllocationRecorder recorder;
+
+    @BeforeEach
+    public void setUp() {
+        assertTrue(AllocationRecorder.enable());
+        registry = new SimpleMeterRegistry();
+        recorder = new AllocationRecorder(registry);
+        CipherObservers.register(recorder);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CipherObservers.unregister(recorder);
+    }
+
+    @Test
+    @DisplayName("요청 thread 할당량을 endpoint, 운용 모드별로 기록")
+    public void testFilter_RecordsEndpointAndMode() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/crypto/encode");
+        MockFilterChain chain = new MockFilterChain(new javax.servlet.http.HttpServlet() {
+            @Override
+            protected void service(javax.servlet.http.HttpServletRequest req, javax.servlet.http.HttpServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/crypto/encode");
+                AriaCryptoCipher.encryptGCM(KEY, IV, new byte[SIZE], null);
+            }
+        });
+        new AllocationFilter(recorder).doFilter(request, new MockHttpServletResponse(), chain);
+
+        Map<String, Long> stats = recorder.snapshot().get("/crypto/encode").get("GCM");
+        assertEquals(1, stats.get("count"));
+        // 평문 + 암호문
+        assertTrue(stats.get("total-bytes") >= 2L * SIZE, String.valueOf(stats.get("total-bytes")));
+        DistributionSummary summary = registry.get("crypto.request.allocation").tags("endpoint", "/crypto/encode", "mode", "GCM").summary();
+        assertEquals(1, summary.count());
+
+        recorder.reset();
+        assertEquals(0, recorder.snapshot().get("/crypto/encode").get("GCM").get("count"));
+    }
+
+    @Test
+    @DisplayName("다른 thread 처리 할당량도 요청에 합산")
+    public void testWrap_OtherThread() throws Exception {
+        RequestAllocation allocation = new RequestAllocation();
+        Supplier<byte[]> task;
+        AllocationRecorder.attach(allocation);
+        try {
+            task = AllocationRecorder.wrap(() -> LeaCryptoCipher.encryptCTR(KEY, IV, new byte[SIZE]));
+        } finally {
+            AllocationRecorder.detach();
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(task::get).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(allocation.getBytes() >= 2L * SIZE, String.valueOf(allocation.getBytes()));
+        assertEquals(CipherMode.CTR, allocation.getMode());
+        // 요청이 없는 thread 에서는 그대로 실행
+        Supplier<String> plain = () -> "x";
+        assertSame(plain, AllocationRecorder.wrap(plain));
+    }
+}
@@ -0,0 +1,58 @@
+package kr.xit.crypto.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.*;
+
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.simple.*;
+import kr.xit.crypto.config.*;
+import kr.xit.crypto.util.*;
+
+public class MicrometerCipherObserverTest {
+    private static final byte[] KEY = "0123456789abcdef".getBytes();
+    private static final byte[] IV = "0123456789ab".getBytes();
+
+    private MeterRegistry registry;
+    private CipherObserver observer;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        observer = new MicrometerCipherObserver(registry);
+        CipherObservers.register(observer);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CipherObservers.unregister(observer);
+    }
+
+    @Test
+    @DisplayName("알고리즘, 모드, 방향별 처리 시간, 크기, 인증 실패 기록")
+    public void testObserver_RecordsOperations() {
+        byte[] cipherText = AriaCryptoCipher.encryptGCM(KEY, IV, new byte[100], null);
+        AriaCryptoCipher.decryptGCM(KEY, IV, cipherText, null);
+        cipherText[0] ^= 1;
+        assertThrows(BizRuntimeException.class, () -> AriaCryptoCipher.decryptGCM(KEY, IV, cipherText, null));
+
+        Timer encrypt = registry.get("crypto.cipher").tags("algorithm", "ARIA", "mode", "GCM", "direction", "encrypt").timer();
+        assertEquals(1, encrypt.count());
+        assertTrue(encrypt.totalTime(java.util.concurrent.TimeUnit.NANOSECONDS) > 0);
+        DistributionSummary bytes = registry.get("crypto.cipher.bytes").tags("algorithm", "ARIA", "mode", "GCM", "direction", "decrypt").summary();
+        assertEquals(1, bytes.count());
+        assertEquals(116, bytes.totalAmount());
+        assertEquals(1, registry.get("crypto.cipher.failures")
+            .tags("algorithm", "ARIA", "mode", "GCM", "direction", "decrypt", "reason", "authentication").counter().count());
+    }
+
+    @Test
+    @DisplayName("SIV 내부 CTR 처리는 별도로 기록하지 않음")
+    public void testObserver_SivCountedOnce() {
+        LeaCryptoCipher.decryptSIV(KEY, LeaCryptoCipher.encryptSIV(KEY, new byte[64], null), null);
+
+        assertEquals(1, registry.get("crypto.cipher").tags("algorithm", "LEA", "mode", "SIV", "direction", "encrypt").timer().count());
+        assertEquals(1, registry.get("crypto.cipher").tags("algorithm", "LEA", "mode", "SIV", "direction", "decrypt").timer().count());
+        assertEquals(0, registry.get("crypto.cipher").tags("algorithm", "LEA", "mode", "CTR", "direction", "encrypt").timer().count());
+    }
+}
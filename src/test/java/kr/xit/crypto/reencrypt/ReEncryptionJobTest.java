@@ -0,0 +1,226 @@
+package kr.xit.crypto.reencrypt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import kr.xit.crypto.config.*;
+import kr.xit.crypto.util.*;
+
+public class ReEncryptionJobTest {
+    private static final byte[] IV = "0123456789ab".getBytes();
+
+    @TempDir
+    Path tempDir;
+
+    private CipherSuite oldSuite;
+    private CipherSuite newSuite;
+
+    @BeforeEach
+    public void setUp() {
+        oldSuite = CipherSuites.resolve(CipherAlgorithm.ARIA, CipherMode.GCM,
+            KeyMaterialCache.register("reencrypt-old", "0123456789abcdef".getBytes()), IV);
+        newSuite = CipherSuites.resolve(CipherAlgorithm.LEA, CipherMode.GCM,
+            KeyMaterialCache.register("reencrypt-new", "fedcba9876543210fedcba9876543210".getBytes()), IV);
+    }
+
+    @Test
+    @DisplayName("전체 row 재암호화 - null column 유지, 복호화 실패 row 는 건너뜀")
+    public void testRun_ReEncryptsAllRows() throws Exception {
+        MemoryStore store = new MemoryStore(1003);
+        store.rows.get(10L)[1] = null;
+        store.rows.get(20L)[0] = Base64.getEncoder().encodeToString("broken".getBytes());
+
+        try (ReEncryptionJob job = new ReEncryptionJob(store, oldSuite::decrypt, newSuite::encrypt, 100, 4,
+            tempDir.resolve("checkpoint.properties"))) {
+            Map<String, Long> stats = job.run();
+            assertEquals(1003L, stats.get("processed"));
+            assertEquals(1L, stats.get("failed"));
+            assertEquals(1003L * 2, stats.get("last-id"));
+        }
+
+        for (Map.Entry<Long, String[]> entry : store.rows.entrySet()) {
+            long id = entry.getKey();
+            String[] values = entry.getValue();
+            if (id == 20L) {
+                assertEquals("broken", new String(Base64.getDecoder().decode(values[0])));
+                continue;
+            }
+            assertEquals("name-" + id, decrypt(newSuite, values[0]));
+            if (id == 10L) {
+                assertNull(values[1]);
+            } else {
+                assertEquals("phone-" + id, decrypt(newSuite, values[1]));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("중지 후 checkpoint 부터 이어서 처리")
+    public void testRun_ResumeFromCheckpoint() throws Exception {
+        MemoryStore store = new MemoryStore(500);
+        Path checkpoint = tempDir.resolve("resume.properties");
+
+        try (ReEncryptionJob job = new ReEncryptionJob(store, oldSuite::decrypt, newSuite::encrypt, 100, 2, checkpoint)) {
+            store.afterWrite = job::stop;
+            Map<String, Long> stats = job.run();
+            assertEquals(100L, stats.get("processed"));
+            assertEquals(200L, stats.get("last-id"));
+        }
+        assertTrue(new String(Files.readAllBytes(checkpoint), StandardCharsets.US_ASCII).contains("last-id=200"));
+        assertEquals("name-202", decrypt(oldSuite, store.rows.get(202L)[0]));
+
+        store.afterWrite = null;
+        store.writes = 0;
+        try (ReEncryptionJob job = new ReEncryptionJob(store, oldSuite::decrypt, newSuite::encrypt, 100, 2, checkpoint)) {
+            Map<String, Long> stats = job.run();
+            assertEquals(500L, stats.get("processed"));
+            assertEquals(0L, stats.get("failed"));
+        }
+        assertEquals(4, store.writes);
+        for (Map.Entry<Long, String[]> entry : store.rows.entrySet()) {
+            assertEquals("name-" + entry.getKey(), decrypt(newSuite, entry.getValue()[0]));
+        }
+    }
+
+    @Test
+    @DisplayName("조회 후 변경된 row 는 덮어쓰지 않음")
+    public void testRun_ConcurrentUpdateNotOverwritten() throws Exception {
+        MemoryStore store = new MemoryStore(50);
+        String updated = Base64.getEncoder().encodeToString(newSuite.encrypt("changed".getBytes(StandardCharsets.UTF_8)));
+        store.beforeWrite = () -> store.rows.get(30L)[0] = updated;
+
+        try (ReEncryptionJob job = new ReEncryptionJob(store, oldSuite::decrypt, newSuite::encrypt, 100, 2,
+            tempDir.resolve("conflict.properties"))) {
+            Map<String, Long> stats = job.run();
+            assertEquals(50L, stats.get("processed"));
+            assertEquals(1L, stats.get("conflicts"));
+        }
+        assertEquals("changed", decrypt(newSuite, store.rows.get(30L)[0]));
+        assertEquals("phone-30", decrypt(oldSuite, store.rows.get(30L)[1]));
+        assertEquals("name-32", decrypt(newSuite, store.rows.get(32L)[0]));
+    }
+
+    @Test
+    @DisplayName("envelope 전환 - header 없는 이전 형식은 이전 key 로 복호화, 현재 key 값은 유지(checkpoint 전 중단 후 재실행)")
+    public void testRun_EnvelopeLegacyRowsAndRerun() throws Exception {
+        KeyMaterial activeKey = KeyMaterialCache.register("reencrypt-envelope", "fedcba9876543210fedcba9876543210".getBytes());
+        CipherSuite envelope = CipherSuites.envelope(CipherAlgorithm.LEA, CipherMode.GCM, activeKey, IV);
+        ReEncryptionCipher cipher = new ReEncryptionCipher(envelope::decrypt, KeyMaterialCache::contains,
+            "reencrypt-envelope", oldSuite);
+        MemoryStore store = new MemoryStore(300);
+        Path checkpoint = tempDir.resolve("envelope.properties");
+
+        // 저장 후 checkpoint 기록 전 중단 - 재실행시 같은 page 를 다시 조회
+        try (ReEncryptionJob job = new ReEncryptionJob(store, cipher::decrypt, envelope::encrypt, cipher::isCurrent, 100, 2,
+            checkpoint)) {
+            store.afterWrite = () -> {
+                job.stop();
+                throw new IllegalStateException("crash");
+            };
+            assertThrows(RuntimeException.class, job::run);
+        }
+        assertFalse(Files.exists(checkpoint));
+        assertTrue(cipher.isCurrent(Base64.getDecoder().decode(store.rows.get(2L)[0])));
+
+        store.afterWrite = null;
+        try (ReEncryptionJob job = new ReEncryptionJob(store, cipher::decrypt, envelope::encrypt, cipher::isCurrent, 100, 2,
+            checkpoint)) {
+            Map<String, Long> stats = job.run();
+            assertEquals(300L, stats.get("processed"));
+            assertEquals(100L, stats.get("skipped"));
+            assertEquals(0L, stats.get("failed"));
+        }
+        for (Map.Entry<Long, String[]> entry : store.rows.entrySet()) {
+            assertEquals("name-" + entry.getKey(), decrypt(envelope, entry.getValue()[0]));
+            assertEquals("phone-" + entry.getKey(), decrypt(envelope, entry.getValue()[1]));
+        }
+    }
+
+    @Test
+    @DisplayName("저장 update 문은 조회 값 비교(null column 은 is null)")
+    public void testJdbcStore_CompareAndSetSql() {
+        JdbcReEncryptionStore store = new JdbcReEncryptionStore(null, "member", "id", Arrays.asList("email", "phone"), 100);
+        BitSet both = new BitSet();
+        both.set(0, 2);
+        assertEquals("update member set email = ?, phone = ? where id = ? and email = ? and phone = ?", store.updateSql(both));
+        BitSet email = new BitSet();
+        email.set(0);
+        assertEquals("update member set email = ? where id = ? and email = ? and phone is null", store.updateSql(email));
+    }
+
+    @Test
+    @DisplayName("table, column 명은 식별자 형식만 허용")
+    public void testJdbcStore_InvalidIdentifier() {
+        assertThrows(BizRuntimeException.class,
+            () -> new JdbcReEncryptionStore(null, "member; drop table x", "id", Collections.singletonList("email"), 100));
+        assertThrows(BizRuntimeException.class,
+            () -> new JdbcReEncryptionStore(null, "member", "id", Collections.emptyList(), 100));
+        new JdbcReEncryptionStore(null, "app.member", "member_id", Arrays.asList("email", "phone"), 100);
+    }
+
+    private static String decrypt(CipherSuite suite, String base64) {
+        return new String(suite.decrypt(Base64.getDecoder().decode(base64)), StandardCharsets.UTF_8);
+    }
+
+    private class MemoryStore implements ReEncryptionStore {
+        private final ConcurrentSkipListMap<Long, String[]> rows = new ConcurrentSkipListMap<>();
+        private Runnable beforeWrite;
+        private Runnable afterWrite;
+        private int writes;
+
+        MemoryStore(int count) {
+            Base64.Encoder encoder = Base64.getEncoder();
+            for (long i = 1; i <= count; i++) {
+                long id = i * 2;
+                rows.put(id, new String[]{
+                    encoder.encodeToString(oldSuite.encrypt(("name-" + id).getBytes(StandardCharsets.UTF_8))),
+                    encoder.encodeToString(oldSuite.encrypt(("phone-" + id).getBytes(StandardCharsets.UTF_8)))});
+            }
+        }
+
+        @Override
+        public List<ReEncryptionRow> read(long afterId, int limit) {
+            List<ReEncryptionRow> page = new ArrayList<>();
+            for (Map.Entry<Long, String[]> entry : rows.tailMap(afterId, false).entrySet()) {
+                if (page.size() == limit) {
+                    break;
+                }
+                page.add(new ReEncryptionRow(entry.getKey(), entry.getValue().clone()));
+            }
+            return page;
+        }
+
+        @Override
+        public int write(List<ReEncryptionRow> page) {
+            writes++;
+            if (beforeWrite != null) {
+                beforeWrite.run();
+            }
+            int conflicts = 0;
+            for (ReEncryptionRow row : page) {
+                String[] current = rows.get(row.getId());
+                if (!Arrays.equals(current, row.getOriginals())) {
+                    conflicts++;
+                    continue;
+                }
+                String[] values = row.getValues();
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] != null) {
+                        current[i] = values[i];
+                    }
+                }
+            }
+            if (afterWrite != null) {
+                afterWrite.run();
+            }
+            return conflicts;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package kr.xit.crypto.tcp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.*;
+
+import kr.xit.crypto.config.*;
+import kr.xit.crypto.util.*;
+
+public class CryptoTcpServerTest {
+    private static CryptoTcpServer server;
+    private static CipherSuite suite;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        KeyMaterial keyMaterial = KeyMaterialCache.register("tcp-test", "0123456789abcdef".getBytes());
+        suite = CipherSuites.envelope(CipherAlgorithm.LEA, CipherMode.CTR, keyMaterial, "0123456789012345".getBytes());
+        server = new CryptoTcpServer(0, 2, 1024 * 1024, new CryptoTcpHandler() {
+            @Override
+            public byte[] encrypt(String keyId, byte[] plainText) {
+                if ("slow".equals(keyId)) {
+                    sleep(500);
+                    return plainText;
+                }
+                if (keyId != null && !"tcp-test".equals(keyId)) {
+                    throw BizRuntimeException.create("등록되지 않은 key ID 입니다 - " + keyId);
+                }
+                return suite.encrypt(plainText);
+            }
+
+            @Override
+            public byte[] decrypt(String keyId, byte[] cipherText) {
+                return suite.decrypt(cipherText);
+            }
+        });
+        server.start();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("한 연결에서 여러 thread 요청을 pipelining - 요청 별 결과 일치")
+    public void testPipelining_ManyRequests() throws Exception {
+        try (CryptoTcpClient client = new CryptoTcpClient("localhost", server.getPort())) {
+            List<byte[]> plainTexts = new ArrayList<>();
+            List<CompletableFuture<byte[]>> futures = new ArrayList<>();
+            Random random = new Random(5);
+            for (int i = 0; i < 2000; i++) {
+                byte[] plainText = new byte[random.nextInt(i % 100 == 0 ? 300000 : 200)];
+                random.nextBytes(plainText);
+                plainTexts.add(plainText);
+                futures.add(client.encryptAsync(i % 2 == 0 ? null : "tcp-test", plainText));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                byte[] cipherText = futures.get(i).get(30, TimeUnit.SECONDS);
+                assertArrayEquals(suite.encrypt(plainTexts.get(i)), cipherText);
+                assertArrayEquals(plainTexts.get(i), client.decrypt(null, cipherText));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("서버 처리 오류는 BizRuntimeException, 연결은 유지")
+    public void testError_KeepsConnection() throws Exception {
+        try (CryptoTcpClient client = new CryptoTcpClient("localhost", server.getPort())) {
+            BizRuntimeException e = assertThrows(BizRuntimeException.class, () -> client.encrypt("unknown", new byte[10]));
+            assertTrue(e.getMessage().contains("unknown"));
+            assertThrows(BizRuntimeException.class, () -> client.decrypt(null, new byte[3]));
+
+            byte[] plainText = "still alive".getBytes();
+            assertArrayEquals(plainText, client.decrypt(null, client.encrypt(null, plainText)));
+        }
+    }
+
+    @Test
+    @DisplayName("응답 timeout 요청은 대기 목록에서 제거, 늦은 응답은 버림")
+    public void testTimeout_RemovesPending() throws Exception {
+        try (CryptoTcpClient client = new CryptoTcpClient("localhost", server.getPort(), 100)) {
+            assertThrows(IOException.class, () -> client.encrypt("slow", new byte[10]));
+            assertEquals(0, client.pendingCount());
+
+            byte[] plainText = "after timeout".getBytes();
+            assertArrayEquals(plainText, client.decrypt(null, client.encryptAsync(null, plainText).get(10, TimeUnit.SECONDS)));
+            assertEquals(0, client.pendingCount());
+        }
+    }
+
+    @Test
+    @DisplayName("bind 주소 미지정시 loopback")
+    public void testBindAddress_DefaultLoopback() throws Exception {
+        assertTrue(server.getAddress().getAddress().isLoopbackAddress());
+    }
+
+    @Test
+    @DisplayName("최대 frame 크기 초과시 연결 종료")
+    public void testFrameTooLarge_ClosesConnection() throws Exception {
+        try (CryptoTcpClient client = new CryptoTcpClient("localhost", server.getPort(), 10000)) {
+            assertThrows(Exception.class, () -> client.encrypt(null, new byte[2 * 1024 * 1024]));
+        }
+    }
+
+    @Test
+    @DisplayName("inline 크기 초과 frame 은 executor 에서 처리 - 같은 I/O thread 의 작은 frame 을 지연시키지 않음")
+    public void testLargeFrame_ProcessedOnExecutor() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CryptoTcpHandler handler = new CryptoTcpHandler() {
+            @Override
+            public byte[] encrypt(String keyId, byte[] plainText) {
+                if (plainText.length > 1024) {
+                    sleep(1000);
+                }
+                return suite.encrypt(plainText);
+            }
+
+            @Override
+            public byte[] decrypt(String keyId, byte[] cipherText) {
+                return suite.decrypt(cipherText);
+            }
+        };
+        try (CryptoTcpServer offloading = new CryptoTcpServer(null, 0, 1, 1024 * 1024, handler, executor, 1024)) {
+            offloading.start();
+            try (CryptoTcpClient client = new CryptoTcpClient("localhost", offloading.getPort())) {
+                byte[] large = new byte[100000];
+                new Random(3).nextBytes(large);
+                CompletableFuture<byte[]> largeFuture = client.encryptAsync(null, large);
+
+                byte[] small = "small frame".getBytes();
+                assertArrayEquals(suite.encrypt(small), client.encryptAsync(null, small).get(500, TimeUnit.MILLISECONDS));
+                assertFalse(largeFuture.isDone());
+                assertArrayEquals(suite.encrypt(large), largeFuture.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("executor 거절시 오류 응답, 연결은 유지")
+    public void testLargeFrame_Rejected() throws Exception {
+        CryptoTcpHandler handler = new CryptoTcpHandler() {
+            @Override
+            public byte[] encrypt(String keyId, byte[] plainText) {
+                return suite.encrypt(plainText);
+            }
+
+            @Override
+            public byte[] decrypt(String keyId, byte[] cipherText) {
+                return suite.decrypt(cipherText);
+            }
+        };
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("full");
+        };
+        try (CryptoTcpServer offloading = new CryptoTcpServer(null, 0, 1, 1024 * 1024, handler, rejecting, 1024)) {
+            offloading.start();
+            try (CryptoTcpClient client = new CryptoTcpClient("localhost", offloading.getPort())) {
+                assertThrows(BizRuntimeException.class, () -> client.encrypt(null, new byte[4096]));
+                byte[] small = "still alive".getBytes();
+                assertArrayEquals(suite.encrypt(small), client.encrypt(null, small));
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.engines.*;
+import org.bouncycastle.crypto.params.*;
+import org.bouncycastle.util.encoders.*;
+import org.junit.jupiter.api.*;
+
+public class AriaTableEngineTest {
+
+    @Test
+    @DisplayName("RFC 5794 test vector")
+    public void testRfcVectors() {
+        byte[] plainText = Hex.decode("00112233445566778899aabbccddeeff");
+        String key = "000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f";
+
+        assertVector(key.substring(0, 32), plainText, "d718fbd6ab644c739da95f3be6451778");
+        assertVector(key.substring(0, 48), plainText, "26449c1805dbe7aa25a468ce263a9e79");
+        assertVector(key, plainText, "f92bd7c79fb72e2f2b8f80c1972d24fc");
+    }
+
+    @Test
+    @DisplayName("결과는 Bouncy Castle ARIAEngine과 동일")
+    public void testSameAsBouncyCastle() {
+        Random random = new Random(5794);
+        for (int keyLen : new int[]{16, 24, 32}) {
+            for (int i = 0; i < 200; i++) {
+                byte[] key = new byte[keyLen];
+                byte[] block = new byte[16];
+                random.nextBytes(key);
+                random.nextBytes(block);
+
+                byte[] expected = process(new ARIAEngine(), true, key, block);
+                assertArrayEquals(expected, process(new AriaTableEngine(), true, key, block));
+                assertArrayEquals(block, process(new AriaTableEngine(), false, key, expected));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 key 길이는 Exception")
+    public void testInvalidKey() {
+        assertThrows(IllegalArgumentException.class, () -> new AriaTableEngine().init(true, new KeyParameter(new byte[20])));
+    }
+
+    private static void assertVector(String key, byte[] plainText, String cipherText) {
+        byte[] actual = process(new AriaTableEngine(), true, Hex.decode(key), plainText);
+        assertEquals(cipherText, Hex.toHexString(actual));
+        assertArrayEquals(plainText, process(new AriaTableEngine(), false, Hex.decode(key), actual));
+    }
+
+    private static byte[] process(BlockCipher engine, boolean forEncryption, byte[] key, byte[] block) {
+        engine.init(forEncryption, new KeyParameter(key));
+        byte[] out = new byte[16];
+        engine.processBlock(block, 0, out, 0);
+        return out;
+    }
+}
@@ -0,0 +1,100 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.*;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+
+public class BlockCipherModesTest {
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes();
+    private static final byte[] IV = "0123456789012345".getBytes();
+    private static final byte[] CCM_IV = "012345678901".getBytes();
+    private static final byte[] AAD = "aad".getBytes();
+
+    @Test
+    @DisplayName("offset/length 처리 결과는 byte[] 처리 결과와 동일")
+    public void testOffset_SameAsArray() {
+        for (int size : new int[]{0, 1, 15, 16, 17, 100, 20000}) {
+            byte[] plainText = random(size);
+            for (CipherAlgorithm algorithm : CipherAlgorithm.values()) {
+                for (CipherMode mode : CipherMode.values()) {
+                    if (mode == CipherMode.CTS && size <= 16) {
+                        // CTS는 1블록 초과 길이만 지원
+                        continue;
+                    }
+                    byte[] iv = mode == CipherMode.CCM ? CCM_IV : IV;
+                    byte[] expected = BlockCipherModes.process(algorithm, mode, true, KEY, iv, AAD, plainText);
+
+                    byte[] in = new byte[size + 7];
+                    System.arraycopy(plainText, 0, in, 3, size);
+                    byte[] out = new byte[expected.length + 11];
+                    int len = BlockCipherModes.process(algorithm, mode, true, KEY, iv, AAD, in, 3, size, out, 5);
+                    assertEquals(expected.length, len, algorithm + "/" + mode);
+                    assertArrayEquals(expected, Arrays.copyOfRange(out, 5, 5 + len), algorithm + "/" + mode);
+
+                    byte[] decrypted = new byte[expected.length + 2];
+                    len = BlockCipherModes.process(algorithm, mode, false, KEY, iv, AAD, out, 5, expected.length, decrypted, 2);
+                    assertArrayEquals(plainText, Arrays.copyOfRange(decrypted, 2, 2 + len), algorithm + "/" + mode);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("heap, direct ByteBuffer 처리 결과는 byte[] 처리 결과와 동일")
+    public void testByteBuffer_SameAsArray() {
+        for (int size : new int[]{17, 8 * 1024, 50000}) {
+            byte[] plainText = random(size);
+            for (CipherAlgorithm algorithm : CipherAlgorithm.values()) {
+                for (CipherMode mode : CipherMode.values()) {
+                    byte[] iv = mode == CipherMode.CCM ? CCM_IV : IV;
+                    byte[] expected = BlockCipherModes.process(algorithm, mode, true, KEY, iv, AAD, plainText);
+
+                    for (boolean direct : new boolean[]{false, true}) {
+                        ByteBuffer in = allocate(direct, size);
+                        in.put(plainText).flip();
+                        ByteBuffer out = allocate(direct, expected.length);
+                        int len = BlockCipherModes.process(algorithm, mode, true, KEY, iv, AAD, in, out);
+
+                        assertEquals(expected.length, len);
+                        assertFalse(in.hasRemaining());
+                        out.flip();
+                        byte[] actual = new byte[out.remaining()];
+                        out.get(actual);
+                        assertArrayEquals(expected, actual, algorithm + "/" + mode + " direct=" + direct);
+
+                        out.rewind();
+                        ByteBuffer decrypted = allocate(direct, expected.length);
+                        BlockCipherModes.process(algorithm, mode, false, KEY, iv, AAD, out, decrypted);
+                        decrypted.flip();
+                        byte[] result = new byte[decrypted.remaining()];
+                        decrypted.get(result);
+                        assertArrayEquals(plainText, result, algorithm + "/" + mode + " direct=" + direct);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("out ByteBuffer 공간 부족시 Exception")
+    public void testByteBuffer_Overflow() {
+        ByteBuffer in = ByteBuffer.wrap(random(32));
+        ByteBuffer out = ByteBuffer.allocate(40);
+
+        assertThrows(BufferOverflowException.class, () -> AriaCryptoCipher.encryptGCM(KEY, IV, in, out, null));
+        assertEquals(0, out.position());
+    }
+
+    private static ByteBuffer allocate(boolean direct, int size) {
+        return direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+    }
+
+    private static byte[] random(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
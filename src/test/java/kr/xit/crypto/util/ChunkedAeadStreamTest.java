@@ -0,0 +1,109 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+
+public class ChunkedAeadStreamTest {
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes();
+    private static final byte[] AAD = "aad".getBytes();
+    private static final int CHUNK_SIZE = 64;
+
+    @Test
+    @DisplayName("chunk 경계 전후 길이 암복호화")
+    public void testRoundTrip() throws IOException {
+        for (CipherAlgorithm algorithm : CipherAlgorithm.values()) {
+            for (int size : new int[]{0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 3 * CHUNK_SIZE, 3 * CHUNK_SIZE + 5}) {
+                byte[] plainText = random(size);
+                byte[] cipherText = encrypt(algorithm, plainText, AAD);
+
+                // 마지막 chunk는 빈 chunk 이거나 chunk 크기 만큼 채워질 수 있다
+                int chunks = Math.max(1, (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+                assertEquals(ChunkedAead.HEADER_SIZE + size + chunks * ChunkedAead.TAG_SIZE, cipherText.length, algorithm + " size=" + size);
+                assertArrayEquals(plainText, decrypt(algorithm, cipherText, AAD), algorithm + " size=" + size);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("1 byte 단위 write/read")
+    public void testSingleByte() throws IOException {
+        byte[] plainText = random(200);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (OutputStream out = new ChunkedAeadOutputStream(CipherAlgorithm.LEA, KEY, bos, null, CHUNK_SIZE)) {
+            for (byte b : plainText) {
+                out.write(b);
+            }
+        }
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream in = LeaCryptoCipher.decryptGCMStream(KEY, new ByteArrayInputStream(bos.toByteArray()), null)) {
+            int b;
+            while ((b = in.read()) >= 0) {
+                result.write(b);
+            }
+        }
+        assertArrayEquals(plainText, result.toByteArray());
+    }
+
+    @Test
+    @DisplayName("위변조, 절단, chunk 순서 변경, aad 불일치는 IOException")
+    public void testTampered() throws IOException {
+        byte[] plainText = random(3 * CHUNK_SIZE + 5);
+        byte[] cipherText = encrypt(CipherAlgorithm.ARIA, plainText, AAD);
+        int chunk = CHUNK_SIZE + ChunkedAead.TAG_SIZE;
+
+        byte[] modified = cipherText.clone();
+        modified[ChunkedAead.HEADER_SIZE + 10] ^= 1;
+        assertThrows(IOException.class, () -> decrypt(CipherAlgorithm.ARIA, modified, AAD));
+
+        // header 의 salt 변경 -> 다른 스트림 key 로 파생
+        byte[] salted = cipherText.clone();
+        salted[8] ^= 1;
+        assertThrows(IOException.class, () -> decrypt(CipherAlgorithm.ARIA, salted, AAD));
+
+        // 마지막 chunk 제거 (chunk 경계 절단)
+        byte[] truncated = Arrays.copyOf(cipherText, ChunkedAead.HEADER_SIZE + 3 * chunk);
+        assertThrows(IOException.class, () -> decrypt(CipherAlgorithm.ARIA, truncated, AAD));
+
+        byte[] swapped = cipherText.clone();
+        System.arraycopy(cipherText, ChunkedAead.HEADER_SIZE, swapped, ChunkedAead.HEADER_SIZE + chunk, chunk);
+        System.arraycopy(cipherText, ChunkedAead.HEADER_SIZE + chunk, swapped, ChunkedAead.HEADER_SIZE, chunk);
+        assertThrows(IOException.class, () -> decrypt(CipherAlgorithm.ARIA, swapped, AAD));
+
+        assertThrows(IOException.class, () -> decrypt(CipherAlgorithm.ARIA, cipherText, "other".getBytes()));
+        assertThrows(IOException.class, () -> decrypt(CipherAlgorithm.LEA, cipherText, AAD));
+    }
+
+    private static byte[] encrypt(CipherAlgorithm algorithm, byte[] plainText, byte[] aad) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (OutputStream out = new ChunkedAeadOutputStream(algorithm, KEY, bos, aad, CHUNK_SIZE)) {
+            // chunk 크기와 다른 단위로 기록
+            for (int off = 0; off < plainText.length; off += 50) {
+                out.write(plainText, off, Math.min(50, plainText.length - off));
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    private static byte[] decrypt(CipherAlgorithm algorithm, byte[] cipherText, byte[] aad) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream in = new ChunkedAeadInputStream(algorithm, KEY, new ByteArrayInputStream(cipherText), aad)) {
+            byte[] buf = new byte[37];
+            int n;
+            while ((n = in.read(buf)) >= 0) {
+                result.write(buf, 0, n);
+            }
+        }
+        return result.toByteArray();
+    }
+
+    private static byte[] random(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
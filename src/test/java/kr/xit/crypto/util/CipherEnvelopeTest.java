@@ -0,0 +1,141 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import kr.xit.crypto.config.*;
+
+public class CipherEnvelopeTest {
+    private static final byte[] IV = "0123456789012345".getBytes();
+    private static final byte[] CCM_IV = "012345678901".getBytes();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("모든 알고리즘, 모드의 envelope 암복호화")
+    public void testEnvelope_AllModes_RoundTrip() {
+        KeyMaterial keyMaterial = KeyMaterialCache.register("envelope-test", "0123456789abcdef0123456789abcdef".getBytes());
+        byte[] plainText = random(1000);
+
+        for (CipherAlgorithm algorithm : CipherAlgorithm.values()) {
+            for (CipherMode mode : CipherMode.values()) {
+                CipherSuite suite = CipherSuites.envelope(algorithm, mode, keyMaterial, mode == CipherMode.CCM ? CCM_IV : IV);
+                byte[] envelope = suite.encrypt(plainText);
+
+                assertEquals(CipherEnvelope.VERSION, envelope[0]);
+                assertEquals("envelope-test", CipherEnvelope.keyIdOf(envelope));
+                assertArrayEquals(plainText, suite.decrypt(envelope), algorithm + "/" + mode);
+                if (CipherSuites.isAuthenticated(mode)) {
+                    assertArrayEquals(plainText, CipherEnvelope.open(envelope), algorithm + "/" + mode);
+                } else {
+                    assertThrows(BizRuntimeException.class, () -> CipherEnvelope.open(envelope), algorithm + "/" + mode);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("알고리즘, 모드, key 가 다른 인증 모드 암호문을 header 로 구분하여 복호화")
+    public void testOpen_MixedSuites_Dispatch() throws Exception {
+        KeyMaterial oldKey = KeyMaterialCache.register("envelope-old", "0123456789abcdef".getBytes());
+        KeyMaterial newKey = KeyMaterialCache.register("envelope-new", "fedcba9876543210fedcba9876543210".getBytes());
+        byte[] plainText = random(333);
+
+        try (CounterNonceGenerator generator = new CounterNonceGenerator(3, tempDir.resolve("node.counter"), 100)) {
+            CipherSuite current = CipherSuites.envelope(CipherAlgorithm.LEA, CipherMode.GCM, newKey, generator);
+            List<byte[]> envelopes = Arrays.asList(
+                CipherSuites.envelope(CipherAlgorithm.ARIA, CipherMode.GCM, oldKey, generator).encrypt(plainText),
+                CipherSuites.envelope(CipherAlgorithm.ARIA, CipherMode.SIV, oldKey, (byte[])null).encrypt(plainText),
+                CipherSuites.envelope(CipherAlgorithm.LEA, CipherMode.CCM, newKey, generator).encrypt(plainText),
+                current.encrypt(plainText));
+
+            for (byte[] envelope : envelopes) {
+                assertArrayEquals(plainText, current.decrypt(envelope));
+            }
+
+            // 비인증 모드는 설정 모드가 아니면 거부
+            byte[] cbc = CipherSuites.envelope(CipherAlgorithm.ARIA, CipherMode.CBC, oldKey, IV).encrypt(plainText);
+            byte[] ctr = CipherSuites.envelope(CipherAlgorithm.ARIA, CipherMode.CTR, oldKey, generator).encrypt(plainText);
+            assertThrows(BizRuntimeException.class, () -> current.decrypt(cbc));
+            assertThrows(BizRuntimeException.class, () -> current.decrypt(ctr));
+        }
+    }
+
+    @Test
+    @DisplayName("조작한 CTR header 로 block cipher 출력(GCM hash key) 획득 불가")
+    public void testDecrypt_CraftedCtrHeader_Rejected() {
+        KeyMaterial keyMaterial = KeyMaterialCache.register("envelope-oracle", "0123456789abcdef".getBytes());
+        CipherSuite gcm = CipherSuites.envelope(CipherAlgorithm.ARIA, CipherMode.GCM, keyMaterial, CCM_IV);
+        byte[] crafted = craft(6, 0, "envelope-oracle", 16, 16);
+        assertThrows(BizRuntimeException.class, () -> gcm.decrypt(crafted));
+
+        // 설정 모드가 CTR 이어도 nonce 가 16 byte 를 초과하면 형식 오류
+        CipherSuite ctr = CipherSuites.envelope(CipherAlgorithm.ARIA, CipherMode.CTR, keyMaterial, IV);
+        assertThrows(BizRuntimeException.class, () -> ctr.decrypt(craft(6, 0, "envelope-oracle", 20, 16)));
+    }
+
+    @Test
+    @DisplayName("인증 모드는 header 변경시 복호화 실패")
+    public void testDecrypt_HeaderModified_ThrowsException() {
+        // 같은 key 를 다른 key ID 로 등록 - header 가 인증되지 않으면 key ID 변경이 검출되지 않는 경우
+        KeyMaterial keyMaterial = KeyMaterialCache.register("envelope-aad1", "0123456789abcdef".getBytes());
+        KeyMaterialCache.register("envelope-aad2", "0123456789abcdef".getBytes());
+        for (CipherMode mode : new CipherMode[]{CipherMode.CCM, CipherMode.GCM, CipherMode.SIV}) {
+            CipherSuite suite = CipherSuites.envelope(CipherAlgorithm.ARIA, mode, keyMaterial, CCM_IV);
+            byte[] envelope = suite.encrypt(random(64));
+            byte[] keyId = envelope.clone();
+            keyId[5 + "envelope-aad".length()] = '2';
+            assertEquals("envelope-aad2", CipherEnvelope.keyIdOf(keyId));
+            assertThrows(BizRuntimeException.class, () -> suite.decrypt(keyId), mode.name());
+        }
+    }
+
+    @Test
+    @DisplayName("형식 오류, 미등록 key ID, 위변조는 복호화 실패")
+    public void testOpen_Invalid_ThrowsException() {
+        KeyMaterial keyMaterial = KeyMaterialCache.register("envelope-invalid", "0123456789abcdef".getBytes());
+        byte[] envelope = CipherSuites.envelope(CipherAlgorithm.ARIA, CipherMode.GCM, keyMaterial, CCM_IV).encrypt(random(64));
+
+        byte[] version = envelope.clone();
+        version[0] = 9;
+        assertThrows(BizRuntimeException.class, () -> CipherEnvelope.open(version));
+
+        byte[] tampered = envelope.clone();
+        tampered[tampered.length - 1] ^= 1;
+        assertThrows(BizRuntimeException.class, () -> CipherEnvelope.open(tampered));
+
+        byte[] unknownKey = envelope.clone();
+        unknownKey[5] = 'X';
+        assertThrows(BizRuntimeException.class, () -> CipherEnvelope.open(unknownKey));
+
+        assertThrows(BizRuntimeException.class, () -> CipherEnvelope.open(Arrays.copyOf(envelope, 20)));
+    }
+
+    /**
+     * version | algorithm(ARIA) | mode | tag 길이 | key ID | nonce(0x00) | 암호문(0x00)
+     */
+    private static byte[] craft(int mode, int tagLength, String keyId, int nonceLength, int payloadLength) {
+        byte[] id = keyId.getBytes();
+        byte[] envelope = new byte[6 + id.length + nonceLength + payloadLength];
+        envelope[0] = CipherEnvelope.VERSION;
+        envelope[1] = 1;
+        envelope[2] = (byte)mode;
+        envelope[3] = (byte)tagLength;
+        envelope[4] = (byte)id.length;
+        System.arraycopy(id, 0, envelope, 5, id.length);
+        envelope[5 + id.length] = (byte)nonceLength;
+        return envelope;
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,70 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+
+import kr.xit.crypto.config.*;
+
+public class CipherSuitesTest {
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes();
+    private static final byte[] IV = "0123456789012345".getBytes();
+    private static final byte[] CCM_IV = "012345678901".getBytes();
+
+    @Test
+    @DisplayName("CipherSuite 처리 결과는 key 지정 처리 결과와 동일")
+    public void testResolve_SameAsKeyBytes() {
+        KeyMaterial keyMaterial = KeyMaterialCache.register("suite-test", KEY);
+        byte[] plainText = new byte[1000];
+        new Random(13).nextBytes(plainText);
+
+        for (CipherAlgorithm algorithm : CipherAlgorithm.values()) {
+            for (CipherMode mode : CipherMode.values()) {
+                byte[] iv = mode == CipherMode.CCM ? CCM_IV : IV;
+                CipherSuite suite = CipherSuites.resolve(algorithm.name().toLowerCase(), mode.name(), keyMaterial, iv);
+                byte[] expected = BlockCipherModes.process(algorithm, mode, true, KEY, iv, null, plainText);
+
+                byte[] encrypted = suite.encrypt(plainText);
+                assertArrayEquals(expected, encrypted, algorithm + "/" + mode);
+                assertArrayEquals(plainText, suite.decrypt(encrypted), algorithm + "/" + mode);
+                assertEquals(algorithm, suite.getAlgorithm());
+                assertEquals(mode, suite.getMode());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 알고리즘, 모드, 잘못된 iv는 생성 실패")
+    public void testResolve_InvalidConfig_ThrowsException() {
+        KeyMaterial keyMaterial = KeyMaterialCache.register("suite-test", KEY);
+
+        assertThrows(BizRuntimeException.class, () -> CipherSuites.resolve("SEED", "GCM", keyMaterial, IV));
+        assertThrows(BizRuntimeException.class, () -> CipherSuites.resolve("ARIA", "XTS", keyMaterial, IV));
+        assertThrows(BizRuntimeException.class, () -> CipherSuites.resolve("LEA", "CTR", keyMaterial, CCM_IV));
+        assertThrows(BizRuntimeException.class, () -> CipherSuites.resolve("LEA", "CCM", keyMaterial, IV));
+        assertNotNull(CipherSuites.resolve("LEA", "ECB", keyMaterial, (byte[])null));
+    }
+
+    @Test
+    @DisplayName("이전 형식 호환 - 현재 형식 실패시 고정 iv 로 복호화, 인증 모드만 허용")
+    public void testWithLegacy_DecryptsLegacyFormat() throws Exception {
+        KeyMaterial keyMaterial = KeyMaterialCache.register("suite-test", KEY);
+        CipherSuite legacy = CipherSuites.resolve(CipherAlgorithm.ARIA, CipherMode.GCM, keyMaterial, IV);
+        try (CounterNonceGenerator nonceGenerator = new CounterNonceGenerator(3,
+            java.nio.file.Files.createTempDirectory("suite").resolve("legacy.counter"), 100)) {
+            CipherSuite suite = CipherSuites.withLegacy(
+                CipherSuites.resolve(CipherAlgorithm.ARIA, CipherMode.GCM, keyMaterial, nonceGenerator), legacy);
+
+            byte[] plainText = "legacy".getBytes();
+            assertArrayEquals(plainText, suite.decrypt(legacy.encrypt(plainText)));
+            assertArrayEquals(plainText, suite.decrypt(suite.encrypt(plainText)));
+            byte[] tampered = legacy.encrypt(plainText);
+            tampered[0] ^= 1;
+            assertThrows(BizRuntimeException.class, () -> suite.decrypt(tampered));
+        }
+        assertThrows(BizRuntimeException.class,
+            () -> CipherSuites.withLegacy(legacy, CipherSuites.resolve(CipherAlgorithm.ARIA, CipherMode.CTR, keyMaterial, IV)));
+    }
+}
@@ -0,0 +1,93 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import kr.xit.crypto.config.*;
+
+public class CounterNonceGeneratorTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("nonce는 node ID + counter 형식이며 여러 thread 에서도 중복되지 않음")
+    public void testNext_Concurrent_Unique() throws Exception {
+        try (CounterNonceGenerator generator = new CounterNonceGenerator(7, tempDir.resolve("node.counter"), 100)) {
+            Set<Long> counters = ConcurrentHashMap.newKeySet();
+            IntStream.range(0, 8).parallel().forEach(t -> {
+                for (int i = 0; i < 10000; i++) {
+                    ByteBuffer nonce = ByteBuffer.wrap(generator.next());
+                    assertEquals(7, nonce.getInt());
+                    assertTrue(counters.add(nonce.getLong()));
+                }
+            });
+
+            assertEquals(80000, counters.size());
+            assertEquals(80000, generator.getCounter());
+            assertTrue(generator.getLimit() > 80000 - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("재기동시 파일에 기록된 예약 한도부터 발급")
+    public void testNext_Restart_NoReuse() throws Exception {
+        Path file = tempDir.resolve("node.counter");
+        long last;
+        try (CounterNonceGenerator generator = new CounterNonceGenerator(1, file, 1000)) {
+            for (int i = 0; i < 2500; i++) {
+                generator.next();
+            }
+            last = generator.getCounter() - 1;
+            assertEquals(3000, generator.getLimit());
+        }
+
+        try (CounterNonceGenerator generator = new CounterNonceGenerator(1, file, 1000)) {
+            long first = ByteBuffer.wrap(generator.next(), 4, 8).getLong();
+            assertTrue(first > last);
+            assertEquals(3000, first);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 파일을 동시에 사용할 수 없음")
+    public void testOpen_SameFile_ThrowsException() throws Exception {
+        Path file = tempDir.resolve("node.counter");
+        try (CounterNonceGenerator generator = new CounterNonceGenerator(1, file, 1000)) {
+            assertNotNull(generator.next());
+            assertThrows(BizRuntimeException.class, () -> new CounterNonceGenerator(1, file, 1000));
+        }
+    }
+
+    @Test
+    @DisplayName("nonce 포함 CipherSuite 암복호화 - 암호문 앞에 nonce 포함")
+    public void testNonceCipherSuite_RoundTrip() throws Exception {
+        KeyMaterial keyMaterial = KeyMaterialCache.register("nonce-test", "0123456789abcdef".getBytes());
+        byte[] plainText = new byte[1000];
+        new Random(3).nextBytes(plainText);
+
+        try (CounterNonceGenerator generator = new CounterNonceGenerator(2, tempDir.resolve("node.counter"), 1000)) {
+            for (CipherAlgorithm algorithm : CipherAlgorithm.values()) {
+                for (CipherMode mode : new CipherMode[]{CipherMode.CTR, CipherMode.CCM, CipherMode.GCM}) {
+                    CipherSuite suite = CipherSuites.resolve(algorithm, mode, keyMaterial, generator);
+                    byte[] first = suite.encrypt(plainText);
+                    byte[] second = suite.encrypt(plainText);
+
+                    assertFalse(Arrays.equals(first, second), algorithm + "/" + mode);
+                    assertArrayEquals(Arrays.copyOf(first, 4), new byte[]{0, 0, 0, 2});
+                    assertArrayEquals(plainText, suite.decrypt(first), algorithm + "/" + mode);
+                    assertArrayEquals(plainText, suite.decrypt(second), algorithm + "/" + mode);
+                }
+            }
+            assertThrows(BizRuntimeException.class,
+                () -> CipherSuites.resolve(CipherAlgorithm.ARIA, CipherMode.CBC, keyMaterial, generator));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.engines.*;
+import org.bouncycastle.crypto.modes.*;
+import org.bouncycastle.crypto.params.*;
+import org.junit.jupiter.api.*;
+
+public class KeyMaterialCacheTest {
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes();
+    private static final byte[] IV = "0123456789012345".getBytes();
+
+    @Test
+    @DisplayName("cache 된 엔진의 GCM 결과는 새 엔진으로 처리한 결과와 동일")
+    public void testCachedEngine_SameAsFreshEngine() throws Exception {
+        byte[] plainText = "암호화 모듈별 암복호화 테스트!".getBytes();
+
+        GCMModeCipher fresh = GCMBlockCipher.newInstance(new ARIAEngine());
+        fresh.init(true, new AEADParameters(new KeyParameter(KEY), 128, IV, null));
+        byte[] expected = new byte[fresh.getOutputSize(plainText.length)];
+        fresh.doFinal(expected, fresh.processBytes(plainText, 0, plainText.length, expected, 0));
+
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(expected, AriaCryptoCipher.encryptGCM(KEY, IV, plainText, null));
+        }
+        assertArrayEquals(plainText, AriaCryptoCipher.decryptGCM(KEY, IV, expected, null));
+    }
+
+    @Test
+    @DisplayName("동일 thread에서 암호화/복호화 방향 전환")
+    public void testCachedEngine_DirectionSwitch() throws Exception {
+        byte[] plainText = "direction switch on the same cached engine".getBytes();
+
+        byte[] ecb = AriaCryptoCipher.encryptECB(KEY, plainText);
+        byte[] cbc = LeaCryptoCipher.encryptCBC(KEY, IV, plainText);
+        assertArrayEquals(plainText, AriaCryptoCipher.decryptECB(KEY, ecb));
+        assertArrayEquals(ecb, AriaCryptoCipher.encryptECB(KEY, plainText));
+        assertArrayEquals(plainText, LeaCryptoCipher.decryptCBC(KEY, IV, cbc));
+    }
+
+    @Test
+    @DisplayName("key ID로 등록된 key 조회")
+    public void testRegister_LookupById() {
+        KeyMaterial material = KeyMaterialCache.register("test-key", KEY);
+
+        assertSame(material, KeyMaterialCache.get("test-key"));
+        assertSame(material, KeyMaterialCache.of(KEY.clone()));
+        assertThrows(RuntimeException.class, () -> KeyMaterialCache.get("unknown-key"));
+    }
+
+    @Test
+    @DisplayName("여러 thread에서 동시에 사용해도 결과가 동일")
+    public void testCachedEngine_Concurrent() throws Exception {
+        byte[] plainText = new byte[1000];
+        new Random(1).nextBytes(plainText);
+        byte[] expected = LeaCryptoCipher.encryptGCM(KEY, IV, plainText, null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> LeaCryptoCipher.encryptGCM(KEY, IV, plainText, null)));
+            }
+            for (Future<byte[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import kr.xit.crypto.config.*;
+
+public class KeyRingTest {
+    private static final String KEY1 = Base64.getEncoder().encodeToString("0123456789abcdef".getBytes());
+    private static final String KEY2 = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+    private static final byte[] IV = "012345678901".getBytes();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("재적재 후 활성 key 변경, 이전 key 암호문도 복호화")
+    public void testReload_Rotation_DecryptsOldCipherText() throws Exception {
+        Path file = tempDir.resolve("keyring.properties");
+        write(file, "active=k1", "key.k1=" + KEY1);
+
+        KeyRing keyRing = new KeyRing(file);
+        KeyMaterial k1 = keyRing.active();
+        byte[] plainText = "rotation".getBytes();
+        byte[] oldCipherText = CipherSuites.envelope(CipherAlgorithm.ARIA, CipherMode.GCM, keyRing, IV).encrypt(plainText);
+
+        write(file, "active=k2", "key.k1=" + KEY1, "key.k2=" + KEY2);
+        assertTrue(keyRing.reload());
+        CipherSuite suite = CipherSuites.envelope(CipherAlgorithm.ARIA, CipherMode.GCM, keyRing, IV);
+        byte[] newCipherText = suite.encrypt(plainText);
+
+        assertEquals("k2", keyRing.active().getKeyId());
+        assertSame(k1, keyRing.get("k1"));
+        assertEquals("k2", CipherEnvelope.keyIdOf(newCipherText));
+        assertArrayEquals(plainText, suite.decrypt(oldCipherText));
+        assertArrayEquals(plainText, suite.decrypt(newCipherText));
+    }
+
+    @Test
+    @DisplayName("잘못된 key 파일은 재적재 실패 - 이전 key 유지")
+    public void testReload_InvalidFile_KeepsPrevious() throws Exception {
+        Path file = tempDir.resolve("keyring.properties");
+        write(file, "active=k1", "key.k1=" + KEY1);
+        KeyRing keyRing = new KeyRing(file);
+
+        write(file, "active=k9", "key.k1=" + KEY1);
+        assertFalse(keyRing.reload());
+        write(file, "active=k1", "key.k1=AAAA");
+        assertFalse(keyRing.reload());
+
+        assertEquals("k1", keyRing.active().getKeyId());
+        assertThrows(BizRuntimeException.class, () -> keyRing.get("k9"));
+        assertThrows(BizRuntimeException.class, () -> new KeyRing(tempDir.resolve("none.properties")));
+    }
+
+    @Test
+    @DisplayName("key 파일 변경 감시 - 변경시 자동 재적재")
+    public void testWatch_FileChanged_Reloads() throws Exception {
+        Path file = tempDir.resolve("keyring.properties");
+        write(file, "active=k1", "key.k1=" + KEY1);
+
+        try (KeyRing keyRing = new KeyRing(file)) {
+            CountDownLatch reloaded = new CountDownLatch(1);
+            keyRing.addListener(k -> reloaded.countDown());
+            keyRing.watch();
+
+            write(file, "active=k2", "key.k1=" + KEY1, "key.k2=" + KEY2);
+            // WatchService 구현에 따라(polling) 수 초가 걸릴 수 있음
+            assertTrue(reloaded.await(30, TimeUnit.SECONDS));
+            assertEquals("k2", keyRing.active().getKeyId());
+        }
+    }
+
+    private static void write(Path file, String... lines) throws Exception {
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.engines.*;
+import org.bouncycastle.crypto.modes.*;
+import org.bouncycastle.crypto.paddings.*;
+import org.bouncycastle.crypto.params.*;
+import org.bouncycastle.util.encoders.*;
+import org.junit.jupiter.api.*;
+
+public class LeaMultiBlockEngineTest {
+    private static final byte[] IV = "0123456789012345".getBytes();
+
+    @Test
+    @DisplayName("1블록, 여러 블록 처리 결과는 Bouncy Castle LEAEngine과 동일")
+    public void testSameAsBouncyCastle() {
+        Random random = new Random(223);
+        for (int keyLen : new int[]{16, 24, 32}) {
+            byte[] key = new byte[keyLen];
+            random.nextBytes(key);
+            for (int blocks : new int[]{1, 3, 4, 9}) {
+                byte[] data = new byte[blocks * 16];
+                random.nextBytes(data);
+
+                byte[] expected = processBlocks(new LEAEngine(), true, key, data);
+                LeaMultiBlockEngine engine = new LeaMultiBlockEngine();
+                engine.init(true, new KeyParameter(key));
+                byte[] actual = new byte[data.length];
+                engine.processBlocks(data, 0, blocks, actual, 0);
+
+                assertArrayEquals(expected, actual, "key=" + keyLen + " blocks=" + blocks);
+                assertArrayEquals(expected, processBlocks(new LeaMultiBlockEngine(), true, key, data));
+                assertArrayEquals(data, processBlocks(new LeaMultiBlockEngine(), false, key, expected));
+
+                engine.init(false, new KeyParameter(key));
+                engine.processBlocks(actual, 0, blocks, actual, 0);
+                assertArrayEquals(data, actual, "in-place key=" + keyLen + " blocks=" + blocks);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ECB, CTR, GCM 결과는 LEAEngine 사용 결과와 동일")
+    public void testModes_SameAsBouncyCastle() throws Exception {
+        byte[] key = "0123456789abcdef".getBytes();
+        for (int size : new int[]{0, 1, 16, 63, 64, 65, 1000, 20000}) {
+            byte[] plainText = new byte[size];
+            new Random(size).nextBytes(plainText);
+
+            BufferedBlockCipher ecb = new PaddedBufferedBlockCipher(new LEAEngine());
+            ecb.init(true, new KeyParameter(key));
+            assertArrayEquals(finish(ecb, plainText), LeaCryptoCipher.encryptECB(key, plainText), "ECB size=" + size);
+
+            CTRModeCipher ctr = SICBlockCipher.newInstance(new LEAEngine());
+            ctr.init(true, new ParametersWithIV(new KeyParameter(key), IV));
+            byte[] expected = new byte[size];
+            ctr.processBytes(plainText, 0, size, expected, 0);
+            assertArrayEquals(expected, LeaCryptoCipher.encryptCTR(key, IV, plainText), "CTR size=" + size);
+
+            GCMModeCipher gcm = GCMBlockCipher.newInstance(new LEAEngine());
+            gcm.init(true, new AEADParameters(new KeyParameter(key), 128, IV, null));
+            expected = new byte[gcm.getOutputSize(size)];
+            int len = gcm.processBytes(plainText, 0, size, expected, 0);
+            gcm.doFinal(expected, len);
+            assertArrayEquals(expected, LeaCryptoCipher.encryptGCM(key, IV, plainText, null), "GCM size=" + size);
+            assertArrayEquals(plainText, LeaCryptoCipher.decryptGCM(key, IV, expected, null), "GCM size=" + size);
+        }
+    }
+
+    @Test
+    @DisplayName("CTR counter 하위 32bit 넘침 - 선계산 예측이 틀려도 결과는 동일")
+    public void testCtr_CounterCarry() {
+        byte[] key = "0123456789abcdef".getBytes();
+        byte[] iv = Hex.decode("000102030405060708090a0bfffffffe");
+        byte[] plainText = new byte[16 * 10];
+
+        CTRModeCipher ctr = SICBlockCipher.newInstance(new LEAEngine());
+        ctr.init(true, new ParametersWithIV(new KeyParameter(key), iv));
+        byte[] expected = new byte[plainText.length];
+        ctr.processBytes(plainText, 0, plainText.length, expected, 0);
+
+        assertArrayEquals(expected, LeaCryptoCipher.encryptCTR(key, iv, plainText));
+    }
+
+    private static byte[] processBlocks(BlockCipher engine, boolean forEncryption, byte[] key, byte[] data) {
+        engine.init(forEncryption, new KeyParameter(key));
+        byte[] out = new byte[data.length];
+        for (int off = 0; off < data.length; off += 16) {
+            engine.processBlock(data, off, out, off);
+        }
+        return out;
+    }
+
+    private static byte[] finish(BufferedBlockCipher cipher, byte[] data) throws InvalidCipherTextException {
+        byte[] out = new byte[cipher.getOutputSize(data.length)];
+        int len = cipher.processBytes(data, 0, data.length, out, 0);
+        len += cipher.doFinal(out, len);
+        return Arrays.copyOf(out, len);
+    }
+}
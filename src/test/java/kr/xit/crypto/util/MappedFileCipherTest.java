@@ -0,0 +1,91 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+public class MappedFileCipherTest {
+    private static final byte[] KEY = "0123456789abcdef".getBytes();
+    private static final byte[] IV = "0123456789012345".getBytes();
+    private static final byte[] AAD = "aad".getBytes();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("파일 CTR, GCM 암호화 결과는 byte[] 처리 결과와 동일")
+    public void testSameAsArray() throws Exception {
+        for (int size : new int[]{0, 17, 100000}) {
+            byte[] plainText = random(size);
+            Path source = Files.write(dir.resolve("plain-" + size), plainText);
+            Path encrypted = dir.resolve("enc-" + size);
+            Path decrypted = dir.resolve("dec-" + size);
+
+            FileCipherResult ctr = AriaCryptoCipher.encryptCTR(KEY, IV, source, encrypted);
+            byte[] expected = AriaCryptoCipher.encryptCTR(KEY, IV, plainText);
+            assertArrayEquals(expected, Files.readAllBytes(encrypted));
+            assertEquals(size, ctr.getLength());
+            assertArrayEquals(sha256(expected), ctr.getDigest());
+            assertNull(ctr.getTag());
+            AriaCryptoCipher.decryptCTR(KEY, IV, encrypted, decrypted);
+            assertArrayEquals(plainText, Files.readAllBytes(decrypted));
+
+            FileCipherResult gcm = LeaCryptoCipher.encryptGCM(KEY, IV, source, encrypted, AAD);
+            expected = LeaCryptoCipher.encryptGCM(KEY, IV, plainText, AAD);
+            assertArrayEquals(expected, Files.readAllBytes(encrypted));
+            assertArrayEquals(sha256(expected), gcm.getDigest());
+            assertArrayEquals(Arrays.copyOfRange(expected, expected.length - 16, expected.length), gcm.getTag());
+
+            FileCipherResult result = LeaCryptoCipher.decryptGCM(KEY, IV, encrypted, decrypted, AAD);
+            assertArrayEquals(plainText, Files.readAllBytes(decrypted));
+            assertEquals(size, result.getLength());
+            assertArrayEquals(sha256(plainText), result.getDigest());
+            assertArrayEquals(gcm.getTag(), result.getTag());
+        }
+    }
+
+    @Test
+    @DisplayName("GCM 파일 위변조시 Exception 및 복호화 파일 삭제")
+    public void testGcm_Tampered() throws IOException {
+        Path source = Files.write(dir.resolve("plain"), random(5000));
+        Path encrypted = dir.resolve("enc");
+        Path decrypted = dir.resolve("dec");
+        AriaCryptoCipher.encryptGCM(KEY, IV, source, encrypted, null);
+
+        byte[] data = Files.readAllBytes(encrypted);
+        data[100] ^= 1;
+        Files.write(encrypted, data);
+
+        assertThrows(RuntimeException.class, () -> AriaCryptoCipher.decryptGCM(KEY, IV, encrypted, decrypted, null));
+        assertFalse(Files.exists(decrypted));
+    }
+
+    @Test
+    @DisplayName("읽기 I/O 오류시 IOException 및 대상 파일 삭제")
+    public void testCtr_ReadFailure() throws IOException {
+        // directory 는 열 수 있으나 mapping(읽기) 에서 IOException
+        Path source = Files.createDirectory(dir.resolve("source-dir"));
+        Files.write(dir.resolve("source-dir").resolve("child"), random(10));
+        Path target = dir.resolve("partial");
+
+        assertThrows(IOException.class, () -> MappedFileCipher.encrypt(CipherAlgorithm.ARIA, CipherMode.CTR, KEY, IV, null,
+            source, target));
+        assertFalse(Files.exists(target));
+    }
+
+    private static byte[] sha256(byte[] data) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(data);
+    }
+
+    private static byte[] random(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,136 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.bouncycastle.crypto.*;
+import org.bouncycastle.crypto.engines.*;
+import org.bouncycastle.crypto.modes.*;
+import org.bouncycastle.crypto.paddings.*;
+import org.bouncycastle.crypto.params.*;
+import org.junit.jupiter.api.*;
+
+public class ModeCipherPoolTest {
+    private static final byte[] KEY = "0123456789abcdef".getBytes();
+    private static final byte[] IV = "0123456789012345".getBytes();
+    private static final byte[] CCM_IV = "012345678901".getBytes();
+    private static final byte[] AAD = "aad".getBytes();
+
+    @Test
+    @DisplayName("pool 에서 재사용한 mode cipher 결과는 새로 생성한 mode cipher 결과와 동일")
+    public void testPooled_SameAsFresh() throws Exception {
+        byte[] plainText = new byte[333];
+        new Random(7).nextBytes(plainText);
+
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(fresh(new PaddedBufferedBlockCipher(new ARIAEngine()), new KeyParameter(KEY), plainText),
+                AriaCryptoCipher.encryptECB(KEY, plainText));
+            assertArrayEquals(fresh(new PaddedBufferedBlockCipher(CBCBlockCipher.newInstance(new LEAEngine())), new ParametersWithIV(new KeyParameter(KEY), IV), plainText),
+                LeaCryptoCipher.encryptCBC(KEY, IV, plainText));
+            assertArrayEquals(fresh(new CTSBlockCipher(new ARIAEngine()), new KeyParameter(KEY), plainText),
+                AriaCryptoCipher.encryptCTS(KEY, plainText));
+
+            CTRModeCipher ctr = SICBlockCipher.newInstance(new LEAEngine());
+            ctr.init(true, new ParametersWithIV(new KeyParameter(KEY), IV));
+            byte[] expectedCtr = new byte[plainText.length];
+            ctr.processBytes(plainText, 0, plainText.length, expectedCtr, 0);
+            assertArrayEquals(expectedCtr, LeaCryptoCipher.encryptCTR(KEY, IV, plainText));
+
+            CCMModeCipher ccm = CCMBlockCipher.newInstance(new ARIAEngine());
+            ccm.init(true, new AEADParameters(new KeyParameter(KEY), 128, CCM_IV, AAD));
+            byte[] expectedCcm = new byte[ccm.getOutputSize(plainText.length)];
+            ccm.doFinal(expectedCcm, ccm.processBytes(plainText, 0, plainText.length, expectedCcm, 0));
+            assertArrayEquals(expectedCcm, AriaCryptoCipher.encryptCCM(KEY, CCM_IV, plainText, AAD).get(0));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 모드 암복호화 - 반복 호출")
+    public void testAllModes_RoundTrip() throws Exception {
+        byte[] plainText = "암호화 모듈별 암복호화 테스트!".getBytes();
+
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(plainText, AriaCryptoCipher.decryptECB(KEY, AriaCryptoCipher.encryptECB(KEY, plainText)));
+            assertArrayEquals(plainText, AriaCryptoCipher.decryptCBC(KEY, IV, AriaCryptoCipher.encryptCBC(KEY, IV, plainText)));
+            assertArrayEquals(plainText, AriaCryptoCipher.decryptCFB(KEY, IV, AriaCryptoCipher.encryptCFB(KEY, IV, plainText)));
+            assertArrayEquals(plainText, AriaCryptoCipher.decryptOFB(KEY, IV, AriaCryptoCipher.encryptOFB(KEY, IV, plainText)));
+            assertArrayEquals(plainText, AriaCryptoCipher.decryptCTS(KEY, AriaCryptoCipher.encryptCTS(KEY, plainText)));
+            assertArrayEquals(plainText, AriaCryptoCipher.decryptCTR(KEY, IV, AriaCryptoCipher.encryptCTR(KEY, IV, plainText)));
+            List<byte[]> ccm = AriaCryptoCipher.encryptCCM(KEY, CCM_IV, plainText, AAD);
+            assertArrayEquals(plainText, AriaCryptoCipher.decryptCCM(KEY, CCM_IV, ccm.get(0), AAD, ccm.get(1)));
+            assertArrayEquals(plainText, AriaCryptoCipher.decryptGCM(KEY, IV, AriaCryptoCipher.encryptGCM(KEY, IV, plainText, AAD), AAD));
+
+            assertArrayEquals(plainText, LeaCryptoCipher.decryptECB(KEY, LeaCryptoCipher.encryptECB(KEY, plainText)));
+            assertArrayEquals(plainText, LeaCryptoCipher.decryptCBC(KEY, IV, LeaCryptoCipher.encryptCBC(KEY, IV, plainText)));
+            assertArrayEquals(plainText, LeaCryptoCipher.decryptCFB(KEY, IV, LeaCryptoCipher.encryptCFB(KEY, IV, plainText)));
+            assertArrayEquals(plainText, LeaCryptoCipher.decryptOFB(KEY, IV, LeaCryptoCipher.encryptOFB(KEY, IV, plainText)));
+            assertArrayEquals(plainText, LeaCryptoCipher.decryptCTS(KEY, LeaCryptoCipher.encryptCTS(KEY, plainText)));
+            assertArrayEquals(plainText, LeaCryptoCipher.decryptCTR(KEY, IV, LeaCryptoCipher.encryptCTR(KEY, IV, plainText)));
+            ccm = LeaCryptoCipher.encryptCCM(KEY, CCM_IV, plainText, AAD);
+            assertArrayEquals(plainText, LeaCryptoCipher.decryptCCM(KEY, CCM_IV, ccm.get(0), AAD, ccm.get(1)));
+            assertArrayEquals(plainText, LeaCryptoCipher.decryptGCM(KEY, IV, LeaCryptoCipher.encryptGCM(KEY, IV, plainText, AAD), AAD));
+        }
+    }
+
+    @Test
+    @DisplayName("재사용시 hit, GCM nonce 재사용시 miss")
+    public void testHitAndMiss() {
+        byte[] key = "hit-miss-key-012".getBytes();
+        byte[] plainText = "hit and miss".getBytes();
+
+        long ctrHits = ModeCipherPool.hits(CipherMode.CTR);
+        AriaCryptoCipher.encryptCTR(key, IV, plainText);
+        AriaCryptoCipher.encryptCTR(key, IV, plainText);
+        assertTrue(ModeCipherPool.hits(CipherMode.CTR) >= ctrHits + 1);
+
+        long gcmMisses = ModeCipherPool.misses(CipherMode.GCM);
+        byte[] first = AriaCryptoCipher.encryptGCM(key, IV, plainText, null);
+        byte[] second = AriaCryptoCipher.encryptGCM(key, IV, plainText, null);
+        assertArrayEquals(first, second);
+        assertTrue(ModeCipherPool.misses(CipherMode.GCM) >= gcmMisses + 2);
+
+        long gcmHits = ModeCipherPool.hits(CipherMode.GCM);
+        AriaCryptoCipher.encryptGCM(key, "another-nonce-01".getBytes(), plainText, null);
+        assertTrue(ModeCipherPool.hits(CipherMode.GCM) >= gcmHits + 1);
+    }
+
+    @Test
+    @DisplayName("GCM 고정 iv 복호화는 동일 nonce 여도 재사용(hit), 이후 같은 nonce 암호화는 miss")
+    public void testGcm_FixedIvDecryptHits() {
+        byte[] key = "fixed-iv-key-012".getBytes();
+        byte[] plainText = "fixed iv".getBytes();
+        byte[] cipherText = AriaCryptoCipher.encryptGCM(key, IV, plainText, null);
+
+        long gcmHits = ModeCipherPool.hits(CipherMode.GCM);
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(plainText, AriaCryptoCipher.decryptGCM(key, IV, cipherText, null));
+        }
+        assertTrue(ModeCipherPool.hits(CipherMode.GCM) >= gcmHits + 3);
+
+        long gcmMisses = ModeCipherPool.misses(CipherMode.GCM);
+        assertArrayEquals(cipherText, AriaCryptoCipher.encryptGCM(key, IV, plainText, null));
+        assertTrue(ModeCipherPool.misses(CipherMode.GCM) >= gcmMisses + 1);
+    }
+
+    @Test
+    @DisplayName("GCM 인증 실패 이후에도 pool 의 mode cipher 재사용 가능")
+    public void testGcm_ReuseAfterAuthFailure() {
+        byte[] plainText = "tamper".getBytes();
+        byte[] nonce = "tamper-nonce-001".getBytes();
+        byte[] cipherText = AriaCryptoCipher.encryptGCM(KEY, nonce, plainText, null);
+        cipherText[0] ^= 1;
+
+        assertThrows(RuntimeException.class, () -> AriaCryptoCipher.decryptGCM(KEY, nonce, cipherText, null));
+        cipherText[0] ^= 1;
+        assertArrayEquals(plainText, AriaCryptoCipher.decryptGCM(KEY, nonce, cipherText, null));
+    }
+
+    private static byte[] fresh(BufferedBlockCipher cipher, CipherParameters params, byte[] plainText) throws Exception {
+        cipher.init(true, params);
+        byte[] out = new byte[cipher.getOutputSize(plainText.length)];
+        int len = cipher.processBytes(plainText, 0, plainText.length, out, 0);
+        len += cipher.doFinal(out, len);
+        return Arrays.copyOf(out, len);
+    }
+}
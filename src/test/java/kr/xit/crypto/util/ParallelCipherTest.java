@@ -0,0 +1,123 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.bouncycastle.crypto.engines.*;
+import org.bouncycastle.crypto.modes.*;
+import org.bouncycastle.crypto.params.*;
+import org.junit.jupiter.api.*;
+
+public class ParallelCipherTest {
+    private static final byte[] KEY = "0123456789abcdef".getBytes();
+    private static final byte[] IV = "0123456789012345".getBytes();
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void setUp() {
+        pool = new ForkJoinPool(4);
+        ParallelCipher.configure(true, pool, 4096, 1024);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        ParallelCipher.reset();
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("병렬 CTR 결과는 순차 처리 결과와 동일")
+    public void testParallelCtr_SameAsSequential() {
+        for (int size : new int[]{4096, 4097, 10000, 65536 + 5}) {
+            byte[] plainText = random(size);
+            byte[] expected = sequentialCtr(new ARIAEngine(), plainText);
+
+            assertTrue(ParallelCipher.isParallel(size));
+            byte[] cipherText = AriaCryptoCipher.encryptCTR(KEY, IV, plainText);
+            assertArrayEquals(expected, cipherText, "size=" + size);
+            assertArrayEquals(plainText, AriaCryptoCipher.decryptCTR(KEY, IV, cipherText), "size=" + size);
+            assertArrayEquals(sequentialCtr(new LEAEngine(), plainText), LeaCryptoCipher.encryptCTR(KEY, IV, plainText), "size=" + size);
+        }
+    }
+
+    @Test
+    @DisplayName("direct ByteBuffer 병렬 CTR 결과는 순차 처리 결과와 동일")
+    public void testParallelCtr_DirectBuffer() {
+        byte[] plainText = random(30000);
+        ByteBuffer in = ByteBuffer.allocateDirect(plainText.length + 10);
+        in.position(10);
+        in.put(plainText).flip().position(10);
+        ByteBuffer out = ByteBuffer.allocateDirect(plainText.length + 3);
+        out.position(3);
+
+        assertEquals(plainText.length, LeaCryptoCipher.encryptCTR(KEY, IV, in, out));
+        assertEquals(out.capacity(), out.position());
+        out.position(3);
+        byte[] actual = new byte[plainText.length];
+        out.get(actual);
+        assertArrayEquals(sequentialCtr(new LEAEngine(), plainText), actual);
+    }
+
+    @Test
+    @DisplayName("병렬 ECB 암복호화, CBC/CFB 복호화 결과는 순차 처리 결과와 동일")
+    public void testParallelBlockModes_SameAsSequential() {
+        for (int size : new int[]{4096, 4096 + 15, 10000, 65536}) {
+            byte[] plainText = random(size);
+            for (CipherAlgorithm algorithm : CipherAlgorithm.values()) {
+                ParallelCipher.configure(false, pool, 4096, 1024);
+                byte[] ecb = BlockCipherModes.process(algorithm, CipherMode.ECB, true, KEY, null, null, plainText);
+                byte[] cbc = BlockCipherModes.process(algorithm, CipherMode.CBC, true, KEY, IV, null, plainText);
+                byte[] cfb = BlockCipherModes.process(algorithm, CipherMode.CFB, true, KEY, IV, null, plainText);
+                ParallelCipher.configure(true, pool, 4096, 1024);
+
+                String message = algorithm + " size=" + size;
+                assertArrayEquals(ecb, BlockCipherModes.process(algorithm, CipherMode.ECB, true, KEY, null, null, plainText), message);
+                assertArrayEquals(plainText, BlockCipherModes.process(algorithm, CipherMode.ECB, false, KEY, null, null, ecb), message);
+                assertArrayEquals(plainText, BlockCipherModes.process(algorithm, CipherMode.CBC, false, KEY, IV, null, cbc), message);
+                assertArrayEquals(plainText, BlockCipherModes.process(algorithm, CipherMode.CFB, false, KEY, IV, null, cfb), message);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("동일 배열 in-place 처리")
+    public void testParallel_InPlace() {
+        byte[] plainText = random(20000);
+        byte[] cbc = AriaCryptoCipher.encryptCBC(KEY, IV, plainText);
+
+        byte[] buffer = cbc.clone();
+        int len = AriaCryptoCipher.decryptCBC(KEY, IV, buffer, 0, buffer.length, buffer, 0);
+        assertArrayEquals(plainText, Arrays.copyOf(buffer, len));
+
+        buffer = plainText.clone();
+        AriaCryptoCipher.encryptCTR(KEY, IV, buffer, 0, buffer.length, buffer, 0);
+        assertArrayEquals(sequentialCtr(new ARIAEngine(), plainText), buffer);
+    }
+
+    @Test
+    @DisplayName("병렬 CBC 복호화 - 변조된 패딩은 Exception")
+    public void testParallelCbc_InvalidPadding() {
+        byte[] cbc = AriaCryptoCipher.encryptCBC(KEY, IV, random(20000));
+        cbc[cbc.length - 1] ^= 0x55;
+
+        assertThrows(RuntimeException.class, () -> AriaCryptoCipher.decryptCBC(KEY, IV, cbc));
+    }
+
+    private static byte[] sequentialCtr(org.bouncycastle.crypto.BlockCipher engine, byte[] plainText) {
+        CTRModeCipher cipher = SICBlockCipher.newInstance(engine);
+        cipher.init(true, new ParametersWithIV(new KeyParameter(KEY), IV));
+        byte[] out = new byte[plainText.length];
+        cipher.processBytes(plainText, 0, plainText.length, out, 0);
+        return out;
+    }
+
+    private static byte[] random(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
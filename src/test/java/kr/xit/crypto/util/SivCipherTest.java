@@ -0,0 +1,103 @@
+package kr.xit.crypto.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.*;
+import java.util.*;
+
+import org.bouncycastle.crypto.engines.*;
+import org.bouncycastle.crypto.modes.*;
+import org.bouncycastle.crypto.params.*;
+import org.bouncycastle.util.encoders.*;
+import org.junit.jupiter.api.*;
+
+import kr.xit.crypto.config.*;
+
+public class SivCipherTest {
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes();
+    private static final byte[] AAD = "member.email".getBytes();
+
+    @Test
+    @DisplayName("S2V, CTR 구성 - RFC 5297 A.1 AES-SIV 테스트 벡터")
+    public void testSiv_Rfc5297Vector() {
+        KeyParameter macKey = new KeyParameter(Hex.decode("fffefdfcfbfaf9f8f7f6f5f4f3f2f1f0"));
+        KeyParameter encKey = new KeyParameter(Hex.decode("f0f1f2f3f4f5f6f7f8f9fafbfcfdfeff"));
+        SivCipher.SivKey sivKey = new SivCipher.SivKey(AESEngine::newInstance, macKey,
+            (forEncryption, iv, in, inOff, len, out, outOff) -> {
+                SICBlockCipher ctr = (SICBlockCipher)SICBlockCipher.newInstance(AESEngine.newInstance());
+                ctr.init(forEncryption, new ParametersWithIV(encKey, iv));
+                ctr.processBytes(in, inOff, len, out, outOff);
+            });
+        byte[] aad = Hex.decode("101112131415161718191a1b1c1d1e1f2021222324252627");
+        byte[] plainText = Hex.decode("112233445566778899aabbccddee");
+
+        byte[] cipherText = new byte[plainText.length + SivCipher.BLOCK_SIZE];
+        sivKey.encrypt(aad, plainText, 0, plainText.length, cipherText, 0);
+        assertEquals("85632d07c6e8f37f950acd320a2ecc9340c02b9690c4dc04daef7f6afe5c", Hex.toHexString(cipherText));
+
+        byte[] decrypted = new byte[plainText.length];
+        sivKey.decrypt(aad, cipherText, 0, cipherText.length, decrypted, 0);
+        assertArrayEquals(plainText, decrypted);
+    }
+
+    @Test
+    @DisplayName("같은 key, aad, 평문은 같은 암호문 - aad 가 다르면 다른 암호문")
+    public void testSiv_Deterministic() {
+        for (int size : new int[]{0, 1, 15, 16, 17, 100, 4096}) {
+            byte[] plainText = random(size);
+            for (CipherAlgorithm algorithm : CipherAlgorithm.values()) {
+                byte[] first = BlockCipherModes.process(algorithm, CipherMode.SIV, true, KEY, null, AAD, plainText);
+                byte[] second = BlockCipherModes.process(algorithm, CipherMode.SIV, true, KEY, null, AAD, plainText);
+                assertEquals(size + SivCipher.BLOCK_SIZE, first.length);
+                assertArrayEquals(first, second, algorithm + " " + size);
+                assertFalse(Arrays.equals(first, BlockCipherModes.process(algorithm, CipherMode.SIV, true, KEY, null, null, plainText)));
+                assertArrayEquals(plainText, BlockCipherModes.process(algorithm, CipherMode.SIV, false, KEY, null, AAD, first));
+            }
+        }
+        assertArrayEquals(AriaCryptoCipher.decryptSIV(KEY, AriaCryptoCipher.encryptSIV(KEY, AAD, null), null), AAD);
+        assertArrayEquals(LeaCryptoCipher.decryptSIV(KEY, LeaCryptoCipher.encryptSIV(KEY, AAD, null), null), AAD);
+        assertFalse(Arrays.equals(AriaCryptoCipher.encryptSIV(KEY, AAD, null), LeaCryptoCipher.encryptSIV(KEY, AAD, null)));
+    }
+
+    @Test
+    @DisplayName("암호문, tag, aad 위변조는 복호화 실패")
+    public void testSiv_Tampered_Fails() {
+        byte[] cipherText = AriaCryptoCipher.encryptSIV(KEY, random(64), AAD);
+
+        for (int pos : new int[]{0, 15, 16, cipherText.length - 1}) {
+            byte[] tampered = cipherText.clone();
+            tampered[pos] ^= 1;
+            assertThrows(BizRuntimeException.class, () -> AriaCryptoCipher.decryptSIV(KEY, tampered, AAD));
+        }
+        assertThrows(BizRuntimeException.class, () -> AriaCryptoCipher.decryptSIV(KEY, cipherText, null));
+        assertThrows(BizRuntimeException.class, () -> AriaCryptoCipher.decryptSIV(KEY, Arrays.copyOf(cipherText, 15), AAD));
+    }
+
+    @Test
+    @DisplayName("offset, in-place, direct ByteBuffer 처리 결과 동일")
+    public void testSiv_OffsetAndBuffer() {
+        byte[] plainText = random(1000);
+        byte[] expected = LeaCryptoCipher.encryptSIV(KEY, plainText, AAD);
+
+        byte[] buf = new byte[plainText.length + SivCipher.BLOCK_SIZE];
+        System.arraycopy(plainText, 0, buf, 0, plainText.length);
+        int len = BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.SIV, true, KEY, null, AAD, buf, 0, plainText.length, buf, 0);
+        assertEquals(expected.length, len);
+        assertArrayEquals(expected, buf);
+
+        ByteBuffer in = ByteBuffer.allocateDirect(plainText.length);
+        in.put(plainText).flip();
+        ByteBuffer out = ByteBuffer.allocateDirect(expected.length);
+        BlockCipherModes.process(CipherAlgorithm.LEA, CipherMode.SIV, true, KEY, null, AAD, in, out);
+        out.flip();
+        byte[] actual = new byte[out.remaining()];
+        out.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    private static byte[] random(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}